@@ -0,0 +1,110 @@
+package teamnova.omok.glue.rule.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import teamnova.omok.glue.rule.api.BoardSetupRule;
+import teamnova.omok.glue.rule.api.BoardTransformRule;
+import teamnova.omok.glue.rule.api.OutcomeRule;
+import teamnova.omok.glue.rule.api.ParticipantOutcomeRule;
+import teamnova.omok.glue.rule.api.Rule;
+import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleTriggerKind;
+import teamnova.omok.glue.rule.api.TurnBudgetRule;
+import teamnova.omok.glue.rule.api.TurnOrderRule;
+import teamnova.omok.glue.rule.api.TurnTimingRule;
+
+/**
+ * Compares finding the rules to run for one turn's worth of firings: the previous per-rule scan
+ * (resolve every selected RuleId through the registry, then filter by trigger or capability)
+ * against the compiled {@link RuleDispatchPlan} arrays. Rule bodies are not executed, so the
+ * numbers are the dispatch overhead alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RuleDispatchBenchmark {
+    private static final RuleTriggerKind[] TRIGGERS = RuleTriggerKind.values();
+
+    @Param({"2", "5", "10"})
+    public int selectedRules;
+
+    private RuleRegistry registry;
+    private List<RuleId> ruleIds;
+    private RuleDispatchPlan plan;
+
+    @Setup
+    public void setUp() {
+        registry = RuleRegistry.getInstance();
+        new RuleBootstrap().registerDefaults(registry);
+        ruleIds = new ArrayList<>();
+        for (RuleId id : RuleId.values()) {
+            if (ruleIds.size() < selectedRules && registry.get(id) != null) {
+                ruleIds.add(id);
+            }
+        }
+        plan = RuleDispatchPlan.compile(ruleIds, registry);
+    }
+
+    @Benchmark
+    public void perRuleScan(Blackhole blackhole) {
+        for (RuleTriggerKind kind : TRIGGERS) {
+            for (RuleId id : ruleIds) {
+                Rule rule = registry.get(id);
+                // Each rule used to check the trigger at the top of invoke()
+                if (rule != null && rule.getMetadata().triggers.contains(kind)) {
+                    blackhole.consume(rule);
+                }
+            }
+        }
+        scanCapability(BoardTransformRule.class, blackhole);
+        scanCapability(BoardSetupRule.class, blackhole);
+        scanCapability(TurnTimingRule.class, blackhole);
+        scanCapability(TurnBudgetRule.class, blackhole);
+        scanCapability(TurnOrderRule.class, blackhole);
+        scanCapability(ParticipantOutcomeRule.class, blackhole);
+        scanCapability(OutcomeRule.class, blackhole);
+    }
+
+    @Benchmark
+    public void compiledPlan(Blackhole blackhole) {
+        for (RuleTriggerKind kind : TRIGGERS) {
+            for (Rule rule : plan.rulesFor(kind)) {
+                blackhole.consume(rule);
+            }
+        }
+        consumeAll(plan.boardTransforms(), blackhole);
+        consumeAll(plan.boardSetups(), blackhole);
+        consumeAll(plan.turnTimings(), blackhole);
+        consumeAll(plan.turnBudgets(), blackhole);
+        consumeAll(plan.turnOrders(), blackhole);
+        consumeAll(plan.participantOutcomes(), blackhole);
+        consumeAll(plan.outcomes(), blackhole);
+    }
+
+    private void scanCapability(Class<?> capability, Blackhole blackhole) {
+        for (RuleId id : ruleIds) {
+            Rule rule = registry.get(id);
+            if (capability.isInstance(rule)) {
+                blackhole.consume(rule);
+            }
+        }
+    }
+
+    private static void consumeAll(Object[] rules, Blackhole blackhole) {
+        for (Object rule : rules) {
+            blackhole.consume(rule);
+        }
+    }
+}
@@ -2,8 +2,15 @@ package teamnova.omok;
 
 import java.io.IOException;
 
+import teamnova.omok.core.nio.InboundMode;
+import teamnova.omok.core.nio.NioServerConfig;
 import teamnova.omok.glue.client.session.ClientSessionManager;
+import teamnova.omok.glue.game.session.GameSessionConfig;
 import teamnova.omok.glue.game.session.GameSessionManager;
+import teamnova.omok.glue.game.session.SessionTickMode;
+import teamnova.omok.glue.handler.dispatcher.BlockingExecution;
+import teamnova.omok.glue.handler.dispatcher.DispatchMode;
+import teamnova.omok.glue.handler.dispatcher.DispatcherConfig;
 import teamnova.omok.glue.handler.register.DefaultHandlerRegistry;
 import teamnova.omok.glue.manager.DataManager;
 import teamnova.omok.glue.manager.MatchingManager;
@@ -12,6 +19,7 @@ import teamnova.omok.glue.manager.ServerLifecycleManager;
 import teamnova.omok.glue.manager.UserSessionManager;
 import teamnova.omok.glue.rule.runtime.RuleManager;
 import teamnova.omok.glue.rule.runtime.RuleRegistry;
+import teamnova.omok.modules.state_machine.services.DefaultStateMachineService;
 
 public final class Main {
     private static final int DEFAULT_PORT = 15015;
@@ -21,19 +29,28 @@ public final class Main {
         int workerCount = Runtime.getRuntime().availableProcessors();
 
         DataManager dataManager = DataManager.Init();
+        DefaultStateMachineService.setTraceTransitions(Boolean.parseBoolean(dataManager.getFromDotEnv("STATE_MACHINE_TRACE")));
         ClientSessionManager clientSessionManager = ClientSessionManager.Init();
         RuleManager ruleManager = RuleManager.Init(RuleRegistry.getInstance());
-        GameSessionManager gameSessionManager = GameSessionManager.Init(RuleManager.getInstance(), ClientSessionManager.getInstance());
+        GameSessionManager gameSessionManager = GameSessionManager.Init(
+            RuleManager.getInstance(),
+            ClientSessionManager.getInstance(),
+            gameSessionConfig(dataManager)
+        );
         MatchingManager matchingManager = MatchingManager.Init(gameSessionManager);
         UserSessionManager userSessionManager = UserSessionManager.Init();
 
+        NioServerConfig serverConfig = serverConfig(dataManager);
+        DispatcherConfig dispatcherConfig = dispatcherConfig(dataManager);
+
         DefaultHandlerRegistry handlerRegistry = new DefaultHandlerRegistry();
-        try (NioManager nioManager = new NioManager(port, workerCount, handlerRegistry);
+        try (NioManager nioManager = new NioManager(port, workerCount, serverConfig, dispatcherConfig, handlerRegistry);
              ServerLifecycleManager lifecycle = new ServerLifecycleManager(
                  nioManager,
                  gameSessionManager,
                  matchingManager,
-                 userSessionManager)) {
+                 userSessionManager,
+                 dataManager)) {
             System.out.printf("[NIO] Reactor server listening on port %d%n", port);
             lifecycle.start();
             lifecycle.runBlocking();
@@ -43,6 +60,64 @@ public final class Main {
         }
     }
 
+    private static NioServerConfig serverConfig(DataManager dataManager) {
+        NioServerConfig config = NioServerConfig.defaults();
+        config.inboundMode = InboundMode.parse(dataManager.getFromDotEnv("NIO_INBOUND_MODE"), InboundMode.POOLED_DIRECT);
+        config.reactorCount = parseInt(
+            dataManager.getFromDotEnv("NIO_REACTOR_COUNT"),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            "reactor count"
+        );
+        config.reactorSelection = NioServerConfig.ReactorSelection.parse(
+            dataManager.getFromDotEnv("NIO_REACTOR_SELECTION"),
+            NioServerConfig.ReactorSelection.LEAST_LOADED
+        );
+        return config;
+    }
+
+    private static DispatcherConfig dispatcherConfig(DataManager dataManager) {
+        DispatcherConfig config = DispatcherConfig.defaults();
+        config.mode = DispatchMode.parse(dataManager.getFromDotEnv("DISPATCH_MODE"), DispatchMode.KEYED_LANES);
+        config.blockingExecution = BlockingExecution.parse(
+            dataManager.getFromDotEnv("DISPATCH_BLOCKING_EXECUTION"),
+            BlockingExecution.VIRTUAL_THREADS
+        );
+        config.blockingConcurrency = parseInt(
+            dataManager.getFromDotEnv("DISPATCH_BLOCKING_CONCURRENCY"),
+            config.blockingConcurrency,
+            "blocking concurrency"
+        );
+        return config;
+    }
+
+    private static GameSessionConfig gameSessionConfig(DataManager dataManager) {
+        GameSessionConfig config = GameSessionConfig.defaults();
+        config.tickMode = SessionTickMode.parse(dataManager.getFromDotEnv("SESSION_TICK_MODE"), SessionTickMode.EVENT_DRIVEN);
+        config.shardCount = Math.max(1, parseInt(
+            dataManager.getFromDotEnv("SESSION_SHARD_COUNT"),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            "session shard count"
+        ));
+        config.eventQueueCapacity = Math.max(1, parseInt(
+            dataManager.getFromDotEnv("SESSION_EVENT_QUEUE_CAPACITY"),
+            config.eventQueueCapacity,
+            "session event queue capacity"
+        ));
+        return config;
+    }
+
+    private static int parseInt(String value, int fallback, String description) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            System.err.printf("Invalid %s '%s', falling back to %d%n", description, value, fallback);
+            return fallback;
+        }
+    }
+
     private static int parsePort(String[] args) {
         if (args.length == 0) {
             return DEFAULT_PORT;
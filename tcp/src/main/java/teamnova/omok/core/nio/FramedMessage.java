@@ -1,17 +1,36 @@
 package teamnova.omok.core.nio;
 
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import teamnova.omok.core.nio.buffer.PooledBuffer;
+
 /**
  * Represents a single binary frame decoded from the wire.
+ * Frames decoded on the pooled read path only hold a read-only view into a shared
+ * buffer; such views stay valid until {@link #release()} is called.
  */
 public final class FramedMessage {
     private final byte type;
     private final long requestId;
-    private final byte[] payload;
+    private final ByteBuffer payloadView;
+    private final PooledBuffer owner;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+    private byte[] payload;
 
     public FramedMessage(byte type, long requestId, byte[] payload) {
         this.type = type;
         this.requestId = requestId;
         this.payload = payload;
+        this.payloadView = null;
+        this.owner = null;
+    }
+
+    public FramedMessage(byte type, long requestId, ByteBuffer payloadView, PooledBuffer owner) {
+        this.type = type;
+        this.requestId = requestId;
+        this.payloadView = payloadView.asReadOnlyBuffer();
+        this.owner = owner;
     }
 
     public byte type() {
@@ -22,16 +41,48 @@ public final class FramedMessage {
         return requestId;
     }
 
+    /**
+     * Returns the payload as a byte array, copying it out of the pooled view on first use.
+     */
     public byte[] payload() {
+        if (payload == null) {
+            ByteBuffer view = payloadView.duplicate();
+            byte[] copy = new byte[view.remaining()];
+            view.get(copy);
+            payload = copy;
+        }
         return payload;
     }
 
+    /**
+     * Returns a read-only view of the payload without copying.
+     */
+    public ByteBuffer payloadView() {
+        if (payloadView == null) {
+            return ByteBuffer.wrap(payload).asReadOnlyBuffer();
+        }
+        return payloadView.duplicate();
+    }
+
+    public int payloadLength() {
+        return payloadView != null ? payloadView.remaining() : payload.length;
+    }
+
+    /**
+     * Hands the backing buffer back to its pool. Idempotent; a no-op for heap frames.
+     */
+    public void release() {
+        if (owner != null && released.compareAndSet(false, true)) {
+            owner.release();
+        }
+    }
+
     @Override
     public String toString() {
         return "FramedMessage{" +
                 "type=" + (type & 0xFF) +
                 ", requestId=" + requestId +
-                ", payloadSize=" + payload.length +
+                ", payloadSize=" + payloadLength() +
                 '}';
     }
 }
@@ -0,0 +1,129 @@
+package teamnova.omok.core.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import teamnova.omok.core.nio.codec.EncodeFrame;
+import teamnova.omok.core.nio.codec.FrameFormat;
+
+/**
+ * Coalesces queued outbound frames into gathering writes.
+ * Headers are encoded into a per-connection slab that is reused for every batch,
+ * and payloads are written from their own buffers, so a batch of frames costs one
+ * {@code write(ByteBuffer[])} call and no per-frame encode allocation.
+ * Pre-encoded {@link SharedFrame} views go into the batch as they are, and their reference
+ * is dropped as soon as the view has been written or the queue is cleared.
+ * Only the thread currently owning the connection's write-scheduled flag may call {@link #flush}.
+ */
+final class GatheringWriter {
+    static final int MAX_FRAMES_PER_WRITE = 64;
+
+    private final Queue<OutboundFrame> pending = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer[] headers = new ByteBuffer[MAX_FRAMES_PER_WRITE];
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_FRAMES_PER_WRITE * 2];
+    // Shared frame behind each batch slot, if any
+    private final SharedFrame[] owners = new SharedFrame[MAX_FRAMES_PER_WRITE * 2];
+    private int batchOffset;
+    private int batchLength;
+
+    GatheringWriter() {
+        ByteBuffer slab = ByteBuffer.allocateDirect(MAX_FRAMES_PER_WRITE * FrameFormat.HEADER_LENGTH);
+        for (int i = 0; i < MAX_FRAMES_PER_WRITE; i++) {
+            headers[i] = slab.slice(i * FrameFormat.HEADER_LENGTH, FrameFormat.HEADER_LENGTH);
+        }
+    }
+
+    void enqueue(OutboundFrame frame) {
+        pending.add(frame);
+    }
+
+    boolean hasPending() {
+        return batchOffset < batchLength || !pending.isEmpty();
+    }
+
+    /**
+     * Writes as much as the socket accepts.
+     *
+     * @return {@code true} when every queued frame has been written
+     */
+    boolean flush(GatheringByteChannel channel) throws IOException {
+        int syscalls = 0;
+        try {
+            while (true) {
+                if (batchOffset == batchLength && !fillBatch()) {
+                    return true;
+                }
+                long written = channel.write(batch, batchOffset, batchLength - batchOffset);
+                syscalls++;
+                NioTransportMetrics.recordWrite(written);
+                while (batchOffset < batchLength && !batch[batchOffset].hasRemaining()) {
+                    releaseSlot(batchOffset++);
+                }
+                if (batchOffset < batchLength) {
+                    return false;
+                }
+            }
+        } finally {
+            NioTransportMetrics.recordFlush(syscalls);
+        }
+    }
+
+    /**
+     * Releases every frame including a partially written batch. Only the flag owner may call this.
+     */
+    void clear() {
+        dropPending();
+        for (int i = batchOffset; i < batchLength; i++) {
+            releaseSlot(i);
+        }
+        batchOffset = 0;
+        batchLength = 0;
+    }
+
+    /**
+     * Releases queued frames that have not been taken into a batch yet. Safe from any thread.
+     */
+    void dropPending() {
+        OutboundFrame frame;
+        while ((frame = pending.poll()) != null) {
+            frame.release();
+        }
+    }
+
+    private boolean fillBatch() {
+        int length = 0;
+        int frames = 0;
+        OutboundFrame frame;
+        while (frames < MAX_FRAMES_PER_WRITE && (frame = pending.poll()) != null) {
+            if (frame.encoded()) {
+                frames++;
+                owners[length] = frame.shared();
+                batch[length++] = frame.payload();
+                continue;
+            }
+            ByteBuffer header = headers[frames++];
+            header.clear();
+            EncodeFrame.encodeHeader(header, frame.type(), frame.requestId(), frame.payload().remaining());
+            header.flip();
+            batch[length++] = header;
+            if (frame.payload().hasRemaining()) {
+                batch[length++] = frame.payload();
+            }
+        }
+        batchOffset = 0;
+        batchLength = length;
+        return length > 0;
+    }
+
+    private void releaseSlot(int index) {
+        batch[index] = null;
+        SharedFrame owner = owners[index];
+        if (owner != null) {
+            owners[index] = null;
+            owner.release();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package teamnova.omok.core.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+
+import teamnova.omok.core.nio.codec.DecodeFrame;
+
+/**
+ * Original read path: heap read buffer copied into a growable array that is
+ * compacted after every decoded frame.
+ */
+final class HeapInboundFramer implements InboundFramer {
+    private static final int BUFFER_SIZE = 4096;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] inboundBuffer = new byte[BUFFER_SIZE];
+    private int inboundSize = 0;
+
+    @Override
+    public int read(SocketChannel channel) throws IOException {
+        int bytesRead = channel.read(readBuffer);
+        if (bytesRead > 0) {
+            readBuffer.flip();
+            int remaining = readBuffer.remaining();
+            ensureCapacity(inboundSize + remaining);
+            readBuffer.get(inboundBuffer, inboundSize, remaining);
+            inboundSize += remaining;
+            readBuffer.clear();
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public FramedMessage poll() throws DecodeFrame.FrameDecodeException {
+        DecodeFrame.Result result = DecodeFrame.tryDecode(inboundBuffer, inboundSize);
+        if (result == null) {
+            return null;
+        }
+        int consumed = result.bytesConsumed();
+        int remaining = inboundSize - consumed;
+        if (remaining > 0) {
+            System.arraycopy(inboundBuffer, consumed, inboundBuffer, 0, remaining);
+        }
+        inboundSize = remaining;
+        return result.frame();
+    }
+
+    @Override
+    public void reset() {
+        inboundSize = 0;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= inboundBuffer.length) {
+            return;
+        }
+        int newCapacity = inboundBuffer.length;
+        while (newCapacity < required) {
+            newCapacity <<= 1;
+        }
+        inboundBuffer = Arrays.copyOf(inboundBuffer, newCapacity);
+    }
+}
@@ -0,0 +1,123 @@
+package teamnova.omok.core.nio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
+
+/**
+ * Hashed timing wheel that tracks idle deadlines for the connections of one reactor.
+ * Each connection sits in exactly one bucket. Contact updates only touch the connection's
+ * timestamp; when its bucket expires the entry is either closed or lazily re-inserted at
+ * the new deadline, so a sweep visits only buckets whose tick has elapsed.
+ * Not thread-safe: owned by the reactor's selector thread. Only the counters may be read elsewhere.
+ */
+final class IdleTimingWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final List<Entry>[] buckets;
+    private final List<Entry> scratch = new ArrayList<>();
+    private long currentTick;
+
+    private final LongAdder sweepNanos = new LongAdder();
+    private final LongAdder visited = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    IdleTimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    void schedule(NioClientConnection connection, ClientSessionHandle session) {
+        insert(new Entry(connection, session), connection.idleDeadline());
+    }
+
+    /**
+     * Visits every bucket whose tick elapsed since the previous call.
+     *
+     * @return number of connections closed for inactivity
+     */
+    int advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        int closed = 0;
+        long ticks = Math.min(targetTick - currentTick, buckets.length);
+        for (long i = 1; i <= ticks; i++) {
+            List<Entry> bucket = buckets[(int) ((currentTick + i) & mask)];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+            scratch.addAll(bucket);
+            bucket.clear();
+            for (Entry entry : scratch) {
+                visited.increment();
+                if (entry.connection.isClosed()) {
+                    continue;
+                }
+                if (entry.tick > targetTick) {
+                    // Belongs to a later rotation of the wheel
+                    bucket.add(entry);
+                    continue;
+                }
+                long deadline = entry.connection.idleDeadline();
+                if (deadline <= nowMillis) {
+                    entry.session.closeIfTimedOut(nowMillis);
+                    closed++;
+                } else {
+                    insert(entry, deadline);
+                }
+            }
+            scratch.clear();
+        }
+        currentTick = targetTick;
+        timeouts.add(closed);
+        sweepNanos.add(System.nanoTime() - started);
+        return closed;
+    }
+
+    long sweepNanos() {
+        return sweepNanos.sum();
+    }
+
+    long visited() {
+        return visited.sum();
+    }
+
+    long timeouts() {
+        return timeouts.sum();
+    }
+
+    private void insert(Entry entry, long deadlineMillis) {
+        // Round up so an entry never fires before its deadline
+        long tick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        entry.tick = tick;
+        buckets[(int) (tick & mask)].add(entry);
+    }
+
+    private static final class Entry {
+        private final NioClientConnection connection;
+        private final ClientSessionHandle session;
+        private long tick;
+
+        private Entry(NioClientConnection connection, ClientSessionHandle session) {
+            this.connection = connection;
+            this.session = session;
+        }
+    }
+}
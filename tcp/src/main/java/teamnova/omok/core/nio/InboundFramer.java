@@ -0,0 +1,20 @@
+package teamnova.omok.core.nio;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+
+import teamnova.omok.core.nio.codec.DecodeFrame;
+
+/**
+ * Buffers bytes read from a channel and splits them into frames.
+ */
+interface InboundFramer {
+    int read(SocketChannel channel) throws IOException;
+
+    FramedMessage poll() throws DecodeFrame.FrameDecodeException;
+
+    /**
+     * Drops buffered bytes and releases any pooled memory held by the framer.
+     */
+    void reset();
+}
@@ -0,0 +1,27 @@
+package teamnova.omok.core.nio;
+
+/**
+ * Selects how {@link NioClientConnection} buffers and frames inbound bytes.
+ */
+public enum InboundMode {
+    /**
+     * Reads into a heap buffer, copies into a growable array and copies each payload out.
+     */
+    HEAP_COPY,
+    /**
+     * Reads into pooled direct chunks and hands out payloads as slices of those chunks.
+     */
+    POOLED_DIRECT;
+
+    public static InboundMode parse(String value, InboundMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return InboundMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            System.err.printf("Unknown inbound mode '%s', falling back to %s%n", value, fallback);
+            return fallback;
+        }
+    }
+}
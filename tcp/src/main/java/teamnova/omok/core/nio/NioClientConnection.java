@@ -6,13 +6,12 @@ import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
-import java.util.Arrays;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
 import teamnova.omok.core.nio.codec.DecodeFrame;
-import teamnova.omok.core.nio.codec.EncodeFrame;
+import teamnova.omok.core.nio.codec.FrameFormat;
 import teamnova.omok.glue.handler.register.Type;
 
 /**
@@ -20,20 +19,32 @@ import teamnova.omok.glue.handler.register.Type;
  * Handles framed message buffering and selector interest bookkeeping.
  */
 public final class NioClientConnection implements Closeable {
-    private static final int BUFFER_SIZE = 4096;
     private static final long IDLE_TIMEOUT_MILLIS = 90_000L;
 
     private final SocketChannel channel;
-    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
-    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final InboundFramer framer;
+    private final GatheringWriter outbound = new GatheringWriter();
+    // Held by whichever thread is responsible for draining outbound (a caller or the selector)
+    private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    // Set by a caller whose direct write failed; the selector rethrows it to run the close path
+    private volatile IOException writeFailure;
 
-    private byte[] inboundBuffer = new byte[BUFFER_SIZE];
-    private int inboundSize = 0;
     private SelectionKey key;
-    private long lastContactTime;
+    private volatile NioReactor reactor;
+    private volatile long lastContactTime;
 
     public NioClientConnection(SocketChannel channel) {
+        this(channel, InboundMode.HEAP_COPY);
+    }
+
+    public NioClientConnection(SocketChannel channel, InboundMode inboundMode) {
         this.channel = Objects.requireNonNull(channel, "channel");
+        this.framer = switch (Objects.requireNonNull(inboundMode, "inboundMode")) {
+            case HEAP_COPY -> new HeapInboundFramer();
+            case POOLED_DIRECT -> new PooledInboundFramer(DirectBufferPool.shared());
+        };
         this.lastContactTime = System.currentTimeMillis();
     }
 
@@ -41,54 +52,139 @@ public final class NioClientConnection implements Closeable {
         this.key = key;
     }
 
+    void attachReactor(NioReactor reactor) {
+        this.reactor = reactor;
+    }
+
+    /**
+     * Reactor whose selector thread owns this connection, or {@code null} before registration.
+     */
+    public NioReactor reactor() {
+        return reactor;
+    }
+
     public int readFromChannel() throws IOException {
-        int bytesRead = channel.read(readBuffer);
+        int bytesRead = framer.read(channel);
         if (bytesRead > 0) {
-            readBuffer.flip();
-            int remaining = readBuffer.remaining();
-            ensureCapacity(inboundSize + remaining);
-            readBuffer.get(inboundBuffer, inboundSize, remaining);
-            inboundSize += remaining;
-            readBuffer.clear();
             updateLastContactTime();
         }
         return bytesRead;
     }
 
     public FramedMessage pollInboundFrame() throws DecodeFrame.FrameDecodeException {
-        DecodeFrame.Result result = DecodeFrame.tryDecode(inboundBuffer, inboundSize);
-        if (result == null) {
-            return null;
+        return framer.poll();
+    }
+
+    /**
+     * Queues a frame and, if no other thread is already draining this connection,
+     * writes it straight from the calling thread.
+     *
+     * Closed connections drop the frame.
+     *
+     * @return {@code true} if the socket did not take everything and the caller must
+     *         arm {@code OP_WRITE} so the selector finishes the flush
+     */
+    public boolean enqueueResponse(Type type, long requestId, byte[] payload) {
+        Objects.requireNonNull(payload, "payload");
+        if (payload.length > FrameFormat.MAX_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("payload length " + payload.length + " exceeds maximum " + FrameFormat.MAX_PAYLOAD_SIZE);
         }
-        int consumed = result.bytesConsumed();
-        int remaining = inboundSize - consumed;
-        if (remaining > 0) {
-            System.arraycopy(inboundBuffer, consumed, inboundBuffer, 0, remaining);
+        if (closed.get()) {
+            return false;
         }
-        inboundSize = remaining;
-        return result.frame();
+        return enqueue(new OutboundFrame(type.value, requestId, ByteBuffer.wrap(payload)));
     }
 
-    public void enqueueResponse(Type type, long requestId, byte[] payload) {
-        outbound.add(EncodeFrame.encodeFrame(type.value, requestId, payload));
+    /**
+     * Queues a view of a frame encoded once for several connections, retaining it until written.
+     * Closed connections skip the frame so they never pin its buffer.
+     *
+     * @return same as {@link #enqueueResponse}
+     */
+    public boolean enqueueShared(SharedFrame frame) {
+        Objects.requireNonNull(frame, "frame");
+        if (closed.get()) {
+            return false;
+        }
+        NioTransportMetrics.recordSharedDelivery();
+        return enqueue(OutboundFrame.of(frame));
+    }
+
+    private boolean enqueue(OutboundFrame frame) {
+        outbound.enqueue(frame);
+        if (closed.get()) {
+            // close() may have drained the queue before this frame landed in it
+            outbound.dropPending();
+            return false;
+        }
         updateLastContactTime();
+        if (!writeScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        return !flushFromCaller();
     }
 
+    /**
+     * Selector-side flush, invoked when {@code OP_WRITE} fires after a partial write.
+     */
     public void flushOutbound() throws IOException {
-        ByteBuffer buffer = outbound.peek();
-        while (buffer != null) {
-            channel.write(buffer);
-            if (buffer.hasRemaining()) {
+        IOException failure = writeFailure;
+        if (failure != null) {
+            throw failure;
+        }
+        try {
+            if (!outbound.flush(channel)) {
+                if (closed.get()) {
+                    outbound.clear();
+                }
                 return;
             }
-            outbound.poll();
-            buffer = outbound.peek();
+        } catch (IOException e) {
+            // Still holding the flag, so nobody else will return the buffers
+            outbound.clear();
+            throw e;
         }
         updateLastContactTime();
+        disableWriteInterest();
+        writeScheduled.set(false);
+        // A frame queued while we still owned the flag did not schedule itself
+        if (outbound.hasPending() && writeScheduled.compareAndSet(false, true)) {
+            enableWriteInterest();
+        }
+    }
+
+    private boolean flushFromCaller() {
+        while (true) {
+            boolean drained;
+            try {
+                drained = outbound.flush(channel);
+            } catch (IOException e) {
+                // Keep the flag so nothing else writes, release what was queued, and let the
+                // selector rethrow the failure and run the normal close path
+                outbound.clear();
+                writeFailure = e;
+                NioTransportMetrics.recordWriteInterestFallback();
+                return false;
+            }
+            if (!drained) {
+                if (closed.get()) {
+                    // close() saw the flag taken and left the partial batch to us
+                    outbound.clear();
+                    return false;
+                }
+                NioTransportMetrics.recordWriteInterestFallback();
+                return false;
+            }
+            NioTransportMetrics.recordDirectFlush();
+            writeScheduled.set(false);
+            if (!outbound.hasPending() || !writeScheduled.compareAndSet(false, true)) {
+                return true;
+            }
+        }
     }
 
     public boolean hasPendingWrites() {
-        return !outbound.isEmpty();
+        return outbound.hasPending();
     }
 
     public void enableWriteInterest() {
@@ -104,7 +200,7 @@ public final class NioClientConnection implements Closeable {
     }
 
     public void resetInboundState() {
-        inboundSize = 0;
+        framer.reset();
     }
 
     public SocketAddress remoteAddress() throws IOException {
@@ -119,8 +215,26 @@ public final class NioClientConnection implements Closeable {
         return (nowMillis - lastContactTime) >= IDLE_TIMEOUT_MILLIS;
     }
 
+    /**
+     * Wall-clock time at which this connection becomes idle unless contacted again.
+     */
+    public long idleDeadline() {
+        return lastContactTime + IDLE_TIMEOUT_MILLIS;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
     @Override
     public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        NioReactor owner = reactor;
+        if (owner != null) {
+            owner.onConnectionClosed();
+        }
         try {
             if (key != null) {
                 key.cancel();
@@ -128,17 +242,15 @@ public final class NioClientConnection implements Closeable {
             channel.close();
         } catch (IOException e) {
             System.err.println("Connection close failure: " + e.getMessage());
+        } finally {
+            framer.reset();
+            // A thread mid-flush owns its batch and releases it when the write fails;
+            // frames still queued can be dropped from here either way
+            if (writeScheduled.compareAndSet(false, true)) {
+                outbound.clear();
+            } else {
+                outbound.dropPending();
+            }
         }
     }
-
-    private void ensureCapacity(int required) {
-        if (required <= inboundBuffer.length) {
-            return;
-        }
-        int newCapacity = inboundBuffer.length;
-        while (newCapacity < required) {
-            newCapacity <<= 1;
-        }
-        inboundBuffer = Arrays.copyOf(inboundBuffer, newCapacity);
-    }
 }
@@ -0,0 +1,281 @@
+package teamnova.omok.core.nio;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import teamnova.omok.core.nio.codec.DecodeFrame;
+import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
+import teamnova.omok.glue.client.session.services.ClientSessionModule;
+
+/**
+ * One selector thread with its own task queue. Owns the connections registered on it
+ * and performs their reads, writes and idle checks. The server either runs a single
+ * reactor that also accepts, or an acceptor reactor feeding several I/O reactors.
+ */
+public final class NioReactor implements Runnable {
+    private static final long IDLE_TICK_MILLIS = 1000L;
+    private static final int IDLE_WHEEL_SIZE = 128;
+
+    private final int index;
+    private final NioReactorServer server;
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder selectLoops = new LongAdder();
+    private final LongAdder readEvents = new LongAdder();
+    private final LongAdder writeEvents = new LongAdder();
+    private final LongAdder tasksRun = new LongAdder();
+    private final IdleTimingWheel idleWheel;
+    private volatile boolean running = true;
+
+    NioReactor(int index, NioReactorServer server) throws IOException {
+        this.index = index;
+        this.server = Objects.requireNonNull(server, "server");
+        this.selector = Selector.open();
+        this.idleWheel = new IdleTimingWheel(IDLE_TICK_MILLIS, IDLE_WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    public int index() {
+        return index;
+    }
+
+    Selector selector() {
+        return selector;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                // Use a timeout to periodically wake up and perform housekeeping (e.g., idle session checks)
+                selector.select(1000);
+                selectLoops.increment();
+                runTasks();
+
+                // Close idle sessions whose wheel bucket expired since the last pass
+                idleWheel.advance(System.currentTimeMillis());
+
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    try {
+                        dispatchKey(key);
+                    } catch (CancelledKeyException ignored) {
+                        System.err.println("Key cancelled during processing: " + ignored.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Selector loop halted: " + e.getMessage());
+        } finally {
+            shutdownInternal();
+        }
+    }
+
+    public void enqueue(Runnable task) {
+        Objects.requireNonNull(task, "task");
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Hands an accepted channel to this reactor's thread for registration.
+     */
+    void registerLater(SocketChannel client) {
+        enqueue(() -> register(client));
+        if (!running) {
+            // The loop may already have exited; register() closes the channel instead of leaking it
+            runTasks();
+        }
+    }
+
+    /**
+     * Wraps an accepted channel into a session and registers it on this reactor's selector.
+     * Must run on this reactor's thread. Channels handed over after shutdown are closed.
+     */
+    void register(SocketChannel client) {
+        if (!running || !selector.isOpen()) {
+            System.err.println("Reactor " + index + " is shut down, dropping connection");
+            closeQuietly(client);
+            return;
+        }
+        try {
+            client.configureBlocking(false);
+            NioClientConnection connection = new NioClientConnection(client, server.config().inboundMode);
+            ClientSessionHandle session = new ClientSessionModule(connection, server);
+            SelectionKey clientKey = client.register(selector, SelectionKey.OP_READ, session);
+            connection.attachReactor(this);
+            session.attachKey(clientKey);
+            idleWheel.schedule(connection, session);
+            connections.incrementAndGet();
+            try {
+                System.out.printf("Accepted connection from %s on reactor %d%n", connection.remoteAddress(), index);
+            } catch (IOException e) {
+                // Registration is complete; a failed lookup only affects the log line
+                System.err.println("Failed to read remote address: " + e.getMessage());
+            }
+        } catch (ClosedChannelException e) {
+            System.err.println("Connection closed before registration: " + e.getMessage());
+        } catch (IOException e) {
+            System.err.println("Failed to register connection: " + e.getMessage());
+            closeQuietly(client);
+        }
+    }
+
+    private static void closeQuietly(SocketChannel client) {
+        try {
+            client.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    void onConnectionClosed() {
+        connections.decrementAndGet();
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    public ReactorMetrics metrics() {
+        return new ReactorMetrics(
+            index,
+            connections.get(),
+            tasks.size(),
+            selectLoops.sum(),
+            readEvents.sum(),
+            writeEvents.sum(),
+            tasksRun.sum(),
+            idleWheel.sweepNanos(),
+            idleWheel.visited(),
+            idleWheel.timeouts()
+        );
+    }
+
+    private void dispatchKey(SelectionKey key) throws IOException {
+        if (key.isAcceptable()) {
+            server.handleAccept(this, key);
+        }
+        if (key.isConnectable()) {
+            handleConnect(key);
+        }
+        if (key.isReadable()) {
+            readEvents.increment();
+            handleRead(key);
+        }
+        if (key.isValid() && key.isWritable()) {
+            writeEvents.increment();
+            handleWrite(key);
+        }
+    }
+
+    private void handleConnect(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        if (channel.isConnectionPending()) {
+            channel.finishConnect();
+        }
+        key.interestOps(key.interestOps() & ~SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
+    }
+
+    private void handleRead(SelectionKey key) {
+        ClientSessionHandle session = (ClientSessionHandle) key.attachment();
+        if (session == null) {
+            return;
+        }
+        try {
+            int bytesRead = session.readFromChannel();
+            if (bytesRead == -1) {
+                session.close();
+                return;
+            }
+            FramedMessage frame;
+            while ((frame = session.pollInboundFrame()) != null) {
+                server.dispatcher().dispatch(session, frame);
+            }
+        } catch (DecodeFrame.FrameDecodeException e) {
+            System.err.println("Frame discarded: " + e.getMessage());
+            session.resetInboundState();
+            session.close();
+        } catch (IOException e) {
+            System.err.println("Read failure: " + e.getMessage());
+            session.close();
+        }
+    }
+
+    private void handleWrite(SelectionKey key) {
+        ClientSessionHandle session = (ClientSessionHandle) key.attachment();
+        if (session == null) {
+            return;
+        }
+        try {
+            session.flushOutbound();
+        } catch (IOException e) {
+            System.err.println("Write failure: " + e.getMessage());
+            session.close();
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            tasksRun.increment();
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("Selector task failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void shutdownInternal() {
+        running = false;
+        // Channels still waiting for registration are closed by register()
+        runTasks();
+        try {
+            for (SelectionKey key : selector.keys()) {
+                Object attachment = key.attachment();
+                if (attachment instanceof ClientSessionHandle session) {
+                    session.close();
+                }
+                key.cancel();
+            }
+            selector.close();
+        } catch (IOException e) {
+            System.err.println("Failed to shutdown cleanly: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Point-in-time load figures for a single reactor.
+     */
+    public record ReactorMetrics(int index,
+                                 int connections,
+                                 int pendingTasks,
+                                 long selectLoops,
+                                 long readEvents,
+                                 long writeEvents,
+                                 long tasksRun,
+                                 long idleSweepNanos,
+                                 long idleEntriesVisited,
+                                 long idleTimeouts) {
+    }
+}
@@ -3,199 +3,163 @@ package teamnova.omok.core.nio;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import teamnova.omok.core.nio.codec.DecodeFrame;
-import teamnova.omok.glue.client.session.services.ClientSessionModule;
 import teamnova.omok.glue.handler.dispatcher.Dispatcher;
+import teamnova.omok.glue.handler.dispatcher.DispatcherConfig;
 import teamnova.omok.glue.handler.register.HandlerRegistry;
-import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 
 /**
  * NIO selector/reactor server that delegates business logic to worker threads.
+ * With {@link NioServerConfig#reactorCount} of zero a single selector thread accepts and
+ * serves every connection. Otherwise the calling thread becomes a dedicated acceptor that
+ * hands each accepted channel to one of N sub-reactors, each running its own selector.
  */
 public final class NioReactorServer implements Closeable {
-    private final Selector selector;
     private final ServerSocketChannel serverChannel;
     private final Dispatcher dispatcher;
-    private final Queue<Runnable> selectorTasks = new ConcurrentLinkedQueue<>();
-    private volatile boolean running = true;
+    private final NioServerConfig config;
+    private final NioReactor acceptor;
+    private final NioReactor[] reactors;
+    private final Thread[] reactorThreads;
+    private final AtomicInteger nextReactor = new AtomicInteger();
 
     public NioReactorServer(int port, int workerCount, HandlerRegistry registry) throws IOException {
-        this.selector = Selector.open();
+        this(port, workerCount, NioServerConfig.defaults(), DispatcherConfig.defaults(), registry);
+    }
+
+    public NioReactorServer(int port,
+                            int workerCount,
+                            NioServerConfig config,
+                            DispatcherConfig dispatcherConfig,
+                            HandlerRegistry registry) throws IOException {
+        this.config = Objects.requireNonNull(config, "config");
+        this.acceptor = new NioReactor(-1, this);
+        int reactorCount = Math.max(0, config.reactorCount);
+        this.reactors = new NioReactor[reactorCount];
+        this.reactorThreads = new Thread[reactorCount];
+        for (int i = 0; i < reactorCount; i++) {
+            reactors[i] = new NioReactor(i, this);
+        }
         this.serverChannel = ServerSocketChannel.open();
         this.serverChannel.configureBlocking(false);
         this.serverChannel.bind(new InetSocketAddress(port));
-        this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
-        this.dispatcher = new Dispatcher(workerCount, this);
+        this.serverChannel.register(acceptor.selector(), SelectionKey.OP_ACCEPT);
+        this.dispatcher = new Dispatcher(workerCount, dispatcherConfig, this);
         Objects.requireNonNull(registry, "registry").configure(dispatcher);
     }
 
+    /**
+     * Runs the acceptor loop on the calling thread until {@link #close()} is invoked.
+     */
     public void start() {
+        for (int i = 0; i < reactors.length; i++) {
+            Thread thread = new Thread(reactors[i], "nio-reactor-" + i);
+            thread.setDaemon(true);
+            reactorThreads[i] = thread;
+            thread.start();
+        }
         try {
-            while (running) {
-                // Use a timeout to periodically wake up and perform housekeeping (e.g., idle session checks)
-                selector.select(1000);
-                runSelectorTasks();
-
-                // Sweep for idle sessions and close them
-                long now = System.currentTimeMillis();
-                for (SelectionKey k : selector.keys()) {
-                    Object att = k.attachment();
-                    if (att instanceof ClientSessionHandle s) {
-                        s.closeIfTimedOut(now);
-                    }
-                }
-
-                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
-                while (iterator.hasNext()) {
-                    SelectionKey key = iterator.next();
-                    iterator.remove();
-                    if (!key.isValid()) {
-                        continue;
-                    }
-                    try {
-                        dispatchKey(key);
-                    } catch (CancelledKeyException ignored) {
-                        System.err.println("Key cancelled during processing: " + ignored.getMessage());
-                    }
-                }
-            }
-        } catch (IOException e) {
-            System.err.println("Selector loop halted: " + e.getMessage());
+            acceptor.run();
         } finally {
             shutdownInternal();
         }
     }
 
-    private void dispatchKey(SelectionKey key) throws IOException {
-        if (key.isAcceptable()) {
-            handleAccept(key);
-        }
-        if (key.isConnectable()) {
-            handleConnect(key);
-        }
-        if (key.isReadable()) {
-            handleRead(key);
-        }
-        if (key.isWritable()) {
-            handleWrite(key);
-        }
-    }
-
-    private void handleAccept(SelectionKey key) throws IOException {
+    void handleAccept(NioReactor source, SelectionKey key) throws IOException {
         ServerSocketChannel server = (ServerSocketChannel) key.channel();
         SocketChannel client = server.accept();
         if (client == null) {
             return;
         }
-        client.configureBlocking(false);
-        NioClientConnection connection = new NioClientConnection(client);
-        ClientSessionHandle session = new ClientSessionModule(connection, this);
-        SelectionKey clientKey = client.register(selector, SelectionKey.OP_READ, session);
-        session.attachKey(clientKey);
-        try {
-            System.out.printf("Accepted connection from %s%n", connection.remoteAddress());
-        } catch (IOException e) {
-            System.err.println("Failed to read remote address: " + e.getMessage());
+        if (reactors.length == 0) {
+            source.register(client);
+            return;
         }
+        selectReactor().registerLater(client);
     }
 
-    private void handleConnect(SelectionKey key) throws IOException {
-        SocketChannel channel = (SocketChannel) key.channel();
-        if (channel.isConnectionPending()) {
-            channel.finishConnect();
+    private NioReactor selectReactor() {
+        if (config.reactorSelection == NioServerConfig.ReactorSelection.LEAST_LOADED) {
+            NioReactor best = reactors[0];
+            for (int i = 1; i < reactors.length; i++) {
+                if (reactors[i].connectionCount() < best.connectionCount()) {
+                    best = reactors[i];
+                }
+            }
+            return best;
         }
-        key.interestOps(key.interestOps() & ~SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
+        return reactors[Math.floorMod(nextReactor.getAndIncrement(), reactors.length)];
     }
 
-    private void handleRead(SelectionKey key) {
-        ClientSessionHandle session = (ClientSessionHandle) key.attachment();
-        if (session == null) {
-            return;
-        }
-        try {
-            int bytesRead = session.readFromChannel();
-            if (bytesRead == -1) {
-                session.close();
-                return;
-            }
-            FramedMessage frame;
-            while ((frame = session.pollInboundFrame()) != null) {
-                dispatcher.dispatch(session, frame);
-            }
-        } catch (DecodeFrame.FrameDecodeException e) {
-            System.err.println("Frame discarded: " + e.getMessage());
-            session.resetInboundState();
-            session.close();
-        } catch (IOException e) {
-            System.err.println("Read failure: " + e.getMessage());
-            session.close();
-        }
+    NioServerConfig config() {
+        return config;
     }
 
-    private void handleWrite(SelectionKey key) {
-        ClientSessionHandle session = (ClientSessionHandle) key.attachment();
-        if (session == null) {
-            return;
-        }
-        try {
-            session.flushOutbound();
-            if (!session.hasPendingWrites()) {
-                session.disableWriteInterest();
-            }
-        } catch (IOException e) {
-            System.err.println("Write failure: " + e.getMessage());
-            session.close();
-        }
+    int localPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
     }
 
-    public void enqueueSelectorTask(Runnable task) {
-        Objects.requireNonNull(task, "task");
-        selectorTasks.add(task);
-        selector.wakeup();
+    public Dispatcher dispatcher() {
+        return dispatcher;
+    }
+
+    /**
+     * Runs {@code task} on the selector thread that owns {@code connection}.
+     */
+    public void enqueueSelectorTask(NioClientConnection connection, Runnable task) {
+        NioReactor owner = connection != null ? connection.reactor() : null;
+        (owner != null ? owner : acceptor).enqueue(task);
+    }
+
+    /**
+     * Per-reactor load figures. In single-reactor mode the acceptor is the only entry.
+     */
+    public List<NioReactor.ReactorMetrics> reactorMetrics() {
+        if (reactors.length == 0) {
+            return List.of(acceptor.metrics());
+        }
+        List<NioReactor.ReactorMetrics> metrics = new ArrayList<>(reactors.length);
+        for (NioReactor reactor : reactors) {
+            metrics.add(reactor.metrics());
+        }
+        return metrics;
     }
 
     @Override
     public void close() {
-        running = false;
-        selector.wakeup();
+        acceptor.close();
+        for (NioReactor reactor : reactors) {
+            reactor.close();
+        }
     }
 
     private void shutdownInternal() {
         dispatcher.close();
-        try {
-            for (SelectionKey key : selector.keys()) {
-                Object attachment = key.attachment();
-                if (attachment instanceof ClientSessionHandle session) {
-                    session.close();
-                }
-                key.cancel();
+        for (NioReactor reactor : reactors) {
+            reactor.close();
+        }
+        for (Thread thread : reactorThreads) {
+            if (thread == null) {
+                continue;
             }
-            selector.close();
+            try {
+                thread.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        try {
             serverChannel.close();
         } catch (IOException e) {
             System.err.println("Failed to shutdown cleanly: " + e.getMessage());
         }
     }
-
-    private void runSelectorTasks() {
-        Runnable task;
-        while ((task = selectorTasks.poll()) != null) {
-            try {
-                task.run();
-            } catch (RuntimeException e) {
-                System.err.println("Selector task failed: " + e.getMessage());
-            }
-        }
-    }
-
 }
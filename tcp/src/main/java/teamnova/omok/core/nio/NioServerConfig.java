@@ -0,0 +1,36 @@
+package teamnova.omok.core.nio;
+
+/**
+ * Tunable transport parameters for {@link NioReactorServer}.
+ * Defaults preserve the original single-copy-per-stage behaviour.
+ */
+public class NioServerConfig {
+    public InboundMode inboundMode = InboundMode.HEAP_COPY;
+    // 0 keeps a single selector thread for accept and I/O; N > 0 adds N I/O reactors behind an acceptor
+    public int reactorCount = 0;
+    public ReactorSelection reactorSelection = ReactorSelection.ROUND_ROBIN;
+
+    public static NioServerConfig defaults() {
+        return new NioServerConfig();
+    }
+
+    /**
+     * How the acceptor picks the reactor for a new connection.
+     */
+    public enum ReactorSelection {
+        ROUND_ROBIN,
+        LEAST_LOADED;
+
+        public static ReactorSelection parse(String value, ReactorSelection fallback) {
+            if (value == null || value.isBlank()) {
+                return fallback;
+            }
+            try {
+                return ReactorSelection.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                System.err.printf("Unknown reactor selection '%s', falling back to %s%n", value, fallback);
+                return fallback;
+            }
+        }
+    }
+}
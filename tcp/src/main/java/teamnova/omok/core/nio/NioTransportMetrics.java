@@ -0,0 +1,86 @@
+package teamnova.omok.core.nio;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide socket write counters used to measure outbound batching and selector churn.
+ */
+public final class NioTransportMetrics {
+    private static final LongAdder FLUSHES = new LongAdder();
+    private static final LongAdder WRITE_SYSCALLS = new LongAdder();
+    private static final LongAdder BYTES_WRITTEN = new LongAdder();
+    private static final LongAdder DIRECT_FLUSHES = new LongAdder();
+    private static final LongAdder WRITE_INTEREST_FALLBACKS = new LongAdder();
+    private static final LongAdder SHARED_ENCODES = new LongAdder();
+    private static final LongAdder SHARED_DELIVERIES = new LongAdder();
+
+    private NioTransportMetrics() {
+    }
+
+    static void recordFlush(int syscalls) {
+        if (syscalls > 0) {
+            FLUSHES.increment();
+        }
+    }
+
+    static void recordWrite(long bytes) {
+        WRITE_SYSCALLS.increment();
+        if (bytes > 0) {
+            BYTES_WRITTEN.add(bytes);
+        }
+    }
+
+    static void recordDirectFlush() {
+        DIRECT_FLUSHES.increment();
+    }
+
+    static void recordWriteInterestFallback() {
+        WRITE_INTEREST_FALLBACKS.increment();
+    }
+
+    static void recordSharedEncode() {
+        SHARED_ENCODES.increment();
+    }
+
+    static void recordSharedDelivery() {
+        SHARED_DELIVERIES.increment();
+    }
+
+    public static Snapshot snapshot() {
+        return new Snapshot(
+            FLUSHES.sum(),
+            WRITE_SYSCALLS.sum(),
+            BYTES_WRITTEN.sum(),
+            DIRECT_FLUSHES.sum(),
+            WRITE_INTEREST_FALLBACKS.sum(),
+            SHARED_ENCODES.sum(),
+            SHARED_DELIVERIES.sum()
+        );
+    }
+
+    /**
+     * @param directFlushes          flushes completed on the enqueueing thread without the selector
+     * @param writeInterestFallbacks partial direct writes that had to arm {@code OP_WRITE}
+     * @param sharedEncodes          frames encoded once for a broadcast
+     * @param sharedDeliveries       connections those frames were queued on
+     */
+    public record Snapshot(long flushes,
+                           long writeSyscalls,
+                           long bytesWritten,
+                           long directFlushes,
+                           long writeInterestFallbacks,
+                           long sharedEncodes,
+                           long sharedDeliveries) {
+        public double syscallsPerFlush() {
+            return flushes == 0 ? 0.0 : (double) writeSyscalls / flushes;
+        }
+
+        public double deliveriesPerSharedEncode() {
+            return sharedEncodes == 0 ? 0.0 : (double) sharedDeliveries / sharedEncodes;
+        }
+
+        public double bytesPerSyscall() {
+            return writeSyscalls == 0 ? 0.0 : (double) bytesWritten / writeSyscalls;
+        }
+    }
+}
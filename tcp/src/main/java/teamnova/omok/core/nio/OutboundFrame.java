@@ -0,0 +1,29 @@
+package teamnova.omok.core.nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Frame waiting in a connection's outbound queue. The header is encoded at flush time,
+ * unless the frame is a view of a {@link SharedFrame} that already carries it.
+ *
+ * @param shared owner of an already encoded {@code payload}, released once the view is written
+ */
+record OutboundFrame(byte type, long requestId, ByteBuffer payload, SharedFrame shared) {
+    OutboundFrame(byte type, long requestId, ByteBuffer payload) {
+        this(type, requestId, payload, null);
+    }
+
+    static OutboundFrame of(SharedFrame frame) {
+        return new OutboundFrame((byte) 0, 0L, frame.retainView(), frame);
+    }
+
+    boolean encoded() {
+        return shared != null;
+    }
+
+    void release() {
+        if (shared != null) {
+            shared.release();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package teamnova.omok.core.nio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Objects;
+
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
+import teamnova.omok.core.nio.buffer.PooledBuffer;
+import teamnova.omok.core.nio.codec.DecodeFrame;
+
+/**
+ * Zero-copy read path. Bytes are read straight into a pooled direct chunk and every
+ * decoded frame is a slice of that chunk holding its own reference. Unread bytes are
+ * only copied when a chunk fills up in the middle of a frame, so each byte is moved
+ * at most once per chunk instead of once per frame. Idle connections hold no chunk.
+ */
+final class PooledInboundFramer implements InboundFramer {
+    private final DirectBufferPool pool;
+    private PooledBuffer chunk;
+    private int readIndex;
+    private int writeIndex;
+
+    PooledInboundFramer(DirectBufferPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    @Override
+    public synchronized int read(SocketChannel channel) throws IOException {
+        ensureWritable();
+        ByteBuffer buffer = chunk.buffer();
+        buffer.limit(buffer.capacity());
+        buffer.position(writeIndex);
+        int bytesRead;
+        try {
+            bytesRead = channel.read(buffer);
+        } catch (IOException e) {
+            releaseChunk();
+            throw e;
+        }
+        if (bytesRead > 0) {
+            writeIndex += bytesRead;
+        } else if (readIndex == writeIndex) {
+            releaseChunk();
+        }
+        return bytesRead;
+    }
+
+    @Override
+    public synchronized FramedMessage poll() throws DecodeFrame.FrameDecodeException {
+        if (chunk == null) {
+            return null;
+        }
+        DecodeFrame.Result result = DecodeFrame.tryDecode(chunk, readIndex, writeIndex - readIndex);
+        if (result == null) {
+            return null;
+        }
+        chunk.retain();
+        readIndex += result.bytesConsumed();
+        if (readIndex == writeIndex) {
+            releaseChunk();
+        }
+        return result.frame();
+    }
+
+    @Override
+    public synchronized void reset() {
+        releaseChunk();
+    }
+
+    private void ensureWritable() throws IOException {
+        if (chunk == null) {
+            chunk = pool.acquire();
+            readIndex = 0;
+            writeIndex = 0;
+            return;
+        }
+        if (writeIndex < chunk.capacity()) {
+            return;
+        }
+        int pending = writeIndex - readIndex;
+        int required = pool.chunkSize();
+        try {
+            int frameLength = DecodeFrame.peekFrameLength(chunk.buffer(), readIndex, pending);
+            required = Math.max(required, frameLength);
+        } catch (DecodeFrame.FrameDecodeException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        PooledBuffer next = required > pool.chunkSize()
+            ? PooledBuffer.unpooled(ByteBuffer.allocate(required))
+            : pool.acquire();
+        ByteBuffer tail = chunk.buffer().slice(readIndex, pending);
+        next.buffer().clear();
+        next.buffer().put(tail);
+        chunk.release();
+        chunk = next;
+        readIndex = 0;
+        writeIndex = pending;
+    }
+
+    private void releaseChunk() {
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
+        readIndex = 0;
+        writeIndex = 0;
+    }
+}
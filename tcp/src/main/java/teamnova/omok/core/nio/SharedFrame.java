@@ -0,0 +1,74 @@
+package teamnova.omok.core.nio;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
+import teamnova.omok.core.nio.buffer.PooledBuffer;
+import teamnova.omok.core.nio.codec.EncodeFrame;
+import teamnova.omok.core.nio.codec.FrameFormat;
+import teamnova.omok.glue.handler.register.Type;
+
+/**
+ * A complete frame (header and payload) encoded once so it can be queued on many connections.
+ * Frames that fit a {@link DirectBufferPool} chunk are encoded into a pooled direct buffer;
+ * larger ones get a buffer of their own. Each connection writes from a read-only view and
+ * holds a reference until the view is fully written, so the chunk goes back to the pool
+ * after the slowest recipient. The creator holds the first reference and must
+ * {@link #release()} it once fan-out is done.
+ */
+public final class SharedFrame {
+    private final PooledBuffer buffer;
+    private final int length;
+
+    private SharedFrame(PooledBuffer buffer, int length) {
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    public static SharedFrame encode(Type type, long requestId, byte[] payload) {
+        return encode(DirectBufferPool.shared(), type, requestId, payload);
+    }
+
+    public static SharedFrame encode(DirectBufferPool pool, Type type, long requestId, byte[] payload) {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(payload, "payload");
+        int length = FrameFormat.HEADER_LENGTH + payload.length;
+        PooledBuffer target = length <= pool.chunkSize()
+            ? pool.acquire()
+            : PooledBuffer.unpooled(ByteBuffer.allocateDirect(length));
+        ByteBuffer out = target.buffer();
+        try {
+            EncodeFrame.encodeHeader(out, type.value, requestId, payload.length);
+        } catch (IllegalArgumentException e) {
+            target.release();
+            throw e;
+        }
+        out.put(payload);
+        NioTransportMetrics.recordSharedEncode();
+        return new SharedFrame(target, length);
+    }
+
+    /**
+     * Encoded size in bytes, header included.
+     */
+    public int length() {
+        return length;
+    }
+
+    public int refCount() {
+        return buffer.refCount();
+    }
+
+    public void release() {
+        buffer.release();
+    }
+
+    /**
+     * Takes a reference for one more recipient and returns the bytes it should write.
+     */
+    ByteBuffer retainView() {
+        buffer.retain();
+        return buffer.buffer().slice(0, length).asReadOnlyBuffer();
+    }
+}
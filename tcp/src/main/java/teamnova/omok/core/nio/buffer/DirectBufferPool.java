@@ -0,0 +1,77 @@
+package teamnova.omok.core.nio.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared pool of fixed-size direct {@link ByteBuffer} chunks.
+ * Chunks are handed out wrapped in a reference-counted {@link PooledBuffer}
+ * and returned to the free list once the last reference is released.
+ */
+public final class DirectBufferPool {
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+    private static final int DEFAULT_MAX_POOLED = 2048;
+    private static final DirectBufferPool SHARED = new DirectBufferPool(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED);
+
+    public static DirectBufferPool shared() {
+        return SHARED;
+    }
+
+    private final int chunkSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final AtomicLong allocations = new AtomicLong();
+
+    public DirectBufferPool(int chunkSize, int maxPooled) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = chunkSize;
+        this.maxPooled = Math.max(0, maxPooled);
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    public PooledBuffer acquire() {
+        ByteBuffer buffer = free.poll();
+        if (buffer == null) {
+            allocations.incrementAndGet();
+            buffer = ByteBuffer.allocateDirect(chunkSize);
+        } else {
+            pooled.decrementAndGet();
+            buffer.clear();
+        }
+        return new PooledBuffer(buffer, this);
+    }
+
+    void recycle(ByteBuffer buffer) {
+        if (buffer.capacity() != chunkSize) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offer(buffer);
+    }
+
+    /**
+     * Number of idle chunks currently waiting in the free list.
+     */
+    public int pooledCount() {
+        return pooled.get();
+    }
+
+    /**
+     * Total number of direct chunks this pool has ever allocated.
+     */
+    public long allocationCount() {
+        return allocations.get();
+    }
+}
@@ -0,0 +1,60 @@
+package teamnova.omok.core.nio.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reference-counted handle over a {@link ByteBuffer} that may belong to a {@link DirectBufferPool}.
+ * The creator holds the first reference; every additional holder must {@link #retain()}
+ * and later {@link #release()} it. The buffer returns to its pool when the count reaches zero.
+ */
+public final class PooledBuffer {
+    private final ByteBuffer buffer;
+    private final DirectBufferPool pool;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    PooledBuffer(ByteBuffer buffer, DirectBufferPool pool) {
+        this.buffer = buffer;
+        this.pool = pool;
+    }
+
+    /**
+     * Wraps a buffer that is not owned by any pool (e.g. an oversized frame).
+     */
+    public static PooledBuffer unpooled(ByteBuffer buffer) {
+        return new PooledBuffer(buffer, null);
+    }
+
+    public ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    public PooledBuffer retain() {
+        int previous = refCount.getAndIncrement();
+        if (previous <= 0) {
+            refCount.decrementAndGet();
+            throw new IllegalStateException("buffer already released");
+        }
+        return this;
+    }
+
+    public void release() {
+        int remaining = refCount.decrementAndGet();
+        if (remaining == 0) {
+            if (pool != null) {
+                pool.recycle(buffer);
+            }
+        } else if (remaining < 0) {
+            refCount.incrementAndGet();
+            System.err.println("PooledBuffer released more times than retained");
+        }
+    }
+
+    public int refCount() {
+        return refCount.get();
+    }
+}
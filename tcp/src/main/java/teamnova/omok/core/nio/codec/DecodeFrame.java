@@ -1,6 +1,9 @@
 package teamnova.omok.core.nio.codec;
 
+import java.nio.ByteBuffer;
+
 import teamnova.omok.core.nio.FramedMessage;
+import teamnova.omok.core.nio.buffer.PooledBuffer;
 import teamnova.omok.core.nio.util.ByteArrayReaders;
 
 /**
@@ -57,6 +60,50 @@ public final class DecodeFrame {
         return new Result(frame, totalLength);
     }
 
+    /**
+     * Attempts to decode a frame that starts at {@code offset} of a pooled buffer.
+     * The returned frame's payload is a slice of {@code owner}'s buffer, not a copy;
+     * the caller must {@link PooledBuffer#retain()} on behalf of the frame.
+     *
+     * @param owner     pooled buffer holding the received bytes
+     * @param offset    absolute index of the first unread byte
+     * @param available number of unread bytes starting at {@code offset}
+     * @return decoded frame and consumed byte count, or {@code null} if more bytes are required
+     * @throws FrameDecodeException if the frame size is invalid or exceeds the allowed maximum
+     */
+    public static Result tryDecode(PooledBuffer owner, int offset, int available) throws FrameDecodeException {
+        int totalLength = peekFrameLength(owner.buffer(), offset, available);
+        if (totalLength < 0 || available < totalLength) {
+            return null;
+        }
+        ByteBuffer buffer = owner.buffer();
+        byte type = buffer.get(offset + FrameFormat.LENGTH_FIELD_SIZE);
+        long requestId = buffer.getInt(offset + FrameFormat.LENGTH_FIELD_SIZE + FrameFormat.TYPE_FIELD_SIZE)
+                & 0xFFFF_FFFFL;
+        ByteBuffer payload = buffer.slice(offset + FrameFormat.HEADER_LENGTH, totalLength - FrameFormat.HEADER_LENGTH);
+        return new Result(new FramedMessage(type, requestId, payload, owner), totalLength);
+    }
+
+    /**
+     * Reads and validates the length prefix of the frame starting at {@code offset}.
+     *
+     * @return total frame length, or {@code -1} if the header has not fully arrived yet
+     * @throws FrameDecodeException if the frame size is invalid or exceeds the allowed maximum
+     */
+    public static int peekFrameLength(ByteBuffer buffer, int offset, int available) throws FrameDecodeException {
+        if (available < FrameFormat.HEADER_LENGTH) {
+            return -1;
+        }
+        int totalLength = buffer.getInt(offset);
+        if (totalLength < FrameFormat.HEADER_LENGTH) {
+            throw new FrameDecodeException("Frame length " + totalLength + " smaller than header");
+        }
+        if (totalLength > FrameFormat.MAX_FRAME_SIZE) {
+            throw new FrameDecodeException("Frame length " + totalLength + " exceeds maximum " + FrameFormat.MAX_FRAME_SIZE);
+        }
+        return totalLength;
+    }
+
     public static final class Result {
         private final FramedMessage frame;
         private final int bytesConsumed;
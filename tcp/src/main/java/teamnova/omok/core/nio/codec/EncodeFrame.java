@@ -6,9 +6,7 @@ import java.util.Objects;
 public class EncodeFrame {
     public static ByteBuffer encodeFrame(byte type, long requestId, byte[] payload) {
         Objects.requireNonNull(payload, "payload");
-        if (payload.length > FrameFormat.MAX_PAYLOAD_SIZE) {
-            throw new IllegalArgumentException("payload length " + payload.length + " exceeds maximum " + FrameFormat.MAX_PAYLOAD_SIZE);
-        }
+        requirePayloadLength(payload.length);
 
         int totalLength = FrameFormat.HEADER_LENGTH + payload.length;
         ByteBuffer buffer = ByteBuffer.allocate(totalLength);
@@ -19,5 +17,22 @@ public class EncodeFrame {
         buffer.flip();
         return buffer;
     }
-}
 
+    /**
+     * Writes only the frame header into {@code target} at its current position so the
+     * payload can be sent from its own buffer with a gathering write.
+     */
+    public static void encodeHeader(ByteBuffer target, byte type, long requestId, int payloadLength) {
+        Objects.requireNonNull(target, "target");
+        requirePayloadLength(payloadLength);
+        target.putInt(FrameFormat.HEADER_LENGTH + payloadLength);
+        target.put(type);
+        target.putInt((int) (requestId & 0xFFFF_FFFFL));
+    }
+
+    private static void requirePayloadLength(int payloadLength) {
+        if (payloadLength > FrameFormat.MAX_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException("payload length " + payloadLength + " exceeds maximum " + FrameFormat.MAX_PAYLOAD_SIZE);
+        }
+    }
+}
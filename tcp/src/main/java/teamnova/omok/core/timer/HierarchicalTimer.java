@@ -0,0 +1,268 @@
+package teamnova.omok.core.timer;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Shared timer backed by a hierarchical timing wheel. Four levels of 64 slots cover
+ * roughly 2^24 ticks; entries further out are parked on the top level and re-placed
+ * when it cascades. Scheduling and cancelling are O(1) from any thread: both only push
+ * onto a queue that the timer thread drains once per tick, and cancelled entries are
+ * unlinked from their bucket right away instead of waiting for their deadline.
+ * Tasks run on the timer thread and must stay short; hand real work to another executor.
+ */
+public final class HierarchicalTimer implements Closeable {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN_TICKS = 1L << (WHEEL_BITS * LEVELS);
+
+    private final String name;
+    private final long tickNanos;
+    private final LongSupplier clock;
+    private final long startNanos;
+    private final TimerBucket[][] wheels = new TimerBucket[LEVELS][WHEEL_SIZE];
+    private final Queue<Timeout<?>> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<?>> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder totalDriftNanos = new LongAdder();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile long lastDriftNanos;
+    private volatile long maxDriftNanos;
+    private volatile long lastTickLagNanos;
+    // Timer thread only
+    private long currentTick;
+
+    public HierarchicalTimer(String name, long tickMillis) {
+        this(name, tickMillis, System::nanoTime, true);
+    }
+
+    HierarchicalTimer(String name, long tickMillis, LongSupplier clock, boolean startThread) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        this.name = Objects.requireNonNull(name, "name");
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.startNanos = clock.getAsLong();
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                wheels[level][slot] = new TimerBucket();
+            }
+        }
+        if (startThread) {
+            this.thread = new Thread(this::runLoop, name);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        } else {
+            this.thread = null;
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Schedules {@code task} to run once after {@code delayMillis}. Negative delays fire
+     * on the next tick.
+     */
+    public <K> Timeout<K> schedule(K key, long delayMillis, Runnable task) {
+        Objects.requireNonNull(task, "task");
+        if (!running) {
+            throw new IllegalStateException("Timer " + name + " is closed");
+        }
+        long deadline = clock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(Math.max(0L, delayMillis));
+        Timeout<K> timeout = new Timeout<>(this, key, task, deadline);
+        pending.incrementAndGet();
+        scheduled.increment();
+        additions.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Schedules {@code task} for a wall-clock deadline in epoch milliseconds.
+     */
+    public <K> Timeout<K> scheduleAt(K key, long deadlineEpochMillis, Runnable task) {
+        return schedule(key, deadlineEpochMillis - System.currentTimeMillis(), task);
+    }
+
+    void onCancelled(Timeout<?> timeout) {
+        pending.decrementAndGet();
+        cancelled.increment();
+        cancellations.add(timeout);
+    }
+
+    /**
+     * Processes every tick that has elapsed up to {@code nowNanos}. Timer thread only.
+     */
+    void advance(long nowNanos) {
+        drainCancellations();
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        if (targetTick > currentTick) {
+            lastTickLagNanos = Math.max(0L, nowNanos - (startNanos + (currentTick + 1) * tickNanos));
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            drainAdditions();
+            cascade();
+            expire(nowNanos);
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            try {
+                advance(clock.getAsLong());
+            } catch (Throwable t) {
+                System.err.println("[TIMER][" + name + "] tick failed: " + t);
+            }
+            long nextTickAt = startNanos + (currentTick + 1) * tickNanos;
+            long sleep = nextTickAt - clock.getAsLong();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+        }
+    }
+
+    private void drainCancellations() {
+        Timeout<?> timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void drainAdditions() {
+        Timeout<?> timeout;
+        while ((timeout = additions.poll()) != null) {
+            if (timeout.isPending()) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<?> timeout) {
+        long deadlineTick = tickOf(timeout.deadlineNanos);
+        long delta = deadlineTick - currentTick;
+        if (delta <= 0) {
+            wheels[0][(int) (currentTick & WHEEL_MASK)].add(timeout);
+            return;
+        }
+        if (delta >= MAX_SPAN_TICKS) {
+            // Park on the top level; it is re-placed with the real deadline on cascade
+            deadlineTick = currentTick + MAX_SPAN_TICKS - 1;
+            delta = MAX_SPAN_TICKS - 1;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (WHEEL_BITS * (level + 1)))) {
+                int slot = (int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+                wheels[level][slot].add(timeout);
+                return;
+            }
+        }
+    }
+
+    private void cascade() {
+        int top = 0;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                break;
+            }
+            top = level;
+        }
+        // Higher levels first so their entries can land in the lower slot cascading now
+        for (int level = top; level >= 1; level--) {
+            TimerBucket bucket = wheels[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)];
+            Timeout<?> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void expire(long nowNanos) {
+        TimerBucket bucket = wheels[0][(int) (currentTick & WHEEL_MASK)];
+        Timeout<?> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            if (!timeout.markExpired()) {
+                continue;
+            }
+            pending.decrementAndGet();
+            fired.increment();
+            long drift = Math.max(0L, nowNanos - timeout.deadlineNanos);
+            lastDriftNanos = drift;
+            totalDriftNanos.add(drift);
+            if (drift > maxDriftNanos) {
+                maxDriftNanos = drift;
+            }
+            try {
+                timeout.task().run();
+            } catch (Throwable t) {
+                System.err.println("[TIMER][" + name + "] task failed for " + timeout.key() + ": " + t);
+            }
+        }
+    }
+
+    private long tickOf(long nanos) {
+        long offset = nanos - startNanos;
+        if (offset <= 0) {
+            return 0L;
+        }
+        return (offset + tickNanos - 1) / tickNanos;
+    }
+
+    public TimerMetrics metrics() {
+        return new TimerMetrics(
+            name,
+            pending.get(),
+            scheduled.sum(),
+            fired.sum(),
+            cancelled.sum(),
+            lastDriftNanos,
+            maxDriftNanos,
+            totalDriftNanos.sum(),
+            lastTickLagNanos
+        );
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Timer health figures. {@code backlog} counts tasks scheduled but neither fired nor
+     * cancelled; drift is how late a task ran relative to its deadline, and tick lag is
+     * how far the timer thread trailed its own tick schedule on the last pass.
+     */
+    public record TimerMetrics(String name,
+                               int backlog,
+                               long scheduled,
+                               long fired,
+                               long cancelled,
+                               long lastDriftNanos,
+                               long maxDriftNanos,
+                               long totalDriftNanos,
+                               long lastTickLagNanos) {
+        public double averageDriftNanos() {
+            return fired == 0 ? 0.0 : (double) totalDriftNanos / fired;
+        }
+    }
+}
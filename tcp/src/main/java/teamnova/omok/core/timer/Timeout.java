@@ -0,0 +1,77 @@
+package teamnova.omok.core.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Handle for a single task scheduled on a {@link HierarchicalTimer}.
+ * The key identifies what the timeout belongs to so callers can tell a stale
+ * expiry apart from the one they are currently waiting for.
+ *
+ * @param <K> key type carried by the handle
+ */
+public final class Timeout<K> {
+    static final int PENDING = 0;
+    static final int CANCELLED = 1;
+    static final int EXPIRED = 2;
+
+    private final HierarchicalTimer timer;
+    private final K key;
+    private final Runnable task;
+    final long deadlineNanos;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    // Bucket links, touched only by the timer thread
+    TimerBucket bucket;
+    Timeout<?> prev;
+    Timeout<?> next;
+
+    Timeout(HierarchicalTimer timer, K key, Runnable task, long deadlineNanos) {
+        this.timer = timer;
+        this.key = key;
+        this.task = task;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public K key() {
+        return key;
+    }
+
+    /**
+     * Cancels the task if it has not fired yet. The entry is unlinked from its wheel
+     * bucket on the next timer tick, so nothing lingers until the original deadline.
+     *
+     * @return {@code true} if this call cancelled the task
+     */
+    public boolean cancel() {
+        if (!state.compareAndSet(PENDING, CANCELLED)) {
+            return false;
+        }
+        timer.onCancelled(this);
+        return true;
+    }
+
+    public boolean isPending() {
+        return state.get() == PENDING;
+    }
+
+    public boolean isCancelled() {
+        return state.get() == CANCELLED;
+    }
+
+    public boolean isExpired() {
+        return state.get() == EXPIRED;
+    }
+
+    boolean markExpired() {
+        return state.compareAndSet(PENDING, EXPIRED);
+    }
+
+    Runnable task() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return "Timeout{key=" + key + ", state=" + state.get() + '}';
+    }
+}
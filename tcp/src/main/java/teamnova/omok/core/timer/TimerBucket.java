@@ -0,0 +1,52 @@
+package teamnova.omok.core.timer;
+
+/**
+ * Doubly linked list of timeouts sharing one wheel slot. Only the timer thread
+ * touches a bucket, so linking and unlinking are O(1) without locking.
+ */
+final class TimerBucket {
+    private Timeout<?> head;
+    private Timeout<?> tail;
+
+    void add(Timeout<?> timeout) {
+        timeout.bucket = this;
+        timeout.prev = tail;
+        timeout.next = null;
+        if (tail == null) {
+            head = timeout;
+        } else {
+            tail.next = timeout;
+        }
+        tail = timeout;
+    }
+
+    void remove(Timeout<?> timeout) {
+        if (timeout.bucket != this) {
+            return;
+        }
+        if (timeout.prev == null) {
+            head = timeout.next;
+        } else {
+            timeout.prev.next = timeout.next;
+        }
+        if (timeout.next == null) {
+            tail = timeout.prev;
+        } else {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.bucket = null;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    /**
+     * Detaches and returns the first entry, or {@code null} when empty.
+     */
+    Timeout<?> poll() {
+        Timeout<?> first = head;
+        if (first != null) {
+            remove(first);
+        }
+        return first;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 
 import teamnova.omok.core.nio.NioClientConnection;
 import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.core.nio.SharedFrame;
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.client.session.model.ClientSession;
 import teamnova.omok.glue.client.session.services.ClientSessionStore;
@@ -83,8 +84,13 @@ public final class ClientSessionManager {
         if (userIds == null || userIds.isEmpty()) {
             return;
         }
-        for (String uid : userIds) {
-            send(uid, type, 0L, payload);
+        SharedFrame frame = SharedFrame.encode(type, 0L, payload);
+        try {
+            for (String uid : userIds) {
+                store.findByUser(uid).ifPresent(session -> session.enqueueShared(frame));
+            }
+        } finally {
+            frame.release();
         }
     }
 
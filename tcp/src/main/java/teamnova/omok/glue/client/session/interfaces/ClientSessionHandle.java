@@ -5,8 +5,11 @@ import java.util.Set;
 import teamnova.omok.glue.client.state.model.ClientStateTypeTransition;
 import teamnova.omok.glue.game.session.states.GameStateHub;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.client.session.model.AuthResultStatus;
+import teamnova.omok.glue.client.session.model.BoardSyncState;
+import teamnova.omok.glue.handler.register.Type;
 
 public interface ClientSessionHandle extends ManagedSessionTransport, ClientSessionView {
     // Bind the current in-game session to scope outbound traffic
@@ -28,15 +31,30 @@ public interface ClientSessionHandle extends ManagedSessionTransport, ClientSess
 
     void sendPingPong(long requestId, byte[] payload);
 
-    boolean submitMove(long requestId, int x, int y);
+    SubmissionResult submitMove(long requestId, int x, int y);
 
     void sendPlaceStoneError(long requestId, String message);
 
-    void submitReady(long requestId);
+    /**
+     * Board delta version and last delivered board sequence of this connection.
+     */
+    BoardSyncState boardSync();
+
+    /**
+     * Agrees on a board delta version with the client and replies with it.
+     */
+    void negotiateBoardDelta(long requestId, int requestedVersion);
+
+    /**
+     * Replies to a {@code type} request with an error payload.
+     */
+    void sendRequestError(Type type, long requestId, String message);
+
+    SubmissionResult submitReady(long requestId);
 
     void leaveInGameSession(long requestId);
 
-    void submitPostGameDecision(long requestId, PostGameDecision decision);
+    SubmissionResult submitPostGameDecision(long requestId, PostGameDecision decision);
 
     boolean reconnectGameSession();
 
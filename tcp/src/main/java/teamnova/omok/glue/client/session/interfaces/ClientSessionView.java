@@ -1,5 +1,6 @@
 package teamnova.omok.glue.client.session.interfaces;
 
+import teamnova.omok.core.nio.SharedFrame;
 import teamnova.omok.glue.client.session.model.ClientSession;
 import teamnova.omok.glue.client.state.ClientStateHub;
 import teamnova.omok.glue.game.session.model.PlayerResult;
@@ -11,6 +12,11 @@ import teamnova.omok.glue.handler.register.Type;
 public interface ClientSessionView {
     void enqueueResponse(Type type, long requestId, byte[] payload);
 
+    /**
+     * Queues a frame encoded once for several recipients. The caller keeps its own reference.
+     */
+    void enqueueShared(SharedFrame frame);
+
     boolean isAuthenticated();
 
     String authenticatedUserId();
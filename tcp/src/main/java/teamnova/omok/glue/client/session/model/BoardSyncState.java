@@ -0,0 +1,66 @@
+package teamnova.omok.glue.client.session.model;
+
+import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+
+/**
+ * Board delta negotiation and the last board sequence delivered on this connection.
+ * A connection that has not negotiated a version keeps receiving JSON snapshots.
+ */
+public final class BoardSyncState {
+    public static final int DELTA_VERSION = 1;
+
+    public enum Advance {
+        // Already delivered on this connection
+        STALE,
+        // Directly follows the previous revision, so a delta is enough
+        NEXT,
+        // First revision, a gap or another session; the receiver needs a keyframe
+        GAP
+    }
+
+    private volatile int version;
+    private GameSessionId session;
+    private long sequence;
+
+    public int version() {
+        return version;
+    }
+
+    public boolean deltasEnabled() {
+        return version > 0;
+    }
+
+    /**
+     * Agrees on the highest version both sides support and returns it; 0 means none.
+     */
+    public int negotiate(int requested) {
+        int agreed = Math.max(0, Math.min(requested, DELTA_VERSION));
+        version = agreed;
+        reset();
+        return agreed;
+    }
+
+    /**
+     * Records that {@code sequence} of {@code sessionId}'s board is being delivered and says how
+     * it relates to the previous one. A sequence at or below the last one delivered for the same
+     * session is {@link Advance#STALE} and leaves the state unchanged.
+     */
+    public synchronized Advance advance(GameSessionId sessionId, long sequence) {
+        if (sessionId.equals(session)) {
+            if (sequence <= this.sequence) {
+                return Advance.STALE;
+            }
+            boolean next = this.sequence == sequence - 1;
+            this.sequence = sequence;
+            return next ? Advance.NEXT : Advance.GAP;
+        }
+        this.session = sessionId;
+        this.sequence = sequence;
+        return Advance.GAP;
+    }
+
+    public synchronized void reset() {
+        session = null;
+        sequence = 0L;
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Set;
 
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.handler.register.Type;
+import teamnova.omok.glue.message.encoder.BoardDeltaMessageEncoder;
 import teamnova.omok.glue.message.encoder.ErrorMessageEncoder;
 import teamnova.omok.glue.client.session.model.AuthResultStatus;
 
@@ -65,7 +66,15 @@ public final class ClientSessionMessagePublisher {
         }
 
         public void placeStoneError(long requestId, String message) {
-            send(Type.PLACE_STONE, requestId, ErrorMessageEncoder.encode(message));
+            requestError(Type.PLACE_STONE, requestId, message);
+        }
+
+        public void boardDeltaNegotiated(long requestId, int version) {
+            send(Type.BOARD_DELTA, requestId, BoardDeltaMessageEncoder.encodeNegotiated(version));
+        }
+
+        public void requestError(Type type, long requestId, String message) {
+            send(type, requestId, ErrorMessageEncoder.encode(message));
         }
 
         public void leaveInGameAck(long requestId) {
@@ -10,9 +10,11 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import teamnova.omok.core.nio.FramedMessage;
 import teamnova.omok.core.nio.NioClientConnection;
 import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.core.nio.SharedFrame;
 import teamnova.omok.core.nio.codec.DecodeFrame;
 import teamnova.omok.glue.client.session.ClientSessionManager;
 import teamnova.omok.glue.client.session.model.AuthResultStatus;
+import teamnova.omok.glue.client.session.model.BoardSyncState;
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.client.session.interfaces.ClientSessionStateListener;
 import teamnova.omok.glue.client.session.model.ClientSession;
@@ -24,6 +26,7 @@ import teamnova.omok.glue.client.state.model.ClientStateTypeTransition;
 import teamnova.omok.glue.game.session.GameSessionManager;
 import teamnova.omok.glue.game.session.model.PlayerResult;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.states.GameStateHub;
 import teamnova.omok.glue.handler.register.Type;
@@ -41,6 +44,8 @@ public final class ClientSessionModule implements ClientSessionHandle {
     private final AtomicBoolean terminated = new AtomicBoolean(false);
 
     private ClientSession model = new ClientSession();
+    // Per connection: a reconnecting client starts over with negotiation and a keyframe
+    private final BoardSyncState boardSync = new BoardSyncState();
     private ClientStateHub stateHub;
 
     public ClientSessionModule(NioClientConnection connection,
@@ -71,8 +76,16 @@ public final class ClientSessionModule implements ClientSessionHandle {
 
     @Override
     public void enqueueResponse(Type type, long requestId, byte[] payload) {
-        connection.enqueueResponse(type, requestId, payload);
-        server.enqueueSelectorTask(connection::enableWriteInterest);
+        if (connection.enqueueResponse(type, requestId, payload)) {
+            server.enqueueSelectorTask(connection, connection::enableWriteInterest);
+        }
+    }
+
+    @Override
+    public void enqueueShared(SharedFrame frame) {
+        if (connection.enqueueShared(frame)) {
+            server.enqueueSelectorTask(connection, connection::enableWriteInterest);
+        }
     }
 
     @Override
@@ -188,10 +201,10 @@ public final class ClientSessionModule implements ClientSessionHandle {
     }
 
     @Override
-    public boolean submitMove(long requestId, int x, int y) {
+    public SubmissionResult submitMove(long requestId, int x, int y) {
         String userId = authenticatedUserId();
         if (userId == null) {
-            return false;
+            return SubmissionResult.SESSION_NOT_FOUND;
         }
         return GameSessionManager.getInstance().submitMove(userId, requestId, x, y);
     }
@@ -204,11 +217,32 @@ public final class ClientSessionModule implements ClientSessionHandle {
     }
 
     @Override
-    public void submitReady(long requestId) {
+    public BoardSyncState boardSync() {
+        return boardSync;
+    }
+
+    @Override
+    public void negotiateBoardDelta(long requestId, int requestedVersion) {
+        int agreed = boardSync.negotiate(requestedVersion);
+        ClientSessionManager.getInstance()
+            .clientPublisher(this)
+            .boardDeltaNegotiated(requestId, agreed);
+    }
+
+    @Override
+    public void sendRequestError(Type type, long requestId, String message) {
+        ClientSessionManager.getInstance()
+            .clientPublisher(this)
+            .requestError(type, requestId, message);
+    }
+
+    @Override
+    public SubmissionResult submitReady(long requestId) {
         String userId = authenticatedUserId();
-        if (userId != null) {
-            GameSessionManager.getInstance().submitReady(userId, requestId);
+        if (userId == null) {
+            return SubmissionResult.SESSION_NOT_FOUND;
         }
+        return GameSessionManager.getInstance().submitReady(userId, requestId);
     }
 
     @Override
@@ -235,11 +269,12 @@ public final class ClientSessionModule implements ClientSessionHandle {
     }
 
     @Override
-    public void submitPostGameDecision(long requestId, PostGameDecision decision) {
+    public SubmissionResult submitPostGameDecision(long requestId, PostGameDecision decision) {
         String userId = authenticatedUserId();
-        if (userId != null && decision != null) {
-            GameSessionManager.getInstance().submitPostGameDecision(userId, requestId, decision);
+        if (userId == null || decision == null) {
+            return SubmissionResult.SESSION_NOT_FOUND;
         }
+        return GameSessionManager.getInstance().submitPostGameDecision(userId, requestId, decision);
     }
 
     @Override
@@ -28,7 +28,7 @@ public final class ClientStateHub {
 
     private final Handle stateMachine;
     private final ClientStateContext context;
-    private ClientStateType currentType;
+    private volatile ClientStateType currentType;
     private final Map<ClientStateTypeTransition, List<ClientSessionStateListener>> stateListeners = new ConcurrentHashMap<>();
     private final Object processLock = new Object();
 
@@ -95,6 +95,13 @@ public final class ClientStateHub {
         }
     }
 
+    /**
+     * State the client is in, or null before the state machine started. Safe to read from any thread.
+     */
+    public ClientStateType currentType() {
+        return currentType;
+    }
+
     public ClientStateContext context() {
         return context;
     }
@@ -2,17 +2,27 @@ package teamnova.omok.glue.data;
 
 import teamnova.omok.glue.data.model.UserData;
 import teamnova.omok.glue.data.model.UserScoreData;
+import teamnova.omok.glue.data.pool.ConnectionPool;
+import teamnova.omok.glue.data.pool.ConnectionPoolConfig;
+import teamnova.omok.glue.data.pool.LatencyHistogram;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
 
 /**
  * Simple MySQL service that reads configuration from DotenvService
  * and exposes connection properties/JDBC URL. Also provides minimal
  * helper queries used by the server.
+ * Queries run on connections borrowed from a {@link ConnectionPool}; because connections live on,
+ * the driver's server-side prepared statement cache is enabled so repeated queries skip the prepare round trip.
  */
 public class MysqlService {
     private final String host;
@@ -20,6 +30,11 @@ public class MysqlService {
     private final String database;
     private final String user;
     private final String password;
+    private final int statementCacheSize;
+    // False while DB credentials are missing; queries then return their defaults without touching the pool
+    private final boolean configured;
+    private final ConnectionPool pool;
+    private final LatencyHistogram queryLatency = new LatencyHistogram();
 
     public MysqlService(DotenvService dotenv) {
         this.host = orDefault(dotenv.get("DB_HOST"), "127.0.0.1");
@@ -27,34 +42,91 @@ public class MysqlService {
         this.database = orDefault(dotenv.get("DB_NAME"), "");
         this.user = orDefault(dotenv.get("DB_USER"), "");
         this.password = orDefault(dotenv.get("DB_PASS"), "");
+        this.statementCacheSize = parseInt(orDefault(dotenv.get("DB_PREP_STMT_CACHE_SIZE"), "64"), 64);
+        this.configured = !user.isBlank();
+        this.pool = new ConnectionPool(() -> DriverManager.getConnection(jdbcUrl(), user, password), poolConfig(dotenv));
+    }
+
+    /**
+     * Runs queries on an externally built pool, e.g. one backed by an in-process stand-in.
+     */
+    public MysqlService(ConnectionPool pool) {
+        this.host = "";
+        this.port = 0;
+        this.database = "";
+        this.user = "";
+        this.password = "";
+        this.statementCacheSize = 0;
+        this.configured = true;
+        this.pool = pool;
+    }
+
+    private static ConnectionPoolConfig poolConfig(DotenvService dotenv) {
+        ConnectionPoolConfig config = ConnectionPoolConfig.defaults();
+        config.maxSize = parseInt(orDefault(dotenv.get("DB_POOL_SIZE"), ""), config.maxSize);
+        config.acquireTimeoutMillis = parseInt(orDefault(dotenv.get("DB_POOL_ACQUIRE_TIMEOUT_MS"), ""), (int) config.acquireTimeoutMillis);
+        config.idleTimeoutMillis = parseInt(orDefault(dotenv.get("DB_POOL_IDLE_TIMEOUT_MS"), ""), (int) config.idleTimeoutMillis);
+        config.validationQuery = orDefault(dotenv.get("DB_POOL_VALIDATION_QUERY"), config.validationQuery);
+        return config;
     }
 
     private String jdbcUrl() {
         String db = (database == null || database.isBlank()) ? "" : "/" + database;
-        return "jdbc:mysql://" + host + ":" + port + db + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
+        return "jdbc:mysql://" + host + ":" + port + db + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC"
+            + "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=" + statementCacheSize
+            + "&prepStmtCacheSqlLimit=2048";
+    }
+
+    public ConnectionPool.Metrics poolMetrics() {
+        return pool.metrics();
+    }
+
+    /**
+     * Execution time of statements, measured after a connection was obtained.
+     */
+    public LatencyHistogram.Snapshot queryLatency() {
+        return queryLatency.snapshot();
+    }
+
+    public void close() {
+        pool.close();
+    }
+
+    @FunctionalInterface
+    private interface StatementCall<T> {
+        T apply(PreparedStatement statement) throws SQLException;
+    }
+
+    private <T> T execute(String sql, StatementCall<T> call) throws SQLException {
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            long start = System.nanoTime();
+            try (PreparedStatement ps = lease.connection().prepareStatement(sql)) {
+                return call.apply(ps);
+            } catch (SQLException e) {
+                lease.fail(e);
+                throw e;
+            } finally {
+                queryLatency.record(System.nanoTime() - start);
+            }
+        }
     }
 
     public UserData findUser(String userId, UserData defaultUserData) {
         if (userId == null || userId.isBlank()) return defaultUserData;
         // If configuration is incomplete, bail out quickly
-        if (user == null || user.isBlank()) return defaultUserData;
+        if (!configured) return defaultUserData;
 
         String sql = "SELECT user_id, display_name, profile_icon_code, status, score FROM users WHERE user_id = ? LIMIT 1";
-        try (Connection conn = DriverManager.getConnection(jdbcUrl(), user, password);
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, userId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    String id = rs.getString("user_id");
-                    String name = rs.getString("display_name");
-                    int icon = rs.getInt("profile_icon_code");
-                    // status 컬럼이 문자열이면 enum 변환
-                    UserData.Status status = UserData.Status.valueOf(rs.getString("status").toUpperCase());
-                    int score = rs.getInt("score");
-
-                    return new UserData(id, name, icon, status, score);
+        try {
+            return execute(sql, ps -> {
+                ps.setString(1, userId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        return readUser(rs);
+                    }
                 }
-            }
+                return defaultUserData;
+            });
         } catch (SQLException e) {
             // Log quietly to stderr; return default on failure
             System.err.println("[MysqlService] getUserScore failed: " + e.getMessage());
@@ -73,18 +145,19 @@ public class MysqlService {
     public UserScoreData getUserScore(String userId, UserScoreData defaultScore) {
         if (userId == null || userId.isBlank()) return defaultScore;
         // If configuration is incomplete, bail out quickly
-        if (user == null || user.isBlank()) return defaultScore;
-        String url = jdbcUrl();
+        if (!configured) return defaultScore;
         String sql = "SELECT score FROM users WHERE user_id = ? LIMIT 1";
-        try (Connection conn = DriverManager.getConnection(url, user, password);
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, userId);
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    int score = rs.getInt(1);
-                    return rs.wasNull() ? defaultScore : UserScoreData.of(score);
+        try {
+            return execute(sql, ps -> {
+                ps.setString(1, userId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (rs.next()) {
+                        int score = rs.getInt(1);
+                        return rs.wasNull() ? defaultScore : UserScoreData.of(score);
+                    }
                 }
-            }
+                return defaultScore;
+            });
         } catch (SQLException e) {
             // Log quietly to stderr; return default on failure
             System.err.println("[MysqlService] getUserScore failed: " + e.getMessage());
@@ -92,6 +165,144 @@ public class MysqlService {
         return defaultScore;
     }
 
+    /**
+     * Fetches several users with a single {@code IN} query.
+     * Users without a row are absent from the result; an empty map is returned on failure.
+     */
+    public Map<String, UserData> findUsers(Collection<String> userIds) {
+        Map<String, UserData> users = new HashMap<>();
+        if (userIds == null || userIds.isEmpty() || !configured) {
+            return users;
+        }
+        StringJoiner placeholders = new StringJoiner(",", "(", ")");
+        for (int i = 0; i < userIds.size(); i++) {
+            placeholders.add("?");
+        }
+        String sql = "SELECT user_id, display_name, profile_icon_code, status, score FROM users WHERE user_id IN " + placeholders;
+        try {
+            execute(sql, ps -> {
+                int index = 1;
+                for (String userId : userIds) {
+                    ps.setString(index++, userId);
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        UserData data = readUser(rs);
+                        users.put(data.id(), data);
+                    }
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            System.err.println("[MysqlService] findUsers failed: " + e.getMessage());
+            users.clear();
+        }
+        return users;
+    }
+
+    private static UserData readUser(ResultSet rs) throws SQLException {
+        String id = rs.getString("user_id");
+        String name = rs.getString("display_name");
+        int icon = rs.getInt("profile_icon_code");
+        // status 컬럼이 문자열이면 enum 변환
+        UserData.Status status = UserData.Status.valueOf(rs.getString("status").toUpperCase());
+        int score = rs.getInt("score");
+
+        return new UserData(id, name, icon, status, score);
+    }
+
+    /**
+     * Applies every delta in one batched transaction, so either all scores change or none do.
+     * If the batch trips the score check constraint it is rolled back and re-run with scores
+     * clamped at zero, matching the single-user reset fallback of {@link #adjustUserScore}.
+     * Users without a row are logged and skipped, since retrying cannot fix them.
+     *
+     * @return true when the transaction committed
+     */
+    public boolean applyScoreDeltas(Map<String, Integer> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return true;
+        }
+        if (!configured) {
+            return false;
+        }
+        try {
+            commitScoreDeltas(deltas);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("[MysqlService] applyScoreDeltas failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Same transaction as {@link #applyScoreDeltas}, but failures are thrown so the caller can
+     * tell a transient failure (SQL state class 08, {@link java.sql.SQLTransientException})
+     * from one that retrying will not fix.
+     */
+    public void commitScoreDeltas(Map<String, Integer> deltas) throws SQLException {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        if (!configured) {
+            throw new SQLTransientConnectionException("database is not configured");
+        }
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            Connection conn = lease.connection();
+            long start = System.nanoTime();
+            try {
+                conn.setAutoCommit(false);
+                int[] updated;
+                try {
+                    updated = executeScoreBatch(conn, "UPDATE users SET score = score + ? WHERE user_id = ?", deltas);
+                } catch (SQLException e) {
+                    if (!isScoreCheckViolation(e)) {
+                        throw e;
+                    }
+                    conn.rollback();
+                    System.err.println("[MysqlService] applyScoreDeltas: score check violated, clamping at zero");
+                    updated = executeScoreBatch(conn, "UPDATE users SET score = GREATEST(score + ?, 0) WHERE user_id = ?", deltas);
+                }
+                conn.commit();
+                for (int count : updated) {
+                    if (count == 0) {
+                        System.err.println("[MysqlService] applyScoreDeltas: some users had no row to update " + deltas.keySet());
+                        break;
+                    }
+                }
+            } catch (SQLException e) {
+                lease.fail(e);
+                rollbackQuietly(conn);
+                throw e;
+            } finally {
+                queryLatency.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static int[] executeScoreBatch(Connection conn, String sql, Map<String, Integer> deltas) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Map.Entry<String, Integer> entry : deltas.entrySet()) {
+                ps.setInt(1, entry.getValue());
+                ps.setString(2, entry.getKey());
+                ps.addBatch();
+            }
+            return ps.executeBatch();
+        }
+    }
+
+    public boolean isConfigured() {
+        return configured;
+    }
+
+    private static void rollbackQuietly(Connection conn) {
+        try {
+            conn.rollback();
+        } catch (SQLException ex) {
+            System.err.println("[MysqlService] rollback failed: " + ex.getMessage());
+        }
+    }
+
     /**
      * Adjusts a user's score by the provided delta. Returns true if at least one row was updated.
      */
@@ -102,16 +313,16 @@ public class MysqlService {
         if (delta == 0) {
             return true;
         }
-        if (user == null || user.isBlank()) {
+        if (!configured) {
             return false;
         }
-        String url = jdbcUrl();
         String sql = "UPDATE users SET score = score + ? WHERE user_id = ?";
-        try (Connection conn = DriverManager.getConnection(url, user, password);
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setInt(1, delta);
-            ps.setString(2, userId);
-            int updated = ps.executeUpdate();
+        try {
+            int updated = execute(sql, ps -> {
+                ps.setInt(1, delta);
+                ps.setString(2, userId);
+                return ps.executeUpdate();
+            });
             if (updated == 0) {
                 System.err.printf("[MysqlService] adjustUserScore: no row updated for user %s%n", userId);
             }
@@ -144,15 +355,15 @@ public class MysqlService {
         if (userId == null || userId.isBlank()) {
             return false;
         }
-        if (user == null || user.isBlank()) {
+        if (!configured) {
             return false;
         }
-        String url = jdbcUrl();
         String sql = "UPDATE users SET score = 0 WHERE user_id = ?";
-        try (Connection conn = DriverManager.getConnection(url, user, password);
-             PreparedStatement ps = conn.prepareStatement(sql)) {
-            ps.setString(1, userId);
-            return ps.executeUpdate() > 0;
+        try {
+            return execute(sql, ps -> {
+                ps.setString(1, userId);
+                return ps.executeUpdate();
+            }) > 0;
         } catch (SQLException ex) {
             System.err.printf("[MysqlService] resetUserScoreToZero failed for %s: %s%n", userId, ex.getMessage());
             return false;
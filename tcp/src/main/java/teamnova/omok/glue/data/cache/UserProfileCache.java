@@ -0,0 +1,164 @@
+package teamnova.omok.glue.data.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import teamnova.omok.glue.data.model.UserData;
+
+/**
+ * Bounded read-through cache of {@link UserData} rows, keyed by user id.
+ * Entries expire {@code ttlMillis} after they were loaded and the least recently used entry is
+ * dropped once {@code maxEntries} is exceeded. Loads run outside the lock; a load that overlaps an
+ * invalidation is returned to its caller but not cached, so a write is never hidden by an older read.
+ */
+public final class UserProfileCache {
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    // Bumped by every invalidation; guarded by entries
+    private long epoch;
+
+    public UserProfileCache(long ttlMillis, int maxEntries) {
+        this(ttlMillis, maxEntries, System::currentTimeMillis);
+    }
+
+    UserProfileCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.clock = clock;
+    }
+
+    private record Entry(UserData user, long loadedAt) {
+    }
+
+    /**
+     * Returns the cached profile or loads it. A null result from {@code loader} means the user
+     * could not be read and is not cached.
+     */
+    public UserData get(String userId, Function<String, UserData> loader) {
+        long loadEpoch;
+        synchronized (entries) {
+            UserData cached = lookup(userId, clock.getAsLong());
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            loadEpoch = epoch;
+        }
+        UserData loaded = loader.apply(userId);
+        if (loaded != null) {
+            store(Map.of(userId, loaded), loadEpoch);
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns profiles for {@code userIds}, loading all misses with one {@code loader} call.
+     * Users the loader did not return are absent from the result.
+     */
+    public Map<String, UserData> getAll(Collection<String> userIds,
+                                        Function<Collection<String>, Map<String, UserData>> loader) {
+        Map<String, UserData> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        long loadEpoch;
+        synchronized (entries) {
+            long now = clock.getAsLong();
+            for (String userId : userIds) {
+                UserData cached = lookup(userId, now);
+                if (cached != null) {
+                    hits.increment();
+                    result.put(userId, cached);
+                } else {
+                    misses.increment();
+                    missing.add(userId);
+                }
+            }
+            loadEpoch = epoch;
+        }
+        if (!missing.isEmpty()) {
+            Map<String, UserData> loaded = loader.apply(missing);
+            result.putAll(loaded);
+            store(loaded, loadEpoch);
+        }
+        return result;
+    }
+
+    public void invalidate(String userId) {
+        synchronized (entries) {
+            epoch++;
+            entries.remove(userId);
+        }
+        invalidations.increment();
+    }
+
+    public void invalidateAll(Collection<String> userIds) {
+        synchronized (entries) {
+            epoch++;
+            for (String userId : userIds) {
+                entries.remove(userId);
+            }
+        }
+        invalidations.add(userIds.size());
+    }
+
+    private UserData lookup(String userId, long now) {
+        Entry entry = entries.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.loadedAt >= ttlMillis) {
+            entries.remove(userId);
+            return null;
+        }
+        return entry.user;
+    }
+
+    private void store(Map<String, UserData> loaded, long loadEpoch) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        synchronized (entries) {
+            if (loadEpoch != epoch) {
+                return;
+            }
+            long now = clock.getAsLong();
+            for (Map.Entry<String, UserData> e : loaded.entrySet()) {
+                entries.put(e.getKey(), new Entry(e.getValue(), now));
+            }
+            while (entries.size() > maxEntries) {
+                var eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    public Metrics metrics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Metrics(size, hits.sum(), misses.sum(), evictions.sum(), invalidations.sum());
+    }
+
+    public record Metrics(int size, long hits, long misses, long evictions, long invalidations) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package teamnova.omok.glue.data.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Opens a new physical connection for {@link ConnectionPool}.
+ */
+@FunctionalInterface
+public interface ConnectionFactory {
+    Connection open() throws SQLException;
+}
@@ -0,0 +1,250 @@
+package teamnova.omok.glue.data.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of reusable JDBC connections.
+ * A semaphore caps borrowed plus idle connections at {@code maxSize}; idle ones are reused
+ * most-recently-returned first so the rest age out through idle eviction. A connection that sat
+ * idle past {@code validateAfterIdleMillis} is checked with the validation query before reuse.
+ */
+public final class ConnectionPool implements AutoCloseable {
+    private final ConnectionFactory factory;
+    private final ConnectionPoolConfig config;
+    private final int maxSize;
+    private final Semaphore permits;
+    private final Deque<IdleConnection> idle = new ArrayDeque<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private final LatencyHistogram waitHistogram = new LatencyHistogram();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final ScheduledExecutorService evictor;
+    private volatile boolean closed;
+
+    public ConnectionPool(ConnectionFactory factory, ConnectionPoolConfig config) {
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.config = config != null ? config : ConnectionPoolConfig.defaults();
+        this.maxSize = Math.max(1, this.config.maxSize);
+        this.permits = new Semaphore(maxSize, true);
+        if (this.config.evictionIntervalMillis > 0) {
+            this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "db-pool-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            long interval = this.config.evictionIntervalMillis;
+            this.evictor.scheduleWithFixedDelay(() -> evictIdle(System.currentTimeMillis()),
+                interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.evictor = null;
+        }
+    }
+
+    /**
+     * Borrows a connection, waiting up to {@code acquireTimeoutMillis} for one to free up.
+     */
+    public Lease borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("connection pool is closed");
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(config.acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException(
+                    "no connection available within " + config.acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("interrupted while waiting for a connection", e);
+        } finally {
+            waitHistogram.record(System.nanoTime() - start);
+        }
+        try {
+            return new Lease(takeIdleOrOpen());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Connection takeIdleOrOpen() throws SQLException {
+        long now = System.currentTimeMillis();
+        IdleConnection candidate;
+        while ((candidate = pollIdle()) != null) {
+            if (now - candidate.idleSince < config.validateAfterIdleMillis || isValid(candidate.connection)) {
+                return candidate.connection;
+            }
+            validationFailures.increment();
+            discard(candidate.connection);
+        }
+        Connection connection = factory.open();
+        open.incrementAndGet();
+        created.increment();
+        return connection;
+    }
+
+    private boolean isValid(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(config.validationTimeoutSeconds);
+            statement.execute(config.validationQuery);
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void giveBack(Connection connection, boolean broken) {
+        try {
+            if (broken || closed || connection.isClosed()) {
+                discard(connection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            synchronized (idle) {
+                idle.push(new IdleConnection(connection, System.currentTimeMillis()));
+            }
+        } catch (SQLException e) {
+            discard(connection);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Closes idle connections unused since {@code nowMillis - idleTimeoutMillis}.
+     */
+    public void evictIdle(long nowMillis) {
+        Deque<Connection> expired = new ArrayDeque<>();
+        synchronized (idle) {
+            Iterator<IdleConnection> it = idle.iterator();
+            while (it.hasNext()) {
+                IdleConnection entry = it.next();
+                if (nowMillis - entry.idleSince >= config.idleTimeoutMillis) {
+                    it.remove();
+                    expired.add(entry.connection);
+                }
+            }
+        }
+        for (Connection connection : expired) {
+            evicted.increment();
+            discard(connection);
+        }
+    }
+
+    private IdleConnection pollIdle() {
+        synchronized (idle) {
+            return idle.poll();
+        }
+    }
+
+    private void discard(Connection connection) {
+        open.decrementAndGet();
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            System.err.println("[ConnectionPool] close failed: " + e.getMessage());
+        }
+    }
+
+    public Metrics metrics() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        return new Metrics(
+            open.get(),
+            idleCount,
+            maxSize - permits.availablePermits(),
+            created.sum(),
+            evicted.sum(),
+            validationFailures.sum(),
+            timeouts.sum(),
+            waitHistogram.snapshot()
+        );
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        IdleConnection entry;
+        while ((entry = pollIdle()) != null) {
+            discard(entry.connection);
+        }
+    }
+
+    private record IdleConnection(Connection connection, long idleSince) {
+    }
+
+    /**
+     * A borrowed connection. Closing the lease returns the connection to the pool;
+     * call {@link #fail(SQLException)} first if the connection may be unusable.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Connection connection;
+        private boolean broken;
+        private boolean returned;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+        }
+
+        public Connection connection() {
+            return connection;
+        }
+
+        /**
+         * Marks the connection for disposal when {@code error} signals a broken link (SQL state class 08).
+         */
+        public void fail(SQLException error) {
+            String state = error != null ? error.getSQLState() : null;
+            if (state == null || state.startsWith("08")) {
+                broken = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (returned) {
+                return;
+            }
+            returned = true;
+            giveBack(connection, broken);
+        }
+    }
+
+    /**
+     * @param borrowed connections currently held by callers
+     * @param borrowWait time spent waiting for a permit in {@link #borrow()}
+     */
+    public record Metrics(int open,
+                          int idle,
+                          int borrowed,
+                          long created,
+                          long evicted,
+                          long validationFailures,
+                          long timeouts,
+                          LatencyHistogram.Snapshot borrowWait) {
+    }
+}
@@ -0,0 +1,23 @@
+package teamnova.omok.glue.data.pool;
+
+/**
+ * Tunable parameters for {@link ConnectionPool}.
+ */
+public class ConnectionPoolConfig {
+    // Upper bound on open physical connections, borrowed or idle
+    public int maxSize = 8;
+    // How long a borrower waits for a free connection before giving up
+    public long acquireTimeoutMillis = 2_000L;
+    // Idle connections unused for this long are closed by the evictor
+    public long idleTimeoutMillis = 5 * 60_000L;
+    // Interval between eviction sweeps; 0 disables the background evictor
+    public long evictionIntervalMillis = 30_000L;
+    // Connections idle for longer than this are validated before being handed out
+    public long validateAfterIdleMillis = 10_000L;
+    public String validationQuery = "SELECT 1";
+    public int validationTimeoutSeconds = 2;
+
+    public static ConnectionPoolConfig defaults() {
+        return new ConnectionPoolConfig();
+    }
+}
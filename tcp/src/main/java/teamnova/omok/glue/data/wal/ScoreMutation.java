@@ -0,0 +1,7 @@
+package teamnova.omok.glue.data.wal;
+
+/**
+ * One score change recorded in the write-ahead log, ordered by {@code sequence}.
+ */
+public record ScoreMutation(long sequence, String userId, int delta) {
+}
@@ -0,0 +1,19 @@
+package teamnova.omok.glue.data.wal;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Durable store the write-behind queue flushes score deltas into.
+ */
+@FunctionalInterface
+public interface ScoreSink {
+    /**
+     * Applies all deltas atomically.
+     *
+     * @return true once the change is committed; false to have the batch retried
+     * @throws SQLException when the change failed; transient failures are retried, any other
+     *                      failure moves the batch to the dead-letter file
+     */
+    boolean apply(Map<String, Integer> deltas) throws SQLException;
+}
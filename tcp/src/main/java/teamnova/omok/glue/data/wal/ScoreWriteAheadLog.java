@@ -0,0 +1,153 @@
+package teamnova.omok.glue.data.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only text file backing {@link ScoreWriteBehindQueue}.
+ * A batch is written as {@code E<TAB>seq<TAB>delta<TAB>userId} lines closed by {@code C<TAB>first<TAB>last};
+ * {@code A<TAB>seq} records that every mutation up to {@code seq} reached the database.
+ * Entries of a batch whose commit line never made it to disk were not acknowledged and are
+ * dropped on recovery, together with any torn tail. Callers serialize access.
+ */
+final class ScoreWriteAheadLog implements Closeable {
+    private static final String ENTRY = "E";
+    private static final String COMMITTED = "C";
+    private static final String APPLIED = "A";
+
+    private final Path file;
+    private final FileChannel channel;
+    private final boolean sync;
+
+    ScoreWriteAheadLog(Path file, boolean sync) throws IOException {
+        this.file = file;
+        this.sync = sync;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    /**
+     * Committed mutations logged after the last applied marker, and the highest sequence in use.
+     */
+    record Recovery(List<ScoreMutation> pending, long lastSequence) {
+    }
+
+    Recovery recover() throws IOException {
+        List<ScoreMutation> committed = new ArrayList<>();
+        List<ScoreMutation> batch = new ArrayList<>();
+        long applied = 0L;
+        long last = 0L;
+        int skipped = 0;
+        byte[] content = Files.readAllBytes(file);
+        int valid = content.length;
+        while (valid > 0 && content[valid - 1] != '\n') {
+            valid--;
+        }
+        if (valid < content.length) {
+            // Unacknowledged partial write; cut it off so later appends start on a fresh line
+            skipped++;
+            channel.truncate(valid);
+        }
+        channel.position(valid);
+        for (String line : new String(content, 0, valid, StandardCharsets.UTF_8).split("\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] parts = line.split("\t", 4);
+            try {
+                if (parts[0].equals(ENTRY) && parts.length == 4) {
+                    ScoreMutation mutation = new ScoreMutation(Long.parseLong(parts[1]), parts[3], Integer.parseInt(parts[2]));
+                    batch.add(mutation);
+                    last = Math.max(last, mutation.sequence());
+                } else if (parts[0].equals(COMMITTED) && parts.length == 3) {
+                    long first = Long.parseLong(parts[1]);
+                    long end = Long.parseLong(parts[2]);
+                    for (ScoreMutation mutation : batch) {
+                        if (mutation.sequence() >= first && mutation.sequence() <= end) {
+                            committed.add(mutation);
+                        }
+                    }
+                    batch.clear();
+                    last = Math.max(last, end);
+                } else if (parts[0].equals(APPLIED) && parts.length == 2) {
+                    applied = Math.max(applied, Long.parseLong(parts[1]));
+                    last = Math.max(last, applied);
+                } else {
+                    skipped++;
+                }
+            } catch (NumberFormatException e) {
+                skipped++;
+            }
+        }
+        if (skipped > 0) {
+            System.err.println("[ScoreWriteAheadLog] skipped " + skipped + " unreadable line(s) in " + file);
+        }
+        List<ScoreMutation> pending = new ArrayList<>();
+        for (ScoreMutation mutation : committed) {
+            if (mutation.sequence() > applied) {
+                pending.add(mutation);
+            }
+        }
+        return new Recovery(pending, last);
+    }
+
+    void append(List<ScoreMutation> mutations) throws IOException {
+        StringBuilder out = new StringBuilder(mutations.size() * 48 + 24);
+        long first = mutations.get(0).sequence();
+        long last = first;
+        for (ScoreMutation mutation : mutations) {
+            out.append(ENTRY).append('\t').append(mutation.sequence())
+                .append('\t').append(mutation.delta())
+                .append('\t').append(mutation.userId()).append('\n');
+            last = mutation.sequence();
+        }
+        out.append(COMMITTED).append('\t').append(first).append('\t').append(last).append('\n');
+        write(out.toString());
+    }
+
+    void markApplied(long sequence) throws IOException {
+        write(APPLIED + "\t" + sequence + "\n");
+    }
+
+    /**
+     * Drops the whole log. Only valid once every logged mutation has been applied.
+     */
+    void truncate() throws IOException {
+        channel.truncate(0L);
+        channel.position(0L);
+        if (sync) {
+            channel.force(true);
+        }
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    private void write(String text) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (sync) {
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
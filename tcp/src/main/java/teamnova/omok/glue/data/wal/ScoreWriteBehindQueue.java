@@ -0,0 +1,351 @@
+package teamnova.omok.glue.data.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind queue for score changes.
+ * {@link #submit} returns as soon as the deltas are in the write-ahead log; a background worker
+ * then flushes them to the {@link ScoreSink} in batches, retrying with backoff while the sink
+ * fails. Whatever is still in the log at startup is replayed. A crash between a sink commit and
+ * its applied marker replays that batch once more, so delivery is at-least-once.
+ * Only transient failures are retried. When the sink rejects a batch for good, its mutations are
+ * retried one at a time, and each one that still fails is appended to a dead-letter file next to
+ * the log and counted as applied, so a single bad change cannot hold up the ones behind it.
+ */
+public final class ScoreWriteBehindQueue implements AutoCloseable {
+    static final int MAX_BATCH = 128;
+    private static final long RETRY_INITIAL_MILLIS = 200L;
+    private static final long RETRY_MAX_MILLIS = 30_000L;
+
+    private final ScoreWriteAheadLog log;
+    private final Path deadLetterFile;
+    private final boolean sync;
+    private final ScoreSink sink;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Held for writing from a sink commit until its batch leaves pending; see readScores
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock(true);
+    private final Condition available = lock.newCondition();
+    // Logged but not yet applied; only the worker removes from the head
+    private final Deque<ScoreMutation> pending = new ArrayDeque<>();
+    private final LongAdder appliedBatches = new LongAdder();
+    private final LongAdder failedAttempts = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final Thread worker;
+    private long lastSequence;
+    private volatile boolean running = true;
+
+    public ScoreWriteBehindQueue(Path file, ScoreSink sink) throws IOException {
+        this(file, sink, true);
+    }
+
+    ScoreWriteBehindQueue(Path file, ScoreSink sink, boolean sync) throws IOException {
+        this.sink = sink;
+        this.sync = sync;
+        this.log = new ScoreWriteAheadLog(file, sync);
+        this.deadLetterFile = file.resolveSibling(file.getFileName() + ".dead");
+        ScoreWriteAheadLog.Recovery recovery = log.recover();
+        this.lastSequence = recovery.lastSequence();
+        this.pending.addAll(recovery.pending());
+        if (pending.isEmpty()) {
+            log.truncate();
+        } else {
+            System.out.println("[ScoreWriteBehindQueue] replaying " + pending.size() + " score change(s) from " + file);
+        }
+        this.worker = new Thread(this::runLoop, "score-write-behind");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Logs {@code deltas} durably and queues them for the sink.
+     * If the log cannot be written the deltas go to the sink synchronously instead.
+     *
+     * @return true once the change is either logged or committed by the sink
+     */
+    public boolean submit(Map<String, Integer> deltas) {
+        if (deltas == null || deltas.isEmpty()) {
+            return true;
+        }
+        lock.lock();
+        try {
+            List<ScoreMutation> mutations = new ArrayList<>(deltas.size());
+            long sequence = lastSequence;
+            for (Map.Entry<String, Integer> entry : deltas.entrySet()) {
+                mutations.add(new ScoreMutation(++sequence, entry.getKey(), entry.getValue()));
+            }
+            try {
+                log.append(mutations);
+            } catch (IOException e) {
+                System.err.println("[ScoreWriteBehindQueue] log append failed, writing through: " + e.getMessage());
+                try {
+                    return sink.apply(deltas);
+                } catch (SQLException sqlError) {
+                    System.err.println("[ScoreWriteBehindQueue] write-through failed: " + sqlError.getMessage());
+                    return false;
+                }
+            }
+            lastSequence = sequence;
+            pending.addAll(mutations);
+            available.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runLoop() {
+        long backoff = RETRY_INITIAL_MILLIS;
+        // Mutations left to apply one by one after their batch failed permanently
+        int isolating = 0;
+        while (running) {
+            List<ScoreMutation> batch;
+            try {
+                batch = awaitBatch(isolating > 0 ? 1 : MAX_BATCH);
+            } catch (InterruptedException e) {
+                break;
+            }
+            SQLException permanent = null;
+            boolean committed = false;
+            // Readers in readScores never see the commit without also seeing the batch leave pending
+            flushLock.writeLock().lock();
+            try {
+                committed = sink.apply(merge(batch));
+                if (committed) {
+                    markApplied(batch);
+                }
+            } catch (SQLException e) {
+                if (isTransient(e)) {
+                    System.err.println("[ScoreWriteBehindQueue] transient failure, retrying: " + e.getMessage());
+                } else {
+                    permanent = e;
+                }
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+            if (committed) {
+                isolating = Math.max(0, isolating - 1);
+                backoff = RETRY_INITIAL_MILLIS;
+                continue;
+            }
+            if (!running) {
+                // A failure during shutdown is not trusted; the log replays the batch on restart
+                break;
+            }
+            if (permanent != null && batch.size() > 1) {
+                // Find the bad mutation instead of giving up the whole batch
+                isolating = batch.size();
+                continue;
+            }
+            if (permanent != null && deadLetter(batch, permanent)) {
+                markApplied(batch);
+                isolating = Math.max(0, isolating - 1);
+                continue;
+            }
+            failedAttempts.increment();
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                break;
+            }
+            backoff = Math.min(backoff * 2, RETRY_MAX_MILLIS);
+        }
+    }
+
+    /**
+     * Connection-level failures (SQL state class 08) and the JDBC transient/recoverable types may
+     * succeed on retry. A failure without a SQL state is not classified, so it is retried too.
+     */
+    static boolean isTransient(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String state = e.getSQLState();
+        return state == null || state.startsWith("08");
+    }
+
+    /**
+     * Appends {@code batch} to the dead-letter file as {@code seq<TAB>delta<TAB>userId<TAB>error} lines.
+     *
+     * @return false when the file could not be written, so the batch must stay queued
+     */
+    private boolean deadLetter(List<ScoreMutation> batch, SQLException error) {
+        String reason = String.valueOf(error.getMessage()).replace('\t', ' ').replace('\n', ' ');
+        StringBuilder out = new StringBuilder(batch.size() * 64);
+        for (ScoreMutation mutation : batch) {
+            out.append(mutation.sequence()).append('\t').append(mutation.delta())
+                .append('\t').append(mutation.userId())
+                .append('\t').append(error.getSQLState()).append(' ').append(reason).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(deadLetterFile,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(out.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            System.err.println("[ScoreWriteBehindQueue] dead-letter write failed, keeping batch: " + e.getMessage());
+            return false;
+        }
+        deadLettered.add(batch.size());
+        System.err.println("[ScoreWriteBehindQueue] moved " + batch.size() + " score change(s) to "
+            + deadLetterFile + ": " + error.getMessage());
+        return true;
+    }
+
+    private List<ScoreMutation> awaitBatch(int limit) throws InterruptedException {
+        lock.lock();
+        try {
+            while (pending.isEmpty()) {
+                if (!running) {
+                    throw new InterruptedException();
+                }
+                available.await(1, TimeUnit.SECONDS);
+            }
+            List<ScoreMutation> batch = new ArrayList<>(Math.min(pending.size(), limit));
+            Iterator<ScoreMutation> it = pending.iterator();
+            while (it.hasNext() && batch.size() < limit) {
+                batch.add(it.next());
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Map<String, Integer> merge(List<ScoreMutation> batch) {
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        for (ScoreMutation mutation : batch) {
+            deltas.merge(mutation.userId(), mutation.delta(), Integer::sum);
+        }
+        return deltas;
+    }
+
+    private void markApplied(List<ScoreMutation> batch) {
+        appliedBatches.increment();
+        lock.lock();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                pending.poll();
+            }
+            try {
+                if (pending.isEmpty()) {
+                    log.truncate();
+                } else {
+                    log.markApplied(batch.get(batch.size() - 1).sequence());
+                }
+            } catch (IOException e) {
+                // The batch will be applied again after a restart
+                System.err.println("[ScoreWriteBehindQueue] failed to record applied batch: " + e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reads committed scores through {@code committed} and adds the changes still waiting for the
+     * sink. No batch is flushed while this runs, so a change is counted exactly once: either in
+     * the committed value or as pending, never both and never neither. Users missing from the
+     * committed scores stay absent.
+     */
+    public Map<String, Integer> readScores(Supplier<Map<String, Integer>> committed) {
+        flushLock.readLock().lock();
+        try {
+            Map<String, Integer> scores = new HashMap<>(committed.get());
+            pendingDeltas(scores.keySet()).forEach((userId, delta) -> scores.merge(userId, delta, Integer::sum));
+            return scores;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums the changes still waiting for the sink, per user. Users without pending changes are absent.
+     * Not consistent with a separate read of committed scores; use {@link #readScores} for that.
+     */
+    public Map<String, Integer> pendingDeltas(Collection<String> userIds) {
+        Map<String, Integer> deltas = new HashMap<>();
+        if (userIds == null || userIds.isEmpty()) {
+            return deltas;
+        }
+        lock.lock();
+        try {
+            for (ScoreMutation mutation : pending) {
+                if (userIds.contains(mutation.userId())) {
+                    deltas.merge(mutation.userId(), mutation.delta(), Integer::sum);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return deltas;
+    }
+
+    public Metrics metrics() {
+        int depth;
+        lock.lock();
+        try {
+            depth = pending.size();
+        } finally {
+            lock.unlock();
+        }
+        return new Metrics(depth, appliedBatches.sum(), failedAttempts.sum(), deadLettered.sum());
+    }
+
+    /**
+     * Stops the worker. Changes not yet applied stay in the log and are replayed on the next start.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            log.close();
+        } catch (IOException e) {
+            System.err.println("[ScoreWriteBehindQueue] close failed: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param pending        logged changes not yet applied
+     * @param appliedBatches batches the sink committed
+     * @param failedAttempts sink attempts that failed and were retried
+     * @param deadLettered   changes the sink rejected for good, moved to the dead-letter file
+     */
+    public record Metrics(int pending, long appliedBatches, long failedAttempts, long deadLettered) {
+    }
+}
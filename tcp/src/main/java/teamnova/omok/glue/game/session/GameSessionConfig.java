@@ -0,0 +1,17 @@
+package teamnova.omok.glue.game.session;
+
+/**
+ * Tunable parameters for the {@link GameSessionManager}.
+ * A single shard keeps the original one-ticker layout.
+ */
+public class GameSessionConfig {
+    public SessionTickMode tickMode = SessionTickMode.EVENT_DRIVEN;
+    // Number of worker threads sessions are spread over; a session always stays on the same one
+    public int shardCount = 1;
+    // Events a single session may have waiting before further submissions are rejected
+    public int eventQueueCapacity = 64;
+
+    public static GameSessionConfig defaults() {
+        return new GameSessionConfig();
+    }
+}
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.game.session;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Executors;
@@ -9,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.core.timer.HierarchicalTimer;
 import teamnova.omok.glue.client.session.ClientSessionManager;
 import teamnova.omok.glue.game.session.interfaces.manager.GameSessionEventProcessor;
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
@@ -17,6 +19,7 @@ import teamnova.omok.glue.game.session.interfaces.GameSessionRuntime;
 import teamnova.omok.glue.game.session.interfaces.manager.TurnTimeoutScheduler;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.repository.GameStateHubRegistry;
 import teamnova.omok.glue.game.session.repository.InMemoryGameSessionRepository;
@@ -26,6 +29,7 @@ import teamnova.omok.glue.game.session.services.coordinator.TurnTimeoutCoordinat
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
 import teamnova.omok.glue.rule.runtime.RuleManager;
 import teamnova.omok.modules.matching.models.MatchGroup;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
 
 /**
  * Central facade coordinating game session lifecycle and dependencies.
@@ -35,11 +39,20 @@ public final class GameSessionManager implements Closeable,
                                                  GameSessionEventProcessor,
                                                  TurnTimeoutScheduler.TurnTimeoutConsumer {
     private static final long DEFAULT_TICK_MILLIS = 20L;
+    private static final long TIMER_TICK_MILLIS = 10L;
+    // How long the event loop blocks before re-checking that it should keep running
+    private static final long IDLE_WAIT_MILLIS = 500L;
 
     private static GameSessionManager INSTANCE;
 
     public static GameSessionManager Init(RuleManager ruleManager, ClientSessionManager clientSessionManager) {
-        INSTANCE = new GameSessionManager(ruleManager, clientSessionManager);
+        return Init(ruleManager, clientSessionManager, GameSessionConfig.defaults());
+    }
+
+    public static GameSessionManager Init(RuleManager ruleManager,
+                                          ClientSessionManager clientSessionManager,
+                                          GameSessionConfig config) {
+        INSTANCE = new GameSessionManager(ruleManager, clientSessionManager, config);
         return INSTANCE;
     }
 
@@ -53,27 +66,37 @@ public final class GameSessionManager implements Closeable,
     private final GameSessionRuntime runtime;
     private final GameSessionDependencies dependencies;
     private final SessionEventService eventService;
-    private final ScheduledExecutorService scheduler;
+    // One single-threaded worker per runtime shard
+    private final ScheduledExecutorService[] workers;
+    private final HierarchicalTimer timer;
+    private final ScoreService scoreService;
+    private final SessionTickMode tickMode;
     private final AtomicBoolean ticking = new AtomicBoolean(false);
 
-    private GameSessionManager(RuleManager ruleManager, ClientSessionManager clientSessionManager) {
+    private GameSessionManager(RuleManager ruleManager,
+                               ClientSessionManager clientSessionManager,
+                               GameSessionConfig config) {
         Objects.requireNonNull(ruleManager, "ruleManager");
         Objects.requireNonNull(clientSessionManager, "clientSessionManager");
+        Objects.requireNonNull(config, "config");
+        this.tickMode = Objects.requireNonNull(config.tickMode, "tickMode");
 
         InMemoryGameSessionRepository repository = new InMemoryGameSessionRepository();
 
-        BoardService boardService = new BoardService();
+        BoardService boardService = new BitboardBoardService();
         TurnService turnService = new TurnService(GameSession.TURN_DURATION_MILLIS);
-        ScoreService scoreService = new ScoreService();
+        this.scoreService = new ScoreService();
         RuleService ruleService = RuleService.Init();
 
-        TurnTimeoutCoordinator turnTimeoutScheduler = new TurnTimeoutCoordinator();
-        DecisionTimeoutCoordinator decisionTimeoutScheduler = new DecisionTimeoutCoordinator();
+        // Turn and decision timeouts share one wheel instead of a scheduler thread each
+        this.timer = new HierarchicalTimer("session-timer", TIMER_TICK_MILLIS);
+        TurnTimeoutCoordinator turnTimeoutScheduler = new TurnTimeoutCoordinator(timer);
+        DecisionTimeoutCoordinator decisionTimeoutScheduler = new DecisionTimeoutCoordinator(timer);
 
 
         GameSessionStateContextService contextService = new GameSessionStateContextService();
         GameSessionMessenger messenger = clientSessionManager.gamePublisher();
-        this.runtime = new GameStateHubRegistry(repository, boardService, turnService, scoreService, contextService, messenger, turnTimeoutScheduler, decisionTimeoutScheduler);
+        this.runtime = new GameStateHubRegistry(repository, boardService, turnService, scoreService, contextService, messenger, turnTimeoutScheduler, decisionTimeoutScheduler, timer, config);
         this.dependencies = new GameSessionDependencies(
             repository,
             runtime,
@@ -85,12 +108,16 @@ public final class GameSessionManager implements Closeable,
             contextService
         );
         this.eventService = new SessionEventService(dependencies);
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r);
-            t.setName("game-session-ticker");
-            t.setDaemon(true);
-            return t;
-        });
+        this.workers = new ScheduledExecutorService[runtime.shardCount()];
+        for (int i = 0; i < workers.length; i++) {
+            String name = "game-session-shard-" + i;
+            workers[i] = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r);
+                t.setName(name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
     }
 
     public void start(NioReactorServer server) {
@@ -100,25 +127,49 @@ public final class GameSessionManager implements Closeable,
     }
 
     public void startTicker() {
-        if (ticking.compareAndSet(false, true)) {
-            scheduler.scheduleAtFixedRate(() -> {
-                try {
-                    runtime.tick(System.currentTimeMillis());
-                } catch (Throwable t) {
-                    System.err.println("[SESSION][ticker] Uncaught error in tick: " + t);
-                    t.printStackTrace();
-                }
-            },
-                0L,
-                DEFAULT_TICK_MILLIS,
-                TimeUnit.MILLISECONDS
-            );
+        if (!ticking.compareAndSet(false, true)) {
+            return;
+        }
+        for (int i = 0; i < workers.length; i++) {
+            int shard = i;
+            if (tickMode == SessionTickMode.EVENT_DRIVEN) {
+                workers[shard].execute(() -> runEventLoop(shard));
+            } else {
+                workers[shard].scheduleAtFixedRate(() -> {
+                    try {
+                        runtime.tick(shard, System.currentTimeMillis());
+                    } catch (Throwable t) {
+                        System.err.println("[SESSION][shard-" + shard + "] Uncaught error in tick: " + t);
+                        t.printStackTrace();
+                    }
+                },
+                    0L,
+                    DEFAULT_TICK_MILLIS,
+                    TimeUnit.MILLISECONDS
+                );
+            }
+        }
+    }
+
+    private void runEventLoop(int shard) {
+        while (ticking.get()) {
+            try {
+                runtime.runScheduled(shard, IDLE_WAIT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable t) {
+                System.err.println("[SESSION][shard-" + shard + "] Uncaught error in event loop: " + t);
+                t.printStackTrace();
+            }
         }
     }
 
     public void stopTicker() {
         if (ticking.compareAndSet(true, false)) {
-            scheduler.shutdownNow();
+            for (ScheduledExecutorService worker : workers) {
+                worker.shutdownNow();
+            }
         }
     }
 
@@ -136,18 +187,18 @@ public final class GameSessionManager implements Closeable,
     }
 
     @Override
-    public void submitReady(String userId, long requestId) {
-        eventService.submitReady(userId, requestId);
+    public SubmissionResult submitReady(String userId, long requestId) {
+        return eventService.submitReady(userId, requestId);
     }
 
     @Override
-    public boolean submitMove(String userId, long requestId, int x, int y) {
+    public SubmissionResult submitMove(String userId, long requestId, int x, int y) {
         return eventService.submitMove(userId, requestId, x, y);
     }
 
     @Override
-    public void submitPostGameDecision(String userId, long requestId, PostGameDecision decision) {
-        eventService.submitPostGameDecision(userId, requestId, decision);
+    public SubmissionResult submitPostGameDecision(String userId, long requestId, PostGameDecision decision) {
+        return eventService.submitPostGameDecision(userId, requestId, decision);
     }
 
     @Override
@@ -187,8 +238,32 @@ public final class GameSessionManager implements Closeable,
         eventService.handleScheduledTimeout(sessionId, expectedTurnNumber);
     }
 
+    /**
+     * Drift and backlog of the shared turn/decision timeout timer.
+     */
+    public HierarchicalTimer.TimerMetrics timerMetrics() {
+        return timer.metrics();
+    }
+
+    /**
+     * Session count, queue depth and pass latency of each tick worker.
+     */
+    public List<GameSessionRuntime.ShardMetrics> shardMetrics() {
+        return runtime.shardMetrics();
+    }
+
+    /**
+     * Accepted, coalesced, rejected and stale event counts across all sessions.
+     */
+    public EventQueueStats.Snapshot eventQueueMetrics() {
+        return runtime.eventQueueMetrics();
+    }
+
     @Override
     public void close() {
         stopTicker();
+        timer.close();
+        // Settlements already handed off still write their score changes
+        scoreService.close();
     }
 }
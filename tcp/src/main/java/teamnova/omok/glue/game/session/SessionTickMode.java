@@ -0,0 +1,28 @@
+package teamnova.omok.glue.game.session;
+
+/**
+ * Selects how game state hubs get processed.
+ */
+public enum SessionTickMode {
+    /**
+     * A hub is processed only after an event is submitted to it or a wakeup it
+     * requested comes due; idle sessions cost nothing.
+     */
+    EVENT_DRIVEN,
+    /**
+     * Every hub is processed on a fixed 20 ms tick whether or not anything happened.
+     */
+    POLLING;
+
+    public static SessionTickMode parse(String value, SessionTickMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return SessionTickMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            System.err.printf("Unknown session tick mode '%s', falling back to %s%n", value, fallback);
+            return fallback;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package teamnova.omok.glue.game.session.interfaces;
 
 import java.util.List;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.model.Stone;
@@ -22,5 +23,49 @@ public interface GameBoardService {
                                   int x,
                                   int y,
                                   Set<Stone> allowedStones);
+    /**
+     * Returns the first cell index ({@code y * width + x}) in row-major order that holds
+     * {@code stone} and completes a five-in-a-row, or {@code -1} when there is none.
+     */
+    int findFiveInARow(GameSessionBoardAccess board, Stone stone);
     List<ConnectedGroup> connectedGroups(GameSessionBoardAccess board, Connectivity connectivity);
+    /**
+     * Size of the largest connected group of {@code stone}, answered from the board's connectivity index.
+     */
+    int largestGroupSize(GameSessionBoardAccess board, Connectivity connectivity, Stone stone);
+    /**
+     * Writes the cell index of every stone whose group has no empty neighbour into {@code out}
+     * (sized at least {@code width * height}) and returns how many were written.
+     */
+    int enclosedCells(GameSessionBoardAccess board, Connectivity connectivity, int[] out);
+
+    // Index-based queries. Cells are addressed as y * width + x and stone sets as
+    // Stone#mask() unions; results go into caller-supplied arrays so nothing is allocated.
+
+    /**
+     * Writes the index of every cell whose stone is in {@code stoneMask} into {@code out}
+     * in row-major order and returns how many were written.
+     */
+    int collectCells(GameSessionBoardAccess board, int stoneMask, int[] out);
+    /**
+     * Counts the neighbours of {@code index} under {@code connectivity} whose stone is in {@code stoneMask}.
+     */
+    int countNeighbors(GameSessionBoardAccess board, int index, Connectivity connectivity, int stoneMask);
+    /**
+     * Picks a uniformly random neighbour of {@code index} whose stone is in {@code stoneMask}, or {@code -1}.
+     */
+    int randomNeighbor(GameSessionBoardAccess board,
+                       int index,
+                       Connectivity connectivity,
+                       int stoneMask,
+                       RandomGenerator random);
+    /**
+     * Collects the matching cells into {@code out} and moves a uniformly random subset of at most
+     * {@code limit} of them, in random order, to the front. Returns the size of that subset.
+     */
+    int sampleCells(GameSessionBoardAccess board, int stoneMask, int[] out, int limit, RandomGenerator random);
+    /**
+     * Applies {@link #setStone} to the first {@code count} cell indices.
+     */
+    void setStones(GameSessionBoardAccess board, int[] indices, int count, Stone stone, StonePlacementMetadata metadata);
 }
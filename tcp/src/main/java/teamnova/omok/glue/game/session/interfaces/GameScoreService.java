@@ -1,8 +1,15 @@
 package teamnova.omok.glue.game.session.interfaces;
 
+import java.util.concurrent.CompletableFuture;
+
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
-import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.model.result.ScoreSettlement;
 
 public interface GameScoreService {
-    int calculateScoreDelta(GameSessionAccess session, String userId);
+    /**
+     * Settles the scores of every participant of a finished game.
+     * Outcomes are read from {@code session} on the calling thread; score lookups, the formula
+     * and the database update run on a settlement worker.
+     */
+    CompletableFuture<ScoreSettlement> settle(GameSessionAccess session);
 }
@@ -1,13 +1,18 @@
 package teamnova.omok.glue.game.session.interfaces;
 
+import java.util.List;
 import java.util.Optional;
 
+import teamnova.omok.core.timer.Timeout;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.states.GameStateHub;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
 
 /**
  * 게임 세션에 대응하는 상태 허브를 관리하고 주기적으로 처리한다.
+ * Hubs are split into {@link #shardCount()} shards by session id; each shard must be driven
+ * by a single worker so that one session is never processed on two threads at once.
  */
 public interface GameSessionRuntime {
     GameStateHub ensure(GameSession session);
@@ -18,5 +23,50 @@ public interface GameSessionRuntime {
 
     void remove(GameSession session);
 
-    void tick(long now);
+    int shardCount();
+
+    /**
+     * Processes every hub of {@code shard} once (polling mode).
+     */
+    void tick(int shard, long now);
+
+    /**
+     * Queues {@code hub} on its owning shard. Called by the hub itself once per pending wakeup.
+     */
+    void schedule(GameStateHub hub);
+
+    /**
+     * Arranges for {@code hub} to be scheduled again at {@code deadlineMillis}.
+     *
+     * @return the pending wakeup, or null when the runtime polls and needs none
+     */
+    Timeout<GameSessionId> wakeupAt(GameStateHub hub, long deadlineMillis);
+
+    /**
+     * Waits up to {@code maxWaitMillis} for hubs scheduled on {@code shard} and processes all that are ready.
+     */
+    void runScheduled(int shard, long maxWaitMillis) throws InterruptedException;
+
+    List<ShardMetrics> shardMetrics();
+
+    /**
+     * Event queue admissions summed over every hub this runtime created.
+     */
+    EventQueueStats.Snapshot eventQueueMetrics();
+
+    /**
+     * Load figures for one shard. {@code queueDepth} counts hubs waiting to be processed;
+     * a pass is one polling tick or one drain of the ready queue.
+     */
+    record ShardMetrics(int shard,
+                        int sessions,
+                        int queueDepth,
+                        long passes,
+                        long lastPassNanos,
+                        long maxPassNanos,
+                        long totalPassNanos) {
+        public double averagePassNanos() {
+            return passes == 0 ? 0.0 : (double) totalPassNanos / passes;
+        }
+    }
 }
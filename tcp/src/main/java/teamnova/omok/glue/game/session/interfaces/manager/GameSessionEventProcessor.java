@@ -1,11 +1,12 @@
 package teamnova.omok.glue.game.session.interfaces.manager;
 
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 
 public interface GameSessionEventProcessor {
-    void submitReady(String userId, long requestId);
-    boolean submitMove(String userId, long requestId, int x, int y);
-    void submitPostGameDecision(String userId, long requestId, PostGameDecision decision);
+    SubmissionResult submitReady(String userId, long requestId);
+    SubmissionResult submitMove(String userId, long requestId, int x, int y);
+    SubmissionResult submitPostGameDecision(String userId, long requestId, PostGameDecision decision);
     void cancelAllTimers(GameSessionId sessionId);
 }
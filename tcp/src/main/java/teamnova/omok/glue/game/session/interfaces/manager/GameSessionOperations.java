@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import teamnova.omok.core.nio.NioReactorServer;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.modules.matching.models.MatchGroup;
 
@@ -12,9 +13,9 @@ public interface GameSessionOperations {
     Optional<GameSession> findByUser(String userId);
     void leaveByUser(String userId);
     void handleClientDisconnected(String userId);
-    void submitReady(String userId, long requestId);
-    boolean submitMove(String userId, long requestId, int x, int y);
-    void submitPostGameDecision(String userId, long requestId, PostGameDecision decision);
+    SubmissionResult submitReady(String userId, long requestId);
+    SubmissionResult submitMove(String userId, long requestId, int x, int y);
+    SubmissionResult submitPostGameDecision(String userId, long requestId, PostGameDecision decision);
     boolean handleClientReconnected(String userId);
     void createFromGroup(NioReactorServer server, MatchGroup group);
 }
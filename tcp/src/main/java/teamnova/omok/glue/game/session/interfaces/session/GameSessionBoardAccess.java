@@ -1,6 +1,10 @@
 package teamnova.omok.glue.game.session.interfaces.session;
 
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.BitBoard;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
+import teamnova.omok.glue.game.session.model.board.ConnectivityIndex;
+import teamnova.omok.glue.game.session.model.board.DirtyCellTracker;
 import teamnova.omok.glue.game.session.model.vo.StonePlacementMetadata;
 
 /**
@@ -20,4 +24,7 @@ public interface GameSessionBoardAccess extends GameSessionAccessInterface {
     void clearPlacements();
     void clear();
     byte[] snapshot();
+    BitBoard bitBoard();
+    DirtyCellTracker dirtyCells();
+    ConnectivityIndex connectivityIndex(Connectivity connectivity);
 }
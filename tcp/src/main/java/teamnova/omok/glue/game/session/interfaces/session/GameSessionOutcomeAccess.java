@@ -1,5 +1,7 @@
 package teamnova.omok.glue.game.session.interfaces.session;
 
+import java.util.Map;
+
 import teamnova.omok.glue.game.session.model.PlayerResult;
 
 public interface GameSessionOutcomeAccess extends  GameSessionAccessInterface {
@@ -7,4 +9,15 @@ public interface GameSessionOutcomeAccess extends  GameSessionAccessInterface {
     PlayerResult outcomeFor(String userId);
     void updateOutcome(String userId, PlayerResult result);
     boolean isGameFinished();
+
+    /**
+     * Keeps the score changes the settlement persisted, so profiles held by this session can be
+     * brought up to date without another read.
+     */
+    void recordSettledScoreDeltas(Map<String, Integer> deltas);
+
+    /**
+     * Persisted score change for {@code userId}, or 0 before the settlement arrived.
+     */
+    int settledScoreDeltaFor(String userId);
 }
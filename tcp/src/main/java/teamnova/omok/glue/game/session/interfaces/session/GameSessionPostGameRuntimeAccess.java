@@ -1,5 +1,6 @@
 package teamnova.omok.glue.game.session.interfaces.session;
 
+import teamnova.omok.glue.game.session.model.messages.BoardBroadcastState;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
 import teamnova.omok.glue.game.session.model.messages.GameCompletionNotice;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionPrompt;
@@ -42,4 +43,9 @@ public interface GameSessionPostGameRuntimeAccess {
     void setPendingBoardSnapshot(BoardSnapshotUpdate update);
 
     void clearPendingBoardSnapshot();
+
+    /**
+     * Sequence and contents of the last board sent to participants, used to build deltas.
+     */
+    BoardBroadcastState boardBroadcast();
 }
@@ -1,15 +1,20 @@
 package teamnova.omok.glue.game.session.interfaces.session;
 
 import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RuleDispatchPlan;
 
 import java.util.List;
 
 public interface GameSessionRuleAccess extends GameSessionAccessInterface {
     void setRuleIds(List<RuleId> ruleIds);
     List<RuleId> getRuleIds();
+    RuleDispatchPlan ruleDispatchPlan();
     Object getRuleData(String key);
     void putRuleData(String key, Object value);
     void removeRuleData(String key);
+    <S> S ruleState(RuleStateKey<S> key);
+    <S> S peekRuleState(RuleStateKey<S> key);
     void clearRuleData();
     boolean isRuleEmpty();
 }
@@ -4,11 +4,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.locks.ReentrantLock;
 
 import teamnova.omok.glue.data.model.UserData;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
+import teamnova.omok.glue.game.session.model.board.BitBoard;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
+import teamnova.omok.glue.game.session.model.board.ConnectivityIndex;
+import teamnova.omok.glue.game.session.model.board.DirtyCellTracker;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
+import teamnova.omok.glue.game.session.model.messages.BoardBroadcastState;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
 import teamnova.omok.glue.game.session.model.messages.GameCompletionNotice;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionPrompt;
@@ -32,8 +36,9 @@ import teamnova.omok.glue.game.session.model.vo.StonePlacementMetadata;
 import teamnova.omok.glue.game.session.model.vo.TurnCounters;
 import teamnova.omok.glue.game.session.model.vo.TurnOrder;
 import teamnova.omok.glue.game.session.model.vo.TurnTiming;
-import teamnova.omok.glue.manager.DataManager;
 import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RuleDispatchPlan;
 
 /**
  * Represents an in-game session with participants and mutable runtime state.
@@ -56,32 +61,32 @@ public class GameSession implements GameSessionAccess {
     private final TurnRuntimeStore turnRuntimeStore = new TurnRuntimeStore();
     private final ReadyRuntimeStore readyRuntimeStore = new ReadyRuntimeStore();
     private final PostGameRuntimeStore postGameRuntimeStore = new PostGameRuntimeStore();
-    private final ReentrantLock lock = new ReentrantLock();
 
-    public GameSession(List<String> userIds) {
+    /**
+     * @param userIds      matched user ids in seat order
+     * @param participants profiles already resolved for {@code userIds}, in the same order
+     */
+    public GameSession(List<String> userIds, List<UserData> participants) {
         Objects.requireNonNull(userIds, "userIds");
+        Objects.requireNonNull(participants, "participants");
         if (userIds.isEmpty()) {
             throw new IllegalArgumentException("userIds must not be empty");
         }
+        if (participants.size() != userIds.size()) {
+            throw new IllegalArgumentException("participants must match userIds");
+        }
         this.id = GameSessionId.random();
         this.lifecycleStore = new LifecycleStore(System.currentTimeMillis());
         this.boardStore = new BoardStore(BOARD_WIDTH, BOARD_HEIGHT);
         this.placementStore = new TurnPlacementStore(BOARD_WIDTH, BOARD_HEIGHT);
         this.outcomeStore = new OutcomeStore(userIds);
-        List<UserData> resolvedUsers = userIds.stream()
-                .map(userId -> DataManager.getInstance().findUser(userId, DataManager.getDefaultUser()))
-                .toList();
-        this.participantsStore = new ParticipantsStore(resolvedUsers);
+        this.participantsStore = new ParticipantsStore(participants);
     }
 
     public GameSessionId sessionId() {
         return id;
     }
 
-    public ReentrantLock lock() {
-        return lock;
-    }
-
 
     @Override
     public void setRuleIds(List<RuleId> ruleIds) {
@@ -93,6 +98,11 @@ public class GameSession implements GameSessionAccess {
         return rulesStore.getRuleIds();
     }
 
+    @Override
+    public RuleDispatchPlan ruleDispatchPlan() {
+        return rulesStore.ruleDispatchPlan();
+    }
+
     @Override
     public Object getRuleData(String key) {
         return rulesStore.getRuleData(key);
@@ -108,6 +118,16 @@ public class GameSession implements GameSessionAccess {
         rulesStore.removeRuleData(key);
     }
 
+    @Override
+    public <S> S ruleState(RuleStateKey<S> key) {
+        return rulesStore.ruleState(key);
+    }
+
+    @Override
+    public <S> S peekRuleState(RuleStateKey<S> key) {
+        return rulesStore.peekRuleState(key);
+    }
+
     @Override
     public void clearRuleData() {
         rulesStore.clearRuleData();
@@ -259,6 +279,16 @@ public class GameSession implements GameSessionAccess {
         return outcomeStore.isResolved();
     }
 
+    @Override
+    public void recordSettledScoreDeltas(Map<String, Integer> deltas) {
+        outcomeStore.recordSettledScoreDeltas(deltas);
+    }
+
+    @Override
+    public int settledScoreDeltaFor(String userId) {
+        return outcomeStore.settledScoreDeltaFor(userId);
+    }
+
     @Override
     public int width() {
         return boardStore.width();
@@ -324,6 +354,21 @@ public class GameSession implements GameSessionAccess {
         return boardStore.snapshot();
     }
 
+    @Override
+    public BitBoard bitBoard() {
+        return boardStore.bitBoard();
+    }
+
+    @Override
+    public DirtyCellTracker dirtyCells() {
+        return boardStore.dirtyCells();
+    }
+
+    @Override
+    public ConnectivityIndex connectivityIndex(Connectivity connectivity) {
+        return boardStore.connectivityIndex(connectivity);
+    }
+
     @Override
     public TurnOrder order() {
         return turnStore.order();
@@ -535,4 +580,9 @@ public class GameSession implements GameSessionAccess {
         postGameRuntimeStore.clearPendingBoardSnapshot();
     }
 
+    @Override
+    public BoardBroadcastState boardBroadcast() {
+        return postGameRuntimeStore.boardBroadcast();
+    }
+
 }
@@ -12,6 +12,12 @@ public enum Stone {
     JOKER((byte) 4),
     BLOCKER((byte) 5);
 
+    /**
+     * Bit masks over {@link #mask()} for the board query API.
+     */
+    public static final int PLAYER_MASK = PLAYER1.mask() | PLAYER2.mask() | PLAYER3.mask() | PLAYER4.mask();
+    public static final int OCCUPIED_MASK = PLAYER_MASK | JOKER.mask() | BLOCKER.mask();
+
     private final byte code;
 
     Stone(byte code) {
@@ -44,6 +50,10 @@ public enum Stone {
         };
     }
 
+    public int mask() {
+        return 1 << ordinal();
+    }
+
     public boolean isPlayerStone() {
         return switch (this) {
             case PLAYER1, PLAYER2, PLAYER3, PLAYER4 -> true;
@@ -0,0 +1,28 @@
+package teamnova.omok.glue.game.session.model;
+
+import teamnova.omok.modules.state_machine.models.SubmitResult;
+
+/**
+ * What happened to a client request submitted to its game session.
+ * Anything but {@link #ACCEPTED} is reported back to the client under its name.
+ */
+public enum SubmissionResult {
+    ACCEPTED,
+    // An equivalent request from the same user is still waiting to be processed
+    DUPLICATE_REQUEST,
+    // The session has too many events pending
+    EVENT_QUEUE_FULL,
+    SESSION_NOT_FOUND;
+
+    public boolean isAccepted() {
+        return this == ACCEPTED;
+    }
+
+    public static SubmissionResult from(SubmitResult result) {
+        return switch (result) {
+            case ACCEPTED -> ACCEPTED;
+            case COALESCED -> DUPLICATE_REQUEST;
+            case REJECTED -> EVENT_QUEUE_FULL;
+        };
+    }
+}
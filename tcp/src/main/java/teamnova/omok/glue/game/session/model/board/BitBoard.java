@@ -0,0 +1,271 @@
+package teamnova.omok.glue.game.session.model.board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import teamnova.omok.glue.game.session.model.Stone;
+
+/**
+ * Bitboard view of a board: one bit mask per {@link Stone}, kept in sync with the cell array.
+ * Rows are laid out with a stride of {@code width + 1}; the extra column is always zero so
+ * shifts along any of the four line directions cannot wrap from one row into the next.
+ * Query scratch space is reused, so like the cells it is only touched by the session's shard worker.
+ */
+public final class BitBoard {
+    private static final int RUN_LENGTH = 5;
+    private static final Stone[] STONES = Stone.values();
+
+    private final int width;
+    private final int height;
+    private final int stride;
+    private final int words;
+    private final int[] steps;
+    private final long[][] masks;
+    private final long[] validCells;
+    private final long[] line;
+    private final long[] shifted;
+    private final long[] runs;
+    private final long[] exact;
+    private final long[] cover;
+
+    public BitBoard(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.stride = width + 1;
+        this.words = (stride * height + Long.SIZE - 1) / Long.SIZE;
+        // Horizontal, vertical, diagonal and anti-diagonal
+        this.steps = new int[]{1, stride, stride + 1, stride - 1};
+        this.masks = new long[STONES.length][words];
+        this.validCells = new long[words];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                setBit(validCells, bit(x, y));
+            }
+        }
+        this.line = new long[words];
+        this.shifted = new long[words];
+        this.runs = new long[words];
+        this.exact = new long[words];
+        this.cover = new long[words];
+        clear();
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public void clear() {
+        for (long[] mask : masks) {
+            Arrays.fill(mask, 0L);
+        }
+        System.arraycopy(validCells, 0, masks[Stone.EMPTY.ordinal()], 0, words);
+    }
+
+    /**
+     * Moves cell {@code (x, y)} from {@code previous} to {@code next}.
+     */
+    public void set(int x, int y, Stone previous, Stone next) {
+        int bit = bit(x, y);
+        clearBit(masks[previous.ordinal()], bit);
+        setBit(masks[next.ordinal()], bit);
+    }
+
+    public boolean contains(Stone stone, int x, int y) {
+        return testBit(masks[stone.ordinal()], bit(x, y));
+    }
+
+    /**
+     * Writes the index ({@code y * width + x}) of every cell whose stone is in {@code stoneMask}
+     * into {@code out} in row-major order and returns how many were written.
+     */
+    public int collect(int stoneMask, int[] out) {
+        int count = 0;
+        for (int w = 0; w < words; w++) {
+            long bits = 0L;
+            for (Stone stone : STONES) {
+                if ((stoneMask & stone.mask()) != 0) {
+                    bits |= masks[stone.ordinal()][w];
+                }
+            }
+            while (bits != 0L) {
+                int bit = w * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                out[count++] = (bit / stride) * width + (bit % stride);
+                bits &= bits - 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true when a run of exactly five cells matching {@code player} (or a joker)
+     * passes through {@code (x, y)}. The cell itself is counted whatever it holds, which
+     * mirrors the cell-walking check.
+     */
+    public boolean hasFiveThrough(int x, int y, Stone player) {
+        loadLine(player);
+        return hasExactRunThrough(bit(x, y));
+    }
+
+    /**
+     * Same as {@link #hasFiveThrough(int, int, Stone)} for an arbitrary set of stones.
+     */
+    public boolean hasFiveThroughMatching(int x, int y, Iterable<Stone> allowed) {
+        Objects.requireNonNull(allowed, "allowed");
+        Arrays.fill(line, 0L);
+        for (Stone stone : allowed) {
+            if (stone != null) {
+                or(line, masks[stone.ordinal()]);
+            }
+        }
+        return hasExactRunThrough(bit(x, y));
+    }
+
+    /**
+     * Finds the first cell in row-major order that holds {@code player} and lies on a run of
+     * exactly five player-or-joker cells.
+     *
+     * @return the cell index {@code y * width + x}, or {@code -1} when there is none
+     */
+    public int findFive(Stone player) {
+        loadLine(player);
+        Arrays.fill(cover, 0L);
+        for (int step : steps) {
+            exactRuns(step);
+            // Mark every cell of every qualifying run
+            System.arraycopy(exact, 0, shifted, 0, words);
+            or(cover, shifted);
+            for (int k = 1; k < RUN_LENGTH; k++) {
+                shiftUp(shifted, step, shifted);
+                or(cover, shifted);
+            }
+        }
+        long[] own = masks[player.ordinal()];
+        for (int w = 0; w < words; w++) {
+            long hits = cover[w] & own[w];
+            if (hits != 0L) {
+                int bit = w * Long.SIZE + Long.numberOfTrailingZeros(hits);
+                return (bit / stride) * width + (bit % stride);
+            }
+        }
+        return -1;
+    }
+
+    private void loadLine(Stone player) {
+        long[] own = masks[player.ordinal()];
+        long[] joker = masks[Stone.JOKER.ordinal()];
+        for (int w = 0; w < words; w++) {
+            line[w] = own[w] | joker[w];
+        }
+    }
+
+    private boolean hasExactRunThrough(int bit) {
+        boolean present = testBit(line, bit);
+        setBit(line, bit);
+        try {
+            for (int step : steps) {
+                exactRuns(step);
+                for (int k = 0; k < RUN_LENGTH; k++) {
+                    int start = bit - k * step;
+                    if (start >= 0 && testBit(exact, start)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            if (!present) {
+                clearBit(line, bit);
+            }
+        }
+    }
+
+    /**
+     * Leaves in {@link #exact} the start bit of every run in {@link #line} along {@code step}
+     * that is exactly {@link #RUN_LENGTH} cells long.
+     */
+    private void exactRuns(int step) {
+        System.arraycopy(line, 0, runs, 0, words);
+        System.arraycopy(line, 0, shifted, 0, words);
+        for (int k = 1; k < RUN_LENGTH; k++) {
+            shiftDown(shifted, step, shifted);
+            and(runs, shifted);
+        }
+        // Not preceded by a matching cell
+        shiftUp(line, step, shifted);
+        andNot(runs, shifted);
+        // Not followed by a matching cell after the fifth
+        shiftDown(line, step * RUN_LENGTH, shifted);
+        for (int w = 0; w < words; w++) {
+            exact[w] = runs[w] & ~shifted[w];
+        }
+    }
+
+    private int bit(int x, int y) {
+        return y * stride + x;
+    }
+
+    /**
+     * dst bit i = src bit (i + n).
+     */
+    private void shiftDown(long[] src, int n, long[] dst) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int w = 0; w < words; w++) {
+            int from = w + wordShift;
+            long lo = from < words ? src[from] : 0L;
+            long hi = from + 1 < words ? src[from + 1] : 0L;
+            dst[w] = bitShift == 0 ? lo : (lo >>> bitShift) | (hi << (64 - bitShift));
+        }
+    }
+
+    /**
+     * dst bit i = src bit (i - n).
+     */
+    private void shiftUp(long[] src, int n, long[] dst) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int w = words - 1; w >= 0; w--) {
+            int from = w - wordShift;
+            long hi = from >= 0 ? src[from] : 0L;
+            long lo = from - 1 >= 0 ? src[from - 1] : 0L;
+            dst[w] = bitShift == 0 ? hi : (hi << bitShift) | (lo >>> (64 - bitShift));
+        }
+    }
+
+    private void or(long[] target, long[] source) {
+        for (int w = 0; w < words; w++) {
+            target[w] |= source[w];
+        }
+    }
+
+    private void and(long[] target, long[] source) {
+        for (int w = 0; w < words; w++) {
+            target[w] &= source[w];
+        }
+    }
+
+    private void andNot(long[] target, long[] source) {
+        for (int w = 0; w < words; w++) {
+            target[w] &= ~source[w];
+        }
+    }
+
+    private static boolean testBit(long[] mask, int bit) {
+        return (mask[bit >>> 6] & (1L << bit)) != 0L;
+    }
+
+    private static void setBit(long[] mask, int bit) {
+        mask[bit >>> 6] |= 1L << bit;
+    }
+
+    private static void clearBit(long[] mask, int bit) {
+        mask[bit >>> 6] &= ~(1L << bit);
+    }
+}
@@ -0,0 +1,286 @@
+package teamnova.omok.glue.game.session.model.board;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import teamnova.omok.glue.game.session.model.Stone;
+
+/**
+ * Union-find index of same-stone groups for one {@link Connectivity}.
+ * Placing a stone merges it with matching neighbours; clearing or replacing one splits
+ * only the group it belonged to. Each group tracks its size and its pseudo-liberties
+ * (empty neighbours counted once per adjacent stone), which is zero exactly when the
+ * group has no liberty at all. A per-stone size histogram answers the largest-group query.
+ * Like the cells it mirrors, the index is confined to the session's shard worker.
+ */
+public final class ConnectivityIndex {
+    private final int width;
+    private final int height;
+    private final Connectivity connectivity;
+    private final Stone[] stones;
+    private final int[] parent;
+    private final int[] size;
+    private final int[] liberties;
+    // Circular member list per group so a split only revisits that group's cells
+    private final int[] next;
+    private final int[][] sizeCounts;
+    private final int[] largest;
+    private final int[] members;
+
+    public ConnectivityIndex(int width, int height, Connectivity connectivity) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.connectivity = Objects.requireNonNull(connectivity, "connectivity");
+        int cells = width * height;
+        this.stones = new Stone[cells];
+        this.parent = new int[cells];
+        this.size = new int[cells];
+        this.liberties = new int[cells];
+        this.next = new int[cells];
+        this.sizeCounts = new int[Stone.values().length][cells + 1];
+        this.largest = new int[Stone.values().length];
+        this.members = new int[cells];
+        reset();
+    }
+
+    public Connectivity connectivity() {
+        return connectivity;
+    }
+
+    public void reset() {
+        Arrays.fill(stones, Stone.EMPTY);
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            next[i] = i;
+        }
+        Arrays.fill(size, 0);
+        Arrays.fill(liberties, 0);
+        for (int[] counts : sizeCounts) {
+            Arrays.fill(counts, 0);
+        }
+        Arrays.fill(largest, 0);
+    }
+
+    /**
+     * Applies a cell change at {@code index} ({@code y * width + x}).
+     */
+    public void update(int index, Stone previous, Stone current) {
+        if (previous == current) {
+            return;
+        }
+        if (previous != Stone.EMPTY) {
+            remove(index);
+        }
+        if (current != Stone.EMPTY) {
+            place(index, current);
+        }
+    }
+
+    public Stone stoneAt(int index) {
+        return stones[index];
+    }
+
+    /**
+     * Returns the representative cell of the group containing {@code index}.
+     */
+    public int find(int index) {
+        int root = index;
+        while (parent[root] != root) {
+            parent[root] = parent[parent[root]];
+            root = parent[root];
+        }
+        return root;
+    }
+
+    /**
+     * Size of the group containing {@code index}, or zero for an empty cell.
+     */
+    public int groupSize(int index) {
+        return stones[index] == Stone.EMPTY ? 0 : size[find(index)];
+    }
+
+    /**
+     * Pseudo-liberties of the group containing {@code index}; zero means the group is enclosed.
+     */
+    public int liberties(int index) {
+        return stones[index] == Stone.EMPTY ? 0 : liberties[find(index)];
+    }
+
+    public int largestGroupSize(Stone stone) {
+        int ordinal = stone.ordinal();
+        int candidate = largest[ordinal];
+        int[] counts = sizeCounts[ordinal];
+        while (candidate > 0 && counts[candidate] == 0) {
+            candidate--;
+        }
+        largest[ordinal] = candidate;
+        return candidate;
+    }
+
+    /**
+     * Writes the index of every stone whose group has no liberty into {@code out} in
+     * row-major order. One pass over the cells, no allocation.
+     *
+     * @return the number of indices written
+     */
+    public int collectEnclosedCells(int[] out) {
+        int count = 0;
+        for (int i = 0; i < stones.length; i++) {
+            if (stones[i] != Stone.EMPTY && liberties[find(i)] == 0) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    private void place(int index, Stone stone) {
+        stones[index] = stone;
+        parent[index] = index;
+        next[index] = index;
+        size[index] = 1;
+        liberties[index] = 0;
+        addGroup(stone, 1);
+        int x = index % width;
+        int y = index / width;
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                continue;
+            }
+            int neighbor = ny * width + nx;
+            if (stones[neighbor] == Stone.EMPTY) {
+                liberties[index]++;
+            } else {
+                // This cell was one of the neighbour's liberties
+                liberties[find(neighbor)]--;
+            }
+        }
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                continue;
+            }
+            int neighbor = ny * width + nx;
+            if (stones[neighbor] == stone) {
+                union(index, neighbor);
+            }
+        }
+    }
+
+    private void remove(int index) {
+        Stone stone = stones[index];
+        int root = find(index);
+        int count = 0;
+        int cursor = index;
+        do {
+            members[count++] = cursor;
+            cursor = next[cursor];
+        } while (cursor != index);
+        removeGroup(stone, size[root]);
+
+        stones[index] = Stone.EMPTY;
+        parent[index] = index;
+        next[index] = index;
+        size[index] = 0;
+        liberties[index] = 0;
+        for (int i = 0; i < count; i++) {
+            int member = members[i];
+            if (member == index) {
+                continue;
+            }
+            parent[member] = member;
+            next[member] = member;
+            size[member] = 1;
+            liberties[member] = emptyNeighbors(member);
+            addGroup(stone, 1);
+        }
+        for (int i = 0; i < count; i++) {
+            int member = members[i];
+            if (member == index) {
+                continue;
+            }
+            int x = member % width;
+            int y = member / width;
+            for (int[] offset : connectivity.offsets()) {
+                int nx = x + offset[0];
+                int ny = y + offset[1];
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                    continue;
+                }
+                int neighbor = ny * width + nx;
+                if (stones[neighbor] == stone) {
+                    union(member, neighbor);
+                }
+            }
+        }
+        // Other groups touching the cleared cell gain it as a liberty
+        int x = index % width;
+        int y = index / width;
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (nx < 0 || nx >= width || ny < 0 || ny >= height) {
+                continue;
+            }
+            int neighbor = ny * width + nx;
+            Stone neighborStone = stones[neighbor];
+            if (neighborStone != Stone.EMPTY && neighborStone != stone) {
+                liberties[find(neighbor)]++;
+            }
+        }
+    }
+
+    private int emptyNeighbors(int index) {
+        int x = index % width;
+        int y = index / width;
+        int count = 0;
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (nx >= 0 && nx < width && ny >= 0 && ny < height && stones[ny * width + nx] == Stone.EMPTY) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void union(int a, int b) {
+        int ra = find(a);
+        int rb = find(b);
+        if (ra == rb) {
+            return;
+        }
+        if (size[ra] < size[rb]) {
+            int swap = ra;
+            ra = rb;
+            rb = swap;
+        }
+        Stone stone = stones[ra];
+        removeGroup(stone, size[ra]);
+        removeGroup(stone, size[rb]);
+        parent[rb] = ra;
+        size[ra] += size[rb];
+        liberties[ra] += liberties[rb];
+        int swap = next[ra];
+        next[ra] = next[rb];
+        next[rb] = swap;
+        addGroup(stone, size[ra]);
+    }
+
+    private void addGroup(Stone stone, int groupSize) {
+        int ordinal = stone.ordinal();
+        sizeCounts[ordinal][groupSize]++;
+        if (groupSize > largest[ordinal]) {
+            largest[ordinal] = groupSize;
+        }
+    }
+
+    private void removeGroup(Stone stone, int groupSize) {
+        sizeCounts[stone.ordinal()][groupSize]--;
+    }
+}
@@ -0,0 +1,75 @@
+package teamnova.omok.glue.game.session.model.board;
+
+/**
+ * Records which cells changed since the board was last checked for a winning line.
+ * Up to {@link #DEFAULT_CAPACITY} distinct cell indices are kept; past that the tracker
+ * overflows and the next check falls back to a full-board scan.
+ */
+public final class DirtyCellTracker {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final int[] indices;
+    private int count;
+    private boolean overflowed;
+
+    public DirtyCellTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DirtyCellTracker(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.indices = new int[capacity];
+    }
+
+    /**
+     * Marks the cell at {@code index} ({@code y * width + x}) as changed.
+     */
+    public void mark(int index) {
+        if (overflowed) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            if (indices[i] == index) {
+                return;
+            }
+        }
+        if (count == indices.length) {
+            overflowed = true;
+            return;
+        }
+        indices[count++] = index;
+    }
+
+    /**
+     * Forces the next check to scan the whole board.
+     */
+    public void markAll() {
+        overflowed = true;
+    }
+
+    public boolean overflowed() {
+        return overflowed;
+    }
+
+    public boolean isEmpty() {
+        return !overflowed && count == 0;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public int index(int position) {
+        if (position < 0 || position >= count) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return indices[position];
+    }
+
+    public void reset() {
+        count = 0;
+        overflowed = false;
+    }
+}
@@ -0,0 +1,63 @@
+package teamnova.omok.glue.game.session.model.messages;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Last board state sent to a session's participants, numbered so clients receiving deltas
+ * can tell whether they missed one. The cells are the rule-transformed view, i.e. exactly
+ * what clients were shown.
+ */
+public final class BoardBroadcastState {
+    // Past this fraction of changed cells a keyframe is no larger than the delta
+    private static final int DELTA_CELL_DIVISOR = 3;
+
+    private long sequence;
+    private long updatedAt;
+    private byte[] cells;
+
+    /**
+     * Records {@code next} as the newest broadcast state and returns it with the cells that
+     * changed since the previous one.
+     */
+    public synchronized BoardRevision publish(byte[] next, long now) {
+        Objects.requireNonNull(next, "next");
+        int[] changed = null;
+        if (cells != null && cells.length == next.length) {
+            int limit = next.length / DELTA_CELL_DIVISOR;
+            int[] indices = new int[limit];
+            int count = 0;
+            boolean fits = true;
+            for (int i = 0; i < next.length; i++) {
+                if (cells[i] != next[i]) {
+                    if (count == limit) {
+                        fits = false;
+                        break;
+                    }
+                    indices[count++] = i;
+                }
+            }
+            if (fits) {
+                changed = Arrays.copyOf(indices, count);
+            }
+        }
+        sequence++;
+        updatedAt = now;
+        cells = next;
+        return new BoardRevision(sequence, now, next, changed);
+    }
+
+    /**
+     * Revision to send {@code next} as a keyframe to a single participant. The current
+     * sequence is reused when the board has not changed since the last broadcast; otherwise
+     * a new revision is published and the others pick it up as a gap.
+     */
+    public synchronized BoardRevision keyframe(byte[] next, long now) {
+        Objects.requireNonNull(next, "next");
+        if (cells != null && Arrays.equals(cells, next)) {
+            return new BoardRevision(sequence, updatedAt, cells, null);
+        }
+        BoardRevision published = publish(next, now);
+        return new BoardRevision(published.sequence(), published.updatedAt(), published.cells(), null);
+    }
+}
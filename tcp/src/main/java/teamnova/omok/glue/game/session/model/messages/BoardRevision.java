@@ -0,0 +1,12 @@
+package teamnova.omok.glue.game.session.model.messages;
+
+/**
+ * One broadcast board state. {@code changed} lists the cell indices that differ from the
+ * previous revision, or is null when there is no usable previous revision and only a full
+ * keyframe can describe it.
+ */
+public record BoardRevision(long sequence, long updatedAt, byte[] cells, int[] changed) {
+    public boolean hasDelta() {
+        return changed != null;
+    }
+}
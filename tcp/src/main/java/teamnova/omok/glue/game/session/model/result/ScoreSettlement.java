@@ -0,0 +1,17 @@
+package teamnova.omok.glue.game.session.model.result;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Score changes computed for every participant of a finished game.
+ *
+ * @param deltas    score change per user in participant order, zero entries included
+ * @param persisted whether all non-zero changes were durably recorded (see {@code DataManager#applyScoreDeltas})
+ */
+public record ScoreSettlement(Map<String, Integer> deltas, boolean persisted) {
+    public ScoreSettlement {
+        deltas = Collections.unmodifiableMap(new LinkedHashMap<>(deltas));
+    }
+}
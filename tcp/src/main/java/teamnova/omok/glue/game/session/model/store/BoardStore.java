@@ -1,11 +1,19 @@
 package teamnova.omok.glue.game.session.model.store;
 
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.BitBoard;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
+import teamnova.omok.glue.game.session.model.board.ConnectivityIndex;
+import teamnova.omok.glue.game.session.model.board.DirtyCellTracker;
 
 import java.util.Arrays;
 
 /**
  * Holds the raw board state for a single game session using a compact byte array.
+ * A {@link BitBoard} with one mask per stone type is maintained alongside the cells
+ * for bit-parallel line checks, and every changed cell is recorded in a
+ * {@link DirtyCellTracker} so victory checks can look only at affected lines.
+ * Group indexes per {@link Connectivity} are built on first use and kept up to date after that.
  */
 public class BoardStore {
     public static final int DEFAULT_WIDTH = 10;
@@ -14,6 +22,9 @@ public class BoardStore {
     private final int width;
     private final int height;
     private final byte[] cells;
+    private final BitBoard bitBoard;
+    private final DirtyCellTracker dirtyCells = new DirtyCellTracker();
+    private final ConnectivityIndex[] connectivityIndexes = new ConnectivityIndex[Connectivity.values().length];
 
     public BoardStore(int width, int height) {
         if (width <= 0 || height <= 0) {
@@ -23,6 +34,7 @@ public class BoardStore {
         this.height = height;
         this.cells = new byte[width * height];
         Arrays.fill(cells, Stone.EMPTY.code());
+        this.bitBoard = new BitBoard(width, height);
     }
 
     public int width() {
@@ -38,11 +50,51 @@ public class BoardStore {
     }
 
     public void set(int index, byte value) {
+        byte previous = cells[index];
         cells[index] = value;
+        if (previous != value) {
+            Stone previousStone = Stone.fromByte(previous);
+            Stone nextStone = Stone.fromByte(value);
+            bitBoard.set(index % width, index / width, previousStone, nextStone);
+            dirtyCells.mark(index);
+            for (ConnectivityIndex connectivityIndex : connectivityIndexes) {
+                if (connectivityIndex != null) {
+                    connectivityIndex.update(index, previousStone, nextStone);
+                }
+            }
+        }
     }
 
     public void clear() {
         Arrays.fill(cells, Stone.EMPTY.code());
+        bitBoard.clear();
+        // An empty board has no winning line, so nothing is left to re-check
+        dirtyCells.reset();
+        for (ConnectivityIndex connectivityIndex : connectivityIndexes) {
+            if (connectivityIndex != null) {
+                connectivityIndex.reset();
+            }
+        }
+    }
+
+    public BitBoard bitBoard() {
+        return bitBoard;
+    }
+
+    public DirtyCellTracker dirtyCells() {
+        return dirtyCells;
+    }
+
+    public ConnectivityIndex connectivityIndex(Connectivity connectivity) {
+        ConnectivityIndex index = connectivityIndexes[connectivity.ordinal()];
+        if (index == null) {
+            index = new ConnectivityIndex(width, height, connectivity);
+            for (int i = 0; i < cells.length; i++) {
+                index.update(i, Stone.EMPTY, Stone.fromByte(cells[i]));
+            }
+            connectivityIndexes[connectivity.ordinal()] = index;
+        }
+        return index;
     }
 
     public byte[] snapshot() {
@@ -14,6 +14,8 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public final class OutcomeStore {
     private final Map<String, PlayerResult> playerResults = new ConcurrentHashMap<>();
+    // Score changes recorded by the post-game settlement, per user
+    private final Map<String, Integer> settledScoreDeltas = new ConcurrentHashMap<>();
 
     public OutcomeStore(List<String> userIds) {
         Objects.requireNonNull(userIds, "userIds");
@@ -23,6 +25,7 @@ public final class OutcomeStore {
     public void reset(List<String> userIds) {
         Objects.requireNonNull(userIds, "userIds");
         playerResults.clear();
+        settledScoreDeltas.clear();
         for (String userId : userIds) {
             playerResults.put(userId, PlayerResult.PENDING);
         }
@@ -44,6 +47,15 @@ public final class OutcomeStore {
         return !Objects.equals(previous, result);
     }
 
+    public void recordSettledScoreDeltas(Map<String, Integer> deltas) {
+        Objects.requireNonNull(deltas, "deltas");
+        settledScoreDeltas.putAll(deltas);
+    }
+
+    public int settledScoreDeltaFor(String userId) {
+        return settledScoreDeltas.getOrDefault(userId, 0);
+    }
+
     public boolean isResolved() {
         return playerResults.values().stream()
             .allMatch(result -> result != PlayerResult.PENDING);
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.game.session.model.store;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionPostGameRuntimeAccess;
+import teamnova.omok.glue.game.session.model.messages.BoardBroadcastState;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
 import teamnova.omok.glue.game.session.model.messages.GameCompletionNotice;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionPrompt;
@@ -17,6 +18,7 @@ public final class PostGameRuntimeStore implements GameSessionPostGameRuntimeAcc
     private long postGameDecisionDeadline;
     private GameCompletionNotice pendingGameCompletion;
     private BoardSnapshotUpdate pendingBoardSnapshot;
+    private final BoardBroadcastState boardBroadcast = new BoardBroadcastState();
 
     @Override
     public PostGameDecisionUpdate getPendingDecisionUpdate() {
@@ -108,4 +110,8 @@ public final class PostGameRuntimeStore implements GameSessionPostGameRuntimeAcc
         this.pendingBoardSnapshot = null;
     }
 
+    @Override
+    public BoardBroadcastState boardBroadcast() {
+        return boardBroadcast;
+    }
 }
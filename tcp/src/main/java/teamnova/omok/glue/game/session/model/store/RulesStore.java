@@ -1,18 +1,28 @@
 package teamnova.omok.glue.game.session.model.store;
 
 import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RuleDispatchPlan;
+import teamnova.omok.glue.rule.runtime.RuleRegistry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Holds mutable rule-selection state for a session.
+ * Typed rule states live in an array indexed by {@link RuleStateKey#slot()}; the string-keyed
+ * map is kept for callers that have not moved to typed keys. The state array is a plain array
+ * because only the owning shard worker reads or writes it.
+ * Selecting rules also compiles the {@link RuleDispatchPlan} used for every rule firing.
  */
 public final class RulesStore {
     private final List<RuleId> ruleIds = new ArrayList<>();
     private final Map<String, Object> data = new ConcurrentHashMap<>();
+    private Object[] states = new Object[RuleStateKey.slotCount()];
+    private RuleDispatchPlan dispatchPlan = RuleDispatchPlan.EMPTY;
 
     public RulesStore() {
     }
@@ -20,6 +30,11 @@ public final class RulesStore {
     public void setRuleIds(List<RuleId> ruleIds) {
         this.ruleIds.clear();
         this.ruleIds.addAll(ruleIds);
+        this.dispatchPlan = RuleDispatchPlan.compile(this.ruleIds, RuleRegistry.getInstance());
+    }
+
+    public RuleDispatchPlan ruleDispatchPlan() {
+        return dispatchPlan;
     }
 
     public List<RuleId> getRuleIds() {
@@ -40,8 +55,37 @@ public final class RulesStore {
     public void removeRuleData(String key) {
         data.remove(key);
     }
+
+    /**
+     * Returns the state stored under {@code key}, creating it with the key's factory on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public <S> S ruleState(RuleStateKey<S> key) {
+        int slot = key.slot();
+        if (slot >= states.length) {
+            // Keys declared after this store was created
+            states = Arrays.copyOf(states, Math.max(slot + 1, RuleStateKey.slotCount()));
+        }
+        Object state = states[slot];
+        if (state == null) {
+            state = key.create();
+            states[slot] = state;
+        }
+        return (S) state;
+    }
+
+    /**
+     * Returns the state stored under {@code key}, or null when it was never created.
+     */
+    @SuppressWarnings("unchecked")
+    public <S> S peekRuleState(RuleStateKey<S> key) {
+        int slot = key.slot();
+        return slot < states.length ? (S) states[slot] : null;
+    }
+
     public void clearRuleData() {
         data.clear();
+        Arrays.fill(states, null);
     }
 
     public boolean isRuleEmpty() {
@@ -0,0 +1,23 @@
+package teamnova.omok.glue.game.session.model.vo;
+
+import java.util.Objects;
+
+/**
+ * Key carried by session timer handles so an expiry can be checked against the turn it was armed for.
+ * Timers that are not tied to a turn use {@link #NO_TURN}.
+ */
+public record SessionTimeoutKey(GameSessionId sessionId, int turnNumber) {
+    public static final int NO_TURN = -1;
+
+    public SessionTimeoutKey {
+        Objects.requireNonNull(sessionId, "sessionId");
+    }
+
+    public static SessionTimeoutKey turn(GameSessionId sessionId, int turnNumber) {
+        return new SessionTimeoutKey(sessionId, turnNumber);
+    }
+
+    public static SessionTimeoutKey session(GameSessionId sessionId) {
+        return new SessionTimeoutKey(sessionId, NO_TURN);
+    }
+}
@@ -1,21 +1,30 @@
 package teamnova.omok.glue.game.session.repository;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
+import teamnova.omok.core.timer.HierarchicalTimer;
+import teamnova.omok.core.timer.Timeout;
+import teamnova.omok.glue.game.session.GameSessionConfig;
+import teamnova.omok.glue.game.session.SessionTickMode;
 import teamnova.omok.glue.game.session.interfaces.*;
 import teamnova.omok.glue.game.session.interfaces.manager.TurnTimeoutScheduler;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.states.GameStateHub;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
 
 /**
  * GameStateHub 인스턴스를 생성·보관하고 주기 처리까지 담당한다.
+ * In {@link SessionTickMode#EVENT_DRIVEN} mode hubs are queued here when they have work and
+ * drained by {@link #runScheduled(int, long)}; deadline wakeups ride on the shared session timer.
+ * Hubs are spread over {@link SessionShard}s by session id, and submissions, wakeups and
+ * timeouts for a session always land on its owning shard.
  */
 public final class GameStateHubRegistry implements GameSessionRuntime {
-    private final Map<GameSessionId, GameStateHub> managersById = new ConcurrentHashMap<>();
     private final GameBoardService boardService;
     private final GameTurnService turnService;
     private final GameScoreService scoreService;
@@ -24,6 +33,11 @@ public final class GameStateHubRegistry implements GameSessionRuntime {
     private final TurnTimeoutScheduler turnTimeoutScheduler;
     private final DecisionTimeoutScheduler decisionTimeoutScheduler;
     private final GameSessionRepository repository;
+    private final HierarchicalTimer timer;
+    private final SessionTickMode mode;
+    private final int eventQueueCapacity;
+    private final EventQueueStats eventStats = new EventQueueStats();
+    private final SessionShard[] shards;
 
     public GameStateHubRegistry(GameSessionRepository repository,
                                 GameBoardService boardService,
@@ -32,7 +46,13 @@ public final class GameStateHubRegistry implements GameSessionRuntime {
                                 GameSessionStateContextService contextService,
                                 GameSessionMessenger messenger,
                                 TurnTimeoutScheduler turnTimeoutScheduler,
-                                DecisionTimeoutScheduler decisionTimeoutScheduler) {
+                                DecisionTimeoutScheduler decisionTimeoutScheduler,
+                                HierarchicalTimer timer,
+                                GameSessionConfig config) {
+        Objects.requireNonNull(config, "config");
+        if (config.shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount must be positive");
+        }
         this.repository = repository;
         this.boardService = boardService;
         this.turnService = turnService;
@@ -41,24 +61,34 @@ public final class GameStateHubRegistry implements GameSessionRuntime {
         this.messenger = messenger;
         this.turnTimeoutScheduler = turnTimeoutScheduler;
         this.decisionTimeoutScheduler = decisionTimeoutScheduler;
+        this.timer = Objects.requireNonNull(timer, "timer");
+        this.mode = Objects.requireNonNull(config.tickMode, "tickMode");
+        this.eventQueueCapacity = config.eventQueueCapacity;
+        this.shards = new SessionShard[config.shardCount];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new SessionShard(i);
+        }
     }
 
     @Override
     public GameStateHub ensure(GameSession session) {
-        return managersById.computeIfAbsent(
+        return shardOf(session.sessionId()).hubs().computeIfAbsent(
             session.sessionId(),
-            id -> new GameStateHub(session, boardService, turnService, scoreService, contextService, messenger, turnTimeoutScheduler, decisionTimeoutScheduler, repository, this)
+            id -> new GameStateHub(session, boardService, turnService, scoreService, contextService, messenger, turnTimeoutScheduler, decisionTimeoutScheduler, repository, this, eventQueueCapacity, eventStats)
         );
     }
 
     @Override
     public Optional<GameStateHub> find(GameSessionId sessionId) {
-        return Optional.ofNullable(managersById.get(sessionId));
+        return Optional.ofNullable(shardOf(sessionId).hubs().get(sessionId));
     }
 
     @Override
     public void remove(GameSessionId sessionId) {
-        managersById.remove(sessionId);
+        GameStateHub removed = shardOf(sessionId).hubs().remove(sessionId);
+        if (removed != null) {
+            removed.cancelWakeup();
+        }
     }
 
     @Override
@@ -69,7 +99,51 @@ public final class GameStateHubRegistry implements GameSessionRuntime {
     }
 
     @Override
-    public void tick(long now) {
-        managersById.values().forEach(manager -> manager.process(now));
+    public int shardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void tick(int shard, long now) {
+        shards[shard].tick(now);
+    }
+
+    @Override
+    public void schedule(GameStateHub hub) {
+        if (mode == SessionTickMode.EVENT_DRIVEN) {
+            shardOf(hub.session().sessionId()).offer(hub);
+        }
+    }
+
+    @Override
+    public Timeout<GameSessionId> wakeupAt(GameStateHub hub, long deadlineMillis) {
+        if (mode != SessionTickMode.EVENT_DRIVEN) {
+            return null;
+        }
+        return timer.scheduleAt(hub.session().sessionId(), deadlineMillis, hub::requestProcessing);
+    }
+
+    @Override
+    public void runScheduled(int shard, long maxWaitMillis) throws InterruptedException {
+        shards[shard].runScheduled(maxWaitMillis);
+    }
+
+    @Override
+    public List<ShardMetrics> shardMetrics() {
+        List<ShardMetrics> metrics = new ArrayList<>(shards.length);
+        for (SessionShard shard : shards) {
+            metrics.add(shard.metrics());
+        }
+        return metrics;
+    }
+
+    @Override
+    public EventQueueStats.Snapshot eventQueueMetrics() {
+        return eventStats.snapshot();
+    }
+
+    private SessionShard shardOf(GameSessionId sessionId) {
+        int hash = sessionId.hashCode();
+        return shards[Math.floorMod(hash ^ (hash >>> 16), shards.length)];
     }
 }
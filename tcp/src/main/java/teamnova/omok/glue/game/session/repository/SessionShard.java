@@ -0,0 +1,104 @@
+package teamnova.omok.glue.game.session.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import teamnova.omok.glue.game.session.interfaces.GameSessionRuntime;
+import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+import teamnova.omok.glue.game.session.states.GameStateHub;
+
+/**
+ * One slice of the hub registry. Every hub belongs to exactly one shard and is only ever
+ * processed by that shard's worker, so a session's state machine never runs on two threads
+ * at once. Pass timings are written by the worker alone and read by anyone through
+ * {@link #metrics()}.
+ */
+final class SessionShard {
+    private final int index;
+    private final Map<GameSessionId, GameStateHub> hubs = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<GameStateHub> ready = new LinkedBlockingQueue<>();
+    private final LongAdder passes = new LongAdder();
+    private final LongAdder totalPassNanos = new LongAdder();
+    private volatile long lastPassNanos;
+    private volatile long maxPassNanos;
+
+    SessionShard(int index) {
+        this.index = index;
+    }
+
+    Map<GameSessionId, GameStateHub> hubs() {
+        return hubs;
+    }
+
+    void offer(GameStateHub hub) {
+        ready.offer(hub);
+    }
+
+    /**
+     * Processes every hub of this shard once (polling mode).
+     */
+    void tick(long now) {
+        if (hubs.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        for (GameStateHub hub : hubs.values()) {
+            process(hub, now);
+        }
+        record(System.nanoTime() - started);
+    }
+
+    /**
+     * Waits up to {@code maxWaitMillis} for a queued hub, then drains the queue.
+     */
+    void runScheduled(long maxWaitMillis) throws InterruptedException {
+        GameStateHub hub = ready.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+        if (hub == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        while (hub != null) {
+            // A hub can still be queued after its session was removed
+            if (hubs.get(hub.session().sessionId()) == hub) {
+                process(hub, System.currentTimeMillis());
+            } else {
+                hub.cancelWakeup();
+            }
+            hub = ready.poll();
+        }
+        record(System.nanoTime() - started);
+    }
+
+    GameSessionRuntime.ShardMetrics metrics() {
+        return new GameSessionRuntime.ShardMetrics(
+            index,
+            hubs.size(),
+            ready.size(),
+            passes.sum(),
+            lastPassNanos,
+            maxPassNanos,
+            totalPassNanos.sum()
+        );
+    }
+
+    private void process(GameStateHub hub, long now) {
+        try {
+            hub.process(now);
+        } catch (Throwable t) {
+            System.err.println("[SESSION][" + hub.session().sessionId() + "] Uncaught error while processing: " + t);
+            t.printStackTrace();
+        }
+    }
+
+    private void record(long elapsedNanos) {
+        passes.increment();
+        totalPassNanos.add(elapsedNanos);
+        lastPassNanos = elapsedNanos;
+        if (elapsedNanos > maxPassNanos) {
+            maxPassNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.Objects;
+import java.util.Set;
+
+import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
+import teamnova.omok.glue.game.session.model.Stone;
+
+/**
+ * Board service that answers five-in-a-row queries from the session's {@code BitBoard}
+ * with shift-and-AND over whole rows instead of walking cells. Results match
+ * {@link BoardService}, including wildcard handling via {@link Stone#countsForPlayerSequence}.
+ */
+public class BitboardBoardService extends BoardService {
+    @Override
+    public boolean hasFiveInARow(GameSessionBoardAccess store, int x, int y, Stone stone) {
+        if (stone == null || stone == Stone.EMPTY || stone.isBlocking()) {
+            return false;
+        }
+        if (!stone.isPlayerStone()) {
+            return false;
+        }
+        return store.bitBoard().hasFiveThrough(x, y, stone);
+    }
+
+    @Override
+    public boolean hasFiveInARowMatching(GameSessionBoardAccess store,
+                                         int x,
+                                         int y,
+                                         Set<Stone> allowedStones) {
+        Objects.requireNonNull(store, "store");
+        Objects.requireNonNull(allowedStones, "allowedStones");
+        if (allowedStones.isEmpty()) {
+            return false;
+        }
+        Stone target = stoneAt(store, x, y);
+        if (target == null || !allowedStones.contains(target)) {
+            return false;
+        }
+        return store.bitBoard().hasFiveThroughMatching(x, y, allowedStones);
+    }
+
+    @Override
+    public int collectCells(GameSessionBoardAccess store, int stoneMask, int[] out) {
+        Objects.requireNonNull(store, "store");
+        Objects.requireNonNull(out, "out");
+        return store.bitBoard().collect(stoneMask, out);
+    }
+
+    @Override
+    public int findFiveInARow(GameSessionBoardAccess store, Stone stone) {
+        Objects.requireNonNull(store, "store");
+        if (stone == null || !stone.isPlayerStone()) {
+            return -1;
+        }
+        return store.bitBoard().findFive(stone);
+    }
+}
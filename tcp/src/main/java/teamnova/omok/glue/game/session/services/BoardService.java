@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
 
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
@@ -18,6 +19,13 @@ import teamnova.omok.glue.game.session.model.vo.StonePlacementMetadata;
  * Stateless utility service for manipulating Omok board data.
  */
 public class BoardService implements GameBoardService {
+    private static final int[][] LINE_DIRECTIONS = {
+        {1, 0},
+        {0, 1},
+        {1, 1},
+        {1, -1}
+    };
+
     @Override
     public void reset(GameSessionBoardAccess store) {
         store.clear();
@@ -95,13 +103,7 @@ public class BoardService implements GameBoardService {
                                           int x,
                                           int y,
                                           Predicate<Stone> matcher) {
-        int[][] directions = {
-            {1, 0},
-            {0, 1},
-            {1, 1},
-            {1, -1}
-        };
-        for (int[] dir : directions) {
+        for (int[] dir : LINE_DIRECTIONS) {
             int count = 1;
             count += countDirection(store, x, y, dir[0], dir[1], matcher);
             count += countDirection(store, x, y, -dir[0], -dir[1], matcher);
@@ -112,6 +114,24 @@ public class BoardService implements GameBoardService {
         return false;
     }
 
+    @Override
+    public int findFiveInARow(GameSessionBoardAccess store, Stone stone) {
+        Objects.requireNonNull(store, "store");
+        int width = store.width();
+        int height = store.height();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (store.stoneAt(x, y) != stone) {
+                    continue;
+                }
+                if (hasFiveInARow(store, x, y, stone)) {
+                    return y * width + x;
+                }
+            }
+        }
+        return -1;
+    }
+
     private int countDirection(GameSessionBoardAccess store,
                                int startX,
                                int startY,
@@ -160,6 +180,115 @@ public class BoardService implements GameBoardService {
         return groups;
     }
 
+    @Override
+    public int largestGroupSize(GameSessionBoardAccess board, Connectivity connectivity, Stone stone) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(connectivity, "connectivity");
+        Objects.requireNonNull(stone, "stone");
+        if (stone == Stone.EMPTY) {
+            return 0;
+        }
+        return board.connectivityIndex(connectivity).largestGroupSize(stone);
+    }
+
+    @Override
+    public int enclosedCells(GameSessionBoardAccess board, Connectivity connectivity, int[] out) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(connectivity, "connectivity");
+        Objects.requireNonNull(out, "out");
+        return board.connectivityIndex(connectivity).collectEnclosedCells(out);
+    }
+
+    @Override
+    public int collectCells(GameSessionBoardAccess board, int stoneMask, int[] out) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(out, "out");
+        int width = board.width();
+        int height = board.height();
+        int count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if ((board.stoneAt(x, y).mask() & stoneMask) != 0) {
+                    out[count++] = y * width + x;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int countNeighbors(GameSessionBoardAccess board, int index, Connectivity connectivity, int stoneMask) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(connectivity, "connectivity");
+        int width = board.width();
+        int x = index % width;
+        int y = index / width;
+        int count = 0;
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (board.isWithinBounds(nx, ny) && (board.stoneAt(nx, ny).mask() & stoneMask) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public int randomNeighbor(GameSessionBoardAccess board,
+                              int index,
+                              Connectivity connectivity,
+                              int stoneMask,
+                              RandomGenerator random) {
+        Objects.requireNonNull(random, "random");
+        int matches = countNeighbors(board, index, connectivity, stoneMask);
+        if (matches == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(matches);
+        int width = board.width();
+        int x = index % width;
+        int y = index / width;
+        for (int[] offset : connectivity.offsets()) {
+            int nx = x + offset[0];
+            int ny = y + offset[1];
+            if (board.isWithinBounds(nx, ny) && (board.stoneAt(nx, ny).mask() & stoneMask) != 0 && pick-- == 0) {
+                return ny * width + nx;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int sampleCells(GameSessionBoardAccess board, int stoneMask, int[] out, int limit, RandomGenerator random) {
+        Objects.requireNonNull(random, "random");
+        int count = collectCells(board, stoneMask, out);
+        int picked = Math.min(Math.max(0, limit), count);
+        // Partial Fisher-Yates: only the first `picked` slots need to be shuffled
+        for (int i = 0; i < picked; i++) {
+            int j = i + random.nextInt(count - i);
+            int swap = out[i];
+            out[i] = out[j];
+            out[j] = swap;
+        }
+        return picked;
+    }
+
+    @Override
+    public void setStones(GameSessionBoardAccess board,
+                          int[] indices,
+                          int count,
+                          Stone stone,
+                          StonePlacementMetadata metadata) {
+        Objects.requireNonNull(board, "board");
+        Objects.requireNonNull(indices, "indices");
+        int width = board.width();
+        for (int i = 0; i < count; i++) {
+            int index = indices[i];
+            setStone(board, index % width, index / width, stone, metadata);
+        }
+    }
+
     private List<BoardPoint> traverseGroup(GameSessionBoardAccess board,
                                            int startX,
                                            int startY,
@@ -8,11 +8,24 @@ import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionOutcomeAccess;
 import teamnova.omok.glue.game.session.model.PlayerResult;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.DirtyCellTracker;
 
 /**
  * Utility that scans the board for five-in-a-row sequences and finalizes outcomes when found.
+ * Only lines through cells changed since the previous check are re-evaluated; a winning line
+ * that touches none of them would already have been found then. When too many cells changed
+ * the board's {@link DirtyCellTracker} overflows and the whole board is scanned instead.
  */
 public final class BoardVictoryResolver {
+    private static final int[][] LINE_DIRECTIONS = {
+        {1, 0},
+        {0, 1},
+        {1, 1},
+        {1, -1}
+    };
+    // A five-long line either contains a changed cell or ends right next to it
+    private static final int LINE_REACH = 5;
+
     private BoardVictoryResolver() { }
 
     public static boolean resolve(GameSessionBoardAccess board,
@@ -29,38 +42,71 @@ public final class BoardVictoryResolver {
         if (userIds == null || userIds.isEmpty()) {
             return false;
         }
-
-        for (int index = 0; index < userIds.size(); index++) {
-            Stone stone = Stone.fromPlayerOrder(index);
-            if (stone == Stone.EMPTY) {
-                continue;
-            }
-            WinningLine line = findWinningLine(board, boardService, stone);
-            if (line == null) {
-                continue;
+        DirtyCellTracker dirty = board.dirtyCells();
+        if (dirty.isEmpty()) {
+            return false;
+        }
+        boolean fullScan = dirty.overflowed();
+        try {
+            for (int index = 0; index < userIds.size(); index++) {
+                Stone stone = Stone.fromPlayerOrder(index);
+                if (stone == Stone.EMPTY) {
+                    continue;
+                }
+                WinningLine line = fullScan
+                    ? findWinningLine(board, boardService, stone)
+                    : findWinningLineNear(board, boardService, stone, dirty);
+                if (line == null) {
+                    continue;
+                }
+                finalizeOutcomes(outcomes, userIds, userIds.get(index), stone, line.x(), line.y(), sessionId);
+                return true;
             }
-            finalizeOutcomes(outcomes, userIds, userIds.get(index), stone, line.x(), line.y(), sessionId);
-            return true;
+            return false;
+        } finally {
+            dirty.reset();
         }
-        return false;
     }
 
     private static WinningLine findWinningLine(GameSessionBoardAccess board,
                                                GameBoardService boardService,
                                                Stone stone) {
+        int index = boardService.findFiveInARow(board, stone);
+        if (index < 0) {
+            return null;
+        }
+        return new WinningLine(index % board.width(), index / board.width());
+    }
+
+    private static WinningLine findWinningLineNear(GameSessionBoardAccess board,
+                                                   GameBoardService boardService,
+                                                   Stone stone,
+                                                   DirtyCellTracker dirty) {
         int width = board.width();
-        int height = board.height();
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                if (board.stoneAt(x, y) != stone) {
-                    continue;
-                }
-                if (boardService.hasFiveInARow(board, x, y, stone)) {
-                    return new WinningLine(x, y);
+        int best = -1;
+        for (int i = 0; i < dirty.count(); i++) {
+            int changed = dirty.index(i);
+            int cx = changed % width;
+            int cy = changed / width;
+            for (int[] dir : LINE_DIRECTIONS) {
+                for (int k = -LINE_REACH; k <= LINE_REACH; k++) {
+                    int x = cx + k * dir[0];
+                    int y = cy + k * dir[1];
+                    if (!board.isWithinBounds(x, y)) {
+                        continue;
+                    }
+                    int cell = y * width + x;
+                    // Keep the row-major first hit so the reported cell matches a full scan
+                    if (best >= 0 && cell >= best) {
+                        continue;
+                    }
+                    if (board.stoneAt(x, y) == stone && boardService.hasFiveInARow(board, x, y, stone)) {
+                        best = cell;
+                    }
                 }
             }
         }
-        return null;
+        return best < 0 ? null : new WinningLine(best % width, best / width);
     }
 
     private static void finalizeOutcomes(GameSessionOutcomeAccess outcomes,
@@ -0,0 +1,56 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import teamnova.omok.glue.data.model.UserData;
+import teamnova.omok.glue.manager.DataManager;
+
+/**
+ * Resolves participant profiles before a game session is built, so the caller's thread never
+ * waits on the database.
+ */
+public final class GameSessionBootstrapService {
+    private static final Executor LOOKUPS = Executors.newVirtualThreadPerTaskExecutor();
+
+    private GameSessionBootstrapService() {
+    }
+
+    /**
+     * Looks up every user concurrently, one virtual thread each. The result keeps the order of
+     * {@code userIds}; users that cannot be read resolve to {@link DataManager#getDefaultUser()}.
+     */
+    public static CompletableFuture<List<UserData>> resolveParticipants(List<String> userIds) {
+        return resolveParticipants(userIds,
+            userId -> DataManager.getInstance().findUser(userId, DataManager.getDefaultUser()),
+            LOOKUPS);
+    }
+
+    static CompletableFuture<List<UserData>> resolveParticipants(List<String> userIds,
+                                                                 Function<String, UserData> lookup,
+                                                                 Executor executor) {
+        Objects.requireNonNull(userIds, "userIds");
+        List<CompletableFuture<UserData>> lookups = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            lookups.add(CompletableFuture.supplyAsync(() -> lookup.apply(userId), executor)
+                .exceptionally(e -> {
+                    System.err.println("[GameSessionBootstrap] failed to resolve " + userId + ": " + e);
+                    return null;
+                }));
+        }
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+            .thenApply(ignored -> {
+                List<UserData> participants = new ArrayList<>(lookups.size());
+                for (CompletableFuture<UserData> user : lookups) {
+                    UserData resolved = user.join();
+                    participants.add(resolved != null ? resolved : DataManager.getDefaultUser());
+                }
+                return participants;
+            });
+    }
+}
@@ -1,15 +1,22 @@
 package teamnova.omok.glue.game.session.services;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import teamnova.omok.glue.client.session.ClientSessionManager;
+import teamnova.omok.glue.client.state.manage.ClientStateType;
+import teamnova.omok.glue.data.model.UserData;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.states.GameStateHub;
+import teamnova.omok.glue.manager.MatchingManager;
 import teamnova.omok.modules.matching.models.MatchGroup;
+import teamnova.omok.modules.matching.models.MatchTicket;
 
 /**
  * Stateless helpers for creating and registering new game sessions.
@@ -19,15 +26,73 @@ public final class GameSessionCreationService {
     private GameSessionCreationService() {
     }
 
-    public static void createFromGroup(GameSessionDependencies deps, MatchGroup group) {
+    /**
+     * Resolves the group's participants off the calling thread, then builds and registers the
+     * session. The returned future completes with the registered session, or with null when a
+     * participant disconnected or left matchmaking meanwhile; the others are then queued again.
+     */
+    public static CompletableFuture<GameSession> createFromGroup(GameSessionDependencies deps, MatchGroup group) {
+        return createFromGroup(deps, group, GameSessionBootstrapService::resolveParticipants,
+            GameSessionCreationService::isStillMatching, ticket -> MatchingManager.getInstance().enqueue(ticket));
+    }
+
+    static CompletableFuture<GameSession> createFromGroup(GameSessionDependencies deps,
+                                                          MatchGroup group,
+                                                          Function<List<String>, CompletableFuture<List<UserData>>> resolver,
+                                                          Predicate<String> stillMatching,
+                                                          Consumer<MatchTicket> requeue) {
         Objects.requireNonNull(deps, "deps");
         Objects.requireNonNull(group, "group");
 
-        GameSession session = new GameSession(group.ids());
+        List<String> userIds = List.copyOf(group.ids());
+        Map<String, Integer> knownScores = new HashMap<>();
+        group.tickets().forEach(ticket -> knownScores.put(ticket.id(), ticket.rating()));
 
+        return resolver.apply(userIds)
+            .thenApply(participants -> register(deps, new GameSession(userIds, participants), knownScores,
+                group, stillMatching, requeue))
+            .whenComplete((session, error) -> {
+                if (error != null) {
+                    System.err.println("[GameSessionCreation] failed to create session for " + userIds + ": " + error);
+                }
+            });
+    }
+
+    private static boolean isStillMatching(String userId) {
+        return ClientSessionManager.getInstance()
+            .findSession(userId)
+            .map(handle -> handle.getStateHub().currentType() == ClientStateType.MATCHING)
+            .orElse(false);
+    }
+
+    /**
+     * The session is saved before participants are checked, so a disconnect from here on reaches
+     * it through the usual lifecycle path, and a failed check can remove it before anyone was
+     * bound. A matchmaking cancel processed after the check counts as arriving after the match:
+     * the player still enters the game and leaves it like any other player.
+     */
+    private static GameSession register(GameSessionDependencies deps,
+                                        GameSession session,
+                                        Map<String, Integer> knownScores,
+                                        MatchGroup group,
+                                        Predicate<String> stillMatching,
+                                        Consumer<MatchTicket> requeue) {
         deps.repository().save(session);
         GameStateHub gameStateManager = deps.runtime().ensure(session);
 
+        List<String> gone = session.getUserIds().stream().filter(uid -> !stillMatching.test(uid)).toList();
+        if (!gone.isEmpty()) {
+            deps.runtime().remove(session);
+            deps.repository().removeById(session.sessionId());
+            System.out.println("[GameSessionCreation] " + gone + " stopped matching, requeueing the rest of " + group.ids());
+            for (MatchTicket ticket : group.tickets()) {
+                if (!gone.contains(ticket.id())) {
+                    requeue.accept(ticket);
+                }
+            }
+            return null;
+        }
+
         // Bind participants' client sessions to this new game session for scoped messaging
         for (String uid : session.getUserIds()) {
             ClientSessionManager.getInstance()
@@ -40,9 +105,7 @@ public final class GameSessionCreationService {
 
         deps.messenger().broadcastJoin(session);
 
-        Map<String, Integer> knownScores = new HashMap<>();
-        group.tickets().forEach(ticket -> knownScores.put(ticket.id(), ticket.rating()));
-
         session.setRuleIds(deps.ruleManager().prepareRules(knownScores));
+        return session;
     }
 }
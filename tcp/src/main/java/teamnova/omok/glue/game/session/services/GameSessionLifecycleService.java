@@ -8,15 +8,20 @@ import java.util.Objects;
 import teamnova.omok.glue.client.session.ClientSessionManager;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionPrompt;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionUpdate;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.vo.TurnTiming;
 import teamnova.omok.glue.game.session.states.GameStateHub;
+import teamnova.omok.glue.game.session.states.event.ParticipantPresenceEvent;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
 
 /**
  * Stateless helpers for disconnect and cleanup operations on game sessions.
+ * Callers on I/O threads only look the session up and hand a {@link ParticipantPresenceEvent}
+ * to its hub; {@link #applyPresence} then runs on the session's shard worker.
  */
 public final class GameSessionLifecycleService {
 
@@ -26,109 +31,107 @@ public final class GameSessionLifecycleService {
     public static void leaveByUser(GameSessionDependencies deps,
                                    SessionEventService events,
                                    String userId) {
-        Objects.requireNonNull(deps, "deps");
         Objects.requireNonNull(events, "events");
-        Objects.requireNonNull(userId, "userId");
-        deps.repository().findByUserId(userId).ifPresent(session -> {
-            boolean newlyDisconnected;
-            session.lock().lock();
-            try {
-                newlyDisconnected = session.markDisconnected(userId);
-            } finally {
-                session.lock().unlock();
-            }
-            if (newlyDisconnected) {
-                deps.messenger().broadcastPlayerDisconnected(session, userId, "LEFT");
-            }
-
-            cleanupIfSessionFullyDisconnected(deps, session);
-        });
+        submitPresence(deps, userId, ParticipantPresenceEvent.Kind.LEFT);
     }
 
     public static void handleClientDisconnected(GameSessionDependencies deps,
                                                SessionEventService events,
                                                String userId) {
-        Objects.requireNonNull(deps, "deps");
         Objects.requireNonNull(events, "events");
-        Objects.requireNonNull(userId, "userId");
-        deps.repository().findByUserId(userId).ifPresent(session -> {
-            // 기존에는 sessionMarkDiscconnected에서 신규 연결 종료만 broadcast했으나 지금은 다 해보는중
-            session.lock().lock();
-            try {
-                session.markDisconnected(userId);
-            } finally {
-                session.lock().unlock();
-            }
-            deps.messenger().broadcastPlayerDisconnected(session, userId, "DISCONNECTED");
-            cleanupIfSessionFullyDisconnected(deps, session);
-        });
+        submitPresence(deps, userId, ParticipantPresenceEvent.Kind.DISCONNECTED);
     }
 
+    /**
+     * @return true when the user still has a session; the snapshot is delivered by its worker
+     */
     public static boolean handleClientReconnected(GameSessionDependencies deps,
                                                   SessionEventService events,
                                                   String userId) {
-        Objects.requireNonNull(deps, "deps");
         Objects.requireNonNull(events, "events");
-        Objects.requireNonNull(userId, "userId");
         System.out.println("[RECONNECT][Lifecycle] attempt user=" + userId);
+        return submitPresence(deps, userId, ParticipantPresenceEvent.Kind.RECONNECTED);
+    }
+
+    private static boolean submitPresence(GameSessionDependencies deps,
+                                          String userId,
+                                          ParticipantPresenceEvent.Kind kind) {
+        Objects.requireNonNull(deps, "deps");
+        Objects.requireNonNull(userId, "userId");
         return deps.repository().findByUserId(userId)
             .map(session -> {
-                session.lock().lock();
-                try {
-                    session.clearDisconnected(userId);
-                } finally {
-                    session.lock().unlock();
+                deps.runtime().ensure(session).submitPresence(new ParticipantPresenceEvent(userId, kind));
+                return true;
+            })
+            .orElse(false);
+    }
+
+    /**
+     * Applies a presence change. Must run on the shard worker that owns {@code hub}.
+     */
+    public static void applyPresence(GameSessionServices services,
+                                     GameSessionStateContextService contextService,
+                                     GameStateHub hub,
+                                     GameSession session,
+                                     ParticipantPresenceEvent event) {
+        String userId = event.userId();
+        switch (event.kind()) {
+            case LEFT -> {
+                if (session.markDisconnected(userId)) {
+                    services.messenger().broadcastPlayerDisconnected(session, userId, "LEFT");
                 }
+                cleanupIfSessionFullyDisconnected(services, session);
+            }
+            case DISCONNECTED -> {
+                // 기존에는 sessionMarkDiscconnected에서 신규 연결 종료만 broadcast했으나 지금은 다 해보는중
+                session.markDisconnected(userId);
+                services.messenger().broadcastPlayerDisconnected(session, userId, "DISCONNECTED");
+                cleanupIfSessionFullyDisconnected(services, session);
+            }
+            case RECONNECTED -> {
+                session.clearDisconnected(userId);
                 try {
-                    GameStateHub manager = deps.runtime().ensure(session);
                     ClientSessionManager.getInstance()
                         .findSession(userId)
                         .ifPresent(handle -> {
                             handle.bindGameSession(session.sessionId());
-                            handle.enterGameSession(manager);
+                            handle.enterGameSession(hub);
                         });
                 } catch (Throwable ignore) {
                     // best-effort bind
                 }
                 System.out.println("[RECONNECT][Lifecycle] rebound user=" + userId
                     + " session=" + session.sessionId());
-                deliverTurnAndBoard(deps, session, userId);
+                deliverTurnAndBoard(services, contextService, session, userId);
                 System.out.println("[RECONNECT][Lifecycle] delivered turn and board snapshot for user=" + userId);
-                return true;
-            })
-            .orElse(false);
+            }
+        }
     }
 
-    private static void cleanupIfSessionFullyDisconnected(GameSessionDependencies deps,
+    private static void cleanupIfSessionFullyDisconnected(GameSessionServices services,
                                                           GameSession session) {
         Objects.requireNonNull(session, "session");
-        boolean shouldCleanup;
-        session.lock().lock();
-        try {
-            shouldCleanup = !session.getUserIds().isEmpty()
-                && session.disconnectedUsersView().containsAll(session.getUserIds());
-        } finally {
-            session.lock().unlock();
-        }
+        boolean shouldCleanup = !session.getUserIds().isEmpty()
+            && session.disconnectedUsersView().containsAll(session.getUserIds());
         if (!shouldCleanup) {
             return;
         }
-        finalizeSession(deps, session);
+        finalizeSession(services, session);
     }
 
-    private static void finalizeSession(GameSessionDependencies deps,
+    private static void finalizeSession(GameSessionServices services,
                                         GameSession session) {
         List<String> userIds = List.copyOf(session.getUserIds());
         var sessionId = session.sessionId();
-        deps.turnTimeoutScheduler().cancel(sessionId);
-        deps.decisionTimeoutScheduler().cancel(sessionId);
-        deps.runtime().remove(sessionId);
-        boolean removed = deps.repository().removeById(sessionId).isPresent();
+        services.turnTimeoutScheduler().cancel(sessionId);
+        services.decisionTimeoutScheduler().cancel(sessionId);
+        services.runtime().remove(sessionId);
+        boolean removed = services.repository().removeById(sessionId).isPresent();
         if (!removed) {
             return;
         }
         try {
-            deps.messenger().broadcastSessionTerminated(session, userIds);
+            services.messenger().broadcastSessionTerminated(session, userIds);
         } catch (Throwable ignore) {
             // ensure cleanup continues even if broadcasting fails
         }
@@ -147,19 +150,22 @@ public final class GameSessionLifecycleService {
         }
     }
 
-    private static void deliverTurnAndBoard(GameSessionDependencies deps, GameSession session, String userId) {
+    private static void deliverTurnAndBoard(GameSessionServices services,
+                                            GameSessionStateContextService contextService,
+                                            GameSession session,
+                                            String userId) {
         TurnSnapshot snapshot = null;
         try {
-            snapshot = deps.turnService().snapshot(session);
+            snapshot = services.turnService().snapshot(session);
         } catch (Throwable ignore) {
             // snapshot best-effort
         }
         if (snapshot != null) {
-            deps.messenger().deliverTurnStarted(session, adjustSnapshotForRemaining(snapshot), userId);
+            services.messenger().deliverTurnStarted(session, adjustSnapshotForRemaining(snapshot), userId);
         }
-        deps.messenger().deliverBoardSnapshot(session, userId);
+        services.messenger().deliverBoardSnapshot(session, userId);
         if (session.getGameEndedAt() > 0) {
-            deliverPostGameState(deps, session, userId);
+            deliverPostGameState(services, contextService, session, userId);
         }
     }
 
@@ -181,17 +187,18 @@ public final class GameSessionLifecycleService {
         );
     }
 
-    private static void deliverPostGameState(GameSessionDependencies deps,
+    private static void deliverPostGameState(GameSessionServices services,
+                                             GameSessionStateContextService contextService,
                                              GameSession session,
                                              String userId) {
         GameSessionStateContext context = new GameSessionStateContext(session);
-        deps.messenger().deliverGameCompleted(session, userId);
-        long deadline = deps.contextService().postGame().decisionDeadline(context);
+        services.messenger().deliverGameCompleted(session, userId);
+        long deadline = contextService.postGame().decisionDeadline(context);
         if (deadline > 0) {
-            deps.messenger().deliverPostGamePrompt(session, new PostGameDecisionPrompt(deadline), userId);
+            services.messenger().deliverPostGamePrompt(session, new PostGameDecisionPrompt(deadline), userId);
         }
         PostGameDecisionUpdate update = buildPostGameDecisionUpdate(context);
-        deps.messenger().deliverPostGameDecisionUpdate(session, update, userId);
+        services.messenger().deliverPostGameDecisionUpdate(session, update, userId);
     }
 
     private static PostGameDecisionUpdate buildPostGameDecisionUpdate(GameSessionStateContext context) {
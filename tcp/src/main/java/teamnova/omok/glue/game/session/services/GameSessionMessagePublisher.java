@@ -2,7 +2,11 @@ package teamnova.omok.glue.game.session.services;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import teamnova.omok.core.nio.SharedFrame;
+import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
+import teamnova.omok.glue.client.session.model.BoardSyncState;
 import teamnova.omok.glue.client.session.services.ClientSessionStore;
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
@@ -10,12 +14,14 @@ import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.GameSessionManager;
 import teamnova.omok.glue.game.session.log.GameSessionLogger;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
+import teamnova.omok.glue.game.session.model.messages.BoardRevision;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionPrompt;
 import teamnova.omok.glue.game.session.model.messages.PostGameDecisionUpdate;
 import teamnova.omok.glue.game.session.model.result.ReadyResult;
 import teamnova.omok.glue.game.session.model.runtime.TurnPersonalFrame;
 import teamnova.omok.glue.handler.register.Type;
+import teamnova.omok.glue.message.encoder.BoardDeltaMessageEncoder;
 import teamnova.omok.glue.message.encoder.BoardSnapshotMessageEncoder;
 import teamnova.omok.glue.message.encoder.GameSessionCompletedMessageEncoder;
 import teamnova.omok.glue.message.encoder.GameSessionPlayerDisconnectedMessageEncoder;
@@ -32,6 +38,7 @@ import teamnova.omok.glue.message.encoder.TurnStartedMessageEncoder;
 /**
  * Encodes and dispatches messages that relate to in-game session events.
  * All outbound traffic should flow through this publisher so we can maintain consistent logging.
+ * Broadcasts encode each frame once into a {@link SharedFrame} and queue a view of it per recipient.
  */
 public final class GameSessionMessagePublisher implements GameSessionMessenger {
     private final ClientSessionStore store;
@@ -88,12 +95,20 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
 
     @Override
     public void broadcastBoardSnapshot(GameSessionAccess session) {
-        byte[] payload = buildBoardSnapshotPayload(session);
-        if (session != null) {
-            System.out.println("[RECONNECT][Messenger] broadcasting board snapshot session="
-                    + session.sessionId() + " recipients=" + session.getUserIds());
+        Objects.requireNonNull(session, "session");
+        BoardRevision revision = session.boardBroadcast().publish(transformedBoard(session), System.currentTimeMillis());
+        List<String> recipients = session.getUserIds();
+        System.out.println("[RECONNECT][Messenger] broadcasting board snapshot session="
+                + session.sessionId() + " recipients=" + recipients);
+        logOutbound(session, Type.BOARD_UPDATED, "broadcast", 0L, recipients, "seq=" + revision.sequence());
+        BoardPayloads payloads = new BoardPayloads(session, revision);
+        try {
+            for (String uid : recipients) {
+                deliverBoard(session, uid, payloads, false);
+            }
+        } finally {
+            payloads.release();
         }
-        broadcast(session, Type.BOARD_UPDATED, payload);
     }
 
     @Override
@@ -117,8 +132,17 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
 
     @Override
     public void deliverBoardSnapshot(GameSessionAccess session, String targetUserId) {
-        byte[] payload = buildBoardSnapshotPayload(session);
-        sendToUser(session, targetUserId, Type.BOARD_UPDATED, payload);
+        if (targetUserId == null) {
+            return;
+        }
+        BoardRevision revision = session.boardBroadcast().keyframe(transformedBoard(session), System.currentTimeMillis());
+        logOutbound(session, Type.BOARD_UPDATED, "direct", 0L, List.of(targetUserId), "seq=" + revision.sequence());
+        BoardPayloads payloads = new BoardPayloads(session, revision);
+        try {
+            deliverBoard(session, targetUserId, payloads, true);
+        } finally {
+            payloads.release();
+        }
     }
 
     @Override
@@ -192,8 +216,13 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
         if (participants == null || participants.isEmpty()) {
             return;
         }
-        for (String uid : participants) {
-            deliverInGame(session, uid, type, payload);
+        SharedFrame frame = SharedFrame.encode(type, 0L, payload);
+        try {
+            for (String uid : participants) {
+                resolveInGame(session, uid, type).ifPresent(handle -> handle.enqueueShared(frame));
+            }
+        } finally {
+            frame.release();
         }
     }
 
@@ -203,8 +232,13 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
         if (recipients == null || recipients.isEmpty()) {
             return;
         }
-        for (String uid : recipients) {
-            deliver(uid, type, payload);
+        SharedFrame frame = SharedFrame.encode(type, 0L, payload);
+        try {
+            for (String uid : recipients) {
+                store.findByUser(uid).ifPresent(handle -> handle.enqueueShared(frame));
+            }
+        } finally {
+            frame.release();
         }
     }
 
@@ -221,33 +255,62 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
         deliverInGame(session, userId, type, payload);
     }
 
-    private void deliver(String userId, Type type, byte[] payload) {
-        store.findByUser(userId)
-                .ifPresent(session -> session.enqueueResponse(type, 0L, payload));
-    }
-
     private void deliverInGame(GameSessionAccess gameSession,
                                String userId,
                                Type type,
                                byte[] payload) {
+        resolveInGame(gameSession, userId, type).ifPresent(handle -> handle.enqueueResponse(type, 0L, payload));
+    }
+
+    /**
+     * Sends JSON snapshots to connections that did not negotiate deltas. The others get a
+     * delta when it directly follows the last board they received, and a keyframe otherwise.
+     * A revision they already have is skipped unless it was asked for as a direct snapshot.
+     */
+    private void deliverBoard(GameSessionAccess gameSession,
+                              String userId,
+                              BoardPayloads payloads,
+                              boolean snapshot) {
+        resolveInGame(gameSession, userId, Type.BOARD_UPDATED).ifPresent(handle -> {
+            BoardSyncState sync = handle.boardSync();
+            if (!sync.deltasEnabled()) {
+                handle.enqueueShared(payloads.json());
+                return;
+            }
+            BoardRevision revision = payloads.revision;
+            switch (sync.advance(gameSession.sessionId(), revision.sequence())) {
+                case STALE -> {
+                    if (snapshot) {
+                        handle.enqueueShared(payloads.keyframe());
+                    }
+                }
+                case NEXT -> handle.enqueueShared(revision.hasDelta() ? payloads.delta() : payloads.keyframe());
+                case GAP -> handle.enqueueShared(payloads.keyframe());
+            }
+        });
+    }
+
+    private Optional<ClientSessionHandle> resolveInGame(GameSessionAccess gameSession,
+                                                        String userId,
+                                                        Type type) {
         if (userId == null) {
-            return;
+            return Optional.empty();
         }
-        store.findByUser(userId).ifPresent(handle -> {
+        return store.findByUser(userId).filter(handle -> {
             String handleSessionStr = handle.currentGameSessionId() != null
                     ? handle.currentGameSessionId().toString()
                     : "null";
             if (gameSession == null || gameSession.sessionId().equals(handle.currentGameSessionId())) {
                 System.out.println("[RECONNECT][Messenger] deliver type=" + type
                         + " user=" + userId + " session=" + handleSessionStr);
-                handle.enqueueResponse(type, 0L, payload);
-            } else {
-                System.out.println("[RECONNECT][Messenger] mismatch user=" + userId
-                        + " expected=" + gameSession.sessionId()
-                        + " handleSession=" + handleSessionStr
-                        + " type=" + type + " -> forcing leave");
-                GameSessionManager.getInstance().leaveByUser(userId);
+                return true;
             }
+            System.out.println("[RECONNECT][Messenger] mismatch user=" + userId
+                    + " expected=" + gameSession.sessionId()
+                    + " handleSession=" + handleSessionStr
+                    + " type=" + type + " -> forcing leave");
+            GameSessionManager.getInstance().leaveByUser(userId);
+            return false;
         });
     }
 
@@ -260,10 +323,55 @@ public final class GameSessionMessagePublisher implements GameSessionMessenger {
         GameSessionLogger.outbound(session, type, channel, requestId, recipients, details);
     }
 
-    private byte[] buildBoardSnapshotPayload(GameSessionAccess session) {
+    private byte[] transformedBoard(GameSessionAccess session) {
         byte[] boardBytes = boardService.snapshot(session);
-        boardBytes = ruleService.transformBoard(session, boardBytes);
-        BoardSnapshotUpdate update = new BoardSnapshotUpdate(boardBytes, System.currentTimeMillis());
-        return BoardSnapshotMessageEncoder.encode(session, update);
+        return ruleService.transformBoard(session, boardBytes);
+    }
+
+    /**
+     * Frames of one board revision, each encoded at most once however many recipients need it.
+     * {@link #release()} drops the publisher's reference to every frame that was built.
+     */
+    private static final class BoardPayloads {
+        private final GameSessionAccess session;
+        private final BoardRevision revision;
+        private SharedFrame json;
+        private SharedFrame keyframe;
+        private SharedFrame delta;
+
+        private BoardPayloads(GameSessionAccess session, BoardRevision revision) {
+            this.session = session;
+            this.revision = revision;
+        }
+
+        SharedFrame json() {
+            if (json == null) {
+                json = SharedFrame.encode(Type.BOARD_UPDATED, 0L,
+                        BoardSnapshotMessageEncoder.encode(session, new BoardSnapshotUpdate(revision.cells(), revision.updatedAt())));
+            }
+            return json;
+        }
+
+        SharedFrame keyframe() {
+            if (keyframe == null) {
+                keyframe = SharedFrame.encode(Type.BOARD_DELTA, 0L, BoardDeltaMessageEncoder.encodeKeyframe(session, revision));
+            }
+            return keyframe;
+        }
+
+        SharedFrame delta() {
+            if (delta == null) {
+                delta = SharedFrame.encode(Type.BOARD_DELTA, 0L, BoardDeltaMessageEncoder.encodeDelta(session, revision));
+            }
+            return delta;
+        }
+
+        void release() {
+            for (SharedFrame frame : new SharedFrame[]{json, keyframe, delta}) {
+                if (frame != null) {
+                    frame.release();
+                }
+            }
+        }
     }
 }
@@ -1,11 +1,13 @@
 package teamnova.omok.glue.game.session.services;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 import teamnova.omok.glue.client.session.ClientSessionManager;
+import teamnova.omok.glue.data.model.UserData;
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
 import teamnova.omok.glue.game.session.interfaces.GameSessionRepository;
 import teamnova.omok.glue.game.session.interfaces.GameSessionRuntime;
@@ -14,7 +16,6 @@ import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.states.GameStateHub;
 import teamnova.omok.glue.manager.DataManager;
-import teamnova.omok.glue.data.model.UserScoreData;
 import teamnova.omok.glue.rule.runtime.RuleManager;
 
 /**
@@ -34,8 +35,14 @@ public final class GameSessionRematchService {
         GameSessionRuntime runtime = services.runtime();
         GameSessionMessenger messenger = services.messenger();
 
-        GameSession rematch = new GameSession(participants);
-        Map<String, Integer> knownScores = collectParticipantScores(participants);
+        // Reuse the profiles the finished session already holds, plus the settled score changes;
+        // this runs on the shard worker, which must not wait on the database
+        List<UserData> users = participantsOf(previous, participants);
+        GameSession rematch = new GameSession(participants, users);
+        Map<String, Integer> knownScores = new HashMap<>();
+        for (int i = 0; i < participants.size(); i++) {
+            knownScores.put(participants.get(i), users.get(i).score());
+        }
         rematch.setRuleIds(RuleManager.getInstance().prepareRules(knownScores));
         repository.save(rematch);
         runtime.ensure(rematch);
@@ -44,14 +51,22 @@ public final class GameSessionRematchService {
         return rematch;
     }
 
-    private static Map<String, Integer> collectParticipantScores(List<String> participants) {
-        Map<String, Integer> knownScores = new HashMap<>();
-        DataManager dataManager = DataManager.getInstance();
+    private static List<UserData> participantsOf(GameSessionAccess previous, List<String> participants) {
+        Map<String, UserData> byId = new HashMap<>();
+        for (UserData user : previous.getUsers()) {
+            byId.put(user.id(), user);
+        }
+        List<UserData> users = new ArrayList<>(participants.size());
         for (String userId : participants) {
-            UserScoreData scoreData = dataManager.getUserScore(userId, UserScoreData.getDefault());
-            knownScores.put(userId, scoreData.score());
+            UserData user = byId.get(userId);
+            if (user == null) {
+                users.add(DataManager.getDefaultUser());
+                continue;
+            }
+            int settled = previous.settledScoreDeltaFor(userId);
+            users.add(new UserData(user.id(), user.name(), user.profileIconCode(), user.status(), user.score() + settled));
         }
-        return knownScores;
+        return users;
     }
 
     public static void finalizeAndJoin(GameSessionServices services, GameSession rematch) {
@@ -8,12 +8,14 @@ import java.util.Objects;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 
 /**
  * Coordinates hidden stone placements that are buffered by hidden placement rules.
  */
 public final class HiddenPlacementCoordinator {
-    private static final String BUFFER_KEY = "rules.hiddenPlacements";
+    private static final RuleStateKey<List<HiddenPlacement>> BUFFER =
+        RuleStateKey.of("rules.hiddenPlacements", ArrayList::new);
 
     public void queue(GameSessionRuleAccess access, HiddenPlacement placement) {
         Objects.requireNonNull(access, "access");
@@ -63,23 +65,12 @@ public final class HiddenPlacementCoordinator {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private List<HiddenPlacement> buffer(GameSessionRuleAccess access) {
-        Object stored = access.getRuleData(BUFFER_KEY);
-        if (stored instanceof List<?> list) {
-            return (List<HiddenPlacement>) list;
-        }
-        return null;
+        return access.peekRuleState(BUFFER);
     }
 
     private List<HiddenPlacement> ensureBuffer(GameSessionRuleAccess access) {
-        List<HiddenPlacement> buffer = buffer(access);
-        if (buffer != null) {
-            return buffer;
-        }
-        List<HiddenPlacement> created = new ArrayList<>();
-        access.putRuleData(BUFFER_KEY, created);
-        return created;
+        return access.ruleState(BUFFER);
     }
 
     public record HiddenPlacement(String userId,
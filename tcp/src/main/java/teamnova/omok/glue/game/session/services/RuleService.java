@@ -10,7 +10,6 @@ import java.util.Optional;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionTurnAccess;
 import teamnova.omok.glue.game.session.model.PlayerResult;
-import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.vo.TurnOrder;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.BoardSetupRule;
@@ -19,12 +18,10 @@ import teamnova.omok.glue.rule.api.OutcomeResolution;
 import teamnova.omok.glue.rule.api.OutcomeRule;
 import teamnova.omok.glue.rule.api.ParticipantOutcomeRule;
 import teamnova.omok.glue.rule.api.Rule;
-import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.TurnBudgetRule;
 import teamnova.omok.glue.rule.api.TurnOrderAdjustment;
 import teamnova.omok.glue.rule.api.TurnOrderRule;
 import teamnova.omok.glue.rule.api.TurnTimingRule;
-import teamnova.omok.glue.rule.runtime.RuleRegistry;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 public class RuleService {
@@ -50,15 +47,8 @@ public class RuleService {
         if (access == null) {
             return;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
-            return;
-        }
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule != null) {
-                rule.invoke(access, runtime);
-            }
+        for (Rule rule : access.ruleDispatchPlan().rulesFor(runtime.triggerKind())) {
+            rule.invoke(access, runtime);
         }
     }
 
@@ -66,20 +56,17 @@ public class RuleService {
         if (access == null || snapshot == null || snapshot.length == 0) {
             return snapshot;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
+        BoardTransformRule[] transforms = access.ruleDispatchPlan().boardTransforms();
+        if (transforms.length == 0) {
             return snapshot;
         }
         byte[] current = Arrays.copyOf(snapshot, snapshot.length);
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof BoardTransformRule transformRule) {
-                byte[] next = transformRule.transformBoard(access, current);
-                if (next == null) {
-                    break;
-                }
-                current = next;
+        for (BoardTransformRule transformRule : transforms) {
+            byte[] next = transformRule.transformBoard(access, current);
+            if (next == null) {
+                break;
             }
+            current = next;
         }
         return current;
     }
@@ -89,15 +76,8 @@ public class RuleService {
         if (access == null) {
             return;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
-            return;
-        }
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof BoardSetupRule setupRule) {
-                setupRule.setupBoard(access, runtime);
-            }
+        for (BoardSetupRule setupRule : access.ruleDispatchPlan().boardSetups()) {
+            setupRule.setupBoard(access, runtime);
         }
     }
 
@@ -106,16 +86,9 @@ public class RuleService {
         if (access == null) {
             return false;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
-            return false;
-        }
         boolean changed = false;
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof TurnTimingRule timingRule) {
-                changed |= timingRule.adjustTurnTiming(access, runtime);
-            }
+        for (TurnTimingRule timingRule : access.ruleDispatchPlan().turnTimings()) {
+            changed |= timingRule.adjustTurnTiming(access, runtime);
         }
         return changed;
     }
@@ -125,16 +98,9 @@ public class RuleService {
         if (access == null) {
             return false;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
-            return false;
-        }
         boolean changed = false;
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof TurnBudgetRule budgetRule) {
-                changed |= budgetRule.updateTurnBudget(access, runtime);
-            }
+        for (TurnBudgetRule budgetRule : access.ruleDispatchPlan().turnBudgets()) {
+            changed |= budgetRule.updateTurnBudget(access, runtime);
         }
         return changed;
     }
@@ -147,8 +113,8 @@ public class RuleService {
         if (runtime.stateContext() == null || runtime.stateContext().turns() == null) {
             return false;
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
+        TurnOrderRule[] orderRules = access.ruleDispatchPlan().turnOrders();
+        if (orderRules.length == 0) {
             return false;
         }
         GameSessionTurnAccess turns = runtime.stateContext().turns();
@@ -158,13 +124,10 @@ public class RuleService {
         }
         List<String> initialOrder = List.copyOf(orderSnapshot.userIds());
         TurnOrderAdjustment adjustment = TurnOrderAdjustment.of(initialOrder);
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof TurnOrderRule orderRule) {
-                TurnOrderAdjustment next = orderRule.adjustTurnOrder(access, runtime, adjustment);
-                if (next != null) {
-                    adjustment = next;
-                }
+        for (TurnOrderRule orderRule : orderRules) {
+            TurnOrderAdjustment next = orderRule.adjustTurnOrder(access, runtime, adjustment);
+            if (next != null) {
+                adjustment = next;
             }
         }
         if (adjustment == null) {
@@ -188,24 +151,21 @@ public class RuleService {
         if (access == null) {
             return Map.of();
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
+        ParticipantOutcomeRule[] participantRules = access.ruleDispatchPlan().participantOutcomes();
+        if (participantRules.length == 0) {
             return Map.of();
         }
         Map<String, PlayerResult> assignments = new LinkedHashMap<>();
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof ParticipantOutcomeRule participantRule) {
-                Map<String, PlayerResult> additions = participantRule.registerParticipantOutcomes(access, runtime);
-                if (additions == null || additions.isEmpty()) {
-                    continue;
-                }
-                additions.forEach((userId, result) -> {
-                    if (userId != null && result != null) {
-                        assignments.put(userId, result);
-                    }
-                });
+        for (ParticipantOutcomeRule participantRule : participantRules) {
+            Map<String, PlayerResult> additions = participantRule.registerParticipantOutcomes(access, runtime);
+            if (additions == null || additions.isEmpty()) {
+                continue;
             }
+            additions.forEach((userId, result) -> {
+                if (userId != null && result != null) {
+                    assignments.put(userId, result);
+                }
+            });
         }
         if (assignments.isEmpty()) {
             return Map.of();
@@ -218,8 +178,8 @@ public class RuleService {
         if (access == null) {
             return Optional.empty();
         }
-        List<RuleId> ruleIds = access.getRuleIds();
-        if (ruleIds == null || ruleIds.isEmpty()) {
+        OutcomeRule[] outcomeRules = access.ruleDispatchPlan().outcomes();
+        if (outcomeRules.length == 0) {
             return Optional.empty();
         }
 
@@ -236,26 +196,23 @@ public class RuleService {
         }
         Map<String, PlayerResult> working = new LinkedHashMap<>(baseline);
         boolean finalize = false;
-        for (RuleId id : ruleIds) {
-            Rule rule = RuleRegistry.getInstance().get(id);
-            if (rule instanceof OutcomeRule outcomeRule) {
-                OutcomeResolution snapshot = OutcomeResolution.of(working, finalize);
-                Optional<OutcomeResolution> candidate = outcomeRule.resolveOutcome(
-                    access,
-                    runtime,
-                    snapshot
-                );
-                if (candidate.isEmpty() || candidate.get().assignments().isEmpty()) {
-                    continue;
-                }
-                OutcomeResolution resolution = candidate.get();
-                resolution.assignments().forEach((userId, result) -> {
-                    if (userId != null && result != null) {
-                        working.put(userId, result);
-                    }
-                });
-                finalize = finalize || resolution.finalizeNow();
+        for (OutcomeRule outcomeRule : outcomeRules) {
+            OutcomeResolution snapshot = OutcomeResolution.of(working, finalize);
+            Optional<OutcomeResolution> candidate = outcomeRule.resolveOutcome(
+                access,
+                runtime,
+                snapshot
+            );
+            if (candidate.isEmpty() || candidate.get().assignments().isEmpty()) {
+                continue;
             }
+            OutcomeResolution resolution = candidate.get();
+            resolution.assignments().forEach((userId, result) -> {
+                if (userId != null && result != null) {
+                    working.put(userId, result);
+                }
+            });
+            finalize = finalize || resolution.finalizeNow();
         }
         Map<String, PlayerResult> assignments = new LinkedHashMap<>();
         working.forEach((userId, result) -> {
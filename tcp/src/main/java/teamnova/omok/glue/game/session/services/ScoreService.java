@@ -1,9 +1,15 @@
 package teamnova.omok.glue.game.session.services;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import teamnova.omok.glue.client.session.ClientSessionManager;
 import teamnova.omok.glue.client.session.model.ClientSession;
@@ -11,7 +17,7 @@ import teamnova.omok.glue.data.MysqlService;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.model.PlayerResult;
 import teamnova.omok.glue.game.session.interfaces.GameScoreService;
-import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.model.result.ScoreSettlement;
 import teamnova.omok.glue.manager.DataManager;
 import teamnova.omok.modules.formula.FormulaGateway;
 import teamnova.omok.modules.formula.models.FormulaRequest;
@@ -23,6 +29,7 @@ import teamnova.omok.modules.formula.terminals.FinalizeTerminal;
 /**
  * Applies post-game score adjustments to players using {@link MysqlService}.
  * Delegates the score delta computation to the reusable score module.
+ * A settlement reads all participant scores in one query and writes all deltas in one transaction.
  */
 public final class ScoreService implements GameScoreService {
     private static final double STAGE_REQUIREMENT_POINTS = 100.0; // 단계 당  요구 점수
@@ -30,10 +37,24 @@ public final class ScoreService implements GameScoreService {
     private static final double INITIAL_BONUS_STAGE_LIMIT = 5.0;  // 초기 보너스 제공 단계 수 (5단계 = 500점)
     private static final double LOSS_RATIO_DIVISOR = 500.0;       // 패배시 소수점 내림(플레이어 점수 / 500)
     private static final double DISCONNECTED_PENALTY = 0.0;       // 명시된 값 없음 -> 기본 0 적용
+    private static final long SETTLEMENT_DRAIN_SECONDS = 10L;
 
     private final FormulaGateway.Handle formulaHandle;
+    private final ScoreStore store;
+    // Keeps score queries and updates off the game session workers
+    private final Executor settlementExecutor;
 
     public ScoreService() {
+        this(new DataManagerScoreStore(), Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "score-settlement");
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    ScoreService(ScoreStore store, Executor settlementExecutor) {
+        this.store = Objects.requireNonNull(store, "store");
+        this.settlementExecutor = Objects.requireNonNull(settlementExecutor, "settlementExecutor");
         PreparedFormula prepared = FormulaGateway.pipeline()
                 .bootstrap(STAGE_REQUIREMENT_POINTS, STAGE_REQUIREMENT_WINS, INITIAL_BONUS_STAGE_LIMIT, DISCONNECTED_PENALTY)
                 .resolveOutcome(STAGE_REQUIREMENT_POINTS, STAGE_REQUIREMENT_WINS, INITIAL_BONUS_STAGE_LIMIT, LOSS_RATIO_DIVISOR)
@@ -44,46 +65,74 @@ public final class ScoreService implements GameScoreService {
     }
 
     @Override
-    public int calculateScoreDelta(GameSessionAccess session, String userId) {
-        List<String> participants = session.getUserIds();
-        PlayerResult result = session.outcomeFor(userId);
-        MatchOutcome outcome = mapOutcome(result);
-        boolean isDisconnected = session.disconnectedUsersView().contains(userId);
-        Map<String, Integer> currentScores = loadCurrentScores(participants);
+    public CompletableFuture<ScoreSettlement> settle(GameSessionAccess session) {
+        List<String> participants = List.copyOf(session.getUserIds());
+        List<PlayerInput> inputs = new ArrayList<>(participants.size());
+        for (String userId : participants) {
+            PlayerResult result = session.outcomeFor(userId);
+            ClientSession.ClientSessionMetrics metrics =
+                ClientSessionManager.getInstance().recordOutcome(userId, result);
+            boolean isDisconnected = session.disconnectedUsersView().contains(userId);
+            inputs.add(new PlayerInput(userId, mapOutcome(result), isDisconnected, metrics));
+        }
+        return CompletableFuture.supplyAsync(() -> settle(participants, inputs), settlementExecutor);
+    }
+
+    /**
+     * Stops accepting settlements and waits for queued ones to record their changes, so a game
+     * that ended just before shutdown still reaches the score store.
+     */
+    public void close() {
+        if (!(settlementExecutor instanceof ExecutorService executor)) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SETTLEMENT_DRAIN_SECONDS, TimeUnit.SECONDS)) {
+                System.err.println("[ScoreService] settlements still running after " + SETTLEMENT_DRAIN_SECONDS + "s, giving up");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
+    private ScoreSettlement settle(List<String> participants, List<PlayerInput> inputs) {
+        Map<String, Integer> currentScores = store.scoresOf(participants);
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        Map<String, Integer> changes = new LinkedHashMap<>();
+        for (PlayerInput input : inputs) {
+            int delta = calculateScoreDelta(input, participants, currentScores);
+            deltas.put(input.userId(), delta);
+            if (delta != 0) {
+                changes.put(input.userId(), delta);
+            }
+        }
+        boolean persisted = store.apply(changes);
+        return new ScoreSettlement(deltas, persisted);
+    }
+
+    private int calculateScoreDelta(PlayerInput input,
+                                    List<String> participants,
+                                    Map<String, Integer> currentScores) {
+        String userId = input.userId();
         int playerScore = currentScores.getOrDefault(userId, 0);
         int opponentScore = selectOpponentScore(userId, participants, currentScores);
-
-        ClientSession.ClientSessionMetrics metrics =
-            ClientSessionManager.getInstance().recordOutcome(userId, result);
-        int streakValue = metrics.winStreak();
-        int totalWins = metrics.totalWins();
-        int totalLosses = metrics.totalLosses();
-        int totalDraws = metrics.totalDraws();
+        ClientSession.ClientSessionMetrics metrics = input.metrics();
 
         FormulaRequest request = FormulaRequest.builder()
-                .put(FormulaVariables.OUTCOME, outcome)
-                .put(FormulaVariables.DISCONNECTED, isDisconnected)
+                .put(FormulaVariables.OUTCOME, input.outcome())
+                .put(FormulaVariables.DISCONNECTED, input.disconnected())
                 .put(FormulaVariables.PLAYER_SCORE, playerScore)
                 .put(FormulaVariables.OPPONENT_SCORE, opponentScore)
-                .put(FormulaVariables.WIN_STREAK, streakValue)
-                .put(FormulaVariables.TOTAL_WINS, totalWins)
-                .put(FormulaVariables.TOTAL_LOSSES, totalLosses)
-                .put(FormulaVariables.TOTAL_DRAWS, totalDraws)
+                .put(FormulaVariables.WIN_STREAK, metrics.winStreak())
+                .put(FormulaVariables.TOTAL_WINS, metrics.totalWins())
+                .put(FormulaVariables.TOTAL_LOSSES, metrics.totalLosses())
+                .put(FormulaVariables.TOTAL_DRAWS, metrics.totalDraws())
                 .build();
 
         return formulaHandle.evaluate(request).delta();
     }
 
-    private Map<String, Integer> loadCurrentScores(List<String> userIds) {
-        Map<String, Integer> scores = new HashMap<>();
-        for (String userId : userIds) {
-            int score = DataManager.getInstance().getUserScore(userId, 0).score();
-            scores.put(userId, score);
-        }
-        return scores;
-    }
-
     private int selectOpponentScore(String userId,
                                     List<String> participants,
                                     Map<String, Integer> scores) {
@@ -106,4 +155,32 @@ public final class ScoreService implements GameScoreService {
             case PENDING -> MatchOutcome.PENDING;
         };
     }
+
+    private record PlayerInput(String userId,
+                               MatchOutcome outcome,
+                               boolean disconnected,
+                               ClientSession.ClientSessionMetrics metrics) {
+    }
+
+    /**
+     * Where a settlement reads current scores and records the changes.
+     */
+    interface ScoreStore {
+        // One batched read for every participant; unknown users are absent
+        Map<String, Integer> scoresOf(List<String> userIds);
+
+        boolean apply(Map<String, Integer> deltas);
+    }
+
+    private static final class DataManagerScoreStore implements ScoreStore {
+        @Override
+        public Map<String, Integer> scoresOf(List<String> userIds) {
+            return DataManager.getInstance().getUserScores(userIds);
+        }
+
+        @Override
+        public boolean apply(Map<String, Integer> deltas) {
+            return DataManager.getInstance().applyScoreDeltas(deltas);
+        }
+    }
 }
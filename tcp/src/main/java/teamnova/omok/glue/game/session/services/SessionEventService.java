@@ -2,11 +2,12 @@ package teamnova.omok.glue.game.session.services;
 
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.function.Function;
 
 import teamnova.omok.glue.game.session.log.GameSessionLogger;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.game.session.model.dto.SessionSubmission;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.states.GameStateHub;
@@ -14,6 +15,7 @@ import teamnova.omok.glue.game.session.states.event.MoveEvent;
 import teamnova.omok.glue.game.session.states.event.PostGameDecisionEvent;
 import teamnova.omok.glue.game.session.states.event.ReadyEvent;
 import teamnova.omok.glue.game.session.states.event.TimeoutEvent;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
 
 /**
  * Coordinates submission of session state-machine events. No callbacks.
@@ -26,38 +28,38 @@ public final class SessionEventService {
         this.deps = Objects.requireNonNull(deps, "deps");
     }
 
-    public boolean submitReady(String userId,
-                               long requestId) {
+    public SubmissionResult submitReady(String userId,
+                                        long requestId) {
         Objects.requireNonNull(userId, "userId");
         return withSession(userId, submission -> {
             ReadyEvent event = new ReadyEvent(userId, submission.timestamp(), requestId);
             GameSessionLogger.inbound(submission.session(), "READY", userId, requestId);
-            submission.manager().submit(event);
+            return submission.manager().submit(event);
         });
     }
 
-    public boolean submitMove(String userId,
-                              long requestId,
-                              int x,
-                              int y) {
+    public SubmissionResult submitMove(String userId,
+                                       long requestId,
+                                       int x,
+                                       int y) {
         Objects.requireNonNull(userId, "userId");
         return withSession(userId, submission -> {
             MoveEvent event = new MoveEvent(userId, x, y, submission.timestamp(), requestId);
             GameSessionLogger.inbound(submission.session(), "MOVE", userId, requestId,
                 String.format("x=%d y=%d", x, y));
-            submission.manager().submit(event);
+            return submission.manager().submit(event);
         });
     }
 
-    public boolean submitPostGameDecision(String userId,
-                                          long requestId,
-                                          PostGameDecision decision) {
+    public SubmissionResult submitPostGameDecision(String userId,
+                                                   long requestId,
+                                                   PostGameDecision decision) {
         Objects.requireNonNull(userId, "userId");
         Objects.requireNonNull(decision, "decision");
         return withSession(userId, submission -> {
             PostGameDecisionEvent event = new PostGameDecisionEvent(userId, decision, submission.timestamp(), requestId);
             GameSessionLogger.inbound(submission.session(), "POST_GAME_DECISION", userId, requestId, "decision=" + decision);
-            submission.manager().submit(event);
+            return submission.manager().submit(event);
         });
     }
 
@@ -81,21 +83,20 @@ public final class SessionEventService {
         GameStateHub manager = deps.runtime().ensure(session);
         deps.turnTimeoutScheduler().clearIfMatches(sessionId, expectedTurnNumber);
         long now = System.currentTimeMillis();
-        TimeoutEvent event = new TimeoutEvent(expectedTurnNumber, now);
-        manager.submit(event);
+        // Timeouts bypass the queue bound, so clearing the scheduler above cannot lose this one
+        manager.submit(new TimeoutEvent(expectedTurnNumber, now));
     }
 
-    private boolean withSession(String userId, Consumer<SessionSubmission> consumer) {
+    private SubmissionResult withSession(String userId, Function<SessionSubmission, SubmitResult> submitter) {
         Objects.requireNonNull(userId, "userId");
-        Objects.requireNonNull(consumer, "consumer");
+        Objects.requireNonNull(submitter, "submitter");
         Optional<GameSession> optionalSession = deps.repository().findByUserId(userId);
         if (optionalSession.isEmpty()) {
-            return false;
+            return SubmissionResult.SESSION_NOT_FOUND;
         }
         GameSession session = optionalSession.get();
         GameStateHub manager = deps.runtime().ensure(session);
         long now = System.currentTimeMillis();
-        consumer.accept(new SessionSubmission(session, manager, now));
-        return true;
+        return SubmissionResult.from(submitter.apply(new SessionSubmission(session, manager, now)));
     }
 }
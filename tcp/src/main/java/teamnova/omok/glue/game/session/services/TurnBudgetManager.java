@@ -5,12 +5,14 @@ import java.util.Map;
 import java.util.Objects;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 
 /**
  * Tracks per-player cumulative turn budgets for rules that enforce shared time limits.
  */
 public final class TurnBudgetManager {
-    private static final String BUDGET_KEY = "rules.turnBudget.remaining";
+    private static final RuleStateKey<Map<String, Long>> BUDGETS =
+        RuleStateKey.of("rules.turnBudget.remaining", LinkedHashMap::new);
 
     public Map<String, Long> snapshot(GameSessionRuleAccess access) {
         Objects.requireNonNull(access, "access");
@@ -61,17 +63,7 @@ public final class TurnBudgetManager {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private Map<String, Long> budgets(GameSessionRuleAccess access, boolean createIfMissing) {
-        Object stored = access.getRuleData(BUDGET_KEY);
-        if (stored instanceof Map<?, ?> map) {
-            return (Map<String, Long>) map;
-        }
-        if (!createIfMissing) {
-            return null;
-        }
-        Map<String, Long> created = new LinkedHashMap<>();
-        access.putRuleData(BUDGET_KEY, created);
-        return created;
+        return createIfMissing ? access.ruleState(BUDGETS) : access.peekRuleState(BUDGETS);
     }
 }
@@ -1,29 +1,24 @@
 package teamnova.omok.glue.game.session.services.coordinator;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
+import teamnova.omok.core.timer.HierarchicalTimer;
+import teamnova.omok.core.timer.Timeout;
 import teamnova.omok.glue.game.session.interfaces.DecisionTimeoutScheduler;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+import teamnova.omok.glue.game.session.model.vo.SessionTimeoutKey;
 
 /**
- * Coordinates the post-game decision timeout per session.
+ * Coordinates the post-game decision timeout per session on the shared timer.
  */
 public class DecisionTimeoutCoordinator implements DecisionTimeoutScheduler {
-    private final ScheduledExecutorService scheduler;
-    private final ConcurrentMap<GameSessionId, ScheduledFuture<?>> tasks = new ConcurrentHashMap<>();
+    private final HierarchicalTimer timer;
+    private final ConcurrentMap<GameSessionId, Timeout<SessionTimeoutKey>> tasks = new ConcurrentHashMap<>();
 
-    public DecisionTimeoutCoordinator() {
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r);
-            t.setName("decision-timeout");
-            t.setDaemon(true);
-            return t;
-        });
+    public DecisionTimeoutCoordinator(HierarchicalTimer timer) {
+        this.timer = Objects.requireNonNull(timer, "timer");
     }
 
     @Override
@@ -31,20 +26,18 @@ public class DecisionTimeoutCoordinator implements DecisionTimeoutScheduler {
         if (sessionId == null || task == null) {
             return;
         }
-        long now = System.currentTimeMillis();
-        long delay = Math.max(0L, deadlineAt - now);
         tasks.compute(sessionId, (id, previous) -> {
             if (previous != null) {
-                previous.cancel(false);
+                previous.cancel();
             }
-            ScheduledFuture<?> future = scheduler.schedule(() -> {
+            return timer.scheduleAt(SessionTimeoutKey.session(id), deadlineAt, () -> {
                 try {
                     task.run();
                 } finally {
-                    tasks.remove(id);
+                    // Only drop the fired entry; a reschedule may already have replaced it
+                    tasks.computeIfPresent(id, (key, current) -> current.isExpired() ? null : current);
                 }
-            }, delay, TimeUnit.MILLISECONDS);
-            return future;
+            });
         });
     }
 
@@ -53,9 +46,9 @@ public class DecisionTimeoutCoordinator implements DecisionTimeoutScheduler {
         if (sessionId == null) {
             return;
         }
-        ScheduledFuture<?> future = tasks.remove(sessionId);
-        if (future != null) {
-            future.cancel(false);
+        Timeout<SessionTimeoutKey> timeout = tasks.remove(sessionId);
+        if (timeout != null) {
+            timeout.cancel();
         }
     }
 }
@@ -1,33 +1,26 @@
 package teamnova.omok.glue.game.session.services.coordinator;
 
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
-import teamnova.omok.glue.game.session.interfaces.GameTurnService;
+import teamnova.omok.core.timer.HierarchicalTimer;
+import teamnova.omok.core.timer.Timeout;
 import teamnova.omok.glue.game.session.interfaces.manager.TurnTimeoutScheduler;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionParticipantsAccess;
-import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+import teamnova.omok.glue.game.session.model.vo.SessionTimeoutKey;
 
 /**
- * Coordinates scheduling and cancellation of per-session turn timeouts.
+ * Coordinates scheduling and cancellation of per-session turn timeouts on the shared timer.
  */
 public class TurnTimeoutCoordinator implements TurnTimeoutScheduler {
-    private final ScheduledExecutorService scheduler;
-    private final ConcurrentMap<GameSessionId, TimeoutRef> tasks = new ConcurrentHashMap<>();
+    private final HierarchicalTimer timer;
+    private final ConcurrentMap<GameSessionId, Timeout<SessionTimeoutKey>> tasks = new ConcurrentHashMap<>();
 
-    public TurnTimeoutCoordinator() {
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r);
-            t.setName("turn-timeout");
-            t.setDaemon(true);
-            return t;
-        });
+    public TurnTimeoutCoordinator(HierarchicalTimer timer) {
+        this.timer = Objects.requireNonNull(timer, "timer");
     }
 
     @Override
@@ -41,45 +34,41 @@ public class TurnTimeoutCoordinator implements TurnTimeoutScheduler {
             cancel(session.sessionId());
             return;
         }
-        long now = System.currentTimeMillis();
-        long delay = Math.max(0L, turnSnapshot.turnEndAt() - now);
         GameSessionId sessionId = session.sessionId();
+        SessionTimeoutKey key = SessionTimeoutKey.turn(sessionId, turnSnapshot.turnNumber());
         tasks.compute(sessionId, (id, previous) -> {
             if (previous != null) {
-                previous.future().cancel(false);
+                previous.cancel();
             }
-            ScheduledFuture<?> future = scheduler.schedule(
-                () -> consumer.onTimeout(sessionId, turnSnapshot.turnNumber()),
-                delay,
-                TimeUnit.MILLISECONDS
+            return timer.scheduleAt(
+                key,
+                turnSnapshot.turnEndAt(),
+                () -> consumer.onTimeout(key.sessionId(), key.turnNumber())
             );
-            return new TimeoutRef(future, turnSnapshot.turnNumber());
         });
     }
 
     @Override
     public void cancel(GameSessionId sessionId) {
         if (sessionId == null) return;
-        TimeoutRef ref = tasks.remove(sessionId);
-        if (ref != null) {
-            ref.future().cancel(false);
+        Timeout<SessionTimeoutKey> timeout = tasks.remove(sessionId);
+        if (timeout != null) {
+            timeout.cancel();
         }
     }
 
     @Override
     public boolean validate(GameSessionId sessionId, int expectedTurnNumber) {
-        TimeoutRef ref = tasks.get(sessionId);
-        return ref != null && ref.turnNumber() == expectedTurnNumber;
+        Timeout<SessionTimeoutKey> timeout = tasks.get(sessionId);
+        return timeout != null && timeout.key().turnNumber() == expectedTurnNumber;
     }
 
     @Override
     public void clearIfMatches(GameSessionId sessionId, int expectedTurnNumber) {
-        TimeoutRef ref = tasks.get(sessionId);
-        if (ref == null || ref.turnNumber() != expectedTurnNumber) {
+        Timeout<SessionTimeoutKey> timeout = tasks.get(sessionId);
+        if (timeout == null || timeout.key().turnNumber() != expectedTurnNumber) {
             return;
         }
-        tasks.remove(sessionId, ref);
+        tasks.remove(sessionId, timeout);
     }
-
-    private record TimeoutRef(ScheduledFuture<?> future, int turnNumber) { }
 }
@@ -1,6 +1,11 @@
 package teamnova.omok.glue.game.session.states;
 
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import teamnova.omok.core.timer.Timeout;
 
 import teamnova.omok.glue.game.session.interfaces.*;
 import teamnova.omok.glue.game.session.interfaces.manager.TurnTimeoutScheduler;
@@ -8,8 +13,12 @@ import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.log.GameSessionLogger;
 import teamnova.omok.glue.game.session.model.GameSession;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
+import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+import teamnova.omok.glue.game.session.services.GameSessionLifecycleService;
 import teamnova.omok.glue.game.session.services.HiddenPlacementCoordinator;
 import teamnova.omok.glue.game.session.services.TurnBudgetManager;
+import teamnova.omok.glue.game.session.states.event.GameSessionEventPolicy;
+import teamnova.omok.glue.game.session.states.event.ParticipantPresenceEvent;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateType;
@@ -32,10 +41,25 @@ import teamnova.omok.modules.state_machine.StateMachineGateway.Handle;
 import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
 import teamnova.omok.modules.state_machine.interfaces.BaseState;
 import teamnova.omok.modules.state_machine.interfaces.StateSignalListener;
-
-public class GameStateHub {
-
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
+import teamnova.omok.modules.state_machine.models.StateName;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
+
+/**
+ * Owns one session's state machine. Submitting an event or requesting a wakeup schedules the
+ * hub on its {@link GameSessionRuntime}; the {@code scheduled} bit keeps it queued at most once
+ * until it is processed. Participant presence changes queue separately and run on the same
+ * worker before the state machine's events, so nothing outside the shard mutates the session.
+ */
+public final class GameStateHub {
+
+    private final GameSession session;
     private final Handle stateMachine;
+    private final GameSessionRuntime runtime;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final Queue<ParticipantPresenceEvent> presenceEvents = new ConcurrentLinkedQueue<>();
+    private Timeout<GameSessionId> wakeup;
+    private long wakeupDeadline;
     private final GameSessionStateContext context;
     private final GameSessionServices services;
     private final GameSessionStateContextService contextService;
@@ -50,7 +74,9 @@ public class GameStateHub {
                         TurnTimeoutScheduler turnTimeoutScheduler,
                         DecisionTimeoutScheduler decisionTimeoutScheduler,
                         GameSessionRepository repository,
-                        GameSessionRuntime runtime) {
+                        GameSessionRuntime runtime,
+                        int eventQueueCapacity,
+                        EventQueueStats eventStats) {
         Objects.requireNonNull(session, "session");
         Objects.requireNonNull(boardService, "boardService");
         Objects.requireNonNull(turnService, "turnService");
@@ -58,6 +84,8 @@ public class GameStateHub {
         Objects.requireNonNull(contextService, "contextService");
         Objects.requireNonNull(messenger, "messenger");
 
+        this.session = session;
+        this.runtime = Objects.requireNonNull(runtime, "runtime");
         this.contextService = contextService;
         HiddenPlacementCoordinator hiddenPlacementCoordinator = new HiddenPlacementCoordinator();
         TurnBudgetManager turnBudgetManager = new TurnBudgetManager();
@@ -73,13 +101,14 @@ public class GameStateHub {
             repository,
             runtime
         );
-        this.context = new GameSessionStateContext(session);
+        this.context = new GameSessionStateContext(session, this::requestWakeup);
 
-        this.stateMachine = StateMachineGateway.open();
+        this.stateMachine = StateMachineGateway.open(eventQueueCapacity, new GameSessionEventPolicy(session), eventStats);
         // Register lifecycle logging via dedicated handler file
         registerStateConfig(contextService, this.services);
         registerSignalHandler();
 
+        // Last, so a wakeup requested on entering LOBBY only ever sees a fully built hub
         this.stateMachine.start(GameSessionStateType.LOBBY.toStateName(), context);
     }
 
@@ -129,12 +158,77 @@ public class GameStateHub {
     }
 
 
-    public void submit(BaseEvent event) {
+    /**
+     * Queues {@code event} and schedules a pass for it. Coalesced or rejected events schedule nothing.
+     */
+    public SubmitResult submit(BaseEvent event) {
         Objects.requireNonNull(event, "event");
-        stateMachine.submit(event);
+        SubmitResult result = stateMachine.submit(event);
+        if (result.isQueued()) {
+            requestProcessing();
+        }
+        return result;
+    }
+
+    /**
+     * Queues a presence change for this session's worker. Unlike {@link #submit} it is never
+     * coalesced or rejected.
+     */
+    public void submitPresence(ParticipantPresenceEvent event) {
+        presenceEvents.offer(Objects.requireNonNull(event, "event"));
+        requestProcessing();
+    }
+
+    /**
+     * Schedules one processing pass unless one is already pending.
+     */
+    public void requestProcessing() {
+        if (scheduled.compareAndSet(false, true)) {
+            runtime.schedule(this);
+        }
+    }
+
+    /**
+     * Schedules a processing pass at {@code deadlineMillis}. An earlier pending wakeup already
+     * covers it; a later one is replaced.
+     */
+    public synchronized void requestWakeup(long deadlineMillis) {
+        if (wakeup != null && wakeup.isPending() && wakeupDeadline <= deadlineMillis) {
+            return;
+        }
+        cancelWakeup();
+        wakeup = runtime.wakeupAt(this, deadlineMillis);
+        wakeupDeadline = deadlineMillis;
+    }
+
+    public synchronized void cancelWakeup() {
+        if (wakeup != null) {
+            wakeup.cancel();
+            wakeup = null;
+        }
     }
 
     public void process(long now) {
+        scheduled.set(false);
+        if (!presenceEvents.isEmpty() && !drainPresence()) {
+            return;
+        }
+        StateName before = stateMachine.currentState();
         stateMachine.process(context, now);
+        if (stateMachine.currentState() != before) {
+            // Give the new state an update pass, as the next poll would have
+            requestProcessing();
+        }
+    }
+
+    /**
+     * @return false once the session has been finalized and the state machine must not run
+     */
+    private boolean drainPresence() {
+        ParticipantPresenceEvent event;
+        while ((event = presenceEvents.poll()) != null) {
+            GameSessionLifecycleService.applyPresence(services, contextService, this, session, event);
+        }
+        return runtime.find(session.sessionId()).orElse(null) == this;
     }
 }
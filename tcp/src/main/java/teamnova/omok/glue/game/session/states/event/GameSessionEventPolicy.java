@@ -0,0 +1,60 @@
+package teamnova.omok.glue.game.session.states.event;
+
+import java.util.Objects;
+
+import teamnova.omok.glue.game.session.interfaces.session.GameSessionTurnAccess;
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+import teamnova.omok.modules.state_machine.interfaces.EventQueuePolicy;
+
+/**
+ * Queue admission rules for a game session's events.
+ * A move is coalesced only when the same user already has a move to the same cell waiting;
+ * a move to another cell is queued behind it and judged on its own when it is processed.
+ * A user can have only one ready and one post-game decision waiting; the states only honour
+ * the first of each anyway. Only one timeout per turn is kept, and a timeout whose turn has
+ * already ended is skipped before it reaches the state machine. Timeouts and score settlements
+ * come from the server itself and are admitted even when clients have filled the queue.
+ */
+public final class GameSessionEventPolicy implements EventQueuePolicy {
+    private final GameSessionTurnAccess turns;
+
+    public GameSessionEventPolicy(GameSessionTurnAccess turns) {
+        this.turns = Objects.requireNonNull(turns, "turns");
+    }
+
+    @Override
+    public boolean coalesces(BaseEvent queued, BaseEvent incoming) {
+        if (incoming instanceof MoveEvent move) {
+            return queued instanceof MoveEvent pending
+                && pending.userId().equals(move.userId())
+                && pending.x() == move.x()
+                && pending.y() == move.y();
+        }
+        if (incoming instanceof ReadyEvent ready) {
+            return queued instanceof ReadyEvent pending && pending.userId().equals(ready.userId());
+        }
+        if (incoming instanceof PostGameDecisionEvent decision) {
+            return queued instanceof PostGameDecisionEvent pending && pending.userId().equals(decision.userId());
+        }
+        if (incoming instanceof TimeoutEvent timeout) {
+            return queued instanceof TimeoutEvent pending && pending.expectedTurnNumber() == timeout.expectedTurnNumber();
+        }
+        if (incoming instanceof DecisionTimeoutEvent) {
+            return incoming.equals(queued);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean bypassesCapacity(BaseEvent event) {
+        return event instanceof TimeoutEvent
+            || event instanceof DecisionTimeoutEvent
+            || event instanceof ScoreSettledEvent;
+    }
+
+    @Override
+    public boolean isStale(BaseEvent event) {
+        // Runs on the session's own worker, so the turn counter is current
+        return event instanceof TimeoutEvent timeout && timeout.expectedTurnNumber() < turns.actionNumber();
+    }
+}
@@ -0,0 +1,20 @@
+package teamnova.omok.glue.game.session.states.event;
+
+import java.util.Objects;
+
+/**
+ * A participant left, dropped or came back. Handled by the session's hub on its shard worker
+ * ahead of the state machine's own events, and never dropped for lack of queue space.
+ */
+public record ParticipantPresenceEvent(String userId, Kind kind) {
+    public enum Kind {
+        LEFT,
+        DISCONNECTED,
+        RECONNECTED
+    }
+
+    public ParticipantPresenceEvent {
+        Objects.requireNonNull(userId, "userId");
+        Objects.requireNonNull(kind, "kind");
+    }
+}
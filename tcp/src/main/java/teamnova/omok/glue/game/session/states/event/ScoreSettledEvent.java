@@ -0,0 +1,11 @@
+package teamnova.omok.glue.game.session.states.event;
+
+import teamnova.omok.glue.game.session.model.result.ScoreSettlement;
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+
+/**
+ * Delivered to the session once the post-game score settlement has finished off the tick thread.
+ */
+public record ScoreSettledEvent(ScoreSettlement settlement) implements BaseEvent {
+
+}
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.game.session.states.manage;
 
 import java.util.Objects;
+import java.util.function.LongConsumer;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
@@ -23,12 +24,26 @@ public final class GameSessionStateContext implements StateContext {
     private final GameSessionAccess access;
     private final GameSessionTurnRuntimeAccess turnRuntime;
     private final GameSessionPostGameRuntimeAccess postGameRuntime;
+    private final LongConsumer wakeups;
 
     public GameSessionStateContext(GameSession session) {
+        this(session, deadline -> { });
+    }
+
+    public GameSessionStateContext(GameSession session, LongConsumer wakeups) {
         Objects.requireNonNull(session, "session");
         this.access = session;
         this.turnRuntime = session;
         this.postGameRuntime = session;
+        this.wakeups = Objects.requireNonNull(wakeups, "wakeups");
+    }
+
+    /**
+     * Asks for the session to be processed again at {@code deadlineMillis} even if no event
+     * arrives, for states whose {@code onUpdate} watches a deadline.
+     */
+    public void requestWakeup(long deadlineMillis) {
+        wakeups.accept(deadlineMillis);
     }
 
     public GameSessionAccess session() {
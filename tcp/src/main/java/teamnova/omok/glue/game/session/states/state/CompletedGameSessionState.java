@@ -112,13 +112,8 @@ public class CompletedGameSessionState implements BaseState {
         services.decisionTimeoutScheduler().cancel(sessionId);
 
         List<String> userIds = List.copyOf(session.getUserIds());
-        session.lock().lock();
-        try {
-            for (String userId : userIds) {
-                session.markDisconnected(userId);
-            }
-        } finally {
-            session.lock().unlock();
+        for (String userId : userIds) {
+            session.markDisconnected(userId);
         }
 
         services.repository().removeById(sessionId);
@@ -3,7 +3,6 @@ package teamnova.omok.glue.game.session.states.state;
 import java.util.Map;
 import java.util.Objects;
 
-import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.model.PlayerResult;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
@@ -45,6 +44,7 @@ public class LobbyGameSessionState implements BaseState {
     @Override
     public <I extends StateContext> StateStep onEnter(I context) {
         readyDeadlineMillis = System.currentTimeMillis() + READY_TIMEOUT_MILLIS;
+        ((GameSessionStateContext) context).requestWakeup(readyDeadlineMillis);
         return StateStep.stay();
     }
 
@@ -59,6 +59,10 @@ public class LobbyGameSessionState implements BaseState {
         if (!gameContext.lifecycle().isGameStarted() && isDeadlineExpired(now)) {
             return handleReadyTimeout(gameContext, now);
         }
+        if (readyDeadlineMillis > 0L) {
+            // Re-arm in case the wakeup fired a little before the deadline
+            gameContext.requestWakeup(readyDeadlineMillis);
+        }
         return StateStep.stay();
     }
 
@@ -75,36 +79,30 @@ public class LobbyGameSessionState implements BaseState {
 
     private StateStep handleReady(GameSessionStateContext context,
                                   ReadyEvent event) {
-        GameSessionAccess session = context.session();
         ReadyResult result;
-        session.lock().lock();
-        try {
-            int playerIndex = context.participants().playerIndexOf(event.userId());
-            if (playerIndex < 0) {
-                result = ReadyResult.invalid(event.userId(), event.requestId());
-            } else {
-                boolean changed = context.participants().markReady(event.userId());
-                boolean allReady = context.participants().allReady();
-                boolean startedNow = false;
-                TurnSnapshot snapshot = null;
-                if (allReady && !context.lifecycle().isGameStarted()) {
-                    startedNow = true;
-                    snapshot = initializeGame(context, event.timestamp());
-                } else if (context.lifecycle().isGameStarted()) {
-                    snapshot = services.turnService().snapshot(context.turns());
-                }
-                result = new ReadyResult(
-                    true,
-                    changed,
-                    allReady,
-                    startedNow,
-                    snapshot,
-                    event.userId(),
-                    event.requestId()
-                );
+        int playerIndex = context.participants().playerIndexOf(event.userId());
+        if (playerIndex < 0) {
+            result = ReadyResult.invalid(event.userId(), event.requestId());
+        } else {
+            boolean changed = context.participants().markReady(event.userId());
+            boolean allReady = context.participants().allReady();
+            boolean startedNow = false;
+            TurnSnapshot snapshot = null;
+            if (allReady && !context.lifecycle().isGameStarted()) {
+                startedNow = true;
+                snapshot = initializeGame(context, event.timestamp());
+            } else if (context.lifecycle().isGameStarted()) {
+                snapshot = services.turnService().snapshot(context.turns());
             }
-        } finally {
-            session.lock().unlock();
+            result = new ReadyResult(
+                true,
+                changed,
+                allReady,
+                startedNow,
+                snapshot,
+                event.userId(),
+                event.requestId()
+            );
         }
 
         contextService.turn().queueReadyResult(context, result);
@@ -129,19 +127,13 @@ public class LobbyGameSessionState implements BaseState {
     }
 
     private ReadyResult buildForcedReadyResult(GameSessionStateContext context, long timestamp) {
-        GameSessionAccess session = context.session();
         TurnSnapshot snapshot;
         boolean startedNow = false;
-        session.lock().lock();
-        try {
-            if (!context.lifecycle().isGameStarted()) {
-                snapshot = initializeGame(context, timestamp);
-                startedNow = true;
-            } else {
-                snapshot = services.turnService().snapshot(context.turns());
-            }
-        } finally {
-            session.lock().unlock();
+        if (!context.lifecycle().isGameStarted()) {
+            snapshot = initializeGame(context, timestamp);
+            startedNow = true;
+        } else {
+            snapshot = services.turnService().snapshot(context.turns());
         }
         return new ReadyResult(
             true,
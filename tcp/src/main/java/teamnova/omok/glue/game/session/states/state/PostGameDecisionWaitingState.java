@@ -15,6 +15,7 @@ import teamnova.omok.glue.game.session.states.event.DecisionTimeoutEvent;
 import teamnova.omok.glue.game.session.states.event.MoveEvent;
 import teamnova.omok.glue.game.session.states.event.PostGameDecisionEvent;
 import teamnova.omok.glue.game.session.states.event.ReadyEvent;
+import teamnova.omok.glue.game.session.states.event.ScoreSettledEvent;
 import teamnova.omok.glue.game.session.states.event.TimeoutEvent;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
@@ -67,9 +68,23 @@ public final class PostGameDecisionWaitingState implements BaseState {
         if (event instanceof ReadyEvent readyEvent) {
             return handleReady(gameContext, readyEvent);
         }
+        if (event instanceof ScoreSettledEvent settledEvent) {
+            recordSettlement(gameContext, settledEvent);
+        }
         return StateStep.stay();
     }
 
+    private void recordSettlement(GameSessionStateContext context, ScoreSettledEvent event) {
+        String prefix = "[SESSION][" + context.session().sessionId() + "] ";
+        if (event.settlement().persisted()) {
+            // A rematch built from this session starts from the settled scores
+            context.session().recordSettledScoreDeltas(event.settlement().deltas());
+            System.out.println(prefix + "scores settled " + event.settlement().deltas());
+        } else {
+            System.err.println(prefix + "scores not persisted " + event.settlement().deltas());
+        }
+    }
+
     private StateStep onEnterInternal(GameSessionStateContext context) {
         System.out.println("[SESSION][" + context.session().sessionId() + "] PostGameDecisionWaitingState");
 
@@ -165,12 +180,7 @@ public final class PostGameDecisionWaitingState implements BaseState {
                                           PostGameDecision decision) {
         if (decision == PostGameDecision.LEAVE) {
             var session = context.session();
-            session.lock().lock();
-            try {
-                session.markDisconnected(userId);
-            } finally {
-                session.lock().unlock();
-            }
+            session.markDisconnected(userId);
         }
         // REMATCH 선택자는 SessionRematchPreparingState에서 새 세션 배정 직전까지 기존 게임에 남겨 둔다.
     }
@@ -1,27 +1,27 @@
 package teamnova.omok.glue.game.session.states.state;
 
-import java.util.List;
 import java.util.Objects;
 
-import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
-import teamnova.omok.glue.game.session.model.PlayerResult;
+import teamnova.omok.glue.game.session.interfaces.GameSessionRuntime;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.messages.GameCompletionNotice;
+import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.log.GameSessionLogger;
 import teamnova.omok.glue.game.session.services.BoardVictoryResolver;
 import teamnova.omok.glue.game.session.services.RuleService;
+import teamnova.omok.glue.game.session.states.event.ScoreSettledEvent;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
 import teamnova.omok.glue.game.session.states.manage.GameSessionStateType;
 import teamnova.omok.glue.game.session.states.manage.GameSessionTurnContextService;
-import teamnova.omok.glue.manager.DataManager;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 import teamnova.omok.modules.state_machine.interfaces.BaseState;
 import teamnova.omok.modules.state_machine.interfaces.StateContext;
 import teamnova.omok.modules.state_machine.models.StateName;
 import teamnova.omok.modules.state_machine.models.StateStep;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
 
 /**
  * Handles the boundary between personal turns, firing round-completion rules and
@@ -107,29 +107,35 @@ public final class TurnEndState implements BaseState {
         ruleService.applyOutcomeRules(context, runtime);
     }
 
-    private void applyScoreAdjustments(GameSessionStateContext context) {
-        GameSessionAccess session = context.session();
-        List<String> users = context.participants().getUserIds();
-        for (String userId : users) {
-            int delta = services.scoreService().calculateScoreDelta(session, userId);
-            if (delta != 0) {
-                DataManager.getInstance().adjustUserScore(userId, delta);
+    /**
+     * Starts the score settlement; its result comes back to this session as a {@link ScoreSettledEvent}.
+     */
+    private void settleScores(GameSessionStateContext context) {
+        GameSessionId sessionId = context.session().sessionId();
+        GameSessionRuntime runtime = services.runtime();
+        services.scoreService().settle(context.session()).whenComplete((settlement, error) -> {
+            if (error != null) {
+                System.err.println("[SESSION][" + sessionId + "] score settlement failed: " + error.getMessage());
+                return;
             }
-        }
+            runtime.find(sessionId).ifPresentOrElse(hub -> {
+                SubmitResult result = hub.submit(new ScoreSettledEvent(settlement));
+                if (!result.isQueued()) {
+                    System.err.println("[SESSION][" + sessionId + "] score settlement not delivered (" + result
+                        + "): " + settlement.deltas());
+                }
+            }, () -> System.out.println("[SESSION][" + sessionId + "] session closed before scores settled: "
+                + settlement.deltas()));
+        });
     }
 
     private StateStep finalizeSession(GameSessionStateContext ctx) {
-        ctx.session().lock().lock();
-        try {
-            int turnCount = ctx.turns().actionNumber();
-            long now = System.currentTimeMillis();
-            ctx.lifecycle().markGameFinished(now, turnCount);
-        } finally {
-            ctx.session().lock().unlock();
-        }
+        int turnCount = ctx.turns().actionNumber();
+        long now = System.currentTimeMillis();
+        ctx.lifecycle().markGameFinished(now, turnCount);
         services.messenger().broadcastGameCompleted(ctx.session());
         contextService.postGame().queueGameCompletion(ctx, new GameCompletionNotice());
-        applyScoreAdjustments(ctx);
+        settleScores(ctx);
         return StateStep.transition(GameSessionStateType.POST_GAME_DECISION_WAITING.toStateName());
     }
 
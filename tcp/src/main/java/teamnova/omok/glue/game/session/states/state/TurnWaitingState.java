@@ -3,7 +3,6 @@ package teamnova.omok.glue.game.session.states.state;
 import java.util.Objects;
 
 import teamnova.omok.glue.game.session.interfaces.GameTurnService;
-import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
 import teamnova.omok.glue.game.session.log.GameSessionLogger;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.runtime.TurnPersonalFrame;
@@ -75,28 +74,21 @@ public class TurnWaitingState implements BaseState {
                     : String.format("user=%s expected=%s", event.userId(), snapshot.currentPlayerId()));
             return StateStep.stay();
         }
-        GameSessionAccess session = context.session();
-        session.lock().lock();
-        try {
-            contextService.turn().beginTurnCycle(
-                context,
-                event.userId(),
-                event.x(),
-                event.y(),
-                event.timestamp(),
-                event.requestId()
-            );
-            GameSessionLogger.event(context, GameSessionStateType.TURN_WAITING, "MoveEvent:accepted",
-                String.format("user=%s x=%d y=%d", event.userId(), event.x(), event.y()));
-            return StateStep.transition(GameSessionStateType.MOVE_VALIDATING.toStateName());
-        } finally {
-            session.lock().unlock();
-        }
+        contextService.turn().beginTurnCycle(
+            context,
+            event.userId(),
+            event.x(),
+            event.y(),
+            event.timestamp(),
+            event.requestId()
+        );
+        GameSessionLogger.event(context, GameSessionStateType.TURN_WAITING, "MoveEvent:accepted",
+            String.format("user=%s x=%d y=%d", event.userId(), event.x(), event.y()));
+        return StateStep.transition(GameSessionStateType.MOVE_VALIDATING.toStateName());
     }
 
     private StateStep handleTimeout(GameSessionStateContext context,
                                     TimeoutEvent event) {
-        GameSessionAccess session = context.session();
         TurnPersonalFrame frame = contextService.turn().currentPersonalTurn(context);
         if (frame == null) {
             GameSessionLogger.event(context, GameSessionStateType.TURN_WAITING, "TimeoutIgnored",
@@ -108,19 +100,14 @@ public class TurnWaitingState implements BaseState {
         boolean timedOut = false;
         boolean gameFinished = context.outcomes().isGameFinished();
 
-        session.lock().lock();
-        try {
-            if (context.lifecycle().isGameStarted() && !gameFinished) {
-                currentSnapshot = turnService.snapshot(context.turns());
-                if (currentSnapshot != null
-                    && currentSnapshot.turnNumber() == event.expectedTurnNumber()
-                    && turnService.isExpired(context.turns(), event.timestamp())) {
-                    timedOut = true;
-                    frame.currentSnapshot(currentSnapshot);
-                }
+        if (context.lifecycle().isGameStarted() && !gameFinished) {
+            currentSnapshot = turnService.snapshot(context.turns());
+            if (currentSnapshot != null
+                && currentSnapshot.turnNumber() == event.expectedTurnNumber()
+                && turnService.isExpired(context.turns(), event.timestamp())) {
+                timedOut = true;
+                frame.currentSnapshot(currentSnapshot);
             }
-        } finally {
-            session.lock().unlock();
         }
 
         if (!timedOut) {
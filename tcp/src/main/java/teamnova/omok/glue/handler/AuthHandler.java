@@ -23,7 +23,7 @@ public class AuthHandler implements FrameHandler {
     @Override
     public void handle(NioReactorServer server, ClientSessionHandle session, FramedMessage frame) {
         ClientMessageLogger.inbound(session, teamnova.omok.glue.handler.register.Type.AUTH, frame.requestId());
-        String jwt = decoder.decode(frame.payload());
+        String jwt = decoder.decode(frame.payloadView());
         if (jwt == null || jwt.isBlank()) {
             session.clearAuthenticationBinding();
             System.err.println("JWT payload missing");
@@ -45,6 +45,8 @@ public class AuthHandler implements FrameHandler {
                 status = AuthResultStatus.FAILURE;
             }
             session.sendAuthResult(frame.requestId(), status);
+            // Runs on the blocking pool; warms the profile cache for matching and game setup
+            dataManager.prefetchUser(payload.userId());
         } catch (JwtVerificationException e) {
             session.clearAuthenticationBinding();
             System.err.println("JWT verification failed: " + e.getMessage());
@@ -0,0 +1,34 @@
+package teamnova.omok.glue.handler;
+
+import teamnova.omok.core.nio.FramedMessage;
+import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
+import teamnova.omok.glue.client.session.log.ClientMessageLogger;
+import teamnova.omok.glue.handler.register.FrameHandler;
+import teamnova.omok.glue.handler.register.Type;
+import teamnova.omok.glue.message.decoder.StringDecoder;
+
+/**
+ * Negotiates binary board deltas. The payload is the highest delta version the client
+ * understands; the reply carries the version the server will use, 0 meaning JSON snapshots.
+ */
+public class BoardDeltaHandler implements FrameHandler {
+    private final StringDecoder stringDecoder;
+
+    public BoardDeltaHandler(StringDecoder stringDecoder) {
+        this.stringDecoder = stringDecoder;
+    }
+
+    @Override
+    public void handle(NioReactorServer server, ClientSessionHandle session, FramedMessage frame) {
+        ClientMessageLogger.inbound(session, Type.BOARD_DELTA, frame.requestId());
+        String payload = stringDecoder.decode(frame.payloadView());
+        int requested;
+        try {
+            requested = payload == null ? 0 : Integer.parseInt(payload.trim());
+        } catch (NumberFormatException ex) {
+            requested = 0;
+        }
+        session.negotiateBoardDelta(frame.requestId(), requested);
+    }
+}
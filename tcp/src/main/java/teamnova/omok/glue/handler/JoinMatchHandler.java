@@ -31,7 +31,7 @@ public class JoinMatchHandler implements FrameHandler {
 
         // Payload now only contains mode: one of "1","2","3","4"
         Set<Integer> matchSet = new HashSet<>();
-        String payload = stringDecoder.decode(frame.payload());
+        String payload = stringDecoder.decode(frame.payloadView());
         if (payload.isBlank()) {
             matchSet.add(2); // default 2 players
         } else if ("1".equals(payload)) {
@@ -4,6 +4,7 @@ import teamnova.omok.core.nio.FramedMessage;
 import teamnova.omok.core.nio.NioReactorServer;
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.client.session.log.ClientMessageLogger;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.handler.register.FrameHandler;
 import teamnova.omok.glue.handler.register.Type;
 import teamnova.omok.glue.message.decoder.StringDecoder;
@@ -21,7 +22,7 @@ public class PlaceStoneHandler implements FrameHandler {
         if (!session.isAuthenticated()) {
             return;
         }
-        String payloadStr = stringDecoder.decode(frame.payload()).trim();
+        String payloadStr = stringDecoder.decode(frame.payloadView()).trim();
 
         int comma = payloadStr.indexOf(',');
         if (comma < 0) {
@@ -37,9 +38,9 @@ public class PlaceStoneHandler implements FrameHandler {
             return;
         }
 
-        boolean accepted = session.submitMove(frame.requestId(), x, y);
-        if (!accepted) {
-            session.sendPlaceStoneError(frame.requestId(), "SESSION_NOT_FOUND");
+        SubmissionResult result = session.submitMove(frame.requestId(), x, y);
+        if (!result.isAccepted()) {
+            session.sendPlaceStoneError(frame.requestId(), result.name());
         }
     }
 }
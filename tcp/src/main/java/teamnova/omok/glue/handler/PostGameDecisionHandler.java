@@ -4,7 +4,9 @@ import teamnova.omok.core.nio.FramedMessage;
 import teamnova.omok.core.nio.NioReactorServer;
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.handler.register.FrameHandler;
+import teamnova.omok.glue.handler.register.Type;
 import teamnova.omok.glue.message.decoder.StringDecoder;
 
 public class PostGameDecisionHandler implements FrameHandler {
@@ -16,11 +18,11 @@ public class PostGameDecisionHandler implements FrameHandler {
 
     @Override
     public void handle(NioReactorServer server, ClientSessionHandle session, FramedMessage frame) {
-        teamnova.omok.glue.client.session.log.ClientMessageLogger.inbound(session, teamnova.omok.glue.handler.register.Type.POST_GAME_DECISION, frame.requestId());
+        teamnova.omok.glue.client.session.log.ClientMessageLogger.inbound(session, Type.POST_GAME_DECISION, frame.requestId());
         if (!session.isAuthenticated()) {
             return;
         }
-        String raw = stringDecoder.decode(frame.payload());
+        String raw = stringDecoder.decode(frame.payloadView());
         String trimmed = raw == null ? "" : raw.trim();
         if (trimmed.isEmpty()) {
             return;
@@ -32,6 +34,9 @@ public class PostGameDecisionHandler implements FrameHandler {
             return;
         }
 
-        session.submitPostGameDecision(frame.requestId(), decision);
+        SubmissionResult result = session.submitPostGameDecision(frame.requestId(), decision);
+        if (!result.isAccepted()) {
+            session.sendRequestError(Type.POST_GAME_DECISION, frame.requestId(), result.name());
+        }
     }
 }
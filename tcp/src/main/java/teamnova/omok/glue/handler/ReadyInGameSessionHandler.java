@@ -2,17 +2,22 @@ package teamnova.omok.glue.handler;
 
 import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 import teamnova.omok.glue.client.session.log.ClientMessageLogger;
+import teamnova.omok.glue.game.session.model.SubmissionResult;
 import teamnova.omok.glue.handler.register.FrameHandler;
+import teamnova.omok.glue.handler.register.Type;
 import teamnova.omok.core.nio.FramedMessage;
 import teamnova.omok.core.nio.NioReactorServer;
 
 public class ReadyInGameSessionHandler implements FrameHandler {
     @Override
     public void handle(NioReactorServer server, ClientSessionHandle session, FramedMessage frame) {
-        ClientMessageLogger.inbound(session, teamnova.omok.glue.handler.register.Type.READY_IN_GAME_SESSION, frame.requestId());
+        ClientMessageLogger.inbound(session, Type.READY_IN_GAME_SESSION, frame.requestId());
         if (!session.isAuthenticated()) {
             return;
         }
-        session.submitReady(frame.requestId());
+        SubmissionResult result = session.submitReady(frame.requestId());
+        if (!result.isAccepted()) {
+            session.sendRequestError(Type.READY_IN_GAME_SESSION, frame.requestId(), result.name());
+        }
     }
 }
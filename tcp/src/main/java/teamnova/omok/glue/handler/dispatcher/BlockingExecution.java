@@ -0,0 +1,29 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+/**
+ * Selects where handlers flagged as blocking are executed.
+ */
+public enum BlockingExecution {
+    /**
+     * Blocking handlers share the bounded platform worker pool (or its dedicated
+     * blocking twin in {@link DispatchMode#KEYED_LANES} mode).
+     */
+    PLATFORM_POOL,
+    /**
+     * Blocking handlers run on JDK 21 virtual threads, gated by a concurrency limiter
+     * so bursts cannot open more database connections than configured.
+     */
+    VIRTUAL_THREADS;
+
+    public static BlockingExecution parse(String value, BlockingExecution fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return BlockingExecution.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            System.err.printf("Unknown blocking execution '%s', falling back to %s%n", value, fallback);
+            return fallback;
+        }
+    }
+}
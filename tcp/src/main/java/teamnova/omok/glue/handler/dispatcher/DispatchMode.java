@@ -0,0 +1,28 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+/**
+ * Selects how the {@link Dispatcher} schedules decoded frames onto worker threads.
+ */
+public enum DispatchMode {
+    /**
+     * Every frame is handed to a single shared pool with no ordering guarantees.
+     */
+    SHARED_POOL,
+    /**
+     * Frames from the same client run in arrival order on a per-session lane,
+     * and handlers marked as blocking are isolated on their own lane group.
+     */
+    KEYED_LANES;
+
+    public static DispatchMode parse(String value, DispatchMode fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return DispatchMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            System.err.printf("Unknown dispatch mode '%s', falling back to %s%n", value, fallback);
+            return fallback;
+        }
+    }
+}
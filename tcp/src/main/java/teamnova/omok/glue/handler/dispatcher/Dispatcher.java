@@ -1,11 +1,13 @@
 package teamnova.omok.glue.handler.dispatcher;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -17,16 +19,52 @@ import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
 
 /**
  * Dispatcher that delegates frames to registered handlers using a worker pool.
+ * In {@link DispatchMode#KEYED_LANES} mode frames are serialised per client session,
+ * and handlers flagged as blocking run on a separate executor so slow I/O cannot
+ * starve latency-sensitive frames such as moves and pings. A session's lane moves onto
+ * that executor for a blocking frame, so its later frames still wait behind it.
+ * With {@link BlockingExecution#VIRTUAL_THREADS} blocking handlers run on virtual
+ * threads behind a semaphore instead of occupying bounded platform workers.
  */
 public final class Dispatcher implements Closeable {
+    private final DispatchMode mode;
     private final ExecutorService executor;
+    private final ExecutorService blockingExecutor;
+    private final Semaphore blockingPermits;
+    private final SerialLaneGroup lanes;
     private final NioReactorServer server;
     private final Map<Integer, HandlerProvider> handlers = new ConcurrentHashMap<>();
 
     public Dispatcher(int poolSize, NioReactorServer server) {
+        this(poolSize, DispatcherConfig.defaults(), server);
+    }
+
+    public Dispatcher(int poolSize, DispatcherConfig config, NioReactorServer server) {
+        Objects.requireNonNull(config, "config");
         int size = Math.max(1, poolSize);
-        this.executor = Executors.newFixedThreadPool(size, new DispatcherThreadFactory());
+        this.mode = Objects.requireNonNull(config.mode, "mode");
+        this.executor = Executors.newFixedThreadPool(size, new DispatcherThreadFactory("dispatcher-"));
         this.server = Objects.requireNonNull(server, "server");
+        if (config.blockingExecution == BlockingExecution.VIRTUAL_THREADS) {
+            this.blockingExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("dispatcher-virtual-", 1).factory());
+            this.blockingPermits = new Semaphore(Math.max(1, config.blockingConcurrency), true);
+        } else if (mode == DispatchMode.KEYED_LANES) {
+            this.blockingExecutor = Executors.newFixedThreadPool(size, new DispatcherThreadFactory("dispatcher-blocking-"));
+            this.blockingPermits = null;
+        } else {
+            this.blockingExecutor = null;
+            this.blockingPermits = null;
+        }
+        if (mode == DispatchMode.KEYED_LANES) {
+            this.lanes = new SerialLaneGroup("lanes", executor);
+        } else {
+            this.lanes = null;
+        }
+    }
+
+    public DispatchMode mode() {
+        return mode;
     }
 
     public void register(int type, HandlerProvider provider) {
@@ -45,16 +83,71 @@ public final class Dispatcher implements Closeable {
         HandlerProvider provider = handlers.get(type);
         if (provider == null) {
             System.err.println("No handler registered for type " + type + ", dropping frame");
+            frame.release();
+            return;
+        }
+        boolean blocking = provider.isBlocking();
+        Runnable task = blocking && blockingPermits != null
+            ? () -> handleLimited(provider, session, frame)
+            : () -> handle(provider, session, frame);
+        if (mode == DispatchMode.SHARED_POOL) {
+            (blocking && blockingExecutor != null ? blockingExecutor : executor).execute(task);
             return;
         }
-        executor.execute(() -> {
+        lanes.submit(session, task, blocking ? blockingExecutor : executor);
+    }
+
+    private void handle(HandlerProvider provider, ClientSessionHandle session, FramedMessage frame) {
+        try {
             FrameHandler handler = provider.acquire();
-                handler.handle(server, session, frame);
-        });
+            handler.handle(server, session, frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    private void handleLimited(HandlerProvider provider, ClientSessionHandle session, FramedMessage frame) {
+        try {
+            blockingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            frame.release();
+            return;
+        }
+        try {
+            handle(provider, session, frame);
+        } finally {
+            blockingPermits.release();
+        }
+    }
+
+    /**
+     * Returns the pending frame count of every active lane. Empty in shared-pool mode.
+     */
+    public List<SerialLaneGroup.LaneMetrics> laneMetrics() {
+        if (mode == DispatchMode.SHARED_POOL) {
+            return List.of();
+        }
+        return lanes.metrics();
+    }
+
+    /**
+     * Number of blocking handlers waiting for a limiter permit. Always zero unless
+     * blocking handlers run on virtual threads.
+     */
+    public int blockingWaiters() {
+        return blockingPermits == null ? 0 : blockingPermits.getQueueLength();
     }
 
     @Override
     public void close() {
+        shutdown(executor);
+        if (blockingExecutor != null) {
+            shutdown(blockingExecutor);
+        }
+    }
+
+    private static void shutdown(ExecutorService executor) {
         executor.shutdownNow();
         try {
             if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
@@ -68,11 +161,16 @@ public final class Dispatcher implements Closeable {
 
     private static final class DispatcherThreadFactory implements ThreadFactory {
         private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+
+        private DispatcherThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
 
         @Override
         public Thread newThread(Runnable r) {
             Thread thread = new Thread(r);
-            thread.setName("dispatcher-" + counter.incrementAndGet());
+            thread.setName(prefix + counter.incrementAndGet());
             thread.setDaemon(true);
             return thread;
         }
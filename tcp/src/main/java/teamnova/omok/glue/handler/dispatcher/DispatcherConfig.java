@@ -0,0 +1,16 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+/**
+ * Tunable parameters for the {@link Dispatcher}.
+ * Defaults preserve the original shared-pool behaviour.
+ */
+public class DispatcherConfig {
+    public DispatchMode mode = DispatchMode.SHARED_POOL;
+    public BlockingExecution blockingExecution = BlockingExecution.PLATFORM_POOL;
+    // Upper bound of blocking handlers in flight when running on virtual threads
+    public int blockingConcurrency = 16;
+
+    public static DispatcherConfig defaults() {
+        return new DispatcherConfig();
+    }
+}
@@ -0,0 +1,149 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multiplexes ordered per-key lanes over a shared executor.
+ * Tasks submitted with the same key run one at a time in submission order,
+ * while tasks for different keys run concurrently on the underlying workers.
+ * Lanes are created on first use and dropped as soon as they drain.
+ * A task may name its own executor; the lane then moves onto that executor for the task and
+ * back afterwards, so later tasks for the key still wait behind it.
+ * If an executor rejects a lane, the lane's tasks stay queued and the next submit for that key
+ * schedules it again.
+ */
+public final class SerialLaneGroup {
+    private static final int MAX_TASKS_PER_TURN = 32;
+
+    private final String name;
+    private final Executor executor;
+    private final ConcurrentMap<Object, Lane> lanes = new ConcurrentHashMap<>();
+
+    public SerialLaneGroup(String name, Executor executor) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void submit(Object key, Runnable task) {
+        submit(key, task, executor);
+    }
+
+    /**
+     * Queues {@code task} on the lane for {@code key} and runs it on {@code taskExecutor}.
+     */
+    public void submit(Object key, Runnable task, Executor taskExecutor) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(task, "task");
+        Objects.requireNonNull(taskExecutor, "taskExecutor");
+        // compute() serialises enqueue against the drain check for this key only
+        lanes.compute(key, (k, lane) -> {
+            Lane target = lane != null ? lane : new Lane(k);
+            if (target.offer(new Task(task, taskExecutor))) {
+                target.schedule(taskExecutor);
+            }
+            return target;
+        });
+    }
+
+    public int laneCount() {
+        return lanes.size();
+    }
+
+    public int depth(Object key) {
+        Lane lane = lanes.get(key);
+        return lane == null ? 0 : lane.depth.get();
+    }
+
+    public List<LaneMetrics> metrics() {
+        List<LaneMetrics> snapshot = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            snapshot.add(new LaneMetrics(name, lane.key, lane.depth.get()));
+        }
+        return snapshot;
+    }
+
+    private record Task(Runnable body, Executor executor) { }
+
+    private final class Lane implements Runnable {
+        private final Object key;
+        private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger depth = new AtomicInteger();
+        // Guarded by the map bin lock taken in compute()
+        private boolean scheduled;
+        // Executor the lane is currently running on; only the running lane reads it
+        private Executor current;
+
+        private Lane(Object key) {
+            this.key = key;
+        }
+
+        // Called under the map bin lock; a rejected lane is left unscheduled so a later submit retries
+        private void schedule(Executor target) {
+            current = target;
+            try {
+                target.execute(this);
+            } catch (RejectedExecutionException e) {
+                scheduled = false;
+                throw e;
+            }
+        }
+
+        private boolean offer(Task task) {
+            tasks.add(task);
+            depth.incrementAndGet();
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                    Task head = tasks.peek();
+                    if (head == null || head.executor != current) {
+                        break;
+                    }
+                    tasks.poll();
+                    depth.decrementAndGet();
+                    try {
+                        head.body.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("[" + name + "] lane task failed for " + key + ": " + e.getMessage());
+                    }
+                }
+            } finally {
+                // Runs even when a task throws an Error, so the lane is never left marked as scheduled
+                lanes.compute(key, (k, lane) -> {
+                    if (tasks.isEmpty()) {
+                        scheduled = false;
+                        return lane == this ? null : lane;
+                    }
+                    try {
+                        schedule(tasks.peek().executor);
+                    } catch (RejectedExecutionException e) {
+                        System.err.println("[" + name + "] lane rescheduling rejected for " + key + ": " + e.getMessage());
+                    }
+                    return this;
+                });
+            }
+        }
+    }
+
+    public record LaneMetrics(String group, Object key, int depth) { }
+}
@@ -26,14 +26,15 @@ public final class DefaultHandlerRegistry implements HandlerRegistry {
     public void configure(Dispatcher dispatcher) {
         this.dispatcher = dispatcher;
         register(Type.HELLO, new HelloWorldHandler(helloWorldDecoder));
-        register(Type.AUTH, new AuthHandler(stringDecoder, DataManager.getInstance()));
+        registerBlocking(Type.AUTH, new AuthHandler(stringDecoder, DataManager.getInstance()));
         register(Type.PINGPONG, new PingPongHandler());
-        register(Type.JOIN_MATCH, new JoinMatchHandler(stringDecoder));
+        registerBlocking(Type.JOIN_MATCH, new JoinMatchHandler(stringDecoder));
         register(Type.LEAVE_MATCH, new LeaveMatchHandler());
         register(Type.LEAVE_IN_GAME_SESSION, new LeaveInGameSessionHandler());
         register(Type.READY_IN_GAME_SESSION, new ReadyInGameSessionHandler());
         register(Type.PLACE_STONE, new PlaceStoneHandler(stringDecoder));
         register(Type.POST_GAME_DECISION, new PostGameDecisionHandler(stringDecoder));
+        register(Type.BOARD_DELTA, new BoardDeltaHandler(stringDecoder));
     }
 
     public void register(Type type, FrameHandler frameHandler ) {
@@ -44,6 +45,14 @@ public final class DefaultHandlerRegistry implements HandlerRegistry {
         }
     }
 
+    public void registerBlocking(Type type, FrameHandler frameHandler) {
+        if (dispatcher == null) {
+            System.err.println("Dispatcher not configured yet");
+        } else {
+            dispatcher.register(type.value, HandlerProvider.blocking(HandlerProvider.singleton(frameHandler)));
+        }
+    }
+
     public void register(Type type, Supplier<FrameHandler> frameHandler ) {
         if (dispatcher == null) {
             System.err.println("Dispatcher not configured yet");
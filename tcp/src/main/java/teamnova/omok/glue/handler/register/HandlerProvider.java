@@ -6,6 +6,14 @@ import java.util.function.Supplier;
 public interface HandlerProvider {
     FrameHandler acquire();
 
+    /**
+     * Whether handlers from this provider perform blocking I/O (database, remote calls).
+     * The dispatcher keeps such handlers away from the latency-sensitive workers.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
     static HandlerProvider singleton(FrameHandler handler) {
         Objects.requireNonNull(handler, "handler");
         return () -> handler;
@@ -15,4 +23,19 @@ public interface HandlerProvider {
         Objects.requireNonNull(supplier, "supplier");
         return supplier::get;
     }
+
+    static HandlerProvider blocking(HandlerProvider provider) {
+        Objects.requireNonNull(provider, "provider");
+        return new HandlerProvider() {
+            @Override
+            public FrameHandler acquire() {
+                return provider.acquire();
+            }
+
+            @Override
+            public boolean isBlocking() {
+                return true;
+            }
+        };
+    }
 }
@@ -21,6 +21,8 @@ public enum Type {
     GAME_SESSION_PLAYER_DISCONNECTED(17),
     BOARD_UPDATED(18),
     LEAVE_MATCH(19),
+    // Client: opt in to binary board deltas; server: negotiation reply, keyframes and deltas
+    BOARD_DELTA(20),
 
     ERROR(255),
     ;
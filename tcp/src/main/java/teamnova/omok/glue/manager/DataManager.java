@@ -1,12 +1,23 @@
 package teamnova.omok.glue.manager;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import teamnova.omok.glue.data.DotenvService;
 import teamnova.omok.glue.data.JWTService;
 import teamnova.omok.glue.data.MysqlService;
+import teamnova.omok.glue.data.cache.UserProfileCache;
 import teamnova.omok.glue.data.model.JWTPayload;
 import teamnova.omok.glue.data.model.JwtVerificationException;
 import teamnova.omok.glue.data.model.UserData;
 import teamnova.omok.glue.data.model.UserScoreData;
+import teamnova.omok.glue.data.pool.ConnectionPool;
+import teamnova.omok.glue.data.pool.LatencyHistogram;
+import teamnova.omok.glue.data.wal.ScoreWriteBehindQueue;
 
 public class DataManager {
     private static DataManager instance;
@@ -26,12 +37,39 @@ public class DataManager {
     private final DotenvService dotenvService;
     private final MysqlService mysqlService;
     private final JWTService jwtService;
+    private final UserProfileCache profileCache;
+    // Null when the database is not configured or the log directory is unusable
+    private final ScoreWriteBehindQueue scoreQueue;
 
     private DataManager() {
         String basePath = System.getProperty("user.dir") + "/..";
         this.dotenvService = new DotenvService(basePath);
         this.mysqlService = new MysqlService(dotenvService);
         this.jwtService = new JWTService(dotenvService);
+        this.profileCache = new UserProfileCache(
+            parseLong(dotenvService.get("PROFILE_CACHE_TTL_MS"), 5 * 60_000L),
+            (int) parseLong(dotenvService.get("PROFILE_CACHE_MAX_ENTRIES"), 10_000L)
+        );
+        this.scoreQueue = mysqlService.isConfigured() ? openScoreQueue() : null;
+    }
+
+    private ScoreWriteBehindQueue openScoreQueue() {
+        String logPath = dotenvService.get("LOG_PATH");
+        if (logPath == null || logPath.isBlank()) {
+            logPath = System.getenv().getOrDefault("LOG_PATH", "logs");
+        }
+        Path file = Path.of(logPath, "score-write-behind.wal");
+        try {
+            return new ScoreWriteBehindQueue(file, deltas -> {
+                mysqlService.commitScoreDeltas(deltas);
+                // Drop anything read from the database while the change was still queued
+                profileCache.invalidateAll(deltas.keySet());
+                return true;
+            });
+        } catch (IOException e) {
+            System.err.println("[DataManager] score write-behind log unavailable, writing scores directly: " + e.getMessage());
+            return null;
+        }
     }
 
     public JWTPayload verify(String token) throws JwtVerificationException { return jwtService.verify(token); }
@@ -44,17 +82,117 @@ public class DataManager {
         return new UserData("", "", 0, UserData.Status.INACTIVE, 0);
     }
 
+    /**
+     * Reads a user through the profile cache; {@code defaultUserData} is returned, and not cached,
+     * when the user is missing or the database cannot be reached.
+     */
     public UserData findUser(String userId, UserData defaultUserData) {
-        return mysqlService.findUser(userId, defaultUserData);
+        if (userId == null || userId.isBlank()) {
+            return defaultUserData;
+        }
+        UserData user = profileCache.get(userId, id -> mysqlService.findUser(id, null));
+        return user != null ? user : defaultUserData;
+    }
+
+    /**
+     * Loads a freshly authenticated user into the profile cache so later lookups are served from memory.
+     */
+    public void prefetchUser(String userId) {
+        findUser(userId, null);
     }
 
     public UserScoreData getUserScore(String userId, int defaultScore) {
         return getUserScore(userId, UserScoreData.of(defaultScore));
     }
     public UserScoreData getUserScore(String userId, UserScoreData defaultScore) {
-        return mysqlService.getUserScore(userId, defaultScore);
+        Integer score = readScores(() -> {
+            UserData user = findUser(userId, null);
+            return user != null ? Map.of(userId, user.score()) : Map.of();
+        }).get(userId);
+        return score != null ? UserScoreData.of(score) : defaultScore;
     }
     public boolean adjustUserScore(String userId, int delta) {
+        if (userId != null) {
+            profileCache.invalidate(userId);
+        }
+        if (scoreQueue != null && delta != 0 && userId != null && !userId.isBlank()) {
+            return scoreQueue.submit(Map.of(userId, delta));
+        }
         return mysqlService.adjustUserScore(userId, delta);
     }
+
+    /**
+     * Scores of several users; cache misses are read with a single query. Unknown users are absent.
+     */
+    public Map<String, Integer> getUserScores(Collection<String> userIds) {
+        return readScores(() -> {
+            Map<String, Integer> scores = new HashMap<>();
+            profileCache.getAll(userIds, mysqlService::findUsers)
+                .forEach((userId, user) -> scores.put(userId, user.score()));
+            return scores;
+        });
+    }
+
+    /**
+     * Adds score changes logged but not yet in the database, so a settled game is reflected right
+     * away, before the write-behind worker catches up.
+     */
+    private Map<String, Integer> readScores(Supplier<Map<String, Integer>> committed) {
+        return scoreQueue != null ? scoreQueue.readScores(committed) : committed.get();
+    }
+
+    /**
+     * Records score changes. With the write-behind log available this returns once the changes
+     * are durable on disk; the database is updated in the background.
+     */
+    public boolean applyScoreDeltas(Map<String, Integer> deltas) {
+        if (deltas != null) {
+            profileCache.invalidateAll(deltas.keySet());
+        }
+        if (scoreQueue != null) {
+            return scoreQueue.submit(deltas);
+        }
+        return mysqlService.applyScoreDeltas(deltas);
+    }
+
+    /**
+     * Stops the score write-behind worker, then closes the connection pool. Call once nothing can
+     * submit score changes any more; changes still queued stay in the log and replay on the next start.
+     */
+    public void close() {
+        try {
+            if (scoreQueue != null) {
+                scoreQueue.close();
+            }
+        } finally {
+            mysqlService.close();
+        }
+    }
+
+    public ScoreWriteBehindQueue.Metrics scoreWriteBehindMetrics() {
+        return scoreQueue != null ? scoreQueue.metrics() : new ScoreWriteBehindQueue.Metrics(0, 0L, 0L, 0L);
+    }
+
+    public UserProfileCache.Metrics profileCacheMetrics() {
+        return profileCache.metrics();
+    }
+
+    public ConnectionPool.Metrics databasePoolMetrics() {
+        return mysqlService.poolMetrics();
+    }
+
+    public LatencyHistogram.Snapshot databaseQueryLatency() {
+        return mysqlService.queryLatency();
+    }
+
+    private static long parseLong(String value, long fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
 }
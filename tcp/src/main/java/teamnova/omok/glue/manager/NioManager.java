@@ -4,6 +4,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.Objects;
 import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.core.nio.NioServerConfig;
+import teamnova.omok.glue.handler.dispatcher.DispatcherConfig;
 import teamnova.omok.glue.handler.register.HandlerRegistry;
 
 /**
@@ -14,10 +16,20 @@ public final class NioManager implements Closeable {
     private final int port;
 
     public NioManager(int port, int workerCount, HandlerRegistry registry) throws IOException {
+        this(port, workerCount, NioServerConfig.defaults(), DispatcherConfig.defaults(), registry);
+    }
+
+    public NioManager(int port,
+                      int workerCount,
+                      NioServerConfig serverConfig,
+                      DispatcherConfig dispatcherConfig,
+                      HandlerRegistry registry) throws IOException {
         this.port = port;
         this.server = new NioReactorServer(
             port,
             workerCount,
+            Objects.requireNonNull(serverConfig, "serverConfig"),
+            Objects.requireNonNull(dispatcherConfig, "dispatcherConfig"),
             Objects.requireNonNull(registry, "registry")
         );
     }
@@ -14,16 +14,19 @@ public final class ServerLifecycleManager implements Closeable {
     private final GameSessionManager gameSessionManager;
     private final MatchingManager matchingManager;
     private final UserSessionManager userSessionManager;
+    private final DataManager dataManager;
     private final AtomicBoolean started = new AtomicBoolean(false);
 
     public ServerLifecycleManager( NioManager nioManager,
                                   GameSessionManager gameSessionManager,
                                   MatchingManager matchingManager,
-                                  UserSessionManager userSessionManager) {
+                                  UserSessionManager userSessionManager,
+                                  DataManager dataManager) {
         this.nioManager = Objects.requireNonNull(nioManager, "nioManager");
         this.gameSessionManager = Objects.requireNonNull(gameSessionManager, "gameSessionManager");
         this.matchingManager = Objects.requireNonNull(matchingManager, "matchingManager");
         this.userSessionManager = Objects.requireNonNull(userSessionManager, "userSessionManager");
+        this.dataManager = Objects.requireNonNull(dataManager, "dataManager");
     }
 
     public void start() {
@@ -52,7 +55,12 @@ public final class ServerLifecycleManager implements Closeable {
                 try {
                     nioManager.close();
                 } finally {
-                    gameSessionManager.close();
+                    try {
+                        // Drains pending score settlements before the data layer goes away
+                        gameSessionManager.close();
+                    } finally {
+                        dataManager.close();
+                    }
                 }
             }
         }
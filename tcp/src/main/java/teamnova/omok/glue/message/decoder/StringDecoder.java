@@ -8,12 +8,17 @@ import java.nio.charset.StandardCharsets;
  */
 public class StringDecoder {
     public String decode(ByteBuffer buffer) {
-        if (buffer == null) {
+        if (buffer == null || !buffer.hasRemaining()) {
             return "";
         }
-        byte[] data = new byte[buffer.remaining()];
-        buffer.get(data);
-        return decode(data);
+        if (buffer.hasArray()) {
+            String decoded = new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                buffer.remaining(), StandardCharsets.UTF_8);
+            buffer.position(buffer.limit());
+            return decoded;
+        }
+        // Direct or read-only views are decoded in place without an intermediate byte[]
+        return StandardCharsets.UTF_8.decode(buffer).toString();
     }
 
     public String decode(byte[] payload) {
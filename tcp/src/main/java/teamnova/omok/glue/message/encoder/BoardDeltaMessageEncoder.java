@@ -0,0 +1,75 @@
+package teamnova.omok.glue.message.encoder;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import teamnova.omok.glue.game.session.interfaces.session.GameSessionAccess;
+import teamnova.omok.glue.game.session.model.messages.BoardRevision;
+
+/**
+ * Binary BOARD_DELTA payloads, big-endian:
+ * <pre>
+ * byte  version        (1)
+ * byte  kind           0 = keyframe, 1 = delta
+ * long  sessionId msb, long sessionId lsb
+ * long  sequence       increases by one per broadcast board state
+ * long  updatedAt
+ * short width, short height
+ * keyframe: byte[width * height] cells
+ * delta:    short count, then count * (short index, byte stone)
+ * </pre>
+ * A delta applies only on top of {@code sequence - 1}; otherwise the client waits for the
+ * keyframe the server sends after any gap.
+ */
+public final class BoardDeltaMessageEncoder {
+    public static final byte VERSION = 1;
+    public static final byte KIND_KEYFRAME = 0;
+    public static final byte KIND_DELTA = 1;
+
+    private static final int HEADER_BYTES = 1 + 1 + 16 + 8 + 8 + 2 + 2;
+
+    private BoardDeltaMessageEncoder() { }
+
+    public static byte[] encodeKeyframe(GameSessionAccess session, BoardRevision revision) {
+        byte[] cells = revision.cells();
+        ByteBuffer buffer = header(session, revision, KIND_KEYFRAME, cells.length);
+        buffer.put(cells);
+        return buffer.array();
+    }
+
+    public static byte[] encodeDelta(GameSessionAccess session, BoardRevision revision) {
+        if (!revision.hasDelta()) {
+            throw new IllegalArgumentException("revision has no delta");
+        }
+        int[] changed = revision.changed();
+        byte[] cells = revision.cells();
+        ByteBuffer buffer = header(session, revision, KIND_DELTA, 2 + changed.length * 3);
+        buffer.putShort((short) changed.length);
+        for (int index : changed) {
+            buffer.putShort((short) index);
+            buffer.put(cells[index]);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Reply to a negotiation request: the agreed version, 0 when deltas stay off.
+     */
+    public static byte[] encodeNegotiated(int version) {
+        return new byte[]{(byte) version};
+    }
+
+    private static ByteBuffer header(GameSessionAccess session, BoardRevision revision, byte kind, int bodyBytes) {
+        UUID id = session.sessionId().asUuid();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyBytes);
+        buffer.put(VERSION)
+              .put(kind)
+              .putLong(id.getMostSignificantBits())
+              .putLong(id.getLeastSignificantBits())
+              .putLong(revision.sequence())
+              .putLong(revision.updatedAt())
+              .putShort((short) session.width())
+              .putShort((short) session.height());
+        return buffer;
+    }
+}
@@ -1,11 +1,29 @@
 package teamnova.omok.glue.rule.api;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
 public class RuleMetadata {
     public final RuleId id;
     public final int limitScore;
+    /**
+     * Trigger kinds for which {@link Rule#invoke} does any work. Rules that only act through a
+     * capability interface declare an empty set; the two-argument constructor keeps every trigger.
+     */
+    public final Set<RuleTriggerKind> triggers;
 
     public RuleMetadata(RuleId id, int limitScore) {
+        this(id, limitScore, EnumSet.allOf(RuleTriggerKind.class));
+    }
+
+    public RuleMetadata(RuleId id, int limitScore, Set<RuleTriggerKind> triggers) {
         this.id = id;
         this.limitScore = limitScore;
+        Objects.requireNonNull(triggers, "triggers");
+        this.triggers = Collections.unmodifiableSet(
+            triggers.isEmpty() ? EnumSet.noneOf(RuleTriggerKind.class) : EnumSet.copyOf(triggers)
+        );
     }
 }
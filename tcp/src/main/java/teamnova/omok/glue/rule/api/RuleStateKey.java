@@ -0,0 +1,59 @@
+package teamnova.omok.glue.rule.api;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Typed handle to one piece of per-session rule state.
+ * Each key is declared once as a static constant next to the rule (or service) that owns it
+ * and receives a dense slot index, so a session can keep its states in a plain array instead
+ * of a string-keyed map. State objects are created on first access by the key's factory and
+ * are mutated in place; they hold primitive fields directly rather than boxed map values.
+ * States are only touched on the shard worker that owns the session, so they need no locking.
+ *
+ * @param <S> state type produced by the factory
+ */
+public final class RuleStateKey<S> {
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    private final String name;
+    private final int slot;
+    private final Supplier<? extends S> factory;
+
+    private RuleStateKey(String name, int slot, Supplier<? extends S> factory) {
+        this.name = name;
+        this.slot = slot;
+        this.factory = factory;
+    }
+
+    public static <S> RuleStateKey<S> of(String name, Supplier<? extends S> factory) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(factory, "factory");
+        return new RuleStateKey<>(name, NEXT_SLOT.getAndIncrement(), factory);
+    }
+
+    /**
+     * Number of slots handed out so far; session stores size their arrays from this.
+     */
+    public static int slotCount() {
+        return NEXT_SLOT.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int slot() {
+        return slot;
+    }
+
+    public S create() {
+        return Objects.requireNonNull(factory.get(), "state");
+    }
+
+    @Override
+    public String toString() {
+        return "RuleStateKey[" + name + "#" + slot + "]";
+    }
+}
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -22,7 +23,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class AimMissRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.AIM_MISS,
-        1_000
+        1_000,
+        EnumSet.of(RuleTriggerKind.PRE_PLACEMENT)
     );
 
     private static final int[][] NEIGHBORS = {
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
@@ -21,7 +22,8 @@ public final class BlackViewRule implements Rule, BoardTransformRule {
 
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.BLACK_VIEW,
-        1_500
+        1_500,
+        EnumSet.of(RuleTriggerKind.GAME_START)
     );
 
     @Override
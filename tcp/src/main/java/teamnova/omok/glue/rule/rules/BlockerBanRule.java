@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
@@ -22,7 +24,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class BlockerBanRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.BLOCKER_BAN,
-        1_200
+        1_200,
+        EnumSet.of(RuleTriggerKind.POST_PLACEMENT)
     );
 
     @Override
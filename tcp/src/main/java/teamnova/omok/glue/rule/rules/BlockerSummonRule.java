@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -15,6 +16,8 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 
@@ -25,10 +28,12 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class BlockerSummonRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.BLOCKER_SUMMON,
-        0
+        0,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
 
-    private static final String LAST_ROUND_KEY = "rule:blockerSummon:lastRound";
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rule:blockerSummon:lastRound", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -54,8 +59,8 @@ public final class BlockerSummonRule implements Rule {
             return;
         }
         int roundNumber = Math.max(0, snapshot.roundNumber());
-        Object lastRound = access.getRuleData(LAST_ROUND_KEY);
-        if (lastRound instanceof Integer previous && previous == roundNumber) {
+        RoundMarker processed = access.ruleState(LAST_ROUND);
+        if (processed.isMarked(roundNumber)) {
             return;
         }
 
@@ -69,7 +74,7 @@ public final class BlockerSummonRule implements Rule {
         int[] origin = occupied.get(random.nextInt(occupied.size()));
         List<int[]> candidates = findEmptyNeighbors(board, origin[0], origin[1]);
         if (candidates.isEmpty()) {
-            access.putRuleData(LAST_ROUND_KEY, roundNumber);
+            processed.mark(roundNumber);
             return;
         }
         int[] target = candidates.get(random.nextInt(candidates.size()));
@@ -81,7 +86,7 @@ public final class BlockerSummonRule implements Rule {
             stateContext,
             new BoardSnapshotUpdate(boardSnapshot, System.currentTimeMillis())
         );
-        access.putRuleData(LAST_ROUND_KEY, roundNumber);
+        processed.mark(roundNumber);
     }
 
     private TurnSnapshot resolveSnapshot(RuleRuntimeContext runtime,
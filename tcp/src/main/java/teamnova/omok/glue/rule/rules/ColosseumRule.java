@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
@@ -9,6 +11,7 @@ import teamnova.omok.glue.rule.api.BoardSetupRule;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleTriggerKind;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -19,7 +22,8 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class ColosseumRule implements Rule, BoardSetupRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.COLOSSEUM,
-        600
+        600,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
 
     @Override
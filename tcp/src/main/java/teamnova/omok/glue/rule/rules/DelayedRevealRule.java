@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
@@ -29,7 +30,8 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class DelayedRevealRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.DELAYED_REVEAL,
-        2_300
+        2_300,
+        EnumSet.of(RuleTriggerKind.PRE_PLACEMENT, RuleTriggerKind.TURN_START)
     );
     public static final String SKIP_PLACEMENT_KEY = "rules.delayedReveal.skipPlacement";
     @Override
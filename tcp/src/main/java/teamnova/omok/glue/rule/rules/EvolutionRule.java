@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
@@ -11,8 +13,9 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.runtime.CellCounters;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -23,8 +26,11 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class EvolutionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.EVOLUTION,
-        500
+        500,
+        EnumSet.of(RuleTriggerKind.POST_PLACEMENT, RuleTriggerKind.TURN_ADVANCE)
     );
+    private static final RuleStateKey<CellCounters> AGES =
+        RuleStateKey.of("rules.evolution.ageMap", CellCounters::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -61,10 +67,7 @@ public final class EvolutionRule implements Rule {
             return;
         }
         int total = width * height;
-        int[] ages = (int[]) access.getRuleData(RuleDataKeys.EVOLUTION_AGE_MAP);
-        if (ages == null || ages.length != total) {
-            ages = new int[total];
-        }
+        int[] ages = access.ruleState(AGES).values(total);
         boolean changed = false;
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
@@ -82,7 +85,6 @@ public final class EvolutionRule implements Rule {
                 }
             }
         }
-        access.putRuleData(RuleDataKeys.EVOLUTION_AGE_MAP, ages);
         if (changed) {
             GameSessionMessenger messenger = runtime.services().messenger();
             if (messenger != null) {
@@ -1,14 +1,13 @@
 package teamnova.omok.glue.rule.rules;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.EnumSet;
 import java.util.concurrent.ThreadLocalRandom;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
+import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
@@ -17,7 +16,10 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.CellCounters;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
+import teamnova.omok.glue.rule.runtime.RuleScratch;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 
 /**
@@ -28,10 +30,13 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class InfectionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.INFECTION,
-        1_100
+        1_100,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
 
-    private static final String DATA_KEY = "rule:infection:active";
+    // Remaining lifetime per cell index; zero means the cell is not infected
+    private static final RuleStateKey<CellCounters> INFECTIONS =
+        RuleStateKey.of("rule:infection:active", CellCounters::new);
     private static final int INFECTION_LIFETIME = 3;
     private static final double BASE_INFECTION_PROBABILITY = 0.2d;
     private static final double ADJACENT_INFECTION_PROBABILITY = 0.70d;
@@ -42,7 +47,6 @@ public final class InfectionRule implements Rule {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public void invoke(GameSessionRuleAccess access, RuleRuntimeContext runtime) {
         if (access == null || runtime == null || runtime.triggerKind() != RuleTriggerKind.TURN_ROUND_COMPLETED) {
             return;
@@ -53,12 +57,7 @@ public final class InfectionRule implements Rule {
             return;
         }
         GameSessionBoardAccess board = stateContext.board();
-        Map<Integer, Integer> infections =
-            (Map<Integer, Integer>) access.getRuleData(DATA_KEY);
-        if (infections == null) {
-            infections = new HashMap<>();
-            access.putRuleData(DATA_KEY, infections);
-        }
+        int[] infections = access.ruleState(INFECTIONS).values(board.width() * board.height());
 
         TurnSnapshot snapshot = runtime.turnSnapshot();
         if (snapshot == null) {
@@ -77,25 +76,23 @@ public final class InfectionRule implements Rule {
 
     private boolean decayAndConvert(GameSessionBoardAccess board,
                                     GameSessionServices services,
-                                    Map<Integer, Integer> infections,
+                                    int[] infections,
                                     TurnSnapshot snapshot) {
         boolean mutated = false;
-        List<Integer> toConvert = new ArrayList<>();
-        for (Map.Entry<Integer, Integer> entry : infections.entrySet()) {
-            int remaining = entry.getValue() - 1;
-            if (remaining <= 0) {
-                toConvert.add(entry.getKey());
-            } else {
-                entry.setValue(remaining);
+        StonePlacementMetadata metadata = null;
+        int width = board.width();
+        for (int index = 0; index < infections.length; index++) {
+            if (infections[index] <= 0) {
+                continue;
             }
-        }
-        StonePlacementMetadata metadata = buildMetadata(snapshot);
-        for (Integer index : toConvert) {
-            int width = board.width();
-            int x = index % width;
-            int y = index / width;
-            services.boardService().setStone(board, x, y, Stone.BLOCKER, metadata);
-            infections.remove(index);
+            infections[index]--;
+            if (infections[index] > 0) {
+                continue;
+            }
+            if (metadata == null) {
+                metadata = buildMetadata(snapshot);
+            }
+            services.boardService().setStone(board, index % width, index / width, Stone.BLOCKER, metadata);
             mutated = true;
         }
         return mutated;
@@ -103,9 +100,12 @@ public final class InfectionRule implements Rule {
 
     private boolean propagateInfections(GameSessionBoardAccess board,
                                         GameSessionServices services,
-                                        Map<Integer, Integer> infections) {
-        List<int[]> candidates = collectHealthyStones(board, infections);
-        if (candidates.isEmpty()) {
+                                        int[] infections) {
+        GameBoardService boardService = services.boardService();
+        int total = board.width() * board.height();
+        int[] cells = RuleScratch.cells(0, total);
+        int healthy = collectHealthyStones(board, boardService, infections, cells);
+        if (healthy == 0) {
             return false;
         }
 
@@ -114,72 +114,46 @@ public final class InfectionRule implements Rule {
 
         // Random ambient infection
         if (random.nextDouble() < BASE_INFECTION_PROBABILITY) {
-            int[] pick = candidates.get(random.nextInt(candidates.size()));
-            int idx = linearIndex(board, pick[0], pick[1]);
-            infections.putIfAbsent(idx, INFECTION_LIFETIME);
+            infections[cells[random.nextInt(healthy)]] = INFECTION_LIFETIME;
         }
 
         // Spread from blockers
-        List<int[]> adjacentCandidates = collectAdjacentToBlocker(board, infections);
-        for (int[] cell : adjacentCandidates) {
-            if (random.nextDouble() < ADJACENT_INFECTION_PROBABILITY) {
-                int idx = linearIndex(board, cell[0], cell[1]);
-                if (!infections.containsKey(idx)) {
-                    infections.put(idx, INFECTION_LIFETIME);
-                    mutated = true;
-                }
-            }
-        }
-        return mutated;
-    }
-
-    private List<int[]> collectHealthyStones(GameSessionBoardAccess board,
-                                             Map<Integer, Integer> infections) {
-        List<int[]> result = new ArrayList<>();
-        for (int y = 0; y < board.height(); y++) {
-            for (int x = 0; x < board.width(); x++) {
-                Stone stone = board.stoneAt(x, y);
-                if (!stone.isPlayerStone()) {
+        int width = board.width();
+        int blockers = boardService.collectCells(board, Stone.BLOCKER.mask(), cells);
+        for (int i = 0; i < blockers; i++) {
+            int x = cells[i] % width;
+            int y = cells[i] / width;
+            for (int[] offset : Connectivity.FOUR_WAY.offsets()) {
+                int nx = x + offset[0];
+                int ny = y + offset[1];
+                if (!board.isWithinBounds(nx, ny) || !board.stoneAt(nx, ny).isPlayerStone()) {
                     continue;
                 }
-                int idx = linearIndex(board, x, y);
-                if (infections.containsKey(idx)) {
+                int idx = ny * width + nx;
+                if (infections[idx] > 0) {
                     continue;
                 }
-                result.add(new int[]{x, y});
+                if (random.nextDouble() < ADJACENT_INFECTION_PROBABILITY) {
+                    infections[idx] = INFECTION_LIFETIME;
+                    mutated = true;
+                }
             }
         }
-        return result;
+        return mutated;
     }
 
-    private List<int[]> collectAdjacentToBlocker(GameSessionBoardAccess board,
-                                                 Map<Integer, Integer> infections) {
-        List<int[]> result = new ArrayList<>();
-        int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
-        for (int y = 0; y < board.height(); y++) {
-            for (int x = 0; x < board.width(); x++) {
-                if (board.stoneAt(x, y) != Stone.BLOCKER) {
-                    continue;
-                }
-                for (int[] dir : dirs) {
-                    int nx = x + dir[0];
-                    int ny = y + dir[1];
-                    if (!board.isWithinBounds(nx, ny)) {
-                        continue;
-                    }
-                    Stone neighbour = board.stoneAt(nx, ny);
-                    if (!neighbour.isPlayerStone()) {
-                        continue;
-                    }
-                    int idx = linearIndex(board, nx, ny);
-                    if (infections.containsKey(idx)) {
-                        continue;
-                    }
-                    result.add(new int[]{nx, ny});
-                }
+    private int collectHealthyStones(GameSessionBoardAccess board,
+                                     GameBoardService boardService,
+                                     int[] infections,
+                                     int[] out) {
+        int count = boardService.collectCells(board, Stone.PLAYER_MASK, out);
+        int healthy = 0;
+        for (int i = 0; i < count; i++) {
+            if (infections[out[i]] == 0) {
+                out[healthy++] = out[i];
             }
         }
-        return result;
+        return healthy;
     }
 
     private StonePlacementMetadata buildMetadata(TurnSnapshot snapshot) {
@@ -188,8 +162,4 @@ public final class InfectionRule implements Rule {
         }
         return StonePlacementMetadata.systemGenerated();
     }
-
-    private int linearIndex(GameSessionBoardAccess board, int x, int y) {
-        return y * board.width() + x;
-    }
 }
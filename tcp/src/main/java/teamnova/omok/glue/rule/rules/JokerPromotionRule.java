@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
@@ -21,7 +23,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class JokerPromotionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.JOKER_PROMOTION,
-        2_000
+        2_000,
+        EnumSet.of(RuleTriggerKind.POST_PLACEMENT, RuleTriggerKind.TURN_ADVANCE)
     );
 
     @Override
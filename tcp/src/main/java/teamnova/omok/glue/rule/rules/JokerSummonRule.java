@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -15,6 +16,8 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 
@@ -26,10 +29,12 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class JokerSummonRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.JOKER_SUMMON,
-        0
+        0,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
 
-    private static final String LAST_ROUND_KEY = "rule:jokerSummon:lastRound";
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rule:jokerSummon:lastRound", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -61,8 +66,8 @@ public final class JokerSummonRule implements Rule {
         if (roundNumber <= 0 || roundNumber % 2 != 0) {
             return;
         }
-        Object lastRound = access.getRuleData(LAST_ROUND_KEY);
-        if (lastRound instanceof Integer previous && previous == roundNumber) {
+        RoundMarker processed = access.ruleState(LAST_ROUND);
+        if (processed.isMarked(roundNumber)) {
             return;
         }
 
@@ -77,7 +82,7 @@ public final class JokerSummonRule implements Rule {
             }
         }
         if (empties.isEmpty()) {
-            access.putRuleData(LAST_ROUND_KEY, roundNumber);
+            processed.mark(roundNumber);
             return;
         }
 
@@ -91,6 +96,6 @@ public final class JokerSummonRule implements Rule {
             stateContext,
             new BoardSnapshotUpdate(boardSnapshot, System.currentTimeMillis())
         );
-        access.putRuleData(LAST_ROUND_KEY, roundNumber);
+        processed.mark(roundNumber);
     }
 }
@@ -1,19 +1,21 @@
 package teamnova.omok.glue.rule.rules;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
 
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
 import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
+import teamnova.omok.glue.rule.runtime.RuleScratch;
 
 /**
  * 뭉쳐야 산다: 전체 라운드 기준으로 5라운드마다 주변에 돌이 가장 적은 돌들을 제거한다.
@@ -24,10 +26,13 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class LowDensityPurgeRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.LOW_DENSITY_PURGE,
-        1_700
+        1_700,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
-    private static final int[] NEIGHBOR_DX = {1, -1, 0, 0};
-    private static final int[] NEIGHBOR_DY = {0, 0, 1, -1};
+    // Non-empty, non-blocking stones both take part in and count towards density
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rules.lowDensity.lastRound", RoundMarker::new);
+    private static final int DENSITY_MASK = Stone.OCCUPIED_MASK & ~Stone.BLOCKER.mask();
 
     @Override
     public RuleMetadata getMetadata() {
@@ -49,8 +54,8 @@ public final class LowDensityPurgeRule implements Rule {
         if (roundNumber <= 0 || roundNumber % 5 != 0) {
             return;
         }
-        Integer lastProcessed = (Integer) access.getRuleData(RuleDataKeys.LOW_DENSITY_LAST_ROUND);
-        if (lastProcessed != null && lastProcessed == roundNumber) {
+        RoundMarker processed = access.ruleState(LAST_ROUND);
+        if (processed.isMarked(roundNumber)) {
             return;
         }
         GameSessionBoardAccess board = runtime.stateContext().board();
@@ -64,64 +69,33 @@ public final class LowDensityPurgeRule implements Rule {
             return;
         }
         int total = width * height;
-        int[] neighborCounts = new int[total];
-        for (int i = 0; i < neighborCounts.length; i++) {
-            neighborCounts[i] = -1;
-        }
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int index = y * width + x;
-                Stone stone = board.stoneAt(x, y);
-                if (stone == null || stone == Stone.EMPTY || stone.isBlocking()) {
-                    continue;
-                }
-                int count = 0;
-                for (int i = 0; i < NEIGHBOR_DX.length; i++) {
-                    int nx = x + NEIGHBOR_DX[i];
-                    int ny = y + NEIGHBOR_DY[i];
-                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
-                        continue;
-                    }
-                    Stone neighbor = board.stoneAt(nx, ny);
-                    if (neighbor != null && neighbor != Stone.EMPTY && !neighbor.isBlocking()) {
-                        count++;
-                    }
-                }
-                neighborCounts[index] = count;
-            }
-        }
+        int[] stones = RuleScratch.cells(0, total);
+        int[] neighborCounts = RuleScratch.cells(1, total);
+        int stoneCount = boardService.collectCells(board, DENSITY_MASK, stones);
         int minCount = Integer.MAX_VALUE;
-        for (int count : neighborCounts) {
-            if (count >= 0 && count < minCount) {
+        for (int i = 0; i < stoneCount; i++) {
+            int count = boardService.countNeighbors(board, stones[i], Connectivity.FOUR_WAY, DENSITY_MASK);
+            neighborCounts[i] = count;
+            if (count < minCount) {
                 minCount = count;
             }
         }
         if (minCount == Integer.MAX_VALUE) {
-            access.putRuleData(RuleDataKeys.LOW_DENSITY_LAST_ROUND, roundNumber);
+            processed.mark(roundNumber);
             return;
         }
-        List<Integer> purgeIndices = new ArrayList<>();
-        for (int index = 0; index < neighborCounts.length; index++) {
-            if (neighborCounts[index] < 0) {
-                continue;
-            }
-            if (neighborCounts[index] == minCount) {
-                purgeIndices.add(index);
+        // Compact the purge targets to the front of the stone buffer
+        int purgeCount = 0;
+        for (int i = 0; i < stoneCount; i++) {
+            if (neighborCounts[i] == minCount) {
+                stones[purgeCount++] = stones[i];
             }
         }
-        if (purgeIndices.isEmpty()) {
-            access.putRuleData(RuleDataKeys.LOW_DENSITY_LAST_ROUND, roundNumber);
-            return;
-        }
-        for (int index : purgeIndices) {
-            int x = index % width;
-            int y = index / width;
-            boardService.setStone(board, x, y, Stone.EMPTY, null);
-        }
+        boardService.setStones(board, stones, purgeCount, Stone.EMPTY, null);
         GameSessionMessenger messenger = runtime.services().messenger();
         if (messenger != null) {
             messenger.broadcastBoardSnapshot(runtime.stateContext().session());
         }
-        access.putRuleData(RuleDataKeys.LOW_DENSITY_LAST_ROUND, roundNumber);
+        processed.mark(roundNumber);
     }
 }
@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -22,7 +23,8 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class LuckySevenRule implements Rule, OutcomeRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.LUCKY_SEVEN,
-        2_100
+        2_100,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
 
     @Override
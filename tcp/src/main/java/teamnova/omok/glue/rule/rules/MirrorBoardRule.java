@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
@@ -23,7 +25,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class MirrorBoardRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.MIRROR_BOARD,
-        1_300
+        1_300,
+        EnumSet.of(RuleTriggerKind.POST_PLACEMENT)
     );
 
     @Override
@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -22,7 +23,8 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class NewPlayerRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.NEW_PLAYER,
-        2_200
+        2_200,
+        EnumSet.of(RuleTriggerKind.OUTCOME_EVALUATION)
     );
 
     private static final Set<Stone> SPECIAL_STONES = Set.of(Stone.JOKER, Stone.BLOCKER);
@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -25,7 +26,8 @@ public final class ProtectiveZoneRule implements Rule {
 
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.PROTECTIVE_ZONE,
-        1_800
+        1_800,
+        EnumSet.of(RuleTriggerKind.MOVE_VALIDATION, RuleTriggerKind.POST_PLACEMENT)
     );
 
     private static final int[][] NEIGHBORS = {
@@ -1,14 +1,13 @@
 package teamnova.omok.glue.rule.rules;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.EnumSet;
 import java.util.concurrent.ThreadLocalRandom;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionParticipantsAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
 import teamnova.omok.glue.game.session.model.dto.TurnSnapshot;
 import teamnova.omok.glue.game.session.model.messages.BoardSnapshotUpdate;
@@ -17,7 +16,10 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
+import teamnova.omok.glue.rule.runtime.RuleScratch;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 
 /**
@@ -29,10 +31,12 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class RandomMoveRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.RANDOM_MOVE,
-        1_600
+        1_600,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
 
-    private static final String LAST_ROUND_KEY = "rule:randomMove:lastRound";
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rule:randomMove:lastRound", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -56,26 +60,30 @@ public final class RandomMoveRule implements Rule {
         int roundNumber = snapshot != null
             ? snapshot.roundNumber()
             : stateContext.turns().counters().roundNumber();
-        Object last = acces.getRuleData(LAST_ROUND_KEY);
-        if (last instanceof Integer processed && processed == roundNumber) {
+        RoundMarker processed = acces.ruleState(LAST_ROUND);
+        if (processed.isMarked(roundNumber)) {
             return;
         }
 
         GameSessionBoardAccess board = stateContext.board();
-        List<int[]> stones = collectPlayerStones(board);
-        if (stones.isEmpty()) {
-            acces.putRuleData(LAST_ROUND_KEY, roundNumber);
+        GameSessionParticipantsAccess participants = stateContext.participants();
+        int[] stones = RuleScratch.cells(0, board.width() * board.height());
+        int attempts = services.boardService().sampleCells(
+            board,
+            Stone.PLAYER_MASK,
+            stones,
+            participants.getUserIds().size(),
+            ThreadLocalRandom.current()
+        );
+        if (attempts == 0) {
+            processed.mark(roundNumber);
             return;
         }
-        Collections.shuffle(stones, ThreadLocalRandom.current());
-        GameSessionParticipantsAccess participants = stateContext.participants();
-        int attempts = Math.min(participants.getUserIds().size(), stones.size());
 
         boolean moved = false;
         StonePlacementMetadata metadata = buildMetadata(snapshot);
         for (int i = 0; i < attempts; i++) {
-            int[] pos = stones.get(i);
-            moved |= tryMove(board, services, pos[0], pos[1], metadata);
+            moved |= tryMove(board, services, stones[i], metadata);
         }
 
         if (moved) {
@@ -84,49 +92,30 @@ public final class RandomMoveRule implements Rule {
                 .postGame()
                 .queueBoardSnapshot(stateContext, new BoardSnapshotUpdate(bytes, System.currentTimeMillis()));
         }
-        acces.putRuleData(LAST_ROUND_KEY, roundNumber);
-    }
-
-    private List<int[]> collectPlayerStones(GameSessionBoardAccess board) {
-        List<int[]> result = new ArrayList<>();
-        for (int y = 0; y < board.height(); y++) {
-            for (int x = 0; x < board.width(); x++) {
-                Stone stone = board.stoneAt(x, y);
-                if (stone.isPlayerStone()) {
-                    result.add(new int[]{x, y});
-                }
-            }
-        }
-        return result;
+        processed.mark(roundNumber);
     }
 
     private boolean tryMove(GameSessionBoardAccess board,
                             GameSessionServices services,
-                            int x,
-                            int y,
+                            int index,
                             StonePlacementMetadata metadata) {
-        Stone stone = board.stoneAt(x, y);
+        int width = board.width();
+        Stone stone = board.stoneAt(index % width, index / width);
         if (!stone.isPlayerStone()) {
             return false;
         }
-        int[][] dirs = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
-        List<int[]> candidates = new ArrayList<>();
-        for (int[] dir : dirs) {
-            int nx = x + dir[0];
-            int ny = y + dir[1];
-            if (!board.isWithinBounds(nx, ny)) {
-                continue;
-            }
-            if (board.isEmpty(nx, ny)) {
-                candidates.add(new int[]{nx, ny});
-            }
-        }
-        if (candidates.isEmpty()) {
+        int target = services.boardService().randomNeighbor(
+            board,
+            index,
+            Connectivity.FOUR_WAY,
+            Stone.EMPTY.mask(),
+            ThreadLocalRandom.current()
+        );
+        if (target < 0) {
             return false;
         }
-        int[] pick = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
-        services.boardService().setStone(board, x, y, Stone.EMPTY, null);
-        services.boardService().setStone(board, pick[0], pick[1], stone, metadata);
+        services.boardService().setStone(board, index % width, index / width, Stone.EMPTY, null);
+        services.boardService().setStone(board, target % width, target / width, stone, metadata);
         return true;
     }
 
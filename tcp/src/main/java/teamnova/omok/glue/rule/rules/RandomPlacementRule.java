@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.concurrent.ThreadLocalRandom;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
@@ -21,7 +22,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class RandomPlacementRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.RANDOM_PLACEMENT,
-        300
+        300,
+        EnumSet.of(RuleTriggerKind.PRE_PLACEMENT)
     );
 
     @Override
@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
@@ -25,7 +26,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class ReversiConversionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.REVERSI_CONVERSION,
-        700
+        700,
+        EnumSet.of(RuleTriggerKind.POST_PLACEMENT)
     );
 
     private static final int[][] DIRECTIONS = {
@@ -2,16 +2,18 @@ package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 import teamnova.omok.glue.rule.api.TurnOrderAdjustment;
 import teamnova.omok.glue.rule.api.TurnOrderRule;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -23,8 +25,11 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class RoundTripTurnsRule implements Rule, TurnOrderRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.ROUND_TRIP_TURNS,
-            100
+            100,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rules.roundTrip.lastRound", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -47,8 +52,8 @@ public final class RoundTripTurnsRule implements Rule, TurnOrderRule {
             return current;
         }
         int currentRound = runtime.turnSnapshot().counters().roundNumber();
-        Integer lastRound = (Integer) access.getRuleData(RuleDataKeys.ROUND_TRIP_LAST_ROUND);
-        if (lastRound != null && lastRound == currentRound) {
+        RoundMarker processed = access.ruleState(LAST_ROUND);
+        if (processed.isMarked(currentRound)) {
             return current; // already applied for this round
         }
         if (runtime.stateContext() == null || runtime.stateContext().turns() == null) {
@@ -56,13 +61,13 @@ public final class RoundTripTurnsRule implements Rule, TurnOrderRule {
         }
         List<String> currentOrder = current.order();
         if (currentOrder.size() <= 1) {
-            access.putRuleData(RuleDataKeys.ROUND_TRIP_LAST_ROUND, currentRound);
+            processed.mark(currentRound);
             return current;
         }
         List<String> nextOrder = new ArrayList<>(currentOrder);
         Collections.reverse(nextOrder);
         // NOTE: 매 라운드마다 순서를 뒤집어 왕복을 만들고, 고정 참가자 인덱스는 다른 계층에서 사용한다.
-        access.putRuleData(RuleDataKeys.ROUND_TRIP_LAST_ROUND, currentRound);
+        processed.mark(currentRound);
         return current.withOrder(nextOrder);
     }
 }
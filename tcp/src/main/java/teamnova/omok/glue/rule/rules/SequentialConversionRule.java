@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
@@ -23,7 +24,8 @@ import teamnova.omok.glue.game.session.model.Stone;
 public final class SequentialConversionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.SEQUENTIAL_CONVERSION,
-        200
+        200,
+        EnumSet.of(RuleTriggerKind.TURN_START)
     );
 
     @Override
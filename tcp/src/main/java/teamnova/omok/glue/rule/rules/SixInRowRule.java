@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,7 +16,8 @@ import teamnova.omok.glue.rule.api.OutcomeRule;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -26,8 +28,11 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class SixInRowRule implements Rule, OutcomeRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.SIX_IN_ROW,
-        400
+        400,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
+    private static final RuleStateKey<RoundMarker> LAST_TURN =
+        RuleStateKey.of("rules.sixInRow.lastTurn", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -49,8 +54,8 @@ public final class SixInRowRule implements Rule, OutcomeRule {
             return Optional.empty();
         }
         int turnNumber = runtime.turnSnapshot() != null ? runtime.turnSnapshot().turnNumber() : -1;
-        Integer lastTurn = (Integer) access.getRuleData(RuleDataKeys.SIX_IN_ROW_LAST_TURN);
-        if (lastTurn != null && lastTurn == turnNumber) {
+        RoundMarker processed = access.ruleState(LAST_TURN);
+        if (processed.isMarked(turnNumber)) {
             return Optional.empty();
         }
         GameSessionBoardAccess board = runtime.stateContext().board();
@@ -75,7 +80,7 @@ public final class SixInRowRule implements Rule, OutcomeRule {
         if (assignments.isEmpty()) {
             return Optional.empty();
         }
-        access.putRuleData(RuleDataKeys.SIX_IN_ROW_LAST_TURN, turnNumber);
+        processed.mark(turnNumber);
         return Optional.of(OutcomeResolution.of(assignments, true));
     }
 
@@ -1,5 +1,6 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
@@ -9,9 +10,9 @@ import teamnova.omok.glue.game.session.services.TurnBudgetManager;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 import teamnova.omok.glue.rule.api.TurnBudgetRule;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -21,9 +22,12 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class SpeedGame2Rule implements Rule, TurnBudgetRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.SPEED_GAME_2,
-        900
+        900,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
     private static final long TOTAL_BUDGET_MILLIS = 100_000L;
+    private static final RuleStateKey<TurnClock> LAST_TURN =
+        RuleStateKey.of("rules.speedGame2.lastTurn", TurnClock::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -54,25 +58,23 @@ public final class SpeedGame2Rule implements Rule, TurnBudgetRule {
             }
             case TURN_START -> {
                 if (runtime.turnSnapshot() != null) {
-                    access.putRuleData(RuleDataKeys.SPEED_GAME_LAST_PLAYER, runtime.turnSnapshot().currentPlayerId());
-                    access.putRuleData(RuleDataKeys.SPEED_GAME_LAST_TURN_START, runtime.turnSnapshot().turnStartAt());
+                    access.ruleState(LAST_TURN).record(runtime.turnSnapshot().currentPlayerId(), runtime.turnSnapshot().turnStartAt());
                 }
                 return false;
             }
             case TURN_ADVANCE -> {
-                String lastPlayer = (String) access.getRuleData(RuleDataKeys.SPEED_GAME_LAST_PLAYER);
-                Long lastStart = (Long) access.getRuleData(RuleDataKeys.SPEED_GAME_LAST_TURN_START);
-                if (lastPlayer != null && lastStart != null && runtime.turnSnapshot() != null) {
+                TurnClock last = access.ruleState(LAST_TURN);
+                String lastPlayer = last.playerId;
+                if (lastPlayer != null && runtime.turnSnapshot() != null) {
                     long nextStart = runtime.turnSnapshot().turnStartAt();
-                    long elapsed = Math.max(0L, nextStart - lastStart);
+                    long elapsed = Math.max(0L, nextStart - last.startedAt);
                     long remaining = manager.decrement(access, lastPlayer, elapsed);
                     if (remaining <= 0L) {
                         resolveTimeoutLoss(runtime, lastPlayer);
                     }
                 }
                 if (runtime.turnSnapshot() != null) {
-                    access.putRuleData(RuleDataKeys.SPEED_GAME_LAST_PLAYER, runtime.turnSnapshot().currentPlayerId());
-                    access.putRuleData(RuleDataKeys.SPEED_GAME_LAST_TURN_START, runtime.turnSnapshot().turnStartAt());
+                    last.record(runtime.turnSnapshot().currentPlayerId(), runtime.turnSnapshot().turnStartAt());
                 }
                 return true;
             }
@@ -95,4 +97,14 @@ public final class SpeedGame2Rule implements Rule, TurnBudgetRule {
             messenger.broadcastGameCompleted(context.session());
         }
     }
+
+    private static final class TurnClock {
+        private String playerId;
+        private long startedAt;
+
+        private void record(String playerId, long startedAt) {
+            this.playerId = playerId;
+            this.startedAt = startedAt;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
+
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionTurnAccess;
 import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
@@ -20,7 +22,8 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public final class SpeedGameRule implements Rule, TurnTimingRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.SPEED_GAME,
-        0
+        0,
+        EnumSet.of(RuleTriggerKind.GAME_START)
     );
 
     private static final long FAST_DURATION_MILLIS = 5_000L;
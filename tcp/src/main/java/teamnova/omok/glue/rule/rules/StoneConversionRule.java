@@ -1,6 +1,7 @@
 package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -15,6 +16,8 @@ import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 
@@ -25,10 +28,12 @@ import teamnova.omok.glue.rule.api.RuleTriggerKind;
 public class StoneConversionRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.STONE_CONVERSION,
-        0
+        0,
+        EnumSet.of(RuleTriggerKind.TURN_ROUND_COMPLETED)
     );
 
-    private static final String LAST_TRIGGER_KEY = "rule:stoneConversion:lastCompletedTurns";
+    private static final RuleStateKey<RoundMarker> LAST_TRIGGER =
+        RuleStateKey.of("rule:stoneConversion:lastCompletedTurns", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -61,8 +66,8 @@ public class StoneConversionRule implements Rule {
         if (roundNumber <= 0 || roundNumber % 5 != 0) {
             return;
         }
-        Object lastTrigger = context.getRuleData(LAST_TRIGGER_KEY);
-        if (lastTrigger instanceof Integer lastRound && lastRound == roundNumber) {
+        RoundMarker processed = context.ruleState(LAST_TRIGGER);
+        if (processed.isMarked(roundNumber)) {
             return;
         }
 
@@ -103,6 +108,6 @@ public class StoneConversionRule implements Rule {
             mutated = true;
         }
 
-        context.putRuleData(LAST_TRIGGER_KEY, roundNumber);
+        processed.mark(roundNumber);
     }
 }
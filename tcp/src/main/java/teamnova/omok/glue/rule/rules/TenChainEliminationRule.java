@@ -1,21 +1,22 @@
 package teamnova.omok.glue.rule.rules;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 
+import teamnova.omok.glue.game.session.interfaces.GameBoardService;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.game.session.model.PlayerResult;
 import teamnova.omok.glue.game.session.model.Stone;
-import teamnova.omok.glue.game.session.model.board.ConnectedGroup;
 import teamnova.omok.glue.game.session.model.board.Connectivity;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -26,8 +27,11 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class TenChainEliminationRule implements Rule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.TEN_CHAIN_ELIMINATION,
-        800
+        800,
+        EnumSet.of(RuleTriggerKind.OUTCOME_EVALUATION)
     );
+    private static final RuleStateKey<RoundMarker> LAST_TURN =
+        RuleStateKey.of("rules.tenChain.lastTurn", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -53,15 +57,13 @@ public final class TenChainEliminationRule implements Rule {
         }
 
         int turnNumber = resolveTurnNumber(runtime);
-        Integer lastTurn = (Integer) context.getRuleData(RuleDataKeys.TEN_CHAIN_LAST_TURN);
-        if (lastTurn != null && Objects.equals(lastTurn, turnNumber)) {
+        RoundMarker processed = context.ruleState(LAST_TURN);
+        if (processed.isMarked(turnNumber)) {
             return;
         }
 
         Set<String> eliminated = new HashSet<>();
-        List<ConnectedGroup> allGroups = runtime.services()
-            .boardService()
-            .connectedGroups(board, Connectivity.FOUR_WAY);
+        GameBoardService boardService = runtime.services().boardService();
         for (String userId : participants) {
             int index = runtime.stateContext().participants().playerIndexOf(userId);
             if (index < 0) {
@@ -71,9 +73,7 @@ public final class TenChainEliminationRule implements Rule {
             if (playerStone == Stone.EMPTY) {
                 continue;
             }
-            boolean matched = allGroups.stream()
-                .filter(group -> group.stone() == playerStone)
-                .anyMatch(group -> group.size() >= 10);
+            boolean matched = boardService.largestGroupSize(board, Connectivity.FOUR_WAY, playerStone) >= 10;
             if (matched) {
                 runtime.stateContext().outcomes().updateOutcome(userId, PlayerResult.LOSS);
                 System.out.println(
@@ -91,7 +91,7 @@ public final class TenChainEliminationRule implements Rule {
                 runtime.stateContext().outcomes().updateOutcome(userId, PlayerResult.WIN);
             }
         }
-        context.putRuleData(RuleDataKeys.TEN_CHAIN_LAST_TURN, turnNumber);
+        processed.mark(turnNumber);
         System.out.println("[TenChainElimination] finalized outcomes for turn " + turnNumber);
     }
 
@@ -2,16 +2,18 @@ package teamnova.omok.glue.rule.rules;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
 import teamnova.omok.glue.rule.api.Rule;
 import teamnova.omok.glue.rule.api.RuleId;
 import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleStateKey;
 import teamnova.omok.glue.rule.api.RuleTriggerKind;
 import teamnova.omok.glue.rule.api.TurnOrderAdjustment;
 import teamnova.omok.glue.rule.api.TurnOrderRule;
-import teamnova.omok.glue.rule.runtime.RuleDataKeys;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
 import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 
 /**
@@ -20,8 +22,11 @@ import teamnova.omok.glue.rule.runtime.RuleRuntimeContext;
 public final class TurnOrderShuffleRule implements Rule, TurnOrderRule {
     private static final RuleMetadata METADATA = new RuleMetadata(
         RuleId.TURN_ORDER_SHUFFLE,
-        2000
+        2000,
+        EnumSet.noneOf(RuleTriggerKind.class)
     );
+    private static final RuleStateKey<RoundMarker> LAST_ROUND =
+        RuleStateKey.of("rules.turnOrderShuffle.lastRound", RoundMarker::new);
 
     @Override
     public RuleMetadata getMetadata() {
@@ -44,18 +49,18 @@ public final class TurnOrderShuffleRule implements Rule, TurnOrderRule {
             return current;
         }
         int currentRound = runtime.turnSnapshot().counters().roundNumber();
-        Integer lastRound = (Integer) access.getRuleData(RuleDataKeys.SHUFFLE_LAST_ROUND);
-        if (lastRound != null && lastRound == currentRound) {
+        RoundMarker processed = access.ruleState(LAST_ROUND);
+        if (processed.isMarked(currentRound)) {
             return current; // already applied this round
         }
         List<String> order = current.order();
         if (order.size() <= 1) {
-            access.putRuleData(RuleDataKeys.SHUFFLE_LAST_ROUND, currentRound);
+            processed.mark(currentRound);
             return current;
         }
         List<String> next = new ArrayList<>(order);
         Collections.shuffle(next);
-        access.putRuleData(RuleDataKeys.SHUFFLE_LAST_ROUND, currentRound);
+        processed.mark(currentRound);
         return current.withOrder(next);
     }
 }
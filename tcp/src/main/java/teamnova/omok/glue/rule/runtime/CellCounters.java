@@ -0,0 +1,16 @@
+package teamnova.omok.glue.rule.runtime;
+
+/**
+ * Rule state holding one counter per board cell, indexed {@code y * width + x}.
+ * The array is reallocated (and so reset) only when the board size changes.
+ */
+public final class CellCounters {
+    private int[] values = new int[0];
+
+    public int[] values(int cells) {
+        if (values.length != cells) {
+            values = new int[cells];
+        }
+        return values;
+    }
+}
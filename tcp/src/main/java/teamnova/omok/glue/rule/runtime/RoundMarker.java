@@ -0,0 +1,19 @@
+package teamnova.omok.glue.rule.runtime;
+
+/**
+ * Rule state remembering the last round (or turn) a rule already handled, so a trigger that
+ * fires more than once for the same round is applied only once.
+ */
+public final class RoundMarker {
+    private static final int NONE = Integer.MIN_VALUE;
+
+    private int last = NONE;
+
+    public boolean isMarked(int round) {
+        return last == round;
+    }
+
+    public void mark(int round) {
+        last = round;
+    }
+}
@@ -0,0 +1,124 @@
+package teamnova.omok.glue.rule.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import teamnova.omok.glue.rule.api.BoardSetupRule;
+import teamnova.omok.glue.rule.api.BoardTransformRule;
+import teamnova.omok.glue.rule.api.OutcomeRule;
+import teamnova.omok.glue.rule.api.ParticipantOutcomeRule;
+import teamnova.omok.glue.rule.api.Rule;
+import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleTriggerKind;
+import teamnova.omok.glue.rule.api.TurnBudgetRule;
+import teamnova.omok.glue.rule.api.TurnOrderRule;
+import teamnova.omok.glue.rule.api.TurnTimingRule;
+
+/**
+ * Immutable dispatch table compiled once from a session's selected rules.
+ * Rules are grouped per {@link RuleTriggerKind} (using {@link RuleMetadata#triggers}) and per
+ * capability interface, each array keeping the selection order, so a firing walks only the rules
+ * that act on it. The arrays are shared; callers iterate them and must not modify them.
+ */
+public final class RuleDispatchPlan {
+    private static final RuleTriggerKind[] TRIGGERS = RuleTriggerKind.values();
+
+    public static final RuleDispatchPlan EMPTY = new RuleDispatchPlan(List.of());
+
+    private final Rule[][] byTrigger;
+    private final BoardTransformRule[] boardTransforms;
+    private final BoardSetupRule[] boardSetups;
+    private final TurnTimingRule[] turnTimings;
+    private final TurnBudgetRule[] turnBudgets;
+    private final TurnOrderRule[] turnOrders;
+    private final ParticipantOutcomeRule[] participantOutcomes;
+    private final OutcomeRule[] outcomes;
+
+    private RuleDispatchPlan(List<Rule> rules) {
+        this.byTrigger = new Rule[TRIGGERS.length][];
+        for (RuleTriggerKind kind : TRIGGERS) {
+            List<Rule> matching = new ArrayList<>();
+            for (Rule rule : rules) {
+                if (rule.getMetadata().triggers.contains(kind)) {
+                    matching.add(rule);
+                }
+            }
+            byTrigger[kind.ordinal()] = matching.toArray(new Rule[0]);
+        }
+        this.boardTransforms = select(rules, BoardTransformRule.class).toArray(new BoardTransformRule[0]);
+        this.boardSetups = select(rules, BoardSetupRule.class).toArray(new BoardSetupRule[0]);
+        this.turnTimings = select(rules, TurnTimingRule.class).toArray(new TurnTimingRule[0]);
+        this.turnBudgets = select(rules, TurnBudgetRule.class).toArray(new TurnBudgetRule[0]);
+        this.turnOrders = select(rules, TurnOrderRule.class).toArray(new TurnOrderRule[0]);
+        this.participantOutcomes = select(rules, ParticipantOutcomeRule.class).toArray(new ParticipantOutcomeRule[0]);
+        this.outcomes = select(rules, OutcomeRule.class).toArray(new OutcomeRule[0]);
+    }
+
+    public static RuleDispatchPlan compile(List<RuleId> ruleIds, RuleRegistry registry) {
+        Objects.requireNonNull(registry, "registry");
+        return compile(ruleIds, registry::get);
+    }
+
+    /**
+     * Resolves {@code ruleIds} through {@code lookup}; ids without a rule are skipped.
+     */
+    public static RuleDispatchPlan compile(List<RuleId> ruleIds, Function<RuleId, Rule> lookup) {
+        Objects.requireNonNull(lookup, "lookup");
+        if (ruleIds == null || ruleIds.isEmpty()) {
+            return EMPTY;
+        }
+        List<Rule> rules = new ArrayList<>(ruleIds.size());
+        for (RuleId id : ruleIds) {
+            Rule rule = lookup.apply(id);
+            if (rule != null && rule.getMetadata() != null) {
+                rules.add(rule);
+            }
+        }
+        return rules.isEmpty() ? EMPTY : new RuleDispatchPlan(rules);
+    }
+
+    public Rule[] rulesFor(RuleTriggerKind kind) {
+        return byTrigger[kind.ordinal()];
+    }
+
+    public BoardTransformRule[] boardTransforms() {
+        return boardTransforms;
+    }
+
+    public BoardSetupRule[] boardSetups() {
+        return boardSetups;
+    }
+
+    public TurnTimingRule[] turnTimings() {
+        return turnTimings;
+    }
+
+    public TurnBudgetRule[] turnBudgets() {
+        return turnBudgets;
+    }
+
+    public TurnOrderRule[] turnOrders() {
+        return turnOrders;
+    }
+
+    public ParticipantOutcomeRule[] participantOutcomes() {
+        return participantOutcomes;
+    }
+
+    public OutcomeRule[] outcomes() {
+        return outcomes;
+    }
+
+    private static <T> List<T> select(List<Rule> rules, Class<T> capability) {
+        List<T> matching = new ArrayList<>();
+        for (Rule rule : rules) {
+            if (capability.isInstance(rule)) {
+                matching.add(capability.cast(rule));
+            }
+        }
+        return matching;
+    }
+}
@@ -0,0 +1,28 @@
+package teamnova.omok.glue.rule.runtime;
+
+/**
+ * Per-thread cell index buffers for rules that query the board by index.
+ * Rules are shared across sessions, so buffers cannot live on the rule itself; a rule
+ * invocation runs start to finish on one thread, which makes a thread-local reusable.
+ * Each slot is an independent buffer; a rule needing two lists uses slots 0 and 1.
+ */
+public final class RuleScratch {
+    public static final int SLOTS = 2;
+
+    private static final ThreadLocal<int[][]> BUFFERS = ThreadLocal.withInitial(() -> new int[SLOTS][0]);
+
+    private RuleScratch() {
+    }
+
+    /**
+     * Returns the buffer for {@code slot}, grown to at least {@code size} entries.
+     * Contents are whatever the previous user left behind.
+     */
+    public static int[] cells(int slot, int size) {
+        int[][] buffers = BUFFERS.get();
+        if (buffers[slot].length < size) {
+            buffers[slot] = new int[size];
+        }
+        return buffers[slot];
+    }
+}
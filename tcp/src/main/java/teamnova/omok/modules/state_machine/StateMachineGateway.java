@@ -4,10 +4,13 @@ import java.util.Objects;
 
 import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
 import teamnova.omok.modules.state_machine.interfaces.BaseState;
+import teamnova.omok.modules.state_machine.interfaces.EventQueuePolicy;
 import teamnova.omok.modules.state_machine.interfaces.StateSignalListener;
 import teamnova.omok.modules.state_machine.interfaces.StateContext;
 import teamnova.omok.modules.state_machine.interfaces.StateMachineService;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
 import teamnova.omok.modules.state_machine.models.StateName;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
 import teamnova.omok.modules.state_machine.services.DefaultStateMachineService;
 
 /**
@@ -23,6 +26,10 @@ public final class StateMachineGateway {
         return new Handle(new DefaultStateMachineService());
     }
 
+    public static Handle open(int eventCapacity, EventQueuePolicy eventPolicy, EventQueueStats eventStats) {
+        return new Handle(new DefaultStateMachineService(eventCapacity, eventPolicy, eventStats));
+    }
+
     public static Handle wrap(StateMachineService mainService) {
         return new Handle(mainService);
     }
@@ -55,8 +62,8 @@ public final class StateMachineGateway {
             return delegate.currentState();
         }
 
-        public void submit(BaseEvent event) {
-            delegate.submit(Objects.requireNonNull(event, "event"));
+        public SubmitResult submit(BaseEvent event) {
+            return delegate.submit(Objects.requireNonNull(event, "event"));
         }
 
         public void process(StateContext context, long now) {
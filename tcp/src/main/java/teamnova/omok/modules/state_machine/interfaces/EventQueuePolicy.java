@@ -0,0 +1,32 @@
+package teamnova.omok.modules.state_machine.interfaces;
+
+/**
+ * Per-event-type admission rules for a state machine's event queue.
+ */
+public interface EventQueuePolicy {
+    EventQueuePolicy NONE = new EventQueuePolicy() { };
+
+    /**
+     * True when {@code incoming} repeats {@code queued}, so it can be dropped in favour of the
+     * event already waiting. Called on the submitting thread.
+     */
+    default boolean coalesces(BaseEvent queued, BaseEvent incoming) {
+        return false;
+    }
+
+    /**
+     * True for events the system raises itself, such as timer expiries, which must never be
+     * turned away because clients filled the queue. They are still coalesced.
+     */
+    default boolean bypassesCapacity(BaseEvent event) {
+        return false;
+    }
+
+    /**
+     * True when {@code event} no longer applies and should be skipped. Called on the
+     * processing thread right before the event would be dispatched.
+     */
+    default boolean isStale(BaseEvent event) {
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package teamnova.omok.modules.state_machine.interfaces;
 
 import teamnova.omok.modules.state_machine.models.StateName;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
 
 public interface StateMachineService {
 
@@ -10,7 +11,7 @@ public interface StateMachineService {
 
     StateName currentState();
 
-    void submit(BaseEvent event);
+    SubmitResult submit(BaseEvent event);
 
     // Unified signal listener (context-less)
     default void addStateSignalListener(StateSignalListener listener) { }
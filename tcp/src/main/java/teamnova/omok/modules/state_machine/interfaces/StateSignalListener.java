@@ -8,6 +8,7 @@ import teamnova.omok.modules.state_machine.models.StateName;
  * Context-less unified lifecycle listener. External listeners receive only
  * the active state and lifecycle event kind. They can optionally filter
  * by states/events by returning a non-null set from states()/events().
+ * Both filters are read once when the listener is registered.
  */
 public interface StateSignalListener {
     default Set<StateName> states() { return null; } // null = all states
@@ -0,0 +1,35 @@
+package teamnova.omok.modules.state_machine.models;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission counters for event queues. One instance may be shared by many state machines
+ * to get totals across them.
+ */
+public final class EventQueueStats {
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+
+    public void record(SubmitResult result) {
+        switch (result) {
+            case ACCEPTED -> accepted.increment();
+            case COALESCED -> coalesced.increment();
+            case REJECTED -> rejected.increment();
+        }
+    }
+
+    public void recordStale() {
+        stale.increment();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(accepted.sum(), coalesced.sum(), rejected.sum(), stale.sum());
+    }
+
+    /**
+     * {@code stale} counts accepted events that were skipped at dispatch time.
+     */
+    public record Snapshot(long accepted, long coalesced, long rejected, long stale) { }
+}
@@ -0,0 +1,23 @@
+package teamnova.omok.modules.state_machine.models;
+
+/**
+ * Outcome of submitting an event to a state machine.
+ */
+public enum SubmitResult {
+    /**
+     * Queued for the next processing pass.
+     */
+    ACCEPTED,
+    /**
+     * Folded into an equivalent event that is already queued; only that one will be processed.
+     */
+    COALESCED,
+    /**
+     * Dropped because the queue is full.
+     */
+    REJECTED;
+
+    public boolean isQueued() {
+        return this == ACCEPTED;
+    }
+}
@@ -0,0 +1,73 @@
+package teamnova.omok.modules.state_machine.services;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+import teamnova.omok.modules.state_machine.interfaces.EventQueuePolicy;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
+
+/**
+ * Bounded multi-producer, single-consumer event queue. Producers are the I/O and timer
+ * threads; the consumer is whichever thread processes the owning state machine. Queues are
+ * short, so a monitor around an array deque is enough and lets {@link #offer} scan the
+ * pending events for a duplicate before admitting a new one. Events the policy marks as
+ * bypassing capacity are admitted past the bound; the policy keeps them few by coalescing.
+ */
+final class BoundedEventQueue {
+    private final int capacity;
+    private final EventQueuePolicy policy;
+    private final EventQueueStats stats;
+    private final ArrayDeque<BaseEvent> events = new ArrayDeque<>();
+
+    BoundedEventQueue(int capacity, EventQueuePolicy policy, EventQueueStats stats) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.stats = Objects.requireNonNull(stats, "stats");
+    }
+
+    SubmitResult offer(BaseEvent event) {
+        SubmitResult result = admit(event);
+        stats.record(result);
+        return result;
+    }
+
+    private synchronized SubmitResult admit(BaseEvent event) {
+        for (BaseEvent queued : events) {
+            if (policy.coalesces(queued, event)) {
+                return SubmitResult.COALESCED;
+            }
+        }
+        if (events.size() >= capacity && !policy.bypassesCapacity(event)) {
+            return SubmitResult.REJECTED;
+        }
+        events.addLast(event);
+        return SubmitResult.ACCEPTED;
+    }
+
+    /**
+     * Next event that is still current, or null when none is left.
+     */
+    BaseEvent poll() {
+        BaseEvent event;
+        while ((event = pollRaw()) != null) {
+            if (!policy.isStale(event)) {
+                return event;
+            }
+            stats.recordStale();
+        }
+        return null;
+    }
+
+    synchronized int size() {
+        return events.size();
+    }
+
+    private synchronized BaseEvent pollRaw() {
+        return events.pollFirst();
+    }
+}
@@ -1,32 +1,65 @@
 package teamnova.omok.modules.state_machine.services;
 
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
 import teamnova.omok.modules.state_machine.interfaces.BaseState;
+import teamnova.omok.modules.state_machine.interfaces.EventQueuePolicy;
 import teamnova.omok.modules.state_machine.interfaces.StateSignalListener;
 import teamnova.omok.modules.state_machine.interfaces.StateContext;
 import teamnova.omok.modules.state_machine.interfaces.StateMachineService;
 import teamnova.omok.modules.state_machine.models.EventName;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
 import teamnova.omok.modules.state_machine.models.LifecycleEventKind;
 import teamnova.omok.modules.state_machine.models.StateName;
 import teamnova.omok.modules.state_machine.models.StateStep;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
 
 public class DefaultStateMachineService implements StateMachineService {
+    private static final LifecycleEventKind[] KINDS = LifecycleEventKind.values();
+    private static final StateSignalListener[][] NO_SIGNALS = emptySignalTable();
+
+    private static volatile boolean traceTransitions;
 
     private final Map<StateName, BaseState> states;
-    private final Queue<PendingEvent> eventQueue;
-    private final List<StateSignalListener> signalListeners;
+    private final BoundedEventQueue eventQueue;
+    // Registration order; only touched while holding this
+    private final List<ListenerFilter> signalListeners;
+    // Listeners per state, indexed by LifecycleEventKind ordinal; rebuilt on registration
+    private volatile Map<StateName, StateSignalListener[][]> signalTable;
+    private volatile StateSignalListener[][] unmatchedSignals;
     private BaseState currentState;
 
     public DefaultStateMachineService() {
+        this(Integer.MAX_VALUE, EventQueuePolicy.NONE, new EventQueueStats());
+    }
+
+    /**
+     * @param eventCapacity most events that may wait for processing; further submissions are rejected
+     * @param eventPolicy   coalescing and staleness rules for submitted events
+     * @param eventStats    counters updated on every submission
+     */
+    public DefaultStateMachineService(int eventCapacity, EventQueuePolicy eventPolicy, EventQueueStats eventStats) {
         this.states = new java.util.concurrent.ConcurrentHashMap<>();
-        this.eventQueue = new java.util.concurrent.ConcurrentLinkedQueue<>();
-        this.signalListeners = new CopyOnWriteArrayList<>();
+        this.eventQueue = new BoundedEventQueue(eventCapacity, eventPolicy, eventStats);
+        this.signalListeners = new ArrayList<>();
+        this.signalTable = Map.of();
+        this.unmatchedSignals = NO_SIGNALS;
         this.currentState = null;
     }
 
+    /**
+     * Enables the per-transition trace line. Off by default because it is built on every
+     * transition of every session.
+     */
+    public static void setTraceTransitions(boolean enabled) {
+        traceTransitions = enabled;
+    }
+
+    public static boolean traceTransitions() {
+        return traceTransitions;
+    }
+
     @Override
     public <I extends StateContext> void start(StateName stateName, I context) {
         Objects.requireNonNull(stateName, "stateName");
@@ -49,7 +82,10 @@ public class DefaultStateMachineService implements StateMachineService {
     @Override
     public void registerState(BaseState state) {
         Objects.requireNonNull(state, "state");
-        states.put(state.name(), state);
+        synchronized (this) {
+            states.put(state.name(), state);
+            rebuildSignalTable();
+        }
     }
 
     @Override
@@ -58,24 +94,28 @@ public class DefaultStateMachineService implements StateMachineService {
     }
 
     @Override
-    public void submit(BaseEvent event) {
+    public SubmitResult submit(BaseEvent event) {
         Objects.requireNonNull(event, "event");
-        eventQueue.offer(new PendingEvent(event));
+        return eventQueue.offer(event);
     }
 
     @Override
     public void addStateSignalListener(StateSignalListener listener) {
-        if (listener != null) {
-            signalListeners.add(listener);
+        if (listener == null) {
+            return;
+        }
+        synchronized (this) {
+            signalListeners.add(ListenerFilter.of(listener));
+            rebuildSignalTable();
         }
     }
 
     @Override
     public void process(StateContext context, long now) {
         Objects.requireNonNull(context, "context");
-        PendingEvent pending;
-        while ((pending = eventQueue.poll()) != null) {
-            processPending(pending, context);
+        BaseEvent event;
+        while ((event = eventQueue.poll()) != null) {
+            processEvent(event, context);
         }
         if (currentState == null) {
             return;
@@ -91,17 +131,17 @@ public class DefaultStateMachineService implements StateMachineService {
         }
     }
 
-    private void processPending(PendingEvent pending, StateContext context) {
+    private void processEvent(BaseEvent event, StateContext context) {
         if (currentState == null) {
             return;
         }
         try {
-            StateStep eventStep = currentState.onEvent(context, pending.event());
+            StateStep eventStep = currentState.onEvent(context, event);
             // No outbound signal for external input event to avoid cycles
             applyTransition(eventStep, context);
         } catch (Throwable t) {
             System.err.println("[STATE-MACHINE] onEvent failed for state=" + currentState.name().name() + 
-                ", event=" + String.valueOf(pending.event()) + ": " + t);
+                ", event=" + String.valueOf(event) + ": " + t);
             t.printStackTrace();
             throw t;
         }
@@ -155,22 +195,78 @@ public class DefaultStateMachineService implements StateMachineService {
 
     private void notifyTransition(StateName stateName) {
         if (currentState != null) {
-            try {
+            if (traceTransitions) {
                 System.out.println("[STATE-MACHINE][transition] from=" + currentState.name().name() + " to=" + stateName.name());
-            } catch (Throwable ignored) { }
+            }
             notifySignal(currentState.name(), LifecycleEventKind.ON_TRANSITION);
         }
     }
 
     private void notifySignal(StateName state, LifecycleEventKind kind) {
-        for (StateSignalListener l : signalListeners) {
-            Set<StateName> ss = l.states();
-            if (ss != null && !ss.contains(state)) continue;
-            Set<LifecycleEventKind> es = l.events();
-            if (es != null && !es.contains(kind)) continue;
+        StateSignalListener[][] byKind = signalTable.get(state);
+        if (byKind == null) {
+            byKind = unmatchedSignals;
+        }
+        for (StateSignalListener l : byKind[kind.ordinal()]) {
             l.onSignal(state, kind);
         }
     }
 
-    private record PendingEvent(BaseEvent event) { }
+    private void rebuildSignalTable() {
+        Map<StateName, StateSignalListener[][]> table = new HashMap<>();
+        for (StateName state : states.keySet()) {
+            table.put(state, signalsFor(state));
+        }
+        this.signalTable = table;
+        this.unmatchedSignals = signalsFor(null);
+    }
+
+    /**
+     * Listeners per lifecycle kind for {@code state}; a null state only matches listeners
+     * that accept every state.
+     */
+    private StateSignalListener[][] signalsFor(StateName state) {
+        StateSignalListener[][] byKind = new StateSignalListener[KINDS.length][];
+        List<StateSignalListener> matched = new ArrayList<>();
+        for (LifecycleEventKind kind : KINDS) {
+            matched.clear();
+            for (ListenerFilter filter : signalListeners) {
+                if (filter.accepts(state, kind)) {
+                    matched.add(filter.listener());
+                }
+            }
+            byKind[kind.ordinal()] = matched.toArray(new StateSignalListener[0]);
+        }
+        return byKind;
+    }
+
+    private static StateSignalListener[][] emptySignalTable() {
+        StateSignalListener[][] byKind = new StateSignalListener[KINDS.length][];
+        Arrays.fill(byKind, new StateSignalListener[0]);
+        return byKind;
+    }
+
+    /**
+     * A listener with its state and event filters read once at registration.
+     */
+    private record ListenerFilter(StateSignalListener listener,
+                                  Set<StateName> states,
+                                  Set<LifecycleEventKind> events) {
+        static ListenerFilter of(StateSignalListener listener) {
+            Set<StateName> states = listener.states();
+            Set<LifecycleEventKind> events = listener.events();
+            return new ListenerFilter(
+                listener,
+                states != null ? Set.copyOf(states) : null,
+                events != null ? (events.isEmpty() ? EnumSet.noneOf(LifecycleEventKind.class) : EnumSet.copyOf(events)) : null
+            );
+        }
+
+        boolean accepts(StateName state, LifecycleEventKind kind) {
+            if (states != null && (state == null || !states.contains(state))) {
+                return false;
+            }
+            return events == null || events.contains(kind);
+        }
+    }
 }
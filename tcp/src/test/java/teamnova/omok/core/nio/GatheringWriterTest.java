@@ -0,0 +1,93 @@
+package teamnova.omok.core.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
+import teamnova.omok.core.nio.codec.DecodeFrame;
+import teamnova.omok.core.nio.codec.FrameFormat;
+import teamnova.omok.glue.handler.register.Type;
+
+class GatheringWriterTest {
+
+    @Test
+    void queuedFramesAreWrittenWithOneSyscall() throws Exception {
+        GatheringWriter writer = new GatheringWriter();
+        String[] bodies = {"turn-ended", "", "turn-started"};
+        int expectedBytes = 0;
+        for (int i = 0; i < bodies.length; i++) {
+            byte[] payload = bodies[i].getBytes(StandardCharsets.UTF_8);
+            expectedBytes += FrameFormat.HEADER_LENGTH + payload.length;
+            writer.enqueue(new OutboundFrame((byte) (10 + i), i, ByteBuffer.wrap(payload)));
+        }
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                NioTransportMetrics.Snapshot before = NioTransportMetrics.snapshot();
+                assertTrue(writer.flush(accepted));
+                NioTransportMetrics.Snapshot after = NioTransportMetrics.snapshot();
+                assertFalse(writer.hasPending());
+                assertEquals(1L, after.writeSyscalls() - before.writeSyscalls());
+
+                byte[] received = new byte[expectedBytes];
+                ByteBuffer target = ByteBuffer.wrap(received);
+                while (target.hasRemaining()) {
+                    client.read(target);
+                }
+                int offset = 0;
+                for (int i = 0; i < bodies.length; i++) {
+                    byte[] rest = Arrays.copyOfRange(received, offset, received.length);
+                    DecodeFrame.Result result = DecodeFrame.tryDecode(rest, rest.length);
+                    assertEquals(10 + i, result.frame().type());
+                    assertEquals(bodies[i], new String(result.frame().payload(), StandardCharsets.UTF_8));
+                    offset += result.bytesConsumed();
+                }
+            }
+        }
+    }
+
+    @Test
+    void sharedFrameReturnsToPoolAfterEveryRecipientWrote() throws Exception {
+        DirectBufferPool pool = new DirectBufferPool(256, 4);
+        byte[] payload = "board".getBytes(StandardCharsets.UTF_8);
+        SharedFrame frame = SharedFrame.encode(pool, Type.BOARD_DELTA, 0L, payload);
+        GatheringWriter first = new GatheringWriter();
+        GatheringWriter second = new GatheringWriter();
+        first.enqueue(OutboundFrame.of(frame));
+        second.enqueue(OutboundFrame.of(frame));
+        frame.release();
+        assertEquals(2, frame.refCount());
+
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                assertTrue(first.flush(accepted));
+                assertEquals(0, pool.pooledCount());
+                second.clear();
+                assertEquals(1, pool.pooledCount());
+
+                byte[] received = new byte[frame.length()];
+                ByteBuffer target = ByteBuffer.wrap(received);
+                while (target.hasRemaining()) {
+                    client.read(target);
+                }
+                DecodeFrame.Result result = DecodeFrame.tryDecode(received, received.length);
+                assertEquals(Type.BOARD_DELTA.value, result.frame().type());
+                assertEquals("board", new String(result.frame().payload(), StandardCharsets.UTF_8));
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package teamnova.omok.core.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.glue.client.session.interfaces.ClientSessionHandle;
+
+class IdleTimingWheelTest {
+
+    private static ClientSessionHandle recordingSession(List<Long> closedAt) {
+        return (ClientSessionHandle) Proxy.newProxyInstance(
+            ClientSessionHandle.class.getClassLoader(),
+            new Class<?>[] { ClientSessionHandle.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("closeIfTimedOut")) {
+                    closedAt.add((Long) args[0]);
+                }
+                return null;
+            });
+    }
+
+    @Test
+    void contactBeforeExpiryReschedulesInsteadOfClosing() throws Exception {
+        try (SocketChannel channel = SocketChannel.open()) {
+            NioClientConnection connection = new NioClientConnection(channel);
+            List<Long> closedAt = new ArrayList<>();
+            // 1 ms ticks on 16 buckets, so the 90 s idle deadline wraps the wheel many times
+            IdleTimingWheel wheel = new IdleTimingWheel(1L, 16, System.currentTimeMillis());
+            wheel.schedule(connection, recordingSession(closedAt));
+            long firstDeadline = connection.idleDeadline();
+
+            assertEquals(0, wheel.advance(firstDeadline - 1));
+            Thread.sleep(5L);
+            connection.updateLastContactTime();
+            long secondDeadline = connection.idleDeadline();
+
+            assertEquals(0, wheel.advance(firstDeadline));
+            assertEquals(List.of(), closedAt);
+            assertEquals(1, wheel.advance(secondDeadline));
+            assertEquals(List.of(secondDeadline), closedAt);
+            assertEquals(1L, wheel.timeouts());
+        }
+    }
+
+    @Test
+    void closedConnectionsAreDroppedWithoutTimingOut() throws Exception {
+        try (SocketChannel channel = SocketChannel.open()) {
+            NioClientConnection connection = new NioClientConnection(channel);
+            List<Long> closedAt = new ArrayList<>();
+            IdleTimingWheel wheel = new IdleTimingWheel(1_000L, 128, System.currentTimeMillis());
+            wheel.schedule(connection, recordingSession(closedAt));
+            connection.close();
+
+            assertEquals(0, wheel.advance(connection.idleDeadline() + 1_000L));
+            assertEquals(List.of(), closedAt);
+            assertEquals(1L, wheel.visited());
+            assertEquals(0L, wheel.timeouts());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package teamnova.omok.core.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
+import teamnova.omok.core.nio.codec.EncodeFrame;
+import teamnova.omok.core.nio.codec.FrameFormat;
+import teamnova.omok.glue.handler.register.Type;
+
+class NioClientConnectionTest {
+
+    @Test
+    void pooledReadPathHandsOutDirectSlicesAndReturnsTheChunk() throws Exception {
+        DirectBufferPool pool = DirectBufferPool.shared();
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                NioClientConnection connection = new NioClientConnection(accepted, InboundMode.POOLED_DIRECT);
+                int pooledBefore = pool.pooledCount();
+                long allocationsBefore = pool.allocationCount();
+
+                ByteBuffer wire = ByteBuffer.allocate(256);
+                wire.put(EncodeFrame.encodeFrame(Type.PINGPONG.value, 1L, "ping".getBytes(StandardCharsets.UTF_8)));
+                wire.put(EncodeFrame.encodeFrame(Type.PINGPONG.value, 2L, "pong".getBytes(StandardCharsets.UTF_8)));
+                wire.flip();
+                while (wire.hasRemaining()) {
+                    client.write(wire);
+                }
+                client.shutdownOutput();
+
+                List<FramedMessage> frames = new ArrayList<>();
+                while (connection.readFromChannel() >= 0) {
+                    FramedMessage frame;
+                    while ((frame = connection.pollInboundFrame()) != null) {
+                        frames.add(frame);
+                    }
+                }
+                assertEquals(2, frames.size());
+                for (FramedMessage frame : frames) {
+                    assertTrue(frame.payloadView().isDirect());
+                    frame.release();
+                }
+                connection.resetInboundState();
+
+                // Every chunk taken for this read is back in the free list once the frames are released
+                assertEquals(pooledBefore + (pool.allocationCount() - allocationsBefore), pool.pooledCount());
+                connection.close();
+            }
+        }
+    }
+
+    @Test
+    void writesFromTheCallerAndDropsResponsesOnceClosed() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                accepted.configureBlocking(false);
+                NioClientConnection connection = new NioClientConnection(accepted);
+                byte[] payload = "hello".getBytes(StandardCharsets.UTF_8);
+
+                assertFalse(connection.enqueueResponse(Type.HELLO, 7L, payload));
+                assertFalse(connection.hasPendingWrites());
+                ByteBuffer received = ByteBuffer.allocate(FrameFormat.HEADER_LENGTH + payload.length);
+                while (received.hasRemaining()) {
+                    assertTrue(client.read(received) >= 0);
+                }
+                received.position(FrameFormat.HEADER_LENGTH);
+                assertEquals("hello", StandardCharsets.UTF_8.decode(received).toString());
+
+                connection.close();
+                assertFalse(connection.enqueueResponse(Type.HELLO, 8L, payload));
+                assertFalse(connection.hasPendingWrites());
+            }
+        }
+    }
+
+    @Test
+    void failedDirectWriteReleasesSharedFramesAndReportsToTheSelector() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress())) {
+                // Not a resource: the test closes it itself, and connection.close() would close it anyway
+                SocketChannel accepted = server.accept();
+                NioClientConnection connection = new NioClientConnection(accepted);
+                SharedFrame frame = SharedFrame.encode(Type.HELLO, 1L, "hi".getBytes(StandardCharsets.UTF_8));
+                assertTrue(client.isConnected());
+                // The socket goes away underneath the connection, so the caller's write fails
+                accepted.close();
+
+                assertTrue(connection.enqueueShared(frame));
+                assertEquals(1, frame.refCount());
+                assertFalse(connection.hasPendingWrites());
+                assertThrows(IOException.class, connection::flushOutbound);
+
+                // The flag stays taken after the failure, and later frames are still returned on close
+                SharedFrame late = SharedFrame.encode(Type.HELLO, 2L, "bye".getBytes(StandardCharsets.UTF_8));
+                assertFalse(connection.enqueueShared(late));
+                connection.close();
+                assertEquals(1, late.refCount());
+                assertEquals(1, frame.refCount());
+                frame.release();
+                late.release();
+            }
+        }
+    }
+}
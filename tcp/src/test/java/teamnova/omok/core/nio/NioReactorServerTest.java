@@ -0,0 +1,56 @@
+package teamnova.omok.core.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.glue.handler.dispatcher.DispatcherConfig;
+import teamnova.omok.glue.handler.register.HandlerRegistry;
+
+class NioReactorServerTest {
+
+    @Test
+    void roundRobinSpreadsConnectionsAcrossReactors() throws Exception {
+        NioServerConfig config = NioServerConfig.defaults();
+        config.reactorCount = 2;
+        NioReactorServer server = new NioReactorServer(0, 1, config, DispatcherConfig.defaults(), HandlerRegistry.empty());
+        Thread acceptor = new Thread(server::start, "test-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        List<SocketChannel> clients = new ArrayList<>();
+        try {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.localPort());
+            for (int i = 0; i < 4; i++) {
+                clients.add(SocketChannel.open(address));
+            }
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while (totalConnections(server) < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+
+            List<NioReactor.ReactorMetrics> metrics = server.reactorMetrics();
+            assertEquals(2, metrics.size());
+            assertEquals(2, metrics.get(0).connections());
+            assertEquals(2, metrics.get(1).connections());
+        } finally {
+            for (SocketChannel client : clients) {
+                client.close();
+            }
+            server.close();
+            acceptor.join(5_000L);
+        }
+    }
+
+    private static int totalConnections(NioReactorServer server) {
+        int total = 0;
+        for (NioReactor.ReactorMetrics metrics : server.reactorMetrics()) {
+            total += metrics.connections();
+        }
+        return total;
+    }
+}
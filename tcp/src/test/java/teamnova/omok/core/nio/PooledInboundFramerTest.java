@@ -0,0 +1,59 @@
+package teamnova.omok.core.nio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.core.nio.buffer.DirectBufferPool;
+import teamnova.omok.core.nio.codec.EncodeFrame;
+
+class PooledInboundFramerTest {
+
+    @Test
+    void decodesFramesAcrossChunkBoundariesAndRecyclesChunks() throws Exception {
+        DirectBufferPool pool = new DirectBufferPool(64, 8);
+        PooledInboundFramer framer = new PooledInboundFramer(pool);
+        List<String> sent = new ArrayList<>();
+        ByteBuffer wire = ByteBuffer.allocate(4096);
+        for (int i = 0; i < 20; i++) {
+            String body = "move-" + i + "-" + "x".repeat(i * 3);
+            sent.add(body);
+            wire.put(EncodeFrame.encodeFrame((byte) 8, i, body.getBytes(StandardCharsets.UTF_8)));
+        }
+        wire.flip();
+
+        List<String> received = new ArrayList<>();
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                 SocketChannel accepted = server.accept()) {
+                while (wire.hasRemaining()) {
+                    client.write(wire);
+                }
+                client.shutdownOutput();
+                while (framer.read(accepted) >= 0) {
+                    FramedMessage frame;
+                    while ((frame = framer.poll()) != null) {
+                        received.add(StandardCharsets.UTF_8.decode(frame.payloadView()).toString());
+                        assertEquals(received.size() - 1L, frame.requestId());
+                        frame.release();
+                    }
+                }
+            }
+        }
+        framer.reset();
+
+        assertEquals(sent, received);
+        assertTrue(pool.pooledCount() > 0);
+        assertTrue(pool.allocationCount() <= 8, "chunks should be reused, allocated " + pool.allocationCount());
+    }
+}
@@ -0,0 +1,78 @@
+package teamnova.omok.core.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimerTest {
+    private static final long TICK_MILLIS = 10L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final HierarchicalTimer timer = new HierarchicalTimer("test", TICK_MILLIS, clock::get, false);
+
+    private void advanceMillis(long millis) {
+        long target = clock.get() + TimeUnit.MILLISECONDS.toNanos(millis);
+        // Step one tick at a time so drift reflects tick resolution, not the jump size
+        while (clock.get() < target) {
+            clock.set(Math.min(target, clock.get() + TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS)));
+            timer.advance(clock.get());
+        }
+    }
+
+    @Test
+    void firesOnceDeadlinePassesAndNotBefore() {
+        List<String> fired = new ArrayList<>();
+        Timeout<String> timeout = timer.schedule("a", 55L, () -> fired.add("a"));
+
+        advanceMillis(50L);
+        assertTrue(fired.isEmpty());
+        assertTrue(timeout.isPending());
+
+        advanceMillis(10L);
+        assertEquals(List.of("a"), fired);
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.metrics().backlog());
+    }
+
+    @Test
+    void cancelledTimeoutNeverRunsAndLeavesBacklog() {
+        List<String> fired = new ArrayList<>();
+        Timeout<String> timeout = timer.schedule("a", 100L, () -> fired.add("a"));
+        advanceMillis(20L);
+        assertEquals(1, timer.metrics().backlog());
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.metrics().backlog());
+
+        advanceMillis(200L);
+        assertTrue(fired.isEmpty());
+        assertTrue(timeout.isCancelled());
+        assertEquals(1L, timer.metrics().cancelled());
+    }
+
+    @Test
+    void longDelaysCascadeThroughHigherLevels() {
+        List<Long> fired = new ArrayList<>();
+        long[] delays = {5L, 700L, 45_000L, 3_000_000L};
+        for (long delay : delays) {
+            timer.schedule(delay, delay, () -> fired.add(delay));
+        }
+        advanceMillis(3_000_010L);
+        assertEquals(List.of(5L, 700L, 45_000L, 3_000_000L), fired);
+        assertTrue(timer.metrics().maxDriftNanos() <= TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS));
+    }
+
+    @Test
+    void keyTravelsWithTheHandle() {
+        Timeout<Integer> timeout = timer.schedule(7, 10L, () -> { });
+        assertEquals(7, timeout.key());
+    }
+}
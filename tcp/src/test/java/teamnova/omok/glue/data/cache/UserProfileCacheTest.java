@@ -0,0 +1,68 @@
+package teamnova.omok.glue.data.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.data.model.UserData;
+
+final class UserProfileCacheTest {
+    private long now;
+    private int loads;
+
+    private UserData load(String userId) {
+        loads++;
+        return new UserData(userId, userId, 0, UserData.Status.ACTIVE, 1000 + loads);
+    }
+
+    @Test
+    void servesHitsUntilEntriesExpire() {
+        UserProfileCache cache = new UserProfileCache(100L, 10, () -> now);
+        assertEquals(1001, cache.get("a", this::load).score());
+        assertEquals(1001, cache.get("a", this::load).score());
+
+        now = 100L;
+        assertEquals(1002, cache.get("a", this::load).score());
+        assertEquals(1, cache.metrics().hits());
+        assertEquals(2, cache.metrics().misses());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedAndSkipsFailedLoads() {
+        UserProfileCache cache = new UserProfileCache(1_000L, 2, () -> now);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+        assertEquals(1, cache.metrics().evictions());
+
+        assertNull(cache.get("missing", id -> null));
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        assertEquals(4, loads);
+    }
+
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        UserProfileCache cache = new UserProfileCache(1_000L, 10, () -> now);
+        cache.get("a", id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+        assertEquals(1002, cache.get("a", this::load).score());
+
+        Map<String, UserData> batch = cache.getAll(List.of("a", "b"), ids -> {
+            Map<String, UserData> loaded = new HashMap<>();
+            ids.forEach(id -> loaded.put(id, load(id)));
+            return loaded;
+        });
+        assertEquals(2, batch.size());
+        assertEquals(1002, batch.get("a").score());
+        assertEquals(3, loads);
+    }
+}
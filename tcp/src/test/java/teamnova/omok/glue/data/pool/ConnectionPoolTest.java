@@ -0,0 +1,115 @@
+package teamnova.omok.glue.data.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+final class ConnectionPoolTest {
+
+    /**
+     * In-process stand-in for a JDBC connection that only tracks whether it is closed
+     * and whether the validation query should succeed.
+     */
+    private static final class FakeConnection {
+        boolean closed;
+        boolean healthy = true;
+        final Connection proxy;
+
+        FakeConnection() {
+            Statement statement = (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(), new Class<?>[]{Statement.class}, (p, method, args) -> {
+                    if (method.getName().equals("execute") && !healthy) {
+                        throw new SQLException("gone", "08S01");
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+                });
+            proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (p, method, args) -> {
+                    switch (method.getName()) {
+                        case "close" -> closed = true;
+                        case "isClosed" -> { return closed; }
+                        case "getAutoCommit" -> { return true; }
+                        case "createStatement" -> { return statement; }
+                        default -> { }
+                    }
+                    return null;
+                });
+        }
+    }
+
+    private final List<FakeConnection> opened = new ArrayList<>();
+
+    private ConnectionPool pool(int maxSize) {
+        ConnectionPoolConfig config = ConnectionPoolConfig.defaults();
+        config.maxSize = maxSize;
+        config.acquireTimeoutMillis = 50L;
+        config.idleTimeoutMillis = 1_000L;
+        config.evictionIntervalMillis = 0L;
+        config.validateAfterIdleMillis = 0L;
+        return new ConnectionPool(() -> {
+            FakeConnection connection = new FakeConnection();
+            opened.add(connection);
+            return connection.proxy;
+        }, config);
+    }
+
+    @Test
+    void reusesReturnedConnectionsAndTimesOutWhenExhausted() throws SQLException {
+        ConnectionPool pool = pool(1);
+        Connection first;
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            first = lease.connection();
+            assertThrows(SQLTransientConnectionException.class, pool::borrow);
+        }
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            assertSame(first, lease.connection());
+        }
+        ConnectionPool.Metrics metrics = pool.metrics();
+        assertEquals(1L, metrics.created());
+        assertEquals(1L, metrics.timeouts());
+        assertEquals(3L, metrics.borrowWait().count());
+    }
+
+    @Test
+    void replacesConnectionsThatFailValidationOrBreak() throws SQLException {
+        ConnectionPool pool = pool(2);
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            lease.fail(new SQLException("link failure", "08S01"));
+        }
+        assertTrue(opened.get(0).closed);
+
+        ConnectionPool.Lease breaking = pool.borrow();
+        opened.get(1).healthy = false;
+        breaking.close();
+        try (ConnectionPool.Lease lease = pool.borrow()) {
+            assertSame(opened.get(2).proxy, lease.connection());
+        }
+        assertEquals(1L, pool.metrics().validationFailures());
+        assertEquals(1, pool.metrics().open());
+    }
+
+    @Test
+    void evictsConnectionsIdleLongerThanTimeout() throws SQLException {
+        ConnectionPool pool = pool(2);
+        // Returned to the idle list on close
+        pool.borrow().close();
+        pool.evictIdle(System.currentTimeMillis());
+        assertEquals(1, pool.metrics().idle());
+
+        pool.evictIdle(System.currentTimeMillis() + 1_000L);
+        assertEquals(0, pool.metrics().idle());
+        assertEquals(1L, pool.metrics().evicted());
+        assertTrue(opened.get(0).closed);
+    }
+}
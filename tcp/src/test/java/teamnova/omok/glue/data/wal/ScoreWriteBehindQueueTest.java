@@ -0,0 +1,172 @@
+package teamnova.omok.glue.data.wal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+final class ScoreWriteBehindQueueTest {
+
+    private static Map<String, Integer> deltas(Object... pairs) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            map.put((String) pairs[i], (Integer) pairs[i + 1]);
+        }
+        return map;
+    }
+
+    @Test
+    void unappliedChangesAreReplayedAfterRestart() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> false, false)) {
+            assertTrue(queue.submit(deltas("alice", 12, "bob", -7)));
+        }
+        // A crash halfway through the next batch leaves entries without their commit line
+        Files.writeString(file, "E\t3\t5\tcarol\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        List<Map<String, Integer>> applied = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> {
+            applied.add(d);
+            done.countDown();
+            return true;
+        }, false)) {
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(deltas("alice", 12, "bob", -7)), applied);
+            waitForEmptyLog(queue, file);
+        }
+    }
+
+    @Test
+    void retriesUntilTheSinkCommits() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        int[] attempts = new int[1];
+        CountDownLatch committed = new CountDownLatch(1);
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> {
+            if (++attempts[0] < 2) {
+                return false;
+            }
+            committed.countDown();
+            return true;
+        }, false)) {
+            queue.submit(deltas("alice", 3));
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+            waitForEmptyLog(queue, file);
+            assertEquals(1L, queue.metrics().failedAttempts());
+            assertEquals(1L, queue.metrics().appliedBatches());
+        }
+    }
+
+    @Test
+    void pendingDeltasSumUnappliedChangesPerUser() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> false, false)) {
+            queue.submit(deltas("alice", 3, "bob", -2));
+            queue.submit(deltas("alice", 4));
+            assertEquals(Map.of("alice", 7), queue.pendingDeltas(List.of("alice", "carol")));
+        }
+    }
+
+    @Test
+    void readScoresCountEachChangeOnceWhileItIsFlushed() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        Map<String, Integer> database = new ConcurrentHashMap<>(Map.of("alice", 1000));
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> {
+            d.forEach((userId, delta) -> database.merge(userId, delta, Integer::sum));
+            committed.countDown();
+            // Hold the window between the commit and the applied marker open
+            try {
+                checked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, false)) {
+            queue.submit(deltas("alice", 10));
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+            ExecutorService reader = Executors.newSingleThreadExecutor();
+            try {
+                Future<Map<String, Integer>> read = reader.submit(() -> queue.readScores(() -> Map.copyOf(database)));
+                Thread.sleep(50L);
+                checked.countDown();
+                assertEquals(Map.of("alice", 1010), read.get(5, TimeUnit.SECONDS));
+            } finally {
+                reader.shutdownNow();
+            }
+            waitForEmptyLog(queue, file);
+            assertEquals(Map.of("alice", 1010), queue.readScores(() -> Map.copyOf(database)));
+        }
+    }
+
+    @Test
+    void transientFailuresAreRetried() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        int[] attempts = new int[1];
+        CountDownLatch committed = new CountDownLatch(1);
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> {
+            if (++attempts[0] < 2) {
+                throw new SQLTransientConnectionException("connection reset", "08S01");
+            }
+            committed.countDown();
+            return true;
+        }, false)) {
+            queue.submit(deltas("alice", 3));
+            assertTrue(committed.await(5, TimeUnit.SECONDS));
+            waitForEmptyLog(queue, file);
+            assertEquals(1L, queue.metrics().failedAttempts());
+            assertEquals(0L, queue.metrics().deadLettered());
+        }
+    }
+
+    @Test
+    void permanentFailureIsDeadLetteredWithoutBlockingOthers() throws Exception {
+        Path file = Files.createTempDirectory("score-wal").resolve("scores.wal");
+        List<Map<String, Integer>> applied = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try (ScoreWriteBehindQueue queue = new ScoreWriteBehindQueue(file, d -> {
+            if (d.containsKey("mallory")) {
+                throw new SQLException("Data truncation: Out of range value for column 'score'", "22003");
+            }
+            applied.add(d);
+            done.countDown();
+            return true;
+        }, false)) {
+            queue.submit(deltas("mallory", Integer.MAX_VALUE, "alice", 5));
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            waitForEmptyLog(queue, file);
+            assertEquals(List.of(deltas("alice", 5)), applied);
+            assertEquals(1L, queue.metrics().deadLettered());
+            assertEquals(0L, queue.metrics().failedAttempts());
+        }
+        String dead = Files.readString(file.resolveSibling("scores.wal.dead"), StandardCharsets.UTF_8);
+        assertTrue(dead.startsWith("1\t" + Integer.MAX_VALUE + "\tmallory\t22003 "), dead);
+    }
+
+    private static void waitForEmptyLog(ScoreWriteBehindQueue queue, Path file) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while ((queue.metrics().pending() > 0 || Files.size(file) > 0) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(0, queue.metrics().pending());
+        assertEquals(0L, Files.size(file));
+    }
+}
@@ -0,0 +1,111 @@
+package teamnova.omok.glue.game.session.model.board;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.services.BoardService;
+import teamnova.omok.support.TestBoardAccess;
+
+final class ConnectivityIndexTest {
+    private static final Stone[] PALETTE = {
+        Stone.EMPTY, Stone.EMPTY, Stone.PLAYER1, Stone.PLAYER1, Stone.PLAYER2, Stone.JOKER, Stone.BLOCKER
+    };
+
+    private final BoardService boardService = new BoardService();
+
+    @Test
+    void splitsGroupWhenBridgeStoneIsRemoved() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        for (int x = 0; x < 7; x++) {
+            board.putStone(x, 3, Stone.PLAYER1);
+        }
+        ConnectivityIndex index = board.connectivityIndex(Connectivity.FOUR_WAY);
+        assertEquals(7, index.largestGroupSize(Stone.PLAYER1));
+
+        board.putStone(2, 3, Stone.EMPTY);
+        assertEquals(4, index.largestGroupSize(Stone.PLAYER1));
+        assertEquals(2, index.groupSize(3 * 10));
+    }
+
+    @Test
+    void enclosedGroupHasNoLiberties() {
+        TestBoardAccess board = new TestBoardAccess(5, 5);
+        board.putStone(0, 0, Stone.PLAYER2);
+        board.putStone(1, 0, Stone.PLAYER2);
+        board.putStone(2, 0, Stone.PLAYER1);
+        board.putStone(0, 1, Stone.PLAYER1);
+        board.putStone(1, 1, Stone.PLAYER1);
+
+        int[] out = new int[25];
+        int count = boardService.enclosedCells(board, Connectivity.FOUR_WAY, out);
+        assertArrayEquals(new int[]{0, 1}, Arrays.copyOf(out, count));
+
+        board.putStone(1, 1, Stone.EMPTY);
+        assertEquals(0, boardService.enclosedCells(board, Connectivity.FOUR_WAY, out));
+    }
+
+    @Test
+    void matchesBreadthFirstGroupsUnderRandomEdits() {
+        Random random = new Random(7L);
+        for (Connectivity connectivity : Connectivity.values()) {
+            TestBoardAccess board = new TestBoardAccess(9, 8);
+            // Build the index up front so every edit goes through the incremental path
+            board.connectivityIndex(connectivity);
+            for (int step = 0; step < 2_000; step++) {
+                int x = random.nextInt(board.width());
+                int y = random.nextInt(board.height());
+                board.putStone(x, y, PALETTE[random.nextInt(PALETTE.length)]);
+                if (step % 25 == 0) {
+                    assertConsistent(board, connectivity);
+                }
+            }
+            assertConsistent(board, connectivity);
+        }
+    }
+
+    private void assertConsistent(TestBoardAccess board, Connectivity connectivity) {
+        List<ConnectedGroup> groups = boardService.connectedGroups(board, connectivity);
+        for (Stone stone : Stone.values()) {
+            if (stone == Stone.EMPTY) {
+                continue;
+            }
+            int expected = groups.stream()
+                .filter(group -> group.stone() == stone)
+                .mapToInt(ConnectedGroup::size)
+                .max()
+                .orElse(0);
+            assertEquals(expected, boardService.largestGroupSize(board, connectivity, stone),
+                "largest " + stone + " group under " + connectivity);
+        }
+
+        int[] expectedEnclosed = groups.stream()
+            .filter(group -> !hasLiberty(board, group, connectivity))
+            .flatMap(group -> group.points().stream())
+            .mapToInt(point -> point.y() * board.width() + point.x())
+            .sorted()
+            .toArray();
+        int[] out = new int[board.width() * board.height()];
+        int count = boardService.enclosedCells(board, connectivity, out);
+        assertArrayEquals(expectedEnclosed, Arrays.copyOf(out, count));
+    }
+
+    private static boolean hasLiberty(TestBoardAccess board, ConnectedGroup group, Connectivity connectivity) {
+        for (BoardPoint point : group.points()) {
+            for (int[] offset : connectivity.offsets()) {
+                int nx = point.x() + offset[0];
+                int ny = point.y() + offset[1];
+                if (board.isWithinBounds(nx, ny) && board.stoneAt(nx, ny) == Stone.EMPTY) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,76 @@
+package teamnova.omok.glue.game.session.model.messages;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.client.session.model.BoardSyncState;
+import teamnova.omok.glue.game.session.model.vo.GameSessionId;
+
+final class BoardBroadcastStateTest {
+
+    @Test
+    void firstRevisionIsKeyframeThenDeltasListChangedCells() {
+        BoardBroadcastState state = new BoardBroadcastState();
+        byte[] board = new byte[100];
+
+        BoardRevision first = state.publish(board.clone(), 1L);
+        assertEquals(1L, first.sequence());
+        assertFalse(first.hasDelta());
+
+        board[7] = 1;
+        board[42] = 2;
+        BoardRevision second = state.publish(board.clone(), 2L);
+        assertEquals(2L, second.sequence());
+        assertArrayEquals(new int[]{7, 42}, second.changed());
+    }
+
+    @Test
+    void largeChangesFallBackToKeyframe() {
+        BoardBroadcastState state = new BoardBroadcastState();
+        state.publish(new byte[90], 1L);
+        byte[] filled = new byte[90];
+        for (int i = 0; i < 40; i++) {
+            filled[i] = 1;
+        }
+        assertFalse(state.publish(filled, 2L).hasDelta());
+    }
+
+    @Test
+    void keyframeReusesSequenceWhileBoardIsUnchanged() {
+        BoardBroadcastState state = new BoardBroadcastState();
+        byte[] board = new byte[25];
+        state.publish(board.clone(), 1L);
+        assertEquals(1L, state.keyframe(board.clone(), 5L).sequence());
+
+        board[3] = 1;
+        assertEquals(2L, state.keyframe(board.clone(), 6L).sequence());
+    }
+
+    @Test
+    void syncStateDetectsGapsAndSessionChanges() {
+        BoardSyncState sync = new BoardSyncState();
+        assertEquals(BoardSyncState.DELTA_VERSION, sync.negotiate(7));
+        GameSessionId game = GameSessionId.random();
+
+        assertEquals(BoardSyncState.Advance.GAP, sync.advance(game, 1L));
+        assertEquals(BoardSyncState.Advance.NEXT, sync.advance(game, 2L));
+        assertEquals(BoardSyncState.Advance.GAP, sync.advance(game, 4L));
+        assertEquals(BoardSyncState.Advance.GAP, sync.advance(GameSessionId.random(), 5L));
+    }
+
+    @Test
+    void syncStateSkipsRevisionsAlreadyDelivered() {
+        BoardSyncState sync = new BoardSyncState();
+        sync.negotiate(BoardSyncState.DELTA_VERSION);
+        GameSessionId game = GameSessionId.random();
+
+        assertEquals(BoardSyncState.Advance.GAP, sync.advance(game, 3L));
+        assertEquals(BoardSyncState.Advance.STALE, sync.advance(game, 3L));
+        assertEquals(BoardSyncState.Advance.STALE, sync.advance(game, 2L));
+        // A late revision must not rewind the state, so the next one is still a delta
+        assertEquals(BoardSyncState.Advance.NEXT, sync.advance(game, 4L));
+    }
+}
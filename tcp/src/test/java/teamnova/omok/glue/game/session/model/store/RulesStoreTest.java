@@ -0,0 +1,53 @@
+package teamnova.omok.glue.game.session.model.store;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RoundMarker;
+
+final class RulesStoreTest {
+    private static final RuleStateKey<RoundMarker> FIRST = RuleStateKey.of("test.first", RoundMarker::new);
+    private static final RuleStateKey<RoundMarker> SECOND = RuleStateKey.of("test.second", RoundMarker::new);
+
+    @Test
+    void createsStateOncePerKeyAndSession() {
+        RulesStore store = new RulesStore();
+        assertNull(store.peekRuleState(FIRST));
+
+        RoundMarker first = store.ruleState(FIRST);
+        first.mark(3);
+        assertSame(first, store.ruleState(FIRST));
+        assertSame(first, store.peekRuleState(FIRST));
+        assertFalse(store.ruleState(SECOND).isMarked(3));
+
+        RulesStore other = new RulesStore();
+        assertNotSame(first, other.ruleState(FIRST));
+    }
+
+    @Test
+    void growsForKeysDeclaredAfterTheStore() {
+        RulesStore store = new RulesStore();
+        RuleStateKey<RoundMarker> late = RuleStateKey.of("test.late", RoundMarker::new);
+        store.ruleState(late).mark(1);
+        assertTrue(store.ruleState(late).isMarked(1));
+    }
+
+    @Test
+    void clearDropsTypedStateAndMapData() {
+        RulesStore store = new RulesStore();
+        store.ruleState(FIRST).mark(7);
+        store.putRuleData("legacy", 7);
+
+        store.clearRuleData();
+
+        assertNull(store.peekRuleState(FIRST));
+        assertNull(store.getRuleData("legacy"));
+        assertFalse(store.ruleState(FIRST).isMarked(7));
+    }
+}
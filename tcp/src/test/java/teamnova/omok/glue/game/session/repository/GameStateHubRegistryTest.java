@@ -0,0 +1,156 @@
+package teamnova.omok.glue.game.session.repository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.states.GameStateHub;
+import teamnova.omok.glue.game.session.states.event.ParticipantPresenceEvent;
+import teamnova.omok.support.TestHubs;
+
+class GameStateHubRegistryTest {
+
+    @Test
+    void sessionIsAlwaysQueuedOnTheSameShard() throws Exception {
+        try (TestHubs hubs = new TestHubs(4)) {
+            GameStateHubRegistry registry = hubs.registry;
+            Set<Integer> used = new HashSet<>();
+            for (int i = 0; i < 32; i++) {
+                GameStateHub hub = registry.ensure(hubs.newSession("a" + i, "b" + i));
+                drainAll(registry);
+
+                hub.requestProcessing();
+                int first = queuedShard(registry);
+                drainAll(registry);
+                hub.submitPresence(new ParticipantPresenceEvent("a" + i, ParticipantPresenceEvent.Kind.DISCONNECTED));
+                Assertions.assertEquals(first, queuedShard(registry));
+                drainAll(registry);
+                used.add(first);
+            }
+            Assertions.assertEquals(32, registry.shardMetrics().stream().mapToInt(m -> m.sessions()).sum());
+            Assertions.assertTrue(used.size() > 1, "sessions should spread over shards");
+        }
+    }
+
+    @Test
+    void presenceChangesFromManyThreadsRunOnTheShardWorker() throws Exception {
+        try (TestHubs hubs = new TestHubs(2)) {
+            GameStateHubRegistry registry = hubs.registry;
+            GameSession session = hubs.newSession("alice", "bob");
+            GameStateHub hub = registry.ensure(session);
+            List<Thread> workers = startWorkers(registry);
+            try {
+                int submitters = 8;
+                int perSubmitter = 100;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Thread> threads = new ArrayList<>();
+                for (int t = 0; t < submitters; t++) {
+                    Thread thread = new Thread(() -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        for (int i = 0; i < perSubmitter; i++) {
+                            hub.submitPresence(new ParticipantPresenceEvent("alice", ParticipantPresenceEvent.Kind.DISCONNECTED));
+                        }
+                    });
+                    thread.start();
+                    threads.add(thread);
+                }
+                start.countDown();
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+                long deadline = System.currentTimeMillis() + 5_000;
+                while (hubs.count("broadcastPlayerDisconnected") < submitters * perSubmitter
+                    && System.currentTimeMillis() < deadline) {
+                    Thread.sleep(5);
+                }
+
+                Assertions.assertEquals(submitters * perSubmitter, hubs.count("broadcastPlayerDisconnected"));
+                Set<Thread> senders = hubs.messages.stream()
+                    .map(TestHubs.Message::thread)
+                    .collect(Collectors.toSet());
+                Assertions.assertEquals(1, senders.size());
+                Assertions.assertTrue(workers.contains(senders.iterator().next()));
+                Assertions.assertTrue(session.disconnectedUsersView().contains("alice"));
+                Assertions.assertTrue(registry.find(session.sessionId()).isPresent());
+            } finally {
+                stopWorkers(workers);
+            }
+        }
+    }
+
+    @Test
+    void lastParticipantLeavingFinalizesOnTheWorker() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameStateHubRegistry registry = hubs.registry;
+            GameSession session = hubs.newSession("alice", "bob");
+            GameStateHub hub = registry.ensure(session);
+
+            hub.submitPresence(new ParticipantPresenceEvent("alice", ParticipantPresenceEvent.Kind.LEFT));
+            hub.submitPresence(new ParticipantPresenceEvent("bob", ParticipantPresenceEvent.Kind.LEFT));
+            // Nothing changes until the worker drains the shard
+            Assertions.assertTrue(session.disconnectedUsersView().isEmpty());
+
+            registry.runScheduled(0, 0);
+
+            Assertions.assertTrue(registry.find(session.sessionId()).isEmpty());
+            Assertions.assertTrue(hubs.repository.findById(session.sessionId()).isEmpty());
+            Assertions.assertEquals(1, hubs.count("broadcastSessionTerminated"));
+        }
+    }
+
+    private static int queuedShard(GameStateHubRegistry registry) {
+        int found = -1;
+        for (var metrics : registry.shardMetrics()) {
+            if (metrics.queueDepth() > 0) {
+                Assertions.assertEquals(-1, found, "hub queued on more than one shard");
+                Assertions.assertEquals(1, metrics.queueDepth());
+                found = metrics.shard();
+            }
+        }
+        Assertions.assertTrue(found >= 0, "hub was not queued");
+        return found;
+    }
+
+    private static void drainAll(GameStateHubRegistry registry) throws InterruptedException {
+        for (int shard = 0; shard < registry.shardCount(); shard++) {
+            registry.runScheduled(shard, 0);
+        }
+    }
+
+    private static List<Thread> startWorkers(GameStateHubRegistry registry) {
+        List<Thread> workers = new ArrayList<>();
+        for (int shard = 0; shard < registry.shardCount(); shard++) {
+            int index = shard;
+            Thread worker = new Thread(() -> {
+                try {
+                    while (!Thread.currentThread().isInterrupted()) {
+                        registry.runScheduled(index, 5);
+                    }
+                } catch (InterruptedException ignored) {
+                    // stopped
+                }
+            }, "test-shard-" + shard);
+            worker.start();
+            workers.add(worker);
+        }
+        return workers;
+    }
+
+    private static void stopWorkers(List<Thread> workers) throws InterruptedException {
+        for (Thread worker : workers) {
+            worker.interrupt();
+            worker.join(1_000);
+        }
+    }
+}
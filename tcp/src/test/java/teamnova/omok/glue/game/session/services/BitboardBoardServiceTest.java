@@ -0,0 +1,101 @@
+package teamnova.omok.glue.game.session.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.support.TestBoardAccess;
+
+final class BitboardBoardServiceTest {
+    private static final Stone[] PLAYERS = {Stone.PLAYER1, Stone.PLAYER2, Stone.PLAYER3, Stone.PLAYER4};
+
+    private final BoardService scanning = new BoardService();
+    private final BitboardBoardService bitboard = new BitboardBoardService();
+
+    @Test
+    void rejectsOverlinesLikeTheScanningService() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        for (int x = 0; x < 6; x++) {
+            board.putStone(x, 4, Stone.PLAYER2);
+        }
+        assertFalse(bitboard.hasFiveInARow(board, 2, 4, Stone.PLAYER2));
+        assertEquals(-1, bitboard.findFiveInARow(board, Stone.PLAYER2));
+
+        board.putStone(0, 4, Stone.BLOCKER);
+        assertTrue(bitboard.hasFiveInARow(board, 2, 4, Stone.PLAYER2));
+        assertEquals(4 * 10 + 1, bitboard.findFiveInARow(board, Stone.PLAYER2));
+    }
+
+    @Test
+    void linesDoNotWrapAcrossRowEdges() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        board.putStone(7, 2, Stone.PLAYER1);
+        board.putStone(8, 2, Stone.PLAYER1);
+        board.putStone(9, 2, Stone.PLAYER1);
+        board.putStone(0, 3, Stone.PLAYER1);
+        board.putStone(1, 3, Stone.PLAYER1);
+
+        assertFalse(bitboard.hasFiveInARow(board, 9, 2, Stone.PLAYER1));
+        assertEquals(-1, bitboard.findFiveInARow(board, Stone.PLAYER1));
+    }
+
+    @Test
+    void jokerOnlyLinesDoNotWin() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        for (int y = 0; y < 5; y++) {
+            board.putStone(3, y, Stone.JOKER);
+        }
+        assertEquals(-1, bitboard.findFiveInARow(board, Stone.PLAYER1));
+    }
+
+    @Test
+    void matchesScanningServiceOnRandomBoards() {
+        Random random = new Random(42L);
+        int[][] sizes = {{10, 10}, {15, 9}, {7, 12}, {19, 19}};
+        Set<Stone> special = EnumSet.of(Stone.JOKER, Stone.BLOCKER);
+        for (int[] size : sizes) {
+            for (int round = 0; round < 150; round++) {
+                TestBoardAccess board = randomBoard(random, size[0], size[1]);
+                int[] expected = new int[size[0] * size[1]];
+                int[] actual = new int[size[0] * size[1]];
+                int mask = Stone.PLAYER1.mask() | Stone.JOKER.mask();
+                assertEquals(scanning.collectCells(board, mask, expected), bitboard.collectCells(board, mask, actual));
+                assertArrayEquals(expected, actual);
+                for (Stone player : PLAYERS) {
+                    assertEquals(scanning.findFiveInARow(board, player), bitboard.findFiveInARow(board, player),
+                        "findFiveInARow " + player + " on " + size[0] + "x" + size[1]);
+                }
+                for (int y = 0; y < size[1]; y++) {
+                    for (int x = 0; x < size[0]; x++) {
+                        for (Stone player : PLAYERS) {
+                            assertEquals(scanning.hasFiveInARow(board, x, y, player), bitboard.hasFiveInARow(board, x, y, player),
+                                "hasFiveInARow " + player + " at (" + x + "," + y + ")");
+                        }
+                        assertEquals(scanning.hasFiveInARowMatching(board, x, y, special),
+                            bitboard.hasFiveInARowMatching(board, x, y, special),
+                            "hasFiveInARowMatching at (" + x + "," + y + ")");
+                    }
+                }
+            }
+        }
+    }
+
+    private static TestBoardAccess randomBoard(Random random, int width, int height) {
+        TestBoardAccess board = new TestBoardAccess(width, height);
+        Stone[] palette = {Stone.EMPTY, Stone.PLAYER1, Stone.PLAYER1, Stone.PLAYER1, Stone.PLAYER2, Stone.JOKER, Stone.BLOCKER};
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                board.putStone(x, y, palette[random.nextInt(palette.length)]);
+            }
+        }
+        return board;
+    }
+}
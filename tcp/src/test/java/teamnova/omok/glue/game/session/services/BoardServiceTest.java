@@ -1,12 +1,18 @@
 package teamnova.omok.glue.game.session.services;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
 import teamnova.omok.support.TestBoardAccess;
 
 final class BoardServiceTest {
@@ -40,4 +46,49 @@ final class BoardServiceTest {
         assertFalse(service.hasFiveInARow(board, 2, 1, Stone.PLAYER1));
     }
 
+    @Test
+    void indexQueriesSelectCellsByStoneMask() {
+        TestBoardAccess board = new TestBoardAccess(5, 5);
+        board.putStone(1, 0, Stone.PLAYER1);
+        board.putStone(0, 1, Stone.PLAYER2);
+        board.putStone(2, 1, Stone.BLOCKER);
+        board.putStone(1, 2, Stone.JOKER);
+
+        int[] out = new int[25];
+        int count = service.collectCells(board, Stone.PLAYER_MASK, out);
+        assertArrayEquals(new int[]{1, 5}, Arrays.copyOf(out, count));
+
+        int center = 1 * 5 + 1;
+        assertEquals(4, service.countNeighbors(board, center, Connectivity.FOUR_WAY, Stone.OCCUPIED_MASK));
+        assertEquals(2, service.countNeighbors(board, center, Connectivity.FOUR_WAY, Stone.PLAYER_MASK));
+        assertEquals(-1, service.randomNeighbor(board, center, Connectivity.FOUR_WAY, Stone.EMPTY.mask(), new Random(1L)));
+        int diagonal = service.randomNeighbor(board, center, Connectivity.EIGHT_WAY, Stone.EMPTY.mask(), new Random(1L));
+        assertTrue(diagonal == 0 || diagonal == 2 || diagonal == 10 || diagonal == 12);
+    }
+
+    @Test
+    void sampleCellsReturnsDistinctMatchingSubset() {
+        TestBoardAccess board = new TestBoardAccess(6, 6);
+        for (int i = 0; i < 10; i++) {
+            board.putStone(i % 6, i / 6, Stone.PLAYER3);
+        }
+        int[] out = new int[36];
+        int picked = service.sampleCells(board, Stone.PLAYER_MASK, out, 4, new Random(3L));
+        assertEquals(4, picked);
+        int[] sample = Arrays.copyOf(out, picked);
+        assertEquals(4L, Arrays.stream(sample).distinct().count());
+        for (int index : sample) {
+            assertEquals(Stone.PLAYER3, board.stoneAt(index % 6, index / 6));
+        }
+        assertEquals(10, service.sampleCells(board, Stone.PLAYER_MASK, out, 50, new Random(3L)));
+    }
+
+    @Test
+    void setStonesAppliesToEveryIndex() {
+        TestBoardAccess board = new TestBoardAccess(4, 4);
+        service.setStones(board, new int[]{0, 5, 15, 3}, 3, Stone.BLOCKER, null);
+        int[] out = new int[16];
+        int count = service.collectCells(board, Stone.BLOCKER.mask(), out);
+        assertArrayEquals(new int[]{0, 5, 15}, Arrays.copyOf(out, count));
+    }
 }
@@ -7,7 +7,6 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,9 +63,42 @@ final class BoardVictoryResolverTest {
         assertEquals(PlayerResult.LOSS, outcomes.outcomeFor("red"));
     }
 
+    @Test
+    void detectsLineCompletedByClearingAnAdjacentCell() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        for (int x = 2; x < 8; x++) {
+            board.putStone(x, 5, Stone.PLAYER2);
+        }
+        StubOutcomeAccess outcomes = new StubOutcomeAccess();
+        assertFalse(BoardVictoryResolver.resolve(board, List.of("blue", "red"), outcomes, boardService, null));
+        assertTrue(board.dirtyCells().isEmpty());
+
+        // Trimming the six-long overline leaves an exact five that does not include the changed cell
+        board.putStone(7, 5, Stone.EMPTY);
+        assertEquals(1, board.dirtyCells().count());
+        assertTrue(BoardVictoryResolver.resolve(board, List.of("blue", "red"), outcomes, boardService, null));
+        assertEquals(PlayerResult.WIN, outcomes.outcomeFor("red"));
+    }
+
+    @Test
+    void fallsBackToFullScanWhenTrackerOverflows() {
+        TestBoardAccess board = new TestBoardAccess(10, 10);
+        for (int y = 0; y < 5; y++) {
+            board.putStone(9, y, Stone.PLAYER1);
+        }
+        for (int i = 0; i < 20; i++) {
+            board.putStone(i % 5, 9 - i / 5, Stone.BLOCKER);
+        }
+        assertTrue(board.dirtyCells().overflowed());
+
+        StubOutcomeAccess outcomes = new StubOutcomeAccess();
+        assertTrue(BoardVictoryResolver.resolve(board, List.of("blue", "red"), outcomes, boardService, null));
+        assertEquals(PlayerResult.WIN, outcomes.outcomeFor("blue"));
+        assertTrue(board.dirtyCells().isEmpty());
+    }
+
     private static final class StubOutcomeAccess implements GameSessionOutcomeAccess {
         private final GameSessionId sessionId = GameSessionId.random();
-        private final ReentrantLock lock = new ReentrantLock();
         private final Map<String, PlayerResult> results = new HashMap<>();
         private boolean finished;
 
@@ -75,10 +107,6 @@ final class BoardVictoryResolverTest {
             return sessionId;
         }
 
-        @Override
-        public ReentrantLock lock() {
-            return lock;
-        }
 
         @Override
         public void resetOutcomes() {
@@ -103,5 +131,14 @@ final class BoardVictoryResolverTest {
         public boolean isGameFinished() {
             return finished;
         }
+
+        @Override
+        public void recordSettledScoreDeltas(Map<String, Integer> deltas) {
+        }
+
+        @Override
+        public int settledScoreDeltaFor(String userId) {
+            return 0;
+        }
     }
 }
@@ -0,0 +1,39 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.data.model.UserData;
+
+class GameSessionBootstrapServiceTest {
+
+    @Test
+    void resolvesParticipantsConcurrentlyInSeatOrder() throws Exception {
+        // Each lookup waits until both have started, so a sequential resolver would time out
+        CountDownLatch started = new CountDownLatch(2);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<UserData> users = GameSessionBootstrapService.resolveParticipants(List.of("alice", "bob", "ghost"), userId -> {
+                if (userId.equals("ghost")) {
+                    throw new IllegalStateException("database down");
+                }
+                started.countDown();
+                try {
+                    Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return new UserData(userId, userId, 0, UserData.Status.ACTIVE, 1200);
+            }, executor).get(5, TimeUnit.SECONDS);
+
+            Assertions.assertEquals("alice", users.get(0).id());
+            Assertions.assertEquals("bob", users.get(1).id());
+            Assertions.assertEquals(UserData.Status.INACTIVE, users.get(2).status());
+        }
+    }
+}
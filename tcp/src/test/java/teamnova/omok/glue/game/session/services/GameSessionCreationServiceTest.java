@@ -0,0 +1,91 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.client.session.ClientSessionManager;
+import teamnova.omok.glue.data.model.UserData;
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.services.coordinator.DecisionTimeoutCoordinator;
+import teamnova.omok.glue.game.session.services.coordinator.TurnTimeoutCoordinator;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
+import teamnova.omok.glue.rule.runtime.RuleManager;
+import teamnova.omok.glue.rule.runtime.RuleRegistry;
+import teamnova.omok.modules.matching.models.MatchGroup;
+import teamnova.omok.modules.matching.models.MatchTicket;
+import teamnova.omok.modules.matching.models.TicketInfo;
+import teamnova.omok.support.TestHubs;
+
+class GameSessionCreationServiceTest {
+
+    @BeforeEach
+    void initManagers() {
+        ClientSessionManager.Init();
+        RuleManager.Init(RuleRegistry.getInstance());
+    }
+
+    @Test
+    void dropOutCancelsTheSessionAndRequeuesTheOthers() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            List<MatchTicket> requeued = new CopyOnWriteArrayList<>();
+            GameSession session = GameSessionCreationService.createFromGroup(dependencies(hubs),
+                group("alice", "bob", "carol"), GameSessionCreationServiceTest::profiles,
+                userId -> !userId.equals("bob"), requeued::add)
+                .get(5, TimeUnit.SECONDS);
+
+            Assertions.assertNull(session);
+            Assertions.assertEquals(List.of("alice", "carol"), requeued.stream().map(MatchTicket::id).toList());
+            Assertions.assertTrue(hubs.repository.findByUserId("alice").isEmpty());
+            Assertions.assertEquals(0, hubs.registry.shardMetrics().get(0).sessions());
+            Assertions.assertEquals(0, hubs.count("broadcastJoin"));
+        }
+    }
+
+    @Test
+    void sessionIsRegisteredWhenEveryoneIsStillMatching() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            List<MatchTicket> requeued = new CopyOnWriteArrayList<>();
+            GameSession session = GameSessionCreationService.createFromGroup(dependencies(hubs),
+                group("alice", "bob"), GameSessionCreationServiceTest::profiles,
+                userId -> true, requeued::add)
+                .get(5, TimeUnit.SECONDS);
+
+            Assertions.assertSame(session, hubs.repository.findByUserId("alice").orElseThrow());
+            Assertions.assertTrue(requeued.isEmpty());
+            Assertions.assertEquals(1, hubs.count("broadcastJoin"));
+        }
+    }
+
+    private static MatchGroup group(String... userIds) {
+        List<TicketInfo> tickets = new CopyOnWriteArrayList<>();
+        for (String userId : userIds) {
+            tickets.add(TicketInfo.create(MatchTicket.create(userId, 1000, Set.of(userIds.length))));
+        }
+        return new MatchGroup(tickets, 0);
+    }
+
+    private static CompletableFuture<List<UserData>> profiles(List<String> userIds) {
+        return CompletableFuture.completedFuture(userIds.stream()
+            .map(id -> new UserData(id, id, 0, UserData.Status.ACTIVE, 1000))
+            .toList());
+    }
+
+    private static GameSessionDependencies dependencies(TestHubs hubs) {
+        return new GameSessionDependencies(
+            hubs.repository,
+            hubs.registry,
+            new TurnService(GameSession.TURN_DURATION_MILLIS),
+            hubs.messenger,
+            new TurnTimeoutCoordinator(hubs.timer),
+            new DecisionTimeoutCoordinator(hubs.timer),
+            RuleManager.getInstance(),
+            new GameSessionStateContextService());
+    }
+}
@@ -0,0 +1,61 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
+import teamnova.omok.glue.game.session.model.result.ScoreSettlement;
+import teamnova.omok.glue.game.session.services.coordinator.DecisionTimeoutCoordinator;
+import teamnova.omok.glue.game.session.services.coordinator.TurnTimeoutCoordinator;
+import teamnova.omok.glue.game.session.states.GameStateHub;
+import teamnova.omok.glue.game.session.states.event.ScoreSettledEvent;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
+import teamnova.omok.glue.game.session.states.state.PostGameDecisionWaitingState;
+import teamnova.omok.glue.rule.runtime.RuleManager;
+import teamnova.omok.glue.rule.runtime.RuleRegistry;
+import teamnova.omok.support.TestHubs;
+
+class GameSessionRematchServiceTest {
+
+    @BeforeEach
+    void initRules() {
+        RuleManager.Init(RuleRegistry.getInstance());
+    }
+
+    @Test
+    void rematchStartsFromTheSettledScores() {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameSession finished = hubs.newSession("alice", "bob");
+            GameStateHub hub = hubs.registry.ensure(finished);
+            TurnService turnService = new TurnService(GameSession.TURN_DURATION_MILLIS);
+            GameSessionServices services = new GameSessionServices(
+                new BitboardBoardService(),
+                turnService,
+                new ScoreService(),
+                hubs.messenger,
+                new HiddenPlacementCoordinator(),
+                new TurnBudgetManager(),
+                new TurnTimeoutCoordinator(hubs.timer),
+                new DecisionTimeoutCoordinator(hubs.timer),
+                hubs.repository,
+                hubs.registry);
+            PostGameDecisionWaitingState waiting =
+                new PostGameDecisionWaitingState(new GameSessionStateContextService(), turnService);
+            waiting.onEvent(new GameSessionStateContext(finished, hub::requestWakeup),
+                new ScoreSettledEvent(new ScoreSettlement(Map.of("alice", 10, "bob", -12), true)));
+
+            GameSession rematch = GameSessionRematchService.createAndBroadcast(services, finished, List.of("alice", "bob"));
+
+            // Both profiles started at 1000 before the finished game
+            Assertions.assertEquals(1010, rematch.getUsers().get(0).score());
+            Assertions.assertEquals(988, rematch.getUsers().get(1).score());
+            Assertions.assertEquals(1, hubs.count("broadcastRematchStarted"));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package teamnova.omok.glue.game.session.services;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.client.session.ClientSessionManager;
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.model.PlayerResult;
+import teamnova.omok.glue.game.session.model.dto.GameSessionServices;
+import teamnova.omok.glue.game.session.model.result.ScoreSettlement;
+import teamnova.omok.glue.game.session.services.coordinator.DecisionTimeoutCoordinator;
+import teamnova.omok.glue.game.session.services.coordinator.TurnTimeoutCoordinator;
+import teamnova.omok.glue.game.session.states.GameStateHub;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContext;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
+import teamnova.omok.glue.game.session.states.state.TurnEndState;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
+import teamnova.omok.support.TestHubs;
+
+class ScoreServiceTest {
+    private static final Map<String, Integer> SCORES = Map.of(
+        "alice", 1200,
+        "bob", 1000,
+        "carol", 300,
+        "dave", 2600
+    );
+
+    @BeforeEach
+    void initClientSessions() {
+        // Settlement reads streaks from connected clients; none are connected here
+        ClientSessionManager.Init();
+    }
+
+    @Test
+    void twoPlayersLoadOnceAndSettleBothSides() throws Exception {
+        RecordingStore store = new RecordingStore();
+        ScoreSettlement settlement = settle(store, Map.of("alice", PlayerResult.WIN, "bob", PlayerResult.LOSS),
+            "alice", "bob");
+
+        Assertions.assertEquals(List.of(List.of("alice", "bob")), store.loads);
+        // Beating a lower-rated player earns the base score; losing at 1000 costs base + 1000 / 500
+        Assertions.assertEquals(Map.of("alice", 10, "bob", -12), settlement.deltas());
+        Assertions.assertEquals(List.of(settlement.deltas()), store.applied);
+        Assertions.assertTrue(settlement.persisted());
+    }
+
+    @Test
+    void threePlayersCompareTheWinnerWithTheFirstOpponent() throws Exception {
+        RecordingStore store = new RecordingStore();
+        ScoreSettlement settlement = settle(store,
+            Map.of("alice", PlayerResult.LOSS, "bob", PlayerResult.LOSS, "carol", PlayerResult.WIN),
+            "alice", "bob", "carol");
+
+        Assertions.assertEquals(List.of(List.of("alice", "bob", "carol")), store.loads);
+        // carol: base 10 + (1200 - 300) / 100 * 5 + 10 beginner bonus
+        Assertions.assertEquals(Map.of("alice", -12, "bob", -12, "carol", 65), settlement.deltas());
+    }
+
+    @Test
+    void fourPlayersClampTheWinnerAndSkipZeroChanges() throws Exception {
+        RecordingStore store = new RecordingStore();
+        ScoreSettlement settlement = settle(store,
+            Map.of("alice", PlayerResult.LOSS, "bob", PlayerResult.DRAW,
+                "carol", PlayerResult.LOSS, "dave", PlayerResult.WIN),
+            "alice", "bob", "carol", "dave");
+
+        Assertions.assertEquals(1, store.loads.size());
+        Assertions.assertEquals(List.of("alice", "bob", "carol", "dave"), store.loads.get(0));
+        Assertions.assertEquals(Map.of("alice", -12, "bob", 0, "carol", -10, "dave", 10), settlement.deltas());
+        // Only non-zero changes are written
+        Assertions.assertEquals(List.of(Map.of("alice", -12, "carol", -10, "dave", 10)), store.applied);
+    }
+
+    @Test
+    void finishedGameDeliversTheSettlementToItsHub() throws Exception {
+        RecordingStore store = new RecordingStore();
+        ScoreService scores = new ScoreService(store, Runnable::run);
+        try (TestHubs hubs = new TestHubs(1, scores)) {
+            GameSession session = hubs.newSession("alice", "bob");
+            session.updateOutcome("alice", PlayerResult.WIN);
+            session.updateOutcome("bob", PlayerResult.LOSS);
+            GameStateHub hub = hubs.registry.ensure(session);
+            GameSessionStateContextService contextService = new GameSessionStateContextService();
+            TurnEndState state = new TurnEndState(contextService, new GameSessionServices(
+                new BitboardBoardService(),
+                new TurnService(GameSession.TURN_DURATION_MILLIS),
+                scores,
+                hubs.messenger,
+                new HiddenPlacementCoordinator(),
+                new TurnBudgetManager(),
+                new TurnTimeoutCoordinator(hubs.timer),
+                new DecisionTimeoutCoordinator(hubs.timer),
+                hubs.repository,
+                hubs.registry));
+            EventQueueStats.Snapshot before = hubs.registry.eventQueueMetrics();
+
+            state.onEnter(new GameSessionStateContext(session, hub::requestWakeup));
+
+            Assertions.assertEquals(1, store.loads.size());
+            Assertions.assertEquals(before.accepted() + 1, hubs.registry.eventQueueMetrics().accepted());
+            Assertions.assertEquals(1, hubs.registry.shardMetrics().get(0).queueDepth());
+            Assertions.assertEquals(1, hubs.count("broadcastGameCompleted"));
+        }
+    }
+
+    @Test
+    void closeWaitsForQueuedSettlements() throws Exception {
+        RecordingStore store = new RecordingStore();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ScoreService scores = new ScoreService(store, executor);
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameSession session = hubs.newSession("alice", "bob");
+            session.updateOutcome("alice", PlayerResult.WIN);
+            session.updateOutcome("bob", PlayerResult.LOSS);
+            // Keep the settlement queued behind a slow task when shutdown starts
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(100L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            scores.settle(session);
+            scores.close();
+
+            Assertions.assertTrue(executor.isTerminated());
+            Assertions.assertEquals(List.of(Map.of("alice", 10, "bob", -12)), store.applied);
+        }
+    }
+
+    private static ScoreSettlement settle(RecordingStore store,
+                                          Map<String, PlayerResult> results,
+                                          String... userIds) throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameSession session = hubs.newSession(userIds);
+            results.forEach(session::updateOutcome);
+            return new ScoreService(store, Runnable::run).settle(session).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private static final class RecordingStore implements ScoreService.ScoreStore {
+        final List<List<String>> loads = new ArrayList<>();
+        final List<Map<String, Integer>> applied = new ArrayList<>();
+
+        @Override
+        public Map<String, Integer> scoresOf(List<String> userIds) {
+            loads.add(List.copyOf(userIds));
+            Map<String, Integer> scores = new LinkedHashMap<>();
+            for (String userId : userIds) {
+                scores.put(userId, SCORES.get(userId));
+            }
+            return scores;
+        }
+
+        @Override
+        public boolean apply(Map<String, Integer> deltas) {
+            applied.add(Map.copyOf(deltas));
+            return true;
+        }
+    }
+}
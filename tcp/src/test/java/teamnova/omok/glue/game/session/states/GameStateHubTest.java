@@ -0,0 +1,80 @@
+package teamnova.omok.glue.game.session.states;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.interfaces.GameSessionRuntime;
+import teamnova.omok.glue.game.session.repository.GameStateHubRegistry;
+import teamnova.omok.glue.game.session.states.event.ReadyEvent;
+import teamnova.omok.support.TestHubs;
+
+class GameStateHubTest {
+
+    @Test
+    void idleHubIsNeverProcessed() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameStateHubRegistry registry = hubs.registry;
+            registry.ensure(hubs.newSession("alice", "bob"));
+            long passes = shard(registry).passes();
+
+            registry.runScheduled(0, 100);
+
+            Assertions.assertEquals(passes, shard(registry).passes());
+            Assertions.assertEquals(0, shard(registry).queueDepth());
+        }
+    }
+
+    @Test
+    void submittedEventsWakeTheHubOnce() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameStateHubRegistry registry = hubs.registry;
+            GameStateHub hub = registry.ensure(hubs.newSession("alice", "bob"));
+            long passes = shard(registry).passes();
+
+            Assertions.assertTrue(hub.submit(new ReadyEvent("alice", System.currentTimeMillis(), 1)).isQueued());
+            hub.requestProcessing();
+            hub.submit(new ReadyEvent("alice", System.currentTimeMillis(), 2));
+            Assertions.assertEquals(1, shard(registry).queueDepth());
+
+            registry.runScheduled(0, 0);
+            Assertions.assertEquals(passes + 1, shard(registry).passes());
+
+            // Nothing left to do, so the hub stays off the queue
+            registry.runScheduled(0, 100);
+            Assertions.assertEquals(passes + 1, shard(registry).passes());
+        }
+    }
+
+    @Test
+    void expiredWakeupQueuesTheHubOnce() throws Exception {
+        try (TestHubs hubs = new TestHubs(1)) {
+            GameStateHubRegistry registry = hubs.registry;
+            GameStateHub hub = registry.ensure(hubs.newSession("alice", "bob"));
+            long passes = shard(registry).passes();
+            long now = System.currentTimeMillis();
+
+            hub.requestWakeup(now + 40);
+            // Later deadlines are already covered by the pending one
+            hub.requestWakeup(now + 60);
+            hub.requestWakeup(now + 80);
+
+            long deadline = now + 2_000;
+            while (shard(registry).queueDepth() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(100);
+            Assertions.assertEquals(1, shard(registry).queueDepth());
+            Assertions.assertEquals(passes, shard(registry).passes());
+
+            registry.runScheduled(0, 0);
+            Assertions.assertEquals(passes + 1, shard(registry).passes());
+
+            registry.runScheduled(0, 150);
+            Assertions.assertEquals(passes + 1, shard(registry).passes());
+        }
+    }
+
+    private static GameSessionRuntime.ShardMetrics shard(GameStateHubRegistry registry) {
+        return registry.shardMetrics().get(0);
+    }
+}
@@ -0,0 +1,102 @@
+package teamnova.omok.glue.game.session.states.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.data.model.UserData;
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.model.PostGameDecision;
+import teamnova.omok.modules.state_machine.StateMachineGateway;
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+import teamnova.omok.modules.state_machine.interfaces.BaseState;
+import teamnova.omok.modules.state_machine.interfaces.StateContext;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
+import teamnova.omok.modules.state_machine.models.StateName;
+import teamnova.omok.modules.state_machine.models.StateStep;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
+
+class GameSessionEventPolicyTest {
+    private static final StateName WAITING = StateName.of("waiting");
+    private static final StateContext CONTEXT = new StateContext() { };
+
+    @Test
+    void timeoutIsDeliveredWhenClientsFilledTheQueue() {
+        List<BaseEvent> delivered = new ArrayList<>();
+        StateMachineGateway.Handle machine = open(4, delivered);
+
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new ReadyEvent("alice", 0L, 1)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new ReadyEvent("bob", 0L, 2)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new MoveEvent("alice", 1, 1, 0L, 3)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new MoveEvent("bob", 2, 2, 0L, 4)));
+        Assertions.assertEquals(SubmitResult.REJECTED, machine.submit(new MoveEvent("carol", 3, 3, 0L, 5)));
+
+        TimeoutEvent timeout = new TimeoutEvent(0, 0L);
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(timeout));
+        // Bypassing the bound does not let a second timeout for the same turn in
+        Assertions.assertEquals(SubmitResult.COALESCED, machine.submit(new TimeoutEvent(0, 1L)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new DecisionTimeoutEvent(10L)));
+
+        machine.process(CONTEXT, 0L);
+
+        Assertions.assertEquals(6, delivered.size());
+        Assertions.assertSame(timeout, delivered.get(4));
+        Assertions.assertEquals(new DecisionTimeoutEvent(10L), delivered.get(5));
+    }
+
+    @Test
+    void repeatedReadyAndDecisionCoalescePerUser() {
+        StateMachineGateway.Handle machine = open(8, new ArrayList<>());
+
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new ReadyEvent("alice", 0L, 1)));
+        Assertions.assertEquals(SubmitResult.COALESCED, machine.submit(new ReadyEvent("alice", 1L, 2)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new ReadyEvent("bob", 1L, 3)));
+
+        Assertions.assertEquals(SubmitResult.ACCEPTED,
+            machine.submit(new PostGameDecisionEvent("alice", PostGameDecision.REMATCH, 0L, 4)));
+        Assertions.assertEquals(SubmitResult.COALESCED,
+            machine.submit(new PostGameDecisionEvent("alice", PostGameDecision.LEAVE, 1L, 5)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED,
+            machine.submit(new PostGameDecisionEvent("bob", PostGameDecision.LEAVE, 1L, 6)));
+    }
+
+    @Test
+    void onlyIdenticalMovesCoalesce() {
+        List<BaseEvent> delivered = new ArrayList<>();
+        StateMachineGateway.Handle machine = open(8, delivered);
+
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new MoveEvent("alice", 3, 4, 0L, 1)));
+        Assertions.assertEquals(SubmitResult.COALESCED, machine.submit(new MoveEvent("alice", 3, 4, 1L, 2)));
+        Assertions.assertEquals(SubmitResult.ACCEPTED, machine.submit(new MoveEvent("alice", 5, 6, 2L, 3)));
+
+        machine.process(CONTEXT, 0L);
+
+        Assertions.assertEquals(List.of(1L, 3L), delivered.stream()
+            .map(event -> ((MoveEvent) event).requestId())
+            .toList());
+    }
+
+    private static StateMachineGateway.Handle open(int capacity, List<BaseEvent> delivered) {
+        GameSession session = new GameSession(List.of("alice", "bob"), List.of(
+            new UserData("alice", "alice", 0, UserData.Status.ACTIVE, 1000),
+            new UserData("bob", "bob", 0, UserData.Status.ACTIVE, 1000)));
+        StateMachineGateway.Handle machine = StateMachineGateway.open(
+            capacity, new GameSessionEventPolicy(session), new EventQueueStats());
+        machine.register(new BaseState() {
+            @Override
+            public StateName name() {
+                return WAITING;
+            }
+
+            @Override
+            public <I extends StateContext> StateStep onEvent(I context, BaseEvent event) {
+                delivered.add(event);
+                return StateStep.stay();
+            }
+        });
+        machine.start(WAITING, CONTEXT);
+        return machine;
+    }
+}
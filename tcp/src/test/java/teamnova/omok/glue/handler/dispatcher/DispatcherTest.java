@@ -0,0 +1,72 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import teamnova.omok.core.nio.FramedMessage;
+import teamnova.omok.core.nio.NioReactorServer;
+import teamnova.omok.core.nio.NioServerConfig;
+import teamnova.omok.glue.handler.register.HandlerProvider;
+import teamnova.omok.glue.handler.register.HandlerRegistry;
+
+class DispatcherTest {
+
+    @Test
+    void blockingHandlersRunOnVirtualThreadsBehindThePermitLimit() throws Exception {
+        NioReactorServer server = new NioReactorServer(0, 1, NioServerConfig.defaults(), DispatcherConfig.defaults(), HandlerRegistry.empty());
+        Thread acceptor = new Thread(server::start, "test-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+
+        DispatcherConfig config = DispatcherConfig.defaults();
+        config.blockingExecution = BlockingExecution.VIRTUAL_THREADS;
+        config.blockingConcurrency = 2;
+        Dispatcher dispatcher = new Dispatcher(1, config, server);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicBoolean allVirtual = new AtomicBoolean(true);
+        dispatcher.register(1, HandlerProvider.blocking(HandlerProvider.singleton((srv, session, frame) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            allVirtual.compareAndSet(true, Thread.currentThread().isVirtual());
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+                done.countDown();
+            }
+        })));
+        try {
+            for (int i = 0; i < 5; i++) {
+                dispatcher.dispatch(null, new FramedMessage((byte) 1, i, new byte[0]));
+            }
+            // Two handlers hold the permits; the other three queue on the semaphore
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while ((running.get() < 2 || dispatcher.blockingWaiters() < 3) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10L);
+            }
+            assertEquals(2, running.get());
+            assertEquals(3, dispatcher.blockingWaiters());
+
+            release.countDown();
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(2, maxRunning.get());
+            assertTrue(allVirtual.get());
+            assertEquals(0, dispatcher.blockingWaiters());
+        } finally {
+            release.countDown();
+            dispatcher.close();
+            server.close();
+            acceptor.join(5_000L);
+        }
+    }
+}
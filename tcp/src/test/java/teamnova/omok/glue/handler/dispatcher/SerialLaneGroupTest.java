@@ -0,0 +1,193 @@
+package teamnova.omok.glue.handler.dispatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+class SerialLaneGroupTest {
+
+    @Test
+    void tasksWithSameKeyRunInSubmissionOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            List<Integer> seen = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(200);
+            Object key = new Object();
+            for (int i = 0; i < 200; i++) {
+                int value = i;
+                group.submit(key, () -> {
+                    seen.add(value);
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 200; i++) {
+                assertEquals(i, seen.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void blockedLaneDoesNotStallOtherKeys() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch otherRan = new CountDownLatch(1);
+            CountDownLatch slowStarted = new CountDownLatch(1);
+            group.submit("slow", () -> {
+                slowStarted.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            group.submit("slow", () -> { });
+            group.submit("fast", otherRan::countDown);
+
+            assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+            // The fast lane may finish before the slow one has even dequeued its first task
+            assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+            assertEquals(1, group.depth("slow"));
+            release.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void laterTaskWaitsBehindTaskOnAnotherExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ExecutorService blocking = Executors.newFixedThreadPool(2);
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            List<String> seen = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(3);
+            group.submit("session", () -> {
+                sleepQuietly(100L);
+                seen.add("join");
+                done.countDown();
+            }, blocking);
+            group.submit("session", () -> {
+                seen.add("leave");
+                done.countDown();
+            });
+            group.submit("session", () -> {
+                seen.add("auth");
+                done.countDown();
+            }, blocking);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("join", "leave", "auth"), seen);
+        } finally {
+            executor.shutdownNow();
+            blocking.shutdownNow();
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void drainedLanesAreRemoved() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            CountDownLatch done = new CountDownLatch(1);
+            group.submit("key", done::countDown);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            assertEquals(0, group.laneCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void laneKeepsRunningAfterTaskThrowsError() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            CountDownLatch done = new CountDownLatch(1);
+            group.submit("key", () -> {
+                throw new AssertionError("expected test failure");
+            });
+            group.submit("key", done::countDown);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectedLaneIsRescheduledByNextSubmit() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        AtomicBoolean reject = new AtomicBoolean();
+        Executor executor = task -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("rejected");
+            }
+            pool.execute(task);
+        };
+        // A distinct executor forces the lane to reschedule between the two tasks
+        Executor other = executor::execute;
+        try {
+            SerialLaneGroup group = new SerialLaneGroup("test", executor);
+            List<String> seen = new CopyOnWriteArrayList<>();
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            group.submit("key", () -> {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                seen.add("first");
+            });
+            group.submit("key", () -> seen.add("second"), other);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            reject.set(true);
+            release.countDown();
+            // The finishing lane cannot reschedule itself for "second"
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while (seen.isEmpty() && System.currentTimeMillis() < deadline) {
+                sleepQuietly(10L);
+            }
+            sleepQuietly(50L);
+            assertEquals(List.of("first"), seen);
+            assertEquals(1, group.depth("key"));
+
+            reject.set(false);
+            CountDownLatch done = new CountDownLatch(1);
+            group.submit("key", () -> {
+                seen.add("third");
+                done.countDown();
+            }, other);
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("first", "second", "third"), seen);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package teamnova.omok.glue.rule.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
+import teamnova.omok.glue.rule.api.BoardTransformRule;
+import teamnova.omok.glue.rule.api.Rule;
+import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleMetadata;
+import teamnova.omok.glue.rule.api.RuleTriggerKind;
+
+final class RuleDispatchPlanTest {
+
+    @Test
+    void groupsRulesByTriggerInSelectionOrder() {
+        Rule placement = new StubRule(RuleId.GO_CAPTURE, EnumSet.of(RuleTriggerKind.POST_PLACEMENT));
+        Rule both = new StubRule(RuleId.EVOLUTION,
+            EnumSet.of(RuleTriggerKind.POST_PLACEMENT, RuleTriggerKind.TURN_ADVANCE));
+        Rule legacy = new StubRule(RuleId.MIRROR_BOARD, null);
+        Map<RuleId, Rule> registry = registry(placement, both, legacy);
+
+        RuleDispatchPlan plan = RuleDispatchPlan.compile(
+            List.of(RuleId.EVOLUTION, RuleId.MIRROR_BOARD, RuleId.GO_CAPTURE), registry::get);
+
+        assertArrayEquals(new Rule[]{both, legacy, placement}, plan.rulesFor(RuleTriggerKind.POST_PLACEMENT));
+        assertArrayEquals(new Rule[]{both, legacy}, plan.rulesFor(RuleTriggerKind.TURN_ADVANCE));
+        assertArrayEquals(new Rule[]{legacy}, plan.rulesFor(RuleTriggerKind.GAME_START));
+    }
+
+    @Test
+    void collectsCapabilitiesEvenWithoutInvokeTriggers() {
+        TransformRule transform = new TransformRule();
+        RuleDispatchPlan plan = RuleDispatchPlan.compile(
+            List.of(RuleId.BLACK_VIEW, RuleId.INFECTION), registry(transform)::get);
+
+        assertEquals(1, plan.boardTransforms().length);
+        assertSame(transform, plan.boardTransforms()[0]);
+        for (RuleTriggerKind kind : RuleTriggerKind.values()) {
+            assertEquals(0, plan.rulesFor(kind).length);
+        }
+        assertEquals(0, plan.turnTimings().length);
+    }
+
+    @Test
+    void emptySelectionUsesSharedEmptyPlan() {
+        assertSame(RuleDispatchPlan.EMPTY, RuleDispatchPlan.compile(List.of(), id -> null));
+        assertSame(RuleDispatchPlan.EMPTY, RuleDispatchPlan.compile(List.of(RuleId.INFECTION), id -> null));
+    }
+
+    private static Map<RuleId, Rule> registry(Rule... rules) {
+        Map<RuleId, Rule> registry = new EnumMap<>(RuleId.class);
+        for (Rule rule : rules) {
+            registry.put(rule.getMetadata().id, rule);
+        }
+        return registry;
+    }
+
+    private static class StubRule implements Rule {
+        private final RuleMetadata metadata;
+
+        StubRule(RuleId id, Set<RuleTriggerKind> triggers) {
+            this.metadata = triggers == null ? new RuleMetadata(id, 0) : new RuleMetadata(id, 0, triggers);
+        }
+
+        @Override
+        public RuleMetadata getMetadata() {
+            return metadata;
+        }
+
+        @Override
+        public void invoke(GameSessionRuleAccess access, RuleRuntimeContext runtime) {
+        }
+    }
+
+    private static final class TransformRule extends StubRule implements BoardTransformRule {
+        TransformRule() {
+            super(RuleId.BLACK_VIEW, EnumSet.noneOf(RuleTriggerKind.class));
+        }
+
+        @Override
+        public byte[] transformBoard(GameSessionRuleAccess access, byte[] snapshot) {
+            return snapshot;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package teamnova.omok.handler;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 import teamnova.omok.glue.handler.register.FrameHandler;
@@ -34,4 +36,14 @@ class HandlerProviderTest {
         FrameHandler second = provider.acquire();
         assertNotSame(first, second);
     }
+
+    @Test
+    void blockingWrapperFlagsProviderAndDelegates() {
+        FrameHandler handler = (server, session, frame) -> { };
+        HandlerProvider plain = HandlerProvider.singleton(handler);
+        HandlerProvider blocking = HandlerProvider.blocking(plain);
+        assertFalse(plain.isBlocking());
+        assertTrue(blocking.isBlocking());
+        assertSame(handler, blocking.acquire());
+    }
 }
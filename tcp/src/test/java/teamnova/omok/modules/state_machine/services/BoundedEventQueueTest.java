@@ -0,0 +1,64 @@
+package teamnova.omok.modules.state_machine.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+import teamnova.omok.modules.state_machine.interfaces.EventQueuePolicy;
+import teamnova.omok.modules.state_machine.models.EventQueueStats;
+import teamnova.omok.modules.state_machine.models.SubmitResult;
+
+final class BoundedEventQueueTest {
+    private record Move(String user) implements BaseEvent { }
+
+    private record Timeout(int turn) implements BaseEvent { }
+
+    private static final class Policy implements EventQueuePolicy {
+        int currentTurn;
+
+        @Override
+        public boolean coalesces(BaseEvent queued, BaseEvent incoming) {
+            return incoming instanceof Move move && queued instanceof Move pending && pending.user().equals(move.user());
+        }
+
+        @Override
+        public boolean isStale(BaseEvent event) {
+            return event instanceof Timeout timeout && timeout.turn() < currentTurn;
+        }
+    }
+
+    @Test
+    void coalescesRepeatsAndRejectsPastCapacity() {
+        EventQueueStats stats = new EventQueueStats();
+        BoundedEventQueue queue = new BoundedEventQueue(2, new Policy(), stats);
+
+        Move first = new Move("a");
+        assertEquals(SubmitResult.ACCEPTED, queue.offer(first));
+        assertEquals(SubmitResult.COALESCED, queue.offer(new Move("a")));
+        assertEquals(SubmitResult.ACCEPTED, queue.offer(new Move("b")));
+        assertEquals(SubmitResult.REJECTED, queue.offer(new Move("c")));
+        // A duplicate is still reported as such when the queue is full
+        assertEquals(SubmitResult.COALESCED, queue.offer(new Move("b")));
+
+        assertSame(first, queue.poll());
+        assertEquals(SubmitResult.ACCEPTED, queue.offer(new Move("c")));
+        assertEquals(new EventQueueStats.Snapshot(3, 2, 1, 0), stats.snapshot());
+    }
+
+    @Test
+    void skipsStaleEventsWhenPolled() {
+        EventQueueStats stats = new EventQueueStats();
+        Policy policy = new Policy();
+        BoundedEventQueue queue = new BoundedEventQueue(8, policy, stats);
+        queue.offer(new Timeout(3));
+        queue.offer(new Timeout(4));
+
+        policy.currentTurn = 4;
+        assertEquals(new Timeout(4), queue.poll());
+        assertNull(queue.poll());
+        assertEquals(1, stats.snapshot().stale());
+    }
+}
@@ -0,0 +1,99 @@
+package teamnova.omok.modules.state_machine.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import teamnova.omok.modules.state_machine.interfaces.BaseEvent;
+import teamnova.omok.modules.state_machine.interfaces.BaseState;
+import teamnova.omok.modules.state_machine.interfaces.StateContext;
+import teamnova.omok.modules.state_machine.interfaces.StateSignalListener;
+import teamnova.omok.modules.state_machine.models.LifecycleEventKind;
+import teamnova.omok.modules.state_machine.models.StateName;
+import teamnova.omok.modules.state_machine.models.StateStep;
+
+final class DefaultStateMachineServiceTest {
+    private static final StateName IDLE = StateName.of("idle");
+    private static final StateName RUNNING = StateName.of("running");
+    private static final StateContext CONTEXT = new StateContext() { };
+    private static final BaseEvent GO = new BaseEvent() { };
+
+    @Test
+    void deliversSignalsOnlyToMatchingListenersInRegistrationOrder() {
+        List<String> seen = new ArrayList<>();
+        DefaultStateMachineService machine = new DefaultStateMachineService();
+        machine.addStateSignalListener((state, kind) -> seen.add("all:" + state.name() + ":" + kind));
+        machine.addStateSignalListener(new StateSignalListener() {
+            @Override
+            public Set<StateName> states() {
+                return Set.of(RUNNING);
+            }
+
+            @Override
+            public Set<LifecycleEventKind> events() {
+                return Set.of(LifecycleEventKind.ON_START, LifecycleEventKind.ON_UPDATE);
+            }
+
+            @Override
+            public void onSignal(StateName state, LifecycleEventKind kind) {
+                seen.add("running:" + kind);
+            }
+        });
+        // Registered after the listeners, so the table has to be rebuilt for it
+        machine.registerState(new Idle());
+        machine.registerState(() -> RUNNING);
+
+        machine.start(IDLE, CONTEXT);
+        machine.submit(GO);
+        machine.process(CONTEXT, 0L);
+
+        assertEquals(List.of(
+            "all:idle:ON_START",
+            "all:idle:ON_TRANSITION",
+            "all:idle:ON_EXIT",
+            "all:running:ON_START",
+            "running:ON_START",
+            "all:running:ON_UPDATE",
+            "running:ON_UPDATE"
+        ), seen);
+    }
+
+    @Test
+    void readsListenerFiltersOnceAtRegistration() {
+        int[] calls = new int[1];
+        DefaultStateMachineService machine = new DefaultStateMachineService();
+        machine.registerState(new Idle());
+        machine.addStateSignalListener(new StateSignalListener() {
+            @Override
+            public Set<LifecycleEventKind> events() {
+                calls[0]++;
+                return Set.of(LifecycleEventKind.ON_UPDATE);
+            }
+
+            @Override
+            public void onSignal(StateName state, LifecycleEventKind kind) {
+            }
+        });
+        machine.start(IDLE, CONTEXT);
+        for (int i = 0; i < 10; i++) {
+            machine.process(CONTEXT, i);
+        }
+        assertEquals(1, calls[0]);
+    }
+
+    private static final class Idle implements BaseState {
+        @Override
+        public StateName name() {
+            return IDLE;
+        }
+
+        @Override
+        public <I extends StateContext> StateStep onEvent(I context, BaseEvent event) {
+            return StateStep.transition(RUNNING);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package teamnova.omok.support;
 
 import java.util.Arrays;
-import java.util.concurrent.locks.ReentrantLock;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionBoardAccess;
 import teamnova.omok.glue.game.session.model.Stone;
+import teamnova.omok.glue.game.session.model.board.BitBoard;
+import teamnova.omok.glue.game.session.model.board.Connectivity;
+import teamnova.omok.glue.game.session.model.board.ConnectivityIndex;
+import teamnova.omok.glue.game.session.model.board.DirtyCellTracker;
+import teamnova.omok.glue.game.session.model.store.BoardStore;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.game.session.model.vo.StonePlacementMetadata;
 
@@ -12,20 +16,19 @@ public final class TestBoardAccess implements GameSessionBoardAccess {
     private final GameSessionId sessionId = GameSessionId.random();
     private final int width;
     private final int height;
-    private final ReentrantLock lock = new ReentrantLock();
-    private final Stone[][] cells;
+    private final BoardStore cells;
     private final StonePlacementMetadata[][] placements;
 
     public TestBoardAccess(int width, int height) {
         this.width = width;
         this.height = height;
-        this.cells = new Stone[height][width];
+        this.cells = new BoardStore(width, height);
         this.placements = new StonePlacementMetadata[height][width];
         clear();
     }
 
     public void putStone(int x, int y, Stone stone) {
-        cells[y][x] = stone;
+        setStone(x, y, stone);
     }
 
     @Override
@@ -33,11 +36,6 @@ public final class TestBoardAccess implements GameSessionBoardAccess {
         return sessionId;
     }
 
-    @Override
-    public ReentrantLock lock() {
-        return lock;
-    }
-
     @Override
     public int width() {
         return width;
@@ -60,12 +58,12 @@ public final class TestBoardAccess implements GameSessionBoardAccess {
 
     @Override
     public Stone stoneAt(int x, int y) {
-        return cells[y][x];
+        return Stone.fromByte(cells.get(y * width + x));
     }
 
     @Override
     public void setStone(int x, int y, Stone stone) {
-        cells[y][x] = stone;
+        cells.set(y * width + x, stone.code());
     }
 
     @Override
@@ -92,20 +90,27 @@ public final class TestBoardAccess implements GameSessionBoardAccess {
 
     @Override
     public void clear() {
-        for (Stone[] row : cells) {
-            Arrays.fill(row, Stone.EMPTY);
-        }
+        cells.clear();
         clearPlacements();
     }
 
     @Override
     public byte[] snapshot() {
-        byte[] snapshot = new byte[width * height];
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                snapshot[y * width + x] = stoneAt(x, y).code();
-            }
-        }
-        return snapshot;
+        return cells.snapshot();
+    }
+
+    @Override
+    public BitBoard bitBoard() {
+        return cells.bitBoard();
+    }
+
+    @Override
+    public DirtyCellTracker dirtyCells() {
+        return cells.dirtyCells();
+    }
+
+    @Override
+    public ConnectivityIndex connectivityIndex(Connectivity connectivity) {
+        return cells.connectivityIndex(connectivity);
     }
 }
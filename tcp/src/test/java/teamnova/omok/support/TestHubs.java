@@ -0,0 +1,85 @@
+package teamnova.omok.support;
+
+import java.io.Closeable;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import teamnova.omok.core.timer.HierarchicalTimer;
+import teamnova.omok.glue.data.model.UserData;
+import teamnova.omok.glue.game.session.GameSessionConfig;
+import teamnova.omok.glue.game.session.interfaces.GameScoreService;
+import teamnova.omok.glue.game.session.interfaces.GameSessionMessenger;
+import teamnova.omok.glue.game.session.model.GameSession;
+import teamnova.omok.glue.game.session.repository.GameStateHubRegistry;
+import teamnova.omok.glue.game.session.repository.InMemoryGameSessionRepository;
+import teamnova.omok.glue.game.session.services.BitboardBoardService;
+import teamnova.omok.glue.game.session.services.ScoreService;
+import teamnova.omok.glue.game.session.services.TurnService;
+import teamnova.omok.glue.game.session.services.coordinator.DecisionTimeoutCoordinator;
+import teamnova.omok.glue.game.session.services.coordinator.TurnTimeoutCoordinator;
+import teamnova.omok.glue.game.session.states.manage.GameSessionStateContextService;
+
+/**
+ * Event-driven hub registry over an in-memory repository. Outbound messages are recorded
+ * with the thread that sent them instead of being written to clients.
+ */
+public final class TestHubs implements Closeable {
+    public final HierarchicalTimer timer = new HierarchicalTimer("test-session-timer", 10);
+    public final InMemoryGameSessionRepository repository = new InMemoryGameSessionRepository();
+    public final Queue<Message> messages = new ConcurrentLinkedQueue<>();
+    public final GameSessionMessenger messenger;
+    public final GameStateHubRegistry registry;
+
+    public TestHubs(int shardCount) {
+        this(shardCount, new ScoreService());
+    }
+
+    public TestHubs(int shardCount, GameScoreService scoreService) {
+        GameSessionConfig config = GameSessionConfig.defaults();
+        config.shardCount = shardCount;
+        this.messenger = (GameSessionMessenger) Proxy.newProxyInstance(
+            TestHubs.class.getClassLoader(),
+            new Class<?>[]{GameSessionMessenger.class},
+            (proxy, method, args) -> {
+                messages.add(new Message(method.getName(), Thread.currentThread()));
+                return null;
+            });
+        this.registry = new GameStateHubRegistry(
+            repository,
+            new BitboardBoardService(),
+            new TurnService(GameSession.TURN_DURATION_MILLIS),
+            scoreService,
+            new GameSessionStateContextService(),
+            messenger,
+            new TurnTimeoutCoordinator(timer),
+            new DecisionTimeoutCoordinator(timer),
+            timer,
+            config);
+    }
+
+    /**
+     * Saves a new session for {@code userIds} and returns it.
+     */
+    public GameSession newSession(String... userIds) {
+        List<UserData> users = new ArrayList<>(userIds.length);
+        for (String userId : userIds) {
+            users.add(new UserData(userId, userId, 0, UserData.Status.ACTIVE, 1000));
+        }
+        return repository.save(new GameSession(List.of(userIds), users));
+    }
+
+    public long count(String method) {
+        return messages.stream().filter(message -> message.method().equals(method)).count();
+    }
+
+    @Override
+    public void close() {
+        timer.close();
+    }
+
+    public record Message(String method, Thread thread) {
+    }
+}
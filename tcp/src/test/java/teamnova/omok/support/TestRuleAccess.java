@@ -4,19 +4,21 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 
 import teamnova.omok.glue.game.session.interfaces.session.GameSessionRuleAccess;
+import teamnova.omok.glue.game.session.model.store.RulesStore;
 import teamnova.omok.glue.game.session.model.vo.GameSessionId;
 import teamnova.omok.glue.rule.api.RuleId;
+import teamnova.omok.glue.rule.api.RuleStateKey;
+import teamnova.omok.glue.rule.runtime.RuleDispatchPlan;
 
 /**
  * Lightweight test double for {@link GameSessionRuleAccess}.
  */
 public final class TestRuleAccess implements GameSessionRuleAccess {
     private final GameSessionId sessionId;
-    private final ReentrantLock lock = new ReentrantLock();
     private final Map<String, Object> data = new HashMap<>();
+    private final RulesStore states = new RulesStore();
     private List<RuleId> ruleIds = new ArrayList<>();
 
     public TestRuleAccess() {
@@ -28,14 +30,10 @@ public final class TestRuleAccess implements GameSessionRuleAccess {
         return sessionId;
     }
 
-    @Override
-    public ReentrantLock lock() {
-        return lock;
-    }
-
     @Override
     public void setRuleIds(List<RuleId> ruleIds) {
         this.ruleIds = ruleIds == null ? new ArrayList<>() : new ArrayList<>(ruleIds);
+        states.setRuleIds(this.ruleIds);
     }
 
     @Override
@@ -43,6 +41,11 @@ public final class TestRuleAccess implements GameSessionRuleAccess {
         return List.copyOf(ruleIds);
     }
 
+    @Override
+    public RuleDispatchPlan ruleDispatchPlan() {
+        return states.ruleDispatchPlan();
+    }
+
     @Override
     public Object getRuleData(String key) {
         return data.get(key);
@@ -61,9 +64,20 @@ public final class TestRuleAccess implements GameSessionRuleAccess {
         data.remove(key);
     }
 
+    @Override
+    public <S> S ruleState(RuleStateKey<S> key) {
+        return states.ruleState(key);
+    }
+
+    @Override
+    public <S> S peekRuleState(RuleStateKey<S> key) {
+        return states.peekRuleState(key);
+    }
+
     @Override
     public void clearRuleData() {
         data.clear();
+        states.clearRuleData();
     }
 
     @Override